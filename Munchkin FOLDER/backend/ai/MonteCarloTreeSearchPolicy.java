@@ -0,0 +1,465 @@
+package ai;
+
+import basic_game_components.Card;
+import basic_game_components.Game;
+import basic_game_components.PileType;
+import basic_game_components.player_stuff.Player;
+import door_cards.MonsterCard;
+import simulation.PlayerPolicy;
+import simulation.ScriptedPolicy;
+import utilities.RandomStream;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * This class is a computer opponent that decides whether to fight a monster (playing its one shot treasures if needed) or run away, and
+ * which rival to curse, using Monte Carlo Tree Search: it imagines how the game goes on after each choice, thousands of times, and picks the
+ * choice that won most often.
+ *
+ * IMPORTANT NOTE: Every rollout forks a SearchState of the game, shuffles the piles (the bot doesn't know their order), and plays it forward
+ * with a RolloutSimulator, for at most a certain number of turns. The tree holds the bot's own decisions along the way (open loop: the cards
+ * drawn and the Die rolls are played again in every rollout), chosen with UCB1, while the rivals play like the ScriptedPolicy. The search
+ * runs one tree per thread (root parallelism) until its time budget or rollout budget is spent, and the visits of the roots are added up.
+ *
+ * A single policy can be shared by every game and every thread, like any PlayerPolicy: each decision builds its own trees. Decisions made
+ * without the game (through the methods that don't get it) fall back to the ScriptedPolicy.
+ */
+public class MonteCarloTreeSearchPolicy implements PlayerPolicy, AutoCloseable {
+
+    //----------------------------------------------------
+    //            INSTANCE VARIABLES
+    //----------------------------------------------------
+
+    // The kinds of decisions. Fight decisions have 2 actions (0: run away, 1: fight), curse decisions one per player (0: keep the curse,
+    // n: curse the n-th rival in turn order).
+    public static final int FIGHT_DECISION = 0;
+    public static final int CURSE_DECISION = 1;
+
+    // The default maximum number of turns a rollout plays before its game is judged on the players' levels.
+    public static final int DEFAULT_ROLLOUT_TURNS = 40;
+    // How much the search explores (see SearchNode.selectAction).
+    private static final double EXPLORATION_CONSTANT = 0.7;
+    // The maximum number of the bot's decisions a rollout goes through in the tree.
+    private static final int MAX_TREE_DEPTH = 64;
+
+    // The policy used for the decisions made without the game.
+    private static final PlayerPolicy FALLBACK_POLICY = new ScriptedPolicy();
+
+    // The number of threads searching each decision (the deciding thread is one of them).
+    private final int numberOfThreads;
+    // The time a decision may take, in nanoseconds (0 for no limit).
+    private final long timeBudgetNanos;
+    // The maximum number of rollouts per decision (0 for no limit).
+    private final int maxRolloutsPerDecision;
+    // The maximum number of turns a rollout plays.
+    private final int rolloutTurns;
+    // The threads helping the deciding thread (null if it searches alone).
+    private final ExecutorService helperThreads;
+    // The number of rollouts played so far, by every decision.
+    private final LongAdder rolloutCount;
+
+    //----------------------------------------------------
+    //            CONSTRUCTOR(S)
+    //----------------------------------------------------
+
+    /**
+     * This method constructs a MonteCarloTreeSearchPolicy object. At least one of the budgets must be set.
+     * @param numberOfThreads The number of threads searching each decision (1 to search on the deciding thread only).
+     * @param timeBudgetNanos The time a decision may take, in nanoseconds (0 for no limit).
+     * @param maxRolloutsPerDecision The maximum number of rollouts per decision (0 for no limit). With a single thread and no time limit, the
+     *                               decisions only depend on the players' random streams.
+     * @param rolloutTurns The maximum number of turns a rollout plays (see DEFAULT_ROLLOUT_TURNS).
+     * @throws IllegalArgumentException If there is no thread, or neither budget is set.
+     */
+    public MonteCarloTreeSearchPolicy(int numberOfThreads, long timeBudgetNanos, int maxRolloutsPerDecision, int rolloutTurns) {
+
+        if(numberOfThreads < 1)
+            throw new IllegalArgumentException("A search needs at least one thread.");
+
+        if(timeBudgetNanos <= 0 && maxRolloutsPerDecision <= 0)
+            throw new IllegalArgumentException("A search needs a time budget or a rollout budget.");
+
+        this.numberOfThreads = numberOfThreads;
+        this.timeBudgetNanos = timeBudgetNanos;
+        this.maxRolloutsPerDecision = maxRolloutsPerDecision;
+        this.rolloutTurns = rolloutTurns;
+        rolloutCount = new LongAdder();
+
+        if(numberOfThreads == 1) {
+            helperThreads = null;
+        }
+        else {
+            AtomicInteger threadNumber = new AtomicInteger(1);
+
+            helperThreads = Executors.newFixedThreadPool(numberOfThreads - 1, runnable -> {
+                Thread thread = new Thread(runnable, "search-helper-" + threadNumber.getAndIncrement());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+
+    } // End of constructor method.
+
+    /**
+     * This method constructs a MonteCarloTreeSearchPolicy object searching on every core for a certain time per decision.
+     * @param timeBudgetNanos The time a decision may take, in nanoseconds.
+     */
+    public MonteCarloTreeSearchPolicy(long timeBudgetNanos) {
+        this(Runtime.getRuntime().availableProcessors(), timeBudgetNanos, 0, DEFAULT_ROLLOUT_TURNS);
+    }
+
+    //----------------------------------------------------
+    //            METHOD(S)
+    //----------------------------------------------------
+
+    /**
+     * This method decides without the game, like the ScriptedPolicy.
+     */
+    @Override
+    public boolean decideToFight(Player player, MonsterCard monster, int maxPlayerStrength, RandomStream rand) {
+        return FALLBACK_POLICY.decideToFight(player, monster, maxPlayerStrength, rand);
+    }
+
+    /**
+     * This method decides without the game, like the ScriptedPolicy.
+     */
+    @Override
+    public int chooseCurseTarget(Player player, List<Player> players, RandomStream rand) {
+        return FALLBACK_POLICY.chooseCurseTarget(player, players, rand);
+    }
+
+    /**
+     * This method searches whether fighting the monster or running away from it wins more often. When both are as good, the player only
+     * fights a monster they can beat.
+     */
+    @Override
+    public boolean decideToFight(Game game, Player player, MonsterCard monster, int maxPlayerStrength, RandomStream rand) {
+
+        SearchState root = new SearchState(game);
+        int bot = player.getPlayerTurnNumber();
+
+        // A monster the player looks for trouble with is still in their hand.
+        for(int location = 1; location <= root.getHandSize(bot); location++) {
+            if(root.getHandCardId_UsingCardLocationNumber(bot, location) == monster.getId()) {
+                root.removeHandCard_UsingCardLocationNumber(bot, location);
+                break;
+            }
+        }
+
+        int[] visits = search(root, bot, FIGHT_DECISION, 2, monster.getId(), rand);
+
+        if(visits[1] == visits[0])
+            return maxPlayerStrength > monster.getLevel();
+
+        return visits[1] > visits[0];
+
+    } // End of decideToFight method.
+
+    /**
+     * This method searches which rival to curse (or whether to keep the curse) wins more often.
+     */
+    @Override
+    public int chooseCurseTarget(Game game, Player player, Card curseCard, RandomStream rand) {
+
+        SearchState root = new SearchState(game);
+        int bot = player.getPlayerTurnNumber();
+        int[] visits = search(root, bot, CURSE_DECISION, root.getNumberOfPlayers(), curseCard.getId(), rand);
+
+        int bestAction = 0;
+
+        for(int action = 1; action < visits.length; action++) {
+            if(visits[action] > visits[bestAction])
+                bestAction = action;
+        }
+
+        return bestAction == 0 ? -1 : getRivalTurnNumber(bot, bestAction) - 1;
+
+    } // End of chooseCurseTarget method.
+
+    /**
+     * This method gets the number of rollouts played so far, by every decision of this policy.
+     * @return The number of rollouts played.
+     */
+    public long getRolloutCount() {
+        return rolloutCount.sum();
+    }
+
+    /**
+     * This method stops the helper threads. The policy must not be used afterwards.
+     */
+    @Override
+    public void close() {
+
+        if(helperThreads != null)
+            helperThreads.shutdown();
+
+    } // End of close method.
+
+    /**
+     * This utility method searches a decision on every thread, and adds up the visits of each tree's root.
+     * @param root The state of the game when the decision is made.
+     * @param bot The turn number of the deciding player.
+     * @param decisionType The kind of decision.
+     * @param numberOfActions The number of actions of the decision.
+     * @param cardId The card the decision is about (the monster, or the curse).
+     * @param rand The deciding player's random stream (each thread's rollouts are seeded from it).
+     * @return The number of rollouts that took each action.
+     */
+    private int[] search(SearchState root, int bot, int decisionType, int numberOfActions, int cardId, RandomStream rand) {
+
+        long deadline = (timeBudgetNanos > 0) ? System.nanoTime() + timeBudgetNanos : Long.MAX_VALUE;
+        int rolloutsPerThread = (maxRolloutsPerDecision > 0)
+                ? (maxRolloutsPerDecision + numberOfThreads - 1) / numberOfThreads
+                : Integer.MAX_VALUE;
+
+        // Each thread gets its own fork of the root (a state must only be forked by one thread at a time).
+        SearchWorker[] workers = new SearchWorker[numberOfThreads];
+        SearchState[] roots = new SearchState[numberOfThreads];
+
+        for(int i = 0; i < numberOfThreads; i++) {
+            workers[i] = new SearchWorker(new RandomStream(rand.nextLong()), bot, rolloutTurns);
+            roots[i] = root.fork();
+        }
+
+        List<CompletableFuture<int[]>> helperResults = new ArrayList<>(numberOfThreads - 1);
+
+        for(int i = 1; i < numberOfThreads; i++) {
+            SearchWorker worker = workers[i];
+            SearchState workerRoot = roots[i];
+
+            helperResults.add(CompletableFuture.supplyAsync(() -> worker.search(workerRoot, decisionType, numberOfActions, cardId,
+                    rolloutsPerThread, deadline), helperThreads));
+        }
+
+        int[] visits = workers[0].search(roots[0], decisionType, numberOfActions, cardId, rolloutsPerThread, deadline);
+        rolloutCount.add(workers[0].getRolloutCount());
+
+        for(int i = 0; i < helperResults.size(); i++) {
+            int[] helperVisits = helperResults.get(i).join();
+
+            for(int action = 0; action < numberOfActions; action++)
+                visits[action] += helperVisits[action];
+
+            rolloutCount.add(workers[i + 1].getRolloutCount());
+
+        } // End of for loop.
+
+        return visits;
+
+    } // End of search utility method.
+
+    /**
+     * This utility method gets the turn number of a rival, counting the rivals in turn order.
+     * @param bot The turn number of the deciding player.
+     * @param rivalNumber The rival's number (1 for the first rival).
+     * @return The rival's turn number.
+     */
+    private static int getRivalTurnNumber(int bot, int rivalNumber) {
+        return (rivalNumber < bot) ? rivalNumber : rivalNumber + 1;
+    }
+
+    //----------------------------------------------------
+    //            SEARCH WORKER
+    //----------------------------------------------------
+
+    /**
+     * This class builds one search tree on one thread. It plays the rollouts, making the bot's decisions through the tree while the rollout
+     * is in it, and like the ScriptedPolicy once it leaves it.
+     */
+    private static final class SearchWorker extends RolloutSimulator {
+
+        // The turn number of the deciding player.
+        private final int bot;
+        // The maximum number of turns a rollout plays.
+        private final int rolloutTurns;
+        // The nodes and actions the current rollout went through.
+        private final SearchNode[] pathNodes;
+        private final int[] pathActions;
+        private int pathLength;
+        // The node of the bot's next decision in the current rollout (null if the rollout hasn't been there yet).
+        private SearchNode currentNode;
+        // Whether or not the current rollout already added a node to the tree.
+        private boolean expanded;
+        // Whether or not the current rollout is still in the tree.
+        private boolean inTree;
+        // The number of rollouts played.
+        private int rolloutCount;
+
+        /**
+         * This method constructs a SearchWorker object.
+         * @param rand The random stream of the rollouts.
+         * @param bot The turn number of the deciding player.
+         * @param rolloutTurns The maximum number of turns a rollout plays.
+         */
+        private SearchWorker(RandomStream rand, int bot, int rolloutTurns) {
+            super(rand);
+            this.bot = bot;
+            this.rolloutTurns = rolloutTurns;
+            pathNodes = new SearchNode[MAX_TREE_DEPTH + 1];
+            pathActions = new int[MAX_TREE_DEPTH + 1];
+            rolloutCount = 0;
+        }
+
+        /**
+         * This method builds a tree until the budget is spent.
+         * @param root The state of the game when the decision is made (only used by this worker).
+         * @param decisionType The kind of decision.
+         * @param numberOfActions The number of actions of the decision.
+         * @param cardId The card the decision is about (the monster, or the curse).
+         * @param maxRollouts The maximum number of rollouts.
+         * @param deadline The time (System.nanoTime) the search must stop at.
+         * @return The number of rollouts that took each action of the root.
+         */
+        private int[] search(SearchState root, int decisionType, int numberOfActions, int cardId, int maxRollouts, long deadline) {
+
+            SearchNode rootNode = new SearchNode(decisionType, numberOfActions);
+
+            while(rolloutCount < maxRollouts && (rolloutCount == 0 || System.nanoTime() < deadline)) {
+
+                SearchState state = root.fork();
+                state.shufflePile(PileType.DOOR, rand);
+                state.shufflePile(PileType.TREASURE, rand);
+
+                pathLength = 0;
+                expanded = false;
+                inTree = true;
+                currentNode = rootNode;
+
+                int action = selectAction(decisionType, numberOfActions);
+
+                if(decisionType == FIGHT_DECISION) {
+                    fight(state, bot, cardId, action == 1);
+                }
+                else if(action != 0) {
+                    for(int location = 1; location <= state.getHandSize(bot); location++) {
+                        if(state.getHandCardId_UsingCardLocationNumber(bot, location) == cardId) {
+                            state.removeHandCard_UsingCardLocationNumber(bot, location);
+                            break;
+                        }
+                    }
+
+                    applyCurse(state, cardId, getRivalTurnNumber(bot, action));
+                    state.discardCard(cardId);
+                }
+
+                finishTurn(state, bot);
+
+                double reward = getReward(state, playOut(state, rolloutTurns));
+
+                for(int i = 0; i < pathLength; i++)
+                    pathNodes[i].update(pathActions[i], reward);
+
+                rolloutCount++;
+
+            } // End of while loop.
+
+            return rootNode.visits;
+
+        } // End of search method.
+
+        /**
+         * This method gets the number of rollouts played.
+         * @return The number of rollouts played.
+         */
+        private int getRolloutCount() {
+            return rolloutCount;
+        }
+
+        /**
+         * This method makes the bot's fight decisions through the tree, and the other players' like the ScriptedPolicy.
+         */
+        @Override
+        protected boolean decideToFight(SearchState state, int player, int monsterId, int maxStrength) {
+
+            int action = (player == bot) ? selectAction(FIGHT_DECISION, 2) : -1;
+
+            return (action == -1) ? super.decideToFight(state, player, monsterId, maxStrength) : action == 1;
+
+        } // End of decideToFight method.
+
+        /**
+         * This method makes the bot's curse decisions through the tree, and the other players' like the ScriptedPolicy.
+         */
+        @Override
+        protected int chooseCurseTarget(SearchState state, int player, int curseId) {
+
+            int action = (player == bot) ? selectAction(CURSE_DECISION, state.getNumberOfPlayers()) : -1;
+
+            if(action == -1)
+                return super.chooseCurseTarget(state, player, curseId);
+
+            return (action == 0) ? 0 : getRivalTurnNumber(bot, action);
+
+        } // End of chooseCurseTarget method.
+
+        /**
+         * This method makes one of the bot's decisions through the tree, adding the decision's node if the rollout hasn't added one yet.
+         * @param decisionType The kind of decision.
+         * @param numberOfActions The number of actions of the decision.
+         * @return The action, or -1 if the rollout left the tree (the decision is then made like the ScriptedPolicy).
+         */
+        private int selectAction(int decisionType, int numberOfActions) {
+
+            if(!inTree)
+                return -1;
+
+            if(currentNode == null) {
+                if(expanded || pathLength == MAX_TREE_DEPTH) {
+                    inTree = false;
+                    return -1;
+                }
+
+                currentNode = new SearchNode(decisionType, numberOfActions);
+                pathNodes[pathLength - 1].children[pathActions[pathLength - 1]] = currentNode;
+                expanded = true;
+            }
+
+            // The same decisions can lead to a different kind of decision in another rollout: the tree doesn't cover those.
+            if(currentNode.decisionType != decisionType || currentNode.visits.length != numberOfActions) {
+                inTree = false;
+                return -1;
+            }
+
+            int action = currentNode.selectAction(EXPLORATION_CONSTANT);
+
+            pathNodes[pathLength] = currentNode;
+            pathActions[pathLength] = action;
+            pathLength++;
+            currentNode = currentNode.children[action];
+
+            return action;
+
+        } // End of selectAction method.
+
+        /**
+         * This method judges how a rollout went for the bot: 1 if it won, 0 if a rival did, and its share of the leading levels if nobody
+         * won in time.
+         * @param state The state at the end of the rollout.
+         * @param winner The turn number of the winner, or 0 if nobody won.
+         * @return The reward, between 0 and 1.
+         */
+        private double getReward(SearchState state, int winner) {
+
+            if(winner != 0)
+                return (winner == bot) ? 1 : 0;
+
+            int bestRivalLevel = 0;
+
+            for(int player = 1; player <= state.getNumberOfPlayers(); player++) {
+                if(player != bot)
+                    bestRivalLevel = Math.max(bestRivalLevel, state.getLevel(player));
+            }
+
+            return (double) state.getLevel(bot) / (state.getLevel(bot) + bestRivalLevel);
+
+        } // End of getReward method.
+
+    } // End of SearchWorker class.
+
+} // End of MonteCarloTreeSearchPolicy class.
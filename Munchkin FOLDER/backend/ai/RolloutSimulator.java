@@ -0,0 +1,607 @@
+package ai;
+
+import basic_game_components.Card;
+import basic_game_components.CardKind;
+import basic_game_components.Game;
+import basic_game_components.PileType;
+import basic_game_components.player_stuff.PlayerStats;
+import basic_game_components.player_stuff.PlayerTraits;
+import treasure_cards.EquipmentSlot;
+import treasure_cards.ItemCard;
+import treasure_cards.OneShotTreasureCard;
+import utilities.CardCatalog;
+import utilities.RandomStream;
+
+/**
+ * This class plays a SearchState forward, turn after turn, with the same simplified rules as the GameSimulator (kick open the door, fight or
+ * run away, look for trouble or loot the room, play cards from the hand, charity). It is what search-based bots use to play out the games
+ * they imagine, hundreds of thousands of times per second.
+ *
+ * IMPORTANT NOTE: The decisions are made by decideToFight and chooseCurseTarget, which play like the ScriptedPolicy unless a subclass (like
+ * the search of a MonteCarloTreeSearchPolicy) overrides them. Curses only apply their effects on levels, the chicken, equipped items and the
+ * hand, and an item is equipped if the player's traits (their sex, races and classes, see PlayerTraits) meet its requirement, like in the
+ * real game: close enough to compare decisions, while keeping a turn down to a few hundred nanoseconds. A RolloutSimulator is not
+ * thread-safe: each thread uses its own.
+ */
+public class RolloutSimulator {
+
+    //----------------------------------------------------
+    //            INSTANCE VARIABLES
+    //----------------------------------------------------
+
+    // The number of sides of a Die.
+    private static final int DIE_SIDES = 6;
+
+    // The effects of curses in a rollout.
+    private static final int NO_EFFECT = 0;
+    private static final int LOSE_A_LEVEL = 1;
+    private static final int LOSE_TWO_LEVELS = 2;
+    private static final int CHICKEN_ON_HEAD = 3;
+    private static final int LOSE_AN_ITEM = 4;
+    private static final int LOSE_A_BIG_ITEM = 5;
+    private static final int LOSE_A_SMALL_ITEM = 6;
+    private static final int LOSE_TWO_CARDS = 7;
+
+    // What a rollout needs to know about each card, by card id (read from the CardCatalog once).
+    private static final CardKind[] KINDS;
+    private static final int[] ONE_SHOT_BONUSES;
+    private static final int[] ITEM_COMBAT_BONUSES;
+    private static final int[] ITEM_RUN_AWAY_BONUSES;
+    private static final EquipmentSlot[] ITEM_SLOTS;
+    private static final int[] ITEM_HANDS;
+    private static final boolean[] ITEM_IS_BIG;
+    // The trait bits a player must have to use each item (see PlayerTraits.compileRequirement).
+    private static final int[] ITEM_REQUIREMENTS;
+    // The trait bit each race and class card gives (0 for other cards).
+    private static final int[] TRAIT_BITS;
+    private static final int[] CURSE_EFFECTS;
+    // The slot a "Curse! Lose The ... You Are Wearing" takes an item from, null for any slot.
+    private static final EquipmentSlot[] CURSE_SLOTS;
+
+    static {
+        int cardCount = CardCatalog.getCardCount();
+
+        KINDS = new CardKind[cardCount];
+        ONE_SHOT_BONUSES = new int[cardCount];
+        ITEM_COMBAT_BONUSES = new int[cardCount];
+        ITEM_RUN_AWAY_BONUSES = new int[cardCount];
+        ITEM_SLOTS = new EquipmentSlot[cardCount];
+        ITEM_HANDS = new int[cardCount];
+        ITEM_IS_BIG = new boolean[cardCount];
+        ITEM_REQUIREMENTS = new int[cardCount];
+        TRAIT_BITS = new int[cardCount];
+        CURSE_EFFECTS = new int[cardCount];
+        CURSE_SLOTS = new EquipmentSlot[cardCount];
+
+        for(int id = 0; id < cardCount; id++) {
+            Card card = CardCatalog.getCardDefinition(id);
+            KINDS[id] = card.getKind();
+
+            if(card instanceof OneShotTreasureCard) {
+                ONE_SHOT_BONUSES[id] = ((OneShotTreasureCard) card).getCombatBonus();
+            }
+            else if(card instanceof ItemCard) {
+                ItemCard item = (ItemCard) card;
+                ITEM_COMBAT_BONUSES[id] = item.getCombatBonus();
+                ITEM_RUN_AWAY_BONUSES[id] = item.getRunAwayBonus();
+                ITEM_SLOTS[id] = item.getSlot();
+                ITEM_HANDS[id] = item.getHandsRequirement();
+                ITEM_IS_BIG[id] = item.checkIfItemIsBig();
+                ITEM_REQUIREMENTS[id] = item.getUsableByMask();
+            }
+            else if(card.getKind() == CardKind.RACE || card.getKind() == CardKind.CLASS) {
+                TRAIT_BITS[id] = PlayerTraits.getTraitBit_UsingCardName(card.getName());
+            }
+
+        } // End of for loop.
+
+        // Like the CurseEffectRegistry, the names are only compared here: a curse's effect is looked up by its card id.
+        setCurseEffect("Curse! Chicken On Your Head", CHICKEN_ON_HEAD, null);
+        setCurseEffect("Curse! Duck Of Doom", LOSE_TWO_LEVELS, null);
+        setCurseEffect("Curse! Lose A Big Item", LOSE_A_BIG_ITEM, null);
+        setCurseEffect("Curse! Lose A Level", LOSE_A_LEVEL, null);
+        setCurseEffect("Curse! Lose A Small Item", LOSE_A_SMALL_ITEM, null);
+        setCurseEffect("Curse! Lose The Armor You Are Wearing", LOSE_AN_ITEM, EquipmentSlot.ARMOR);
+        setCurseEffect("Curse! Lose The Footgear You Are Wearing", LOSE_AN_ITEM, EquipmentSlot.FEET);
+        setCurseEffect("Curse! Lose The Headgear You Are Wearing", LOSE_AN_ITEM, EquipmentSlot.HEAD);
+        setCurseEffect("Curse! Lose Two Cards", LOSE_TWO_CARDS, null);
+
+    } // End of static initializer.
+
+    // The random stream of the rollouts (Die rolls and reshuffled discards).
+    protected final RandomStream rand;
+
+    //----------------------------------------------------
+    //            CONSTRUCTOR(S)
+    //----------------------------------------------------
+
+    /**
+     * This method constructs a RolloutSimulator object.
+     * @param rand The random stream of the rollouts (Die rolls and reshuffled discards).
+     */
+    public RolloutSimulator(RandomStream rand) {
+        this.rand = rand;
+    }
+
+    //----------------------------------------------------
+    //            METHOD(S)
+    //----------------------------------------------------
+
+    /**
+     * This method plays turns until somebody wins, or until a certain number of turns were played.
+     * @param state The state (it is changed).
+     * @param maxTurns The maximum number of turns to play.
+     * @return The turn number of the winner, or 0 if nobody won in time.
+     */
+    public int playOut(SearchState state, int maxTurns) {
+
+        int winner = state.getWinnerTurnNumber();
+
+        for(int i = 0; i < maxTurns && winner == 0; i++) {
+            playTurn(state);
+            winner = state.getWinnerTurnNumber();
+        }
+
+        return winner;
+
+    } // End of playOut method.
+
+    /**
+     * This method plays the current player's whole turn, and gives the turn to the next player.
+     * @param state The state (it is changed).
+     */
+    public void playTurn(SearchState state) {
+
+        int player = state.getCurrentPlayerTurnNumber();
+
+        // Kick open the door.
+        int doorCardId = state.drawCard(PileType.DOOR, rand);
+
+        if(doorCardId != -1 && KINDS[doorCardId] == CardKind.MONSTER) {
+            fight(state, player, doorCardId);
+        }
+        else if(doorCardId != -1 && KINDS[doorCardId] == CardKind.CURSE) {
+            applyCurse(state, doorCardId, player);
+            state.discardCard(doorCardId);
+        }
+        else if(doorCardId != -1) {
+            state.addCardToHand(player, doorCardId);
+            playCardsFromHand(state, player);
+
+            // Look for trouble (only with a monster the player is willing to fight), otherwise loot the room.
+            int troubleId = findMonsterToLookForTrouble(state, player);
+
+            if(troubleId != -1)
+                fight(state, player, troubleId);
+            else if(state.getPileSize(PileType.DOOR) + state.getDiscardsSize(PileType.DOOR) > 0)
+                state.addCardToHand(player, state.drawCard(PileType.DOOR, rand));
+        }
+
+        finishTurn(state, player);
+
+    } // End of playTurn method.
+
+    /**
+     * This method finishes a player's turn once their fight is over: cards are played from the hand, the player discards down to their hand
+     * limit, and the turn goes to the next player.
+     * @param state The state (it is changed).
+     * @param player The turn number of the player whose turn it is.
+     */
+    public void finishTurn(SearchState state, int player) {
+
+        playCardsFromHand(state, player);
+
+        // Charity: discard down to the hand limit (the oldest cards go first).
+        while(state.getHandSize(player) > state.getHandLimit(player))
+            state.discardCard(state.removeHandCard_UsingCardLocationNumber(player, 1));
+
+        state.endTurn();
+
+    } // End of finishTurn method.
+
+    /**
+     * This method fights a monster, or runs away from it, as decided by decideToFight. The monster is discarded afterwards.
+     * @param state The state (it is changed).
+     * @param player The turn number of the player fighting.
+     * @param monsterId The monster's card id (in neither pile nor hand).
+     */
+    public void fight(SearchState state, int player, int monsterId) {
+
+        int maxStrength = getCombatStrength(state, player) + getOneShotBonusInHand(state, player);
+
+        fight(state, player, monsterId, decideToFight(state, player, monsterId, maxStrength));
+
+    } // End of fight method.
+
+    /**
+     * This method fights a monster or runs away from it. Winning gives the monster's levels and treasures, failing to run away costs one
+     * level. The monster is discarded afterwards.
+     * @param state The state (it is changed).
+     * @param player The turn number of the player fighting.
+     * @param monsterId The monster's card id (in neither pile nor hand).
+     * @param decidedToFight True to fight (playing one shot treasures from the hand if needed), false to run away.
+     */
+    public void fight(SearchState state, int player, int monsterId, boolean decidedToFight) {
+
+        int monsterLevel = state.getMonsterLevel(monsterId);
+
+        if(decidedToFight) {
+            int strength = getCombatStrength(state, player);
+
+            // Play the one shot treasures from the hand (strongest first) until the monster is beaten or there are none left.
+            while(strength <= monsterLevel) {
+                int location = findStrongestOneShot(state, player);
+
+                if(location == 0)
+                    break;
+
+                int oneShotId = state.removeHandCard_UsingCardLocationNumber(player, location);
+                strength += ONE_SHOT_BONUSES[oneShotId];
+                state.discardCard(oneShotId);
+
+            } // End of while loop.
+
+            if(strength > monsterLevel) {
+                state.modifyLevel(player, Math.min(state.getMonsterLevelReward(monsterId), Game.WINNING_LEVEL - state.getLevel(player)));
+
+                for(int i = state.getMonsterTreasureReward(monsterId); i > 0; i--) {
+                    int treasureId = state.drawCard(PileType.TREASURE, rand);
+                    if(treasureId != -1)
+                        state.addCardToHand(player, treasureId);
+                }
+
+                state.discardCard(monsterId);
+                return;
+            }
+
+        } // End of if statement.
+
+        // Run away (or fail to beat the monster, which also forces the player to run away).
+        int roll = rand.nextInt(DIE_SIDES) + 1 + state.getRunAwayBonus(player);
+
+        if(state.checkIf_ChickenOnHead(player))
+            roll--;
+
+        if(roll < PlayerStats.RUN_AWAY_TARGET && state.getLevel(player) > 1)
+            state.modifyLevel(player, -1);
+
+        state.discardCard(monsterId);
+
+    } // End of fight method.
+
+    /**
+     * This method plays every card from a player's hand that can be played right away (items, race and class cards, "go up a level" cards)
+     * and curses on rivals, as decided by chooseCurseTarget.
+     * @param state The state (it is changed).
+     * @param player The player's turn number.
+     */
+    public void playCardsFromHand(SearchState state, int player) {
+
+        // Search backwards, so playing a card doesn't shift the ones we haven't checked yet.
+        for(int location = state.getHandSize(player); location >= 1; location--) {
+            int cardId = state.getHandCardId_UsingCardLocationNumber(player, location);
+
+            switch(KINDS[cardId]) {
+                case ITEM:
+                    if(checkIf_ItemCanBeEquipped(state, player, cardId)) {
+                        state.removeHandCard_UsingCardLocationNumber(player, location);
+                        state.addCardToInPlayCards(player, cardId, true);
+                        state.modifyCombatBonus(player, ITEM_COMBAT_BONUSES[cardId]);
+                        state.modifyRunAwayBonus(player, ITEM_RUN_AWAY_BONUSES[cardId]);
+                    }
+                    break;
+                case RACE:
+                case CLASS:
+                    if(findInPlayCard(state, player, KINDS[cardId]) == 0) {
+                        state.removeHandCard_UsingCardLocationNumber(player, location);
+                        state.addCardToInPlayCards(player, cardId, false);
+                    }
+                    break;
+                case GUAL:
+                    if(state.getLevel(player) < Game.WINNING_LEVEL - 1) {
+                        state.removeHandCard_UsingCardLocationNumber(player, location);
+                        state.modifyLevel(player, 1);
+                        state.discardCard(cardId);
+                    }
+                    break;
+                case CURSE:
+                    int target = chooseCurseTarget(state, player, cardId);
+
+                    if(target != 0) {
+                        state.removeHandCard_UsingCardLocationNumber(player, location);
+                        applyCurse(state, cardId, target);
+                        state.discardCard(cardId);
+                    }
+                    break;
+                default:
+                    break;
+
+            } // End of switch statement.
+
+        } // End of for loop.
+
+    } // End of playCardsFromHand method.
+
+    /**
+     * This method applies the effect of a curse to a player (the curse card itself isn't moved).
+     * @param state The state (it is changed).
+     * @param curseId The curse's card id.
+     * @param target The turn number of the cursed player.
+     */
+    public void applyCurse(SearchState state, int curseId, int target) {
+
+        switch(CURSE_EFFECTS[curseId]) {
+            case LOSE_A_LEVEL:
+                state.modifyLevel(target, -1);
+                break;
+            case LOSE_TWO_LEVELS:
+                state.modifyLevel(target, -2);
+                break;
+            case CHICKEN_ON_HEAD:
+                state.setChickenOnHead(target, true);
+                break;
+            case LOSE_AN_ITEM:
+            case LOSE_A_BIG_ITEM:
+            case LOSE_A_SMALL_ITEM:
+                for(int location = 1; location <= state.getNumberOfInPlayCards(target); location++) {
+                    int cardId = state.getInPlayCardId_UsingCardLocationNumber(target, location);
+
+                    if(state.checkIf_InPlayCardEquipped(target, location) && checkIf_ItemCursed(curseId, cardId)) {
+                        state.removeInPlayCard_UsingCardLocationNumber(target, location);
+                        state.modifyCombatBonus(target, -ITEM_COMBAT_BONUSES[cardId]);
+                        state.modifyRunAwayBonus(target, -ITEM_RUN_AWAY_BONUSES[cardId]);
+                        state.discardCard(cardId);
+                        break;
+                    }
+                }
+                break;
+            case LOSE_TWO_CARDS:
+                for(int i = 0; i < 2 && state.getHandSize(target) > 0; i++)
+                    state.discardCard(state.removeHandCard_UsingCardLocationNumber(target, 1));
+                break;
+            default:
+                break;
+
+        } // End of switch statement.
+
+    } // End of applyCurse method.
+
+    /**
+     * This method decides whether a player fights a monster. By default, the player only fights monsters they can beat (like the
+     * ScriptedPolicy).
+     * @param state The state (it must not be changed).
+     * @param player The turn number of the player facing the monster.
+     * @param monsterId The monster's card id.
+     * @param maxStrength The player's strength if they played every one shot treasure in their hand.
+     * @return True to fight the monster, false to run away.
+     */
+    protected boolean decideToFight(SearchState state, int player, int monsterId, int maxStrength) {
+        return maxStrength > state.getMonsterLevel(monsterId);
+    }
+
+    /**
+     * This method decides which player to curse with a curse card from a player's hand. By default, the rival with the highest level is
+     * cursed (like the ScriptedPolicy).
+     * @param state The state (it must not be changed).
+     * @param player The turn number of the player holding the curse card.
+     * @param curseId The curse's card id.
+     * @return The turn number of the player to curse, or 0 to keep the curse for later.
+     */
+    protected int chooseCurseTarget(SearchState state, int player, int curseId) {
+
+        int target = 0;
+        int targetLevel = 0;
+
+        for(int curPlayer = 1; curPlayer <= state.getNumberOfPlayers(); curPlayer++) {
+            if(curPlayer != player && state.getLevel(curPlayer) > targetLevel) {
+                target = curPlayer;
+                targetLevel = state.getLevel(curPlayer);
+            }
+        }
+
+        return target;
+
+    } // End of chooseCurseTarget method.
+
+    /**
+     * This method gets a player's combat strength (level plus combat bonus).
+     * @param state The state.
+     * @param player The player's turn number.
+     * @return The player's combat strength.
+     */
+    public static int getCombatStrength(SearchState state, int player) {
+        return state.getLevel(player) + state.getCombatBonus(player);
+    }
+
+    /**
+     * This method gets a player's traits, like Player.getTraits: their sex, the races and classes of their race and class cards in play (and
+     * the ones they lack), and whether they are human (they have no race card in play).
+     * @param state The state.
+     * @param player The player's turn number.
+     * @return The player's traits (see PlayerTraits).
+     */
+    public static int getTraits(SearchState state, int player) {
+
+        int racesAndClasses = 0;
+        boolean hasRace = false;
+
+        for(int location = 1; location <= state.getNumberOfInPlayCards(player); location++) {
+            int cardId = state.getInPlayCardId_UsingCardLocationNumber(player, location);
+            racesAndClasses |= TRAIT_BITS[cardId];
+            hasRace |= KINDS[cardId] == CardKind.RACE;
+        }
+
+        int traits = state.checkIf_Female(player) ? PlayerTraits.FEMALE : PlayerTraits.MALE;
+        traits |= racesAndClasses | PlayerTraits.getLackingBit(PlayerTraits.ALL_RACES_AND_CLASSES & ~racesAndClasses);
+        traits |= hasRace ? PlayerTraits.getLackingBit(PlayerTraits.HUMAN) : PlayerTraits.HUMAN;
+
+        return traits;
+
+    } // End of getTraits method.
+
+    /**
+     * This method adds up the combat bonus of every one shot treasure in a player's hand.
+     * @param state The state.
+     * @param player The player's turn number.
+     * @return The total combat bonus of the one shot treasures in the hand.
+     */
+    public static int getOneShotBonusInHand(SearchState state, int player) {
+
+        int bonus = 0;
+
+        for(int location = 1; location <= state.getHandSize(player); location++)
+            bonus += ONE_SHOT_BONUSES[state.getHandCardId_UsingCardLocationNumber(player, location)];
+
+        return bonus;
+
+    } // End of getOneShotBonusInHand method.
+
+    /**
+     * This utility method finds a monster in the player's hand to look for trouble with, if the player decides to fight it. The monster is
+     * removed from the hand.
+     * @param state The state (it is changed).
+     * @param player The player's turn number.
+     * @return The monster's card id, or -1 if the player loots the room instead.
+     */
+    private int findMonsterToLookForTrouble(SearchState state, int player) {
+
+        int maxStrength = getCombatStrength(state, player) + getOneShotBonusInHand(state, player);
+
+        for(int location = 1; location <= state.getHandSize(player); location++) {
+            int cardId = state.getHandCardId_UsingCardLocationNumber(player, location);
+
+            // Only look for trouble with a monster the player can actually beat.
+            if(KINDS[cardId] == CardKind.MONSTER && maxStrength > state.getMonsterLevel(cardId)
+                    && decideToFight(state, player, cardId, maxStrength)) {
+                state.removeHandCard_UsingCardLocationNumber(player, location);
+                return cardId;
+            }
+
+        } // End of for loop.
+
+        return -1;
+
+    } // End of findMonsterToLookForTrouble utility method.
+
+    /**
+     * This utility method finds the one shot treasure with the highest combat bonus in a player's hand.
+     * @param state The state.
+     * @param player The player's turn number.
+     * @return Its card location number, or 0 if there is no one shot treasure with a combat bonus in the hand.
+     */
+    private static int findStrongestOneShot(SearchState state, int player) {
+
+        int bestLocation = 0;
+        int bestBonus = 0;
+
+        for(int location = 1; location <= state.getHandSize(player); location++) {
+            int bonus = ONE_SHOT_BONUSES[state.getHandCardId_UsingCardLocationNumber(player, location)];
+
+            if(bonus > bestBonus) {
+                bestLocation = location;
+                bestBonus = bonus;
+            }
+
+        } // End of for loop.
+
+        return bestLocation;
+
+    } // End of findStrongestOneShot utility method.
+
+    /**
+     * This utility method checks if a player can equip an item: they must meet its requirement, and its slot must be free (two hands for
+     * the weapons, any number of miscellaneous items).
+     * @param state The state.
+     * @param player The player's turn number.
+     * @param itemId The item's card id.
+     * @return True if the item can be equipped, false if not.
+     */
+    private static boolean checkIf_ItemCanBeEquipped(SearchState state, int player, int itemId) {
+
+        int requirement = ITEM_REQUIREMENTS[itemId];
+
+        if(requirement != PlayerTraits.ANYONE && !PlayerTraits.checkIf_RequirementMet(getTraits(state, player), requirement))
+            return false;
+
+        EquipmentSlot slot = ITEM_SLOTS[itemId];
+
+        if(slot == EquipmentSlot.MISC)
+            return true;
+
+        int handsUsed = 0;
+
+        for(int location = 1; location <= state.getNumberOfInPlayCards(player); location++) {
+            int cardId = state.getInPlayCardId_UsingCardLocationNumber(player, location);
+
+            if(!state.checkIf_InPlayCardEquipped(player, location) || ITEM_SLOTS[cardId] != slot)
+                continue;
+
+            if(slot != EquipmentSlot.HANDS)
+                return false;
+
+            handsUsed += ITEM_HANDS[cardId];
+
+        } // End of for loop.
+
+        return slot != EquipmentSlot.HANDS || handsUsed + ITEM_HANDS[itemId] <= 2;
+
+    } // End of checkIf_ItemCanBeEquipped utility method.
+
+    /**
+     * This utility method finds a player's in play card of a certain kind.
+     * @param state The state.
+     * @param player The player's turn number.
+     * @param kind The kind of card.
+     * @return Its card location number, or 0 if the player has no such card in play.
+     */
+    private static int findInPlayCard(SearchState state, int player, CardKind kind) {
+
+        for(int location = 1; location <= state.getNumberOfInPlayCards(player); location++) {
+            if(KINDS[state.getInPlayCardId_UsingCardLocationNumber(player, location)] == kind)
+                return location;
+        }
+
+        return 0;
+
+    } // End of findInPlayCard utility method.
+
+    /**
+     * This utility method checks if a curse that takes an equipped item away can take a certain one: "Curse! Lose A Big Item" only takes
+     * big items, "Curse! Lose A Small Item" only small ones, and "Curse! Lose The ... You Are Wearing" only the items in its slot.
+     * @param curseId The curse's card id.
+     * @param itemId The item's card id.
+     * @return True if the curse can take the item, false if not.
+     */
+    private static boolean checkIf_ItemCursed(int curseId, int itemId) {
+
+        switch(CURSE_EFFECTS[curseId]) {
+            case LOSE_A_BIG_ITEM:
+                return ITEM_IS_BIG[itemId];
+            case LOSE_A_SMALL_ITEM:
+                return !ITEM_IS_BIG[itemId];
+            default:
+                return CURSE_SLOTS[curseId] == null || CURSE_SLOTS[curseId] == ITEM_SLOTS[itemId];
+
+        } // End of switch statement.
+
+    } // End of checkIf_ItemCursed utility method.
+
+    /**
+     * This utility method sets what every curse card with a certain name does in a rollout (like CurseEffectRegistry.register, the effect is
+     * then looked up by card id). The curses it isn't set for have no effect.
+     * @param curseCardName The curse card's name.
+     * @param effect The curse's effect in a rollout.
+     * @param slot The slot the curse takes an item from, or null for any slot.
+     */
+    private static void setCurseEffect(String curseCardName, int effect, EquipmentSlot slot) {
+
+        for(int id = 0; id < CURSE_EFFECTS.length; id++) {
+            if(KINDS[id] == CardKind.CURSE && CardCatalog.getCardDefinition(id).getName().equals(curseCardName)) {
+                CURSE_EFFECTS[id] = effect;
+                CURSE_SLOTS[id] = slot;
+            }
+        }
+
+    } // End of setCurseEffect utility method.
+
+} // End of RolloutSimulator class.
@@ -0,0 +1,90 @@
+package ai;
+
+/**
+ * This class is a node of the tree built by a MonteCarloTreeSearchPolicy: one of the searching player's decisions, reached by a certain
+ * sequence of their earlier decisions (the cards drawn and the Die rolls in between are played again in every rollout, so a node stands for
+ * every game that sequence of decisions can lead to). It keeps the statistics of each of the decision's actions.
+ *
+ * IMPORTANT NOTE: A tree is only ever used by the thread that built it (the search runs one tree per thread and adds up their roots at the
+ * end), so nodes need no synchronization.
+ */
+class SearchNode {
+
+    //----------------------------------------------------
+    //            INSTANCE VARIABLES
+    //----------------------------------------------------
+
+    // The kind of decision (MonteCarloTreeSearchPolicy.FIGHT_DECISION or CURSE_DECISION).
+    final int decisionType;
+    // The node reached after each action (null until a rollout expands it).
+    final SearchNode[] children;
+    // The number of rollouts that took each action.
+    final int[] visits;
+    // The sum of the rewards of the rollouts that took each action.
+    final double[] rewards;
+    // The number of rollouts that went through this node.
+    int totalVisits;
+
+    //----------------------------------------------------
+    //            CONSTRUCTOR(S)
+    //----------------------------------------------------
+
+    /**
+     * This method constructs a SearchNode object, with no statistics yet.
+     * @param decisionType The kind of decision.
+     * @param numberOfActions The number of actions of the decision.
+     */
+    SearchNode(int decisionType, int numberOfActions) {
+        this.decisionType = decisionType;
+        children = new SearchNode[numberOfActions];
+        visits = new int[numberOfActions];
+        rewards = new double[numberOfActions];
+        totalVisits = 0;
+    }
+
+    //----------------------------------------------------
+    //            METHOD(S)
+    //----------------------------------------------------
+
+    /**
+     * This method picks the action a rollout takes, using UCB1: actions never tried come first, then the one with the best average reward
+     * plus an exploration bonus that shrinks as it is tried more often.
+     * @param explorationConstant How much the search explores (the square root of 2 in textbook UCB1, lower values exploit more).
+     * @return The action.
+     */
+    int selectAction(double explorationConstant) {
+
+        int bestAction = 0;
+        double bestValue = Double.NEGATIVE_INFINITY;
+        double logTotalVisits = Math.log(totalVisits);
+
+        for(int action = 0; action < visits.length; action++) {
+
+            if(visits[action] == 0)
+                return action;
+
+            double value = rewards[action] / visits[action] + explorationConstant * Math.sqrt(logTotalVisits / visits[action]);
+
+            if(value > bestValue) {
+                bestAction = action;
+                bestValue = value;
+            }
+
+        } // End of for loop.
+
+        return bestAction;
+
+    } // End of selectAction method.
+
+    /**
+     * This method records the reward of a rollout that took an action.
+     * @param action The action.
+     * @param reward The rollout's reward (between 0 and 1).
+     */
+    void update(int action, double reward) {
+        visits[action]++;
+        rewards[action] += reward;
+        totalVisits++;
+    }
+
+} // End of SearchNode class.
@@ -0,0 +1,777 @@
+package ai;
+
+import basic_game_components.Card;
+import basic_game_components.Game;
+import basic_game_components.PileType;
+import basic_game_components.player_stuff.Hand;
+import basic_game_components.player_stuff.InPlayCards;
+import basic_game_components.player_stuff.Player;
+import door_cards.MonsterCard;
+import treasure_cards.ItemCard;
+import utilities.CardCatalog;
+import utilities.Deck;
+import utilities.PileManager;
+import utilities.RandomStream;
+
+import java.util.Arrays;
+
+/**
+ * This class holds a copy of a game that search-based bots can fork thousands of times per decision and play forward without touching the
+ * real game. Cards are stored as their ids (see CardCatalog), so a state holds nothing but numbers and small arrays.
+ *
+ * IMPORTANT NOTE: A state is split into parts (one per player, one per pile, and one for the monsters' levels and treasure rewards) that
+ * forked states share. Forking only copies the array of references to the parts, and gives both states a new edit token: a part can only be
+ * changed in place by the state whose edit token it carries, so the first change a state makes to a shared part copies that part (and only
+ * that part) first. Drawing a card from the door pile therefore copies the door pile, and leaves the players and the treasure pile shared.
+ *
+ * A SearchState is not thread-safe, but forked states can be used by different threads, since shared parts are never changed in place.
+ * Player turn numbers and card locations start at 1, like everywhere else in the game.
+ */
+public class SearchState {
+
+    //----------------------------------------------------
+    //            INSTANCE VARIABLES
+    //----------------------------------------------------
+
+    // The players' parts (index 0 is the player with turn number 1).
+    private final PlayerPart[] players;
+    // The piles' parts (index: PileType ordinal).
+    private final PilePart[] piles;
+    // The monsters' part.
+    private MonsterPart monsters;
+    // The index of the player whose turn it is.
+    private int currentPlayerIndex;
+    // The number of turns played so far.
+    private int turnCount;
+    // The token of the parts this state may change in place.
+    private Object editToken;
+    // The number of parts this state had to copy before changing them.
+    private int copyCount;
+
+    //----------------------------------------------------
+    //            CONSTRUCTOR(S)
+    //----------------------------------------------------
+
+    /**
+     * This method constructs a SearchState object holding a copy of a game.
+     * @param game The game (it isn't changed, and nothing of it is kept).
+     */
+    public SearchState(Game game) {
+
+        editToken = new Object();
+        copyCount = 0;
+        currentPlayerIndex = game.getCurrentPlayer().getPlayerTurnNumber() - 1;
+        turnCount = game.getTurnCount();
+
+        players = new PlayerPart[game.getPlayers().size()];
+
+        for(int i = 0; i < players.length; i++)
+            players[i] = new PlayerPart(game.getPlayers().get(i), editToken);
+
+        PileManager pileManager = game.getPileManager();
+        piles = new PilePart[PileType.count()];
+        piles[PileType.DOOR.ordinal()] = new PilePart(pileManager.getDoorPile(), CardCatalog.getDoorCardCount(), editToken);
+        piles[PileType.TREASURE.ordinal()] = new PilePart(pileManager.getTreasurePile(), CardCatalog.getTreasureCardCount(), editToken);
+        monsters = new MonsterPart(pileManager, editToken);
+
+    } // End of constructor method.
+
+    /**
+     * This method constructs a SearchState object sharing every part of another state (see fork).
+     * @param other The state.
+     */
+    private SearchState(SearchState other) {
+        players = other.players.clone();
+        piles = other.piles.clone();
+        monsters = other.monsters;
+        currentPlayerIndex = other.currentPlayerIndex;
+        turnCount = other.turnCount;
+        editToken = new Object();
+        copyCount = 0;
+    }
+
+    //----------------------------------------------------
+    //            METHOD(S)
+    //----------------------------------------------------
+
+    /**
+     * This method forks the state: both states go on separately from here, sharing every part until one of them changes it.
+     * @return The new state.
+     */
+    public SearchState fork() {
+
+        // This state's parts are shared from now on, so it must copy them before changing them too.
+        editToken = new Object();
+
+        return new SearchState(this);
+
+    } // End of fork method.
+
+    //------------------------------------------
+    //     GAME...
+    //------------------------------------------
+
+    /**
+     * This method gets the number of players.
+     * @return The number of players.
+     */
+    public int getNumberOfPlayers() {
+        return players.length;
+    }
+
+    /**
+     * This method gets the turn number of the player whose turn it is.
+     * @return The turn number of the current player.
+     */
+    public int getCurrentPlayerTurnNumber() {
+        return currentPlayerIndex + 1;
+    }
+
+    /**
+     * This method gets the number of turns played so far.
+     * @return The number of turns played so far.
+     */
+    public int getTurnCount() {
+        return turnCount;
+    }
+
+    /**
+     * This method ends the current player's turn, and gives the turn to the next player.
+     */
+    public void endTurn() {
+        currentPlayerIndex = (currentPlayerIndex + 1) % players.length;
+        turnCount++;
+    }
+
+    /**
+     * This method gets the winner of the game, if any (the first player, in turn order, who reached Game.WINNING_LEVEL).
+     * @return The turn number of the winner, or 0 if nobody won yet.
+     */
+    public int getWinnerTurnNumber() {
+
+        for(int i = 0; i < players.length; i++) {
+            if(players[i].level >= Game.WINNING_LEVEL)
+                return i + 1;
+        }
+
+        return 0;
+
+    } // End of getWinnerTurnNumber method.
+
+    /**
+     * This method gets the number of parts this state copied before changing them since it was created or forked (ex: to check that a
+     * search only copies what it touches).
+     * @return The number of parts copied.
+     */
+    public int getCopyCount() {
+        return copyCount;
+    }
+
+    //------------------------------------------
+    //     PLAYERS...
+    //------------------------------------------
+
+    /**
+     * This method gets a player's level.
+     * @param playerTurnNumber The player's turn number.
+     * @return The player's level.
+     */
+    public int getLevel(int playerTurnNumber) {
+        return players[playerTurnNumber - 1].level;
+    }
+
+    /**
+     * This method changes a player's level (it never goes below 1).
+     * @param playerTurnNumber The player's turn number.
+     * @param amount The change (positive or negative).
+     */
+    public void modifyLevel(int playerTurnNumber, int amount) {
+        PlayerPart player = editPlayer(playerTurnNumber);
+        player.level = Math.max(1, player.level + amount);
+    }
+
+    /**
+     * This method gets a player's combat bonus (from modifier cards and equipment).
+     * @param playerTurnNumber The player's turn number.
+     * @return The player's combat bonus.
+     */
+    public int getCombatBonus(int playerTurnNumber) {
+        return players[playerTurnNumber - 1].combatBonus;
+    }
+
+    /**
+     * This method changes a player's combat bonus.
+     * @param playerTurnNumber The player's turn number.
+     * @param amount The change (positive or negative).
+     */
+    public void modifyCombatBonus(int playerTurnNumber, int amount) {
+        editPlayer(playerTurnNumber).combatBonus += amount;
+    }
+
+    /**
+     * This method gets a player's run away bonus (from modifier cards and equipment).
+     * @param playerTurnNumber The player's turn number.
+     * @return The player's run away bonus.
+     */
+    public int getRunAwayBonus(int playerTurnNumber) {
+        return players[playerTurnNumber - 1].runAwayBonus;
+    }
+
+    /**
+     * This method changes a player's run away bonus.
+     * @param playerTurnNumber The player's turn number.
+     * @param amount The change (positive or negative).
+     */
+    public void modifyRunAwayBonus(int playerTurnNumber, int amount) {
+        editPlayer(playerTurnNumber).runAwayBonus += amount;
+    }
+
+    /**
+     * This method gets a player's gold.
+     * @param playerTurnNumber The player's turn number.
+     * @return The player's gold.
+     */
+    public int getGold(int playerTurnNumber) {
+        return players[playerTurnNumber - 1].gold;
+    }
+
+    /**
+     * This method changes a player's gold.
+     * @param playerTurnNumber The player's turn number.
+     * @param amount The change (positive or negative).
+     */
+    public void addGold(int playerTurnNumber, int amount) {
+        editPlayer(playerTurnNumber).gold += amount;
+    }
+
+    /**
+     * This method gets a player's hand limit.
+     * @param playerTurnNumber The player's turn number.
+     * @return The player's hand limit.
+     */
+    public int getHandLimit(int playerTurnNumber) {
+        return players[playerTurnNumber - 1].handLimit;
+    }
+
+    /**
+     * This method checks if a player is female.
+     * @param playerTurnNumber The player's turn number.
+     * @return True if the player is female, false if male.
+     */
+    public boolean checkIf_Female(int playerTurnNumber) {
+        return players[playerTurnNumber - 1].female;
+    }
+
+    /**
+     * This method checks if a player has a chicken on their head (-1 to their Die rolls).
+     * @param playerTurnNumber The player's turn number.
+     * @return True if the player has a chicken on their head, false if not.
+     */
+    public boolean checkIf_ChickenOnHead(int playerTurnNumber) {
+        return players[playerTurnNumber - 1].chickenOnHead;
+    }
+
+    /**
+     * This method puts a chicken on a player's head, or takes it off.
+     * @param playerTurnNumber The player's turn number.
+     * @param chickenOnHead True if the player now has a chicken on their head, false if not.
+     */
+    public void setChickenOnHead(int playerTurnNumber, boolean chickenOnHead) {
+        editPlayer(playerTurnNumber).chickenOnHead = chickenOnHead;
+    }
+
+    /**
+     * This method gets the number of cards in a player's hand.
+     * @param playerTurnNumber The player's turn number.
+     * @return The number of cards in the player's hand.
+     */
+    public int getHandSize(int playerTurnNumber) {
+        return players[playerTurnNumber - 1].handSize;
+    }
+
+    /**
+     * This method gets the id of a card in a player's hand.
+     * @param playerTurnNumber The player's turn number.
+     * @param cardLocationNumber The card's location in the hand (1 to getHandSize).
+     * @return The card's id.
+     */
+    public int getHandCardId_UsingCardLocationNumber(int playerTurnNumber, int cardLocationNumber) {
+        return players[playerTurnNumber - 1].hand[cardLocationNumber - 1];
+    }
+
+    /**
+     * This method adds a card to the end of a player's hand.
+     * @param playerTurnNumber The player's turn number.
+     * @param cardId The card's id.
+     */
+    public void addCardToHand(int playerTurnNumber, int cardId) {
+
+        PlayerPart player = editPlayer(playerTurnNumber);
+
+        if(player.handSize == player.hand.length)
+            player.hand = Arrays.copyOf(player.hand, player.hand.length * 2);
+
+        player.hand[player.handSize++] = cardId;
+
+    } // End of addCardToHand method.
+
+    /**
+     * This method removes a card from a player's hand (the cards after it move up by one location, like in a Hand).
+     * @param playerTurnNumber The player's turn number.
+     * @param cardLocationNumber The card's location in the hand (1 to getHandSize).
+     * @return The card's id.
+     */
+    public int removeHandCard_UsingCardLocationNumber(int playerTurnNumber, int cardLocationNumber) {
+
+        PlayerPart player = editPlayer(playerTurnNumber);
+        int cardId = player.hand[cardLocationNumber - 1];
+
+        System.arraycopy(player.hand, cardLocationNumber, player.hand, cardLocationNumber - 1, player.handSize - cardLocationNumber);
+        player.handSize--;
+
+        return cardId;
+
+    } // End of removeHandCard_UsingCardLocationNumber method.
+
+    /**
+     * This method gets the number of a player's in play cards.
+     * @param playerTurnNumber The player's turn number.
+     * @return The number of the player's in play cards.
+     */
+    public int getNumberOfInPlayCards(int playerTurnNumber) {
+        return players[playerTurnNumber - 1].inPlaySize;
+    }
+
+    /**
+     * This method gets the id of one of a player's in play cards.
+     * @param playerTurnNumber The player's turn number.
+     * @param cardLocationNumber The card's location in the in play cards (1 to getNumberOfInPlayCards).
+     * @return The card's id.
+     */
+    public int getInPlayCardId_UsingCardLocationNumber(int playerTurnNumber, int cardLocationNumber) {
+        return players[playerTurnNumber - 1].inPlay[cardLocationNumber - 1] >> 1;
+    }
+
+    /**
+     * This method checks if one of a player's in play cards is an equipped item.
+     * @param playerTurnNumber The player's turn number.
+     * @param cardLocationNumber The card's location in the in play cards (1 to getNumberOfInPlayCards).
+     * @return True if the card is an equipped item, false if not.
+     */
+    public boolean checkIf_InPlayCardEquipped(int playerTurnNumber, int cardLocationNumber) {
+        return (players[playerTurnNumber - 1].inPlay[cardLocationNumber - 1] & 1) != 0;
+    }
+
+    /**
+     * This method adds a card to a player's in play cards. The player's bonuses aren't changed: equipping an item changes them separately.
+     * @param playerTurnNumber The player's turn number.
+     * @param cardId The card's id.
+     * @param equipped Whether or not the card is an equipped item.
+     */
+    public void addCardToInPlayCards(int playerTurnNumber, int cardId, boolean equipped) {
+
+        PlayerPart player = editPlayer(playerTurnNumber);
+
+        if(player.inPlaySize == player.inPlay.length)
+            player.inPlay = Arrays.copyOf(player.inPlay, player.inPlay.length * 2);
+
+        player.inPlay[player.inPlaySize++] = (cardId << 1) | (equipped ? 1 : 0);
+
+    } // End of addCardToInPlayCards method.
+
+    /**
+     * This method removes one of a player's in play cards (the cards after it move up by one location).
+     * @param playerTurnNumber The player's turn number.
+     * @param cardLocationNumber The card's location in the in play cards (1 to getNumberOfInPlayCards).
+     * @return The card's id.
+     */
+    public int removeInPlayCard_UsingCardLocationNumber(int playerTurnNumber, int cardLocationNumber) {
+
+        PlayerPart player = editPlayer(playerTurnNumber);
+        int cardId = player.inPlay[cardLocationNumber - 1] >> 1;
+
+        System.arraycopy(player.inPlay, cardLocationNumber, player.inPlay, cardLocationNumber - 1, player.inPlaySize - cardLocationNumber);
+        player.inPlaySize--;
+
+        return cardId;
+
+    } // End of removeInPlayCard_UsingCardLocationNumber method.
+
+    //------------------------------------------
+    //     PILES...
+    //------------------------------------------
+
+    /**
+     * This method gets the number of cards left in a pile.
+     * @param pile The pile.
+     * @return The number of cards in the pile.
+     */
+    public int getPileSize(PileType pile) {
+        return piles[pile.ordinal()].pileSize;
+    }
+
+    /**
+     * This method gets the number of cards in a pile's discards.
+     * @param pile The pile.
+     * @return The number of cards in the pile's discards.
+     */
+    public int getDiscardsSize(PileType pile) {
+        return piles[pile.ordinal()].discardsSize;
+    }
+
+    /**
+     * This method draws the top card of a pile. If the pile is empty, its discards are shuffled back into it first, like in a Deck.
+     * @param pile The pile.
+     * @param rand The random stream used to shuffle the discards (ex: the searching bot's own stream).
+     * @return The card's id, or -1 if the pile and its discards are empty.
+     */
+    public int drawCard(PileType pile, RandomStream rand) {
+
+        PilePart part = piles[pile.ordinal()];
+
+        if(part.pileSize == 0 && part.discardsSize == 0)
+            return -1;
+
+        part = editPile(pile);
+
+        if(part.pileSize == 0)
+            part.returnDiscardsToPile(rand);
+
+        part.pileSize--;
+
+        return part.pile[part.pileSize];
+
+    } // End of drawCard method.
+
+    /**
+     * This method places a card on top of its pile's discards (door or treasure, depending on the card).
+     * @param cardId The card's id.
+     */
+    public void discardCard(int cardId) {
+
+        PilePart part = editPile(CardCatalog.checkIf_DoorCard(cardId) ? PileType.DOOR : PileType.TREASURE);
+        part.discards[part.discardsSize++] = cardId;
+
+    } // End of discardCard method.
+
+    /**
+     * This method shuffles the cards left in a pile (ex: so a bot doesn't search with the real order of the cards it can't see).
+     * @param pile The pile.
+     * @param rand The random stream used to shuffle.
+     */
+    public void shufflePile(PileType pile, RandomStream rand) {
+        editPile(pile).shuffle(rand);
+    }
+
+    //------------------------------------------
+    //     MONSTERS...
+    //------------------------------------------
+
+    /**
+     * This method gets a monster's level (including the changes made to it during the game).
+     * @param cardId The monster's card id.
+     * @return The monster's level.
+     */
+    public int getMonsterLevel(int cardId) {
+        return monsters.levels[cardId];
+    }
+
+    /**
+     * This method gets the number of treasures a monster gives (including the changes made to it during the game).
+     * @param cardId The monster's card id.
+     * @return The monster's treasure reward.
+     */
+    public int getMonsterTreasureReward(int cardId) {
+        return monsters.treasureRewards[cardId];
+    }
+
+    /**
+     * This method gets the number of levels a monster gives.
+     * @param cardId The monster's card id.
+     * @return The monster's level reward.
+     */
+    public int getMonsterLevelReward(int cardId) {
+        return ((MonsterCard) CardCatalog.getCardDefinition(cardId)).getLevelReward();
+    }
+
+    /**
+     * This method changes a monster's level (ex: a monster enhancer).
+     * @param cardId The monster's card id.
+     * @param amount The change (positive or negative).
+     */
+    public void modifyMonsterLevel(int cardId, int amount) {
+        editMonsters().levels[cardId] += amount;
+    }
+
+    /**
+     * This method changes the number of treasures a monster gives.
+     * @param cardId The monster's card id.
+     * @param amount The change (positive or negative).
+     */
+    public void modifyMonsterTreasureReward(int cardId, int amount) {
+        editMonsters().treasureRewards[cardId] += amount;
+    }
+
+    //------------------------------------------
+    //     COPY ON WRITE...
+    //------------------------------------------
+
+    /**
+     * This utility method gets a player's part, copying it first if it is shared with another state.
+     * @param playerTurnNumber The player's turn number.
+     * @return The player's part, which this state may change in place.
+     */
+    private PlayerPart editPlayer(int playerTurnNumber) {
+
+        PlayerPart player = players[playerTurnNumber - 1];
+
+        if(player.editToken != editToken) {
+            player = new PlayerPart(player, editToken);
+            players[playerTurnNumber - 1] = player;
+            copyCount++;
+        }
+
+        return player;
+
+    } // End of editPlayer utility method.
+
+    /**
+     * This utility method gets a pile's part, copying it first if it is shared with another state.
+     * @param pile The pile.
+     * @return The pile's part, which this state may change in place.
+     */
+    private PilePart editPile(PileType pile) {
+
+        PilePart part = piles[pile.ordinal()];
+
+        if(part.editToken != editToken) {
+            part = new PilePart(part, editToken);
+            piles[pile.ordinal()] = part;
+            copyCount++;
+        }
+
+        return part;
+
+    } // End of editPile utility method.
+
+    /**
+     * This utility method gets the monsters' part, copying it first if it is shared with another state.
+     * @return The monsters' part, which this state may change in place.
+     */
+    private MonsterPart editMonsters() {
+
+        if(monsters.editToken != editToken) {
+            monsters = new MonsterPart(monsters, editToken);
+            copyCount++;
+        }
+
+        return monsters;
+
+    } // End of editMonsters utility method.
+
+    //----------------------------------------------------
+    //            PARTS
+    //----------------------------------------------------
+
+    /**
+     * This class holds a player's part of a state.
+     */
+    private static final class PlayerPart {
+
+        // The token of the state that may change this part in place.
+        private final Object editToken;
+        private int level;
+        private int combatBonus;
+        private int runAwayBonus;
+        private int gold;
+        private int handLimit;
+        private boolean female;
+        private boolean chickenOnHead;
+        // The ids of the cards in the hand.
+        private int[] hand;
+        private int handSize;
+        // The in play cards: each card's id times 2, plus 1 if it is an equipped item.
+        private int[] inPlay;
+        private int inPlaySize;
+
+        /**
+         * This method constructs a PlayerPart object holding a copy of a player.
+         * @param player The player.
+         * @param editToken The token of the state that may change this part in place.
+         */
+        private PlayerPart(Player player, Object editToken) {
+
+            this.editToken = editToken;
+
+            Hand playerHand = player.getHand();
+            InPlayCards inPlayCards = player.getInPlayCards();
+
+            level = player.getLevel();
+            combatBonus = player.getCombatBonus();
+            runAwayBonus = player.getRunAwayBonus();
+            gold = player.getGold();
+            handLimit = playerHand.getHandLimit();
+            female = player.getSex().equals("female");
+            chickenOnHead = player.getDie().checkIf_ChickenOnYourHead();
+
+            handSize = playerHand.getNumberOfCards();
+            hand = new int[Math.max(8, handSize * 2)];
+
+            for(int i = 0; i < handSize; i++)
+                hand[i] = playerHand.getCard_UsingCardLocationNumber(i + 1).getId();
+
+            inPlaySize = inPlayCards.getNumberOfCards();
+            inPlay = new int[Math.max(8, inPlaySize * 2)];
+
+            for(int i = 0; i < inPlaySize; i++) {
+                Card curCard = inPlayCards.getCard_UsingCardLocationNumber(i + 1);
+                boolean equipped = curCard instanceof ItemCard && inPlayCards.checkIf_ItemEquipped((ItemCard) curCard);
+
+                inPlay[i] = (curCard.getId() << 1) | (equipped ? 1 : 0);
+            }
+
+        } // End of constructor method.
+
+        /**
+         * This method constructs a PlayerPart object holding a copy of another part.
+         * @param other The part.
+         * @param editToken The token of the state that may change this part in place.
+         */
+        private PlayerPart(PlayerPart other, Object editToken) {
+            this.editToken = editToken;
+            level = other.level;
+            combatBonus = other.combatBonus;
+            runAwayBonus = other.runAwayBonus;
+            gold = other.gold;
+            handLimit = other.handLimit;
+            female = other.female;
+            chickenOnHead = other.chickenOnHead;
+            hand = other.hand.clone();
+            handSize = other.handSize;
+            inPlay = other.inPlay.clone();
+            inPlaySize = other.inPlaySize;
+        }
+
+    } // End of PlayerPart class.
+
+    /**
+     * This class holds a pile's part of a state (the pile and its discards, bottom to top, like in a Deck).
+     */
+    private static final class PilePart {
+
+        // The token of the state that may change this part in place.
+        private final Object editToken;
+        private final int[] pile;
+        private int pileSize;
+        private final int[] discards;
+        private int discardsSize;
+
+        /**
+         * This method constructs a PilePart object holding a copy of a Deck.
+         * @param deck The deck.
+         * @param capacity The number of cards of that kind in the game (they can all end up in the pile, or in its discards).
+         * @param editToken The token of the state that may change this part in place.
+         */
+        private PilePart(Deck deck, int capacity, Object editToken) {
+
+            this.editToken = editToken;
+            pile = new int[capacity];
+            discards = new int[capacity];
+            pileSize = deck.getPileSize();
+            discardsSize = deck.getDiscardsSize();
+
+            for(int i = 0; i < pileSize; i++)
+                pile[i] = deck.getPileCardId(i);
+
+            for(int i = 0; i < discardsSize; i++)
+                discards[i] = deck.getDiscardCardId(i);
+
+        } // End of constructor method.
+
+        /**
+         * This method constructs a PilePart object holding a copy of another part.
+         * @param other The part.
+         * @param editToken The token of the state that may change this part in place.
+         */
+        private PilePart(PilePart other, Object editToken) {
+            this.editToken = editToken;
+            pile = other.pile.clone();
+            pileSize = other.pileSize;
+            discards = other.discards.clone();
+            discardsSize = other.discardsSize;
+        }
+
+        /**
+         * This method shuffles the discards back into the (empty) pile.
+         * @param rand The random stream used to shuffle.
+         */
+        private void returnDiscardsToPile(RandomStream rand) {
+            System.arraycopy(discards, 0, pile, pileSize, discardsSize);
+            pileSize += discardsSize;
+            discardsSize = 0;
+            shuffle(rand);
+        }
+
+        /**
+         * This method shuffles the pile (Fisher-Yates, like a Deck).
+         * @param rand The random stream used to shuffle.
+         */
+        private void shuffle(RandomStream rand) {
+
+            for(int i = pileSize - 1; i > 0; i--) {
+                int j = rand.nextInt(i + 1);
+                int temp = pile[i];
+                pile[i] = pile[j];
+                pile[j] = temp;
+            }
+
+        } // End of shuffle method.
+
+    } // End of PilePart class.
+
+    /**
+     * This class holds the monsters' part of a state: every monster's level and treasure reward, by card id (0 for the other cards).
+     */
+    private static final class MonsterPart {
+
+        // The token of the state that may change this part in place.
+        private final Object editToken;
+        private final int[] levels;
+        private final int[] treasureRewards;
+
+        /**
+         * This method constructs a MonsterPart object holding a copy of a game's monsters.
+         * @param pileManager The game's piles (they hold the game's own monster cards).
+         * @param editToken The token of the state that may change this part in place.
+         */
+        private MonsterPart(PileManager pileManager, Object editToken) {
+
+            this.editToken = editToken;
+            levels = new int[CardCatalog.getDoorCardCount()];
+            treasureRewards = new int[CardCatalog.getDoorCardCount()];
+
+            for(int i = 0; i < levels.length; i++) {
+                Card curCard = pileManager.getCard_UsingCatalogIndex(i);
+
+                if(curCard instanceof MonsterCard) {
+                    levels[i] = ((MonsterCard) curCard).getLevel();
+                    treasureRewards[i] = ((MonsterCard) curCard).getTreasureReward();
+                }
+            }
+
+        } // End of constructor method.
+
+        /**
+         * This method constructs a MonsterPart object holding a copy of another part.
+         * @param other The part.
+         * @param editToken The token of the state that may change this part in place.
+         */
+        private MonsterPart(MonsterPart other, Object editToken) {
+            this.editToken = editToken;
+            levels = other.levels.clone();
+            treasureRewards = other.treasureRewards.clone();
+        }
+
+    } // End of MonsterPart class.
+
+} // End of SearchState class.
@@ -14,6 +14,10 @@ public class Card {
     private String name;
     // The card's pile type, "door" or "treasure".
     private String type;
+    // The card's kind (monster, curse, item, etc.).
+    private CardKind kind;
+    // The card's id, i.e. its index in the CardCatalog (-1 until the catalog assigns it).
+    private int id;
 
     //----------------------------------------------------
     //            CONSTRUCTOR(S)
@@ -23,10 +27,23 @@ public class Card {
      * This method constructs a Card object, the main super class of all the cards in the game.
      * @param name The card's unique name.
      * @param type The card's pile type, "door" or "treasure".
+     * @param kind The card's kind (monster, curse, item, etc.).
      */
-    public Card(String name, String type) {
+    public Card(String name, String type, CardKind kind) {
         this.name = name;
         this.type = type;
+        this.kind = kind;
+        id = -1;
+    }
+
+    /**
+     * This method constructs a copy of a card definition (ex: a game's own copy of a monster card, see MonsterCard), with the same name, type,
+     * kind and id.
+     * @param definition The card definition.
+     */
+    protected Card(Card definition) {
+        this(definition.name, definition.type, definition.kind);
+        id = definition.id;
     }
 
     //----------------------------------------------------
@@ -49,4 +66,44 @@ public class Card {
         return type;
     }
 
+    /**
+     * This method gets the card's pile, the enum version of its type (DOOR or TREASURE). Use it instead of comparing type strings.
+     * @return The card's pile.
+     */
+    public PileType getPile() {
+        return kind.getPile();
+    }
+
+    /**
+     * This method gets the card's kind (monster, curse, item, etc.).
+     * @return The card's kind.
+     */
+    public CardKind getKind() {
+        return kind;
+    }
+
+    /**
+     * This method gets the card's id, which is its index in the CardCatalog. Copies of a card (ex: a game's own monster cards) share the same id.
+     * Ids are dense (0 to CardCatalog.getCardCount() - 1), so they can index arrays and bitsets.
+     * @return The card's id (-1 if it was never assigned).
+     */
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * This method sets the card's id. It is only meant to be used by the CardCatalog when the card definitions are built, which is why an id
+     * can only be set once: the catalog sets every shared definition's id before any game can see it, so no one can change it afterwards.
+     * @param id The card's id (its index in the CardCatalog).
+     * @throws IllegalStateException If the card already has an id.
+     */
+    public void setId(int id) {
+
+        if(this.id != -1)
+            throw new IllegalStateException("The card " + name + " already has an id (" + this.id + ").");
+
+        this.id = id;
+
+    } // End of setId method.
+
 } // End of Card class.
\ No newline at end of file
@@ -0,0 +1,62 @@
+package basic_game_components;
+
+/**
+ * This enum lists the different kinds of cards in the game of Munchkin (one per child class of Card). Comparing kinds is much cheaper than
+ * comparing names or using instanceof, and their ordinals can be used to index arrays (ex: the per-kind counters of a Hand).
+ */
+public enum CardKind {
+
+    // Door cards.
+    MONSTER(PileType.DOOR),
+    MONSTER_ENHANCER(PileType.DOOR),
+    CURSE(PileType.DOOR),
+    RACE(PileType.DOOR),
+    CLASS(PileType.DOOR),
+    OTHER_DOOR(PileType.DOOR),
+
+    // Treasure cards.
+    ITEM(PileType.TREASURE),
+    ONE_SHOT_TREASURE(PileType.TREASURE),
+    GUAL(PileType.TREASURE),
+    HELPER(PileType.TREASURE);
+
+    // The kinds, in ordinal order (values() creates a new array every time it is called).
+    private static final CardKind[] KINDS = values();
+
+    // The pile every card of this kind belongs to.
+    private final PileType pile;
+
+    /**
+     * This method constructs a card kind.
+     * @param pile The pile every card of this kind belongs to.
+     */
+    CardKind(PileType pile) {
+        this.pile = pile;
+    }
+
+    /**
+     * This method gets the pile every card of this kind belongs to.
+     * @return The pile, DOOR or TREASURE.
+     */
+    public PileType getPile() {
+        return pile;
+    }
+
+    /**
+     * This method gets the kind with a certain ordinal, without creating an array like values() does.
+     * @param ordinal The kind's ordinal.
+     * @return The kind.
+     */
+    public static CardKind fromOrdinal(int ordinal) {
+        return KINDS[ordinal];
+    }
+
+    /**
+     * This method gets the number of different kinds of cards.
+     * @return The number of different kinds of cards.
+     */
+    public static int count() {
+        return KINDS.length;
+    }
+
+} // End of CardKind enum.
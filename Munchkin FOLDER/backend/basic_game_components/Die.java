@@ -1,6 +1,10 @@
 package basic_game_components;
 
-import java.util.Random;
+import events.GameEventSink;
+import events.GameEventType;
+import utilities.RandomStream;
+
+import java.util.concurrent.ThreadLocalRandom;
 
 /** 
  * This class simulates a six-sided Die in the game of Munchkin. A Die is used for running away from monsters, deciding turn order before the 
@@ -12,8 +16,8 @@ public class Die {
     //            INSTANCE VARIABLES
     //--------------------------------------------------- -
 
-    // Java's random generator class (used for Die results).
-    private Random rand;
+    // The Die's own stream of random numbers (used for Die results). See GameRandom for how each player's Die gets its own stream.
+    private RandomStream rand;
 
     // It's a six-sided Die, so the result is always values 1-6.
     private final int MIN = 1;
@@ -22,18 +26,32 @@ public class Die {
     // Whether or not the play is cucrently affected by the "Curse! Chicken On Your Head" card.
     private boolean chickenOnYourHead;
 
+    // Where the Die publishes its rolls, and the turn number of the player rolling it.
+    private GameEventSink eventSink;
+    private int playerTurnNumber;
+
     //----------------------------------------------------
     //            CONSTRUCTOR(S)
     //----------------------------------------------------
 
     /**
-     * This method constructs a Die object.
+     * This method constructs a Die object that rolls using the given random stream (so the game can be replayed from its seed).
+     * @param rand The Die's random stream.
      */
-    public Die() {
-        rand = new Random();
+    public Die(RandomStream rand) {
+        this.rand = rand;
         chickenOnYourHead = false;
+        eventSink = GameEventSink.NONE;
+        playerTurnNumber = 0;
 
     }
+
+    /**
+     * This method constructs a Die object with an arbitrary seed.
+     */
+    public Die() {
+        this(new RandomStream(ThreadLocalRandom.current().nextLong()));
+    }
     
     //----------------------------------------------------
     //            METHOD(S)
@@ -48,10 +66,30 @@ public class Die {
     public int roll() {
         //If the player is affected by an active "Curse! Chicken On Your Head" card, then they get minus 1 to all Die rolls.
 
+        int result = rand.nextInt(MAX) + MIN;
+
         if (chickenOnYourHead)
-            return rand.nextInt(MAX) + MIN - 1;
+            result--;
 
-        return rand.nextInt(MAX) + MIN;
+        eventSink.publish(GameEventType.DIE_ROLLED, playerTurnNumber, result, 0);
+
+        return result;
+    }
+
+    /**
+     * This method checks to see if the player has a chicken on their head (the "Curse! Chicken On Your Head" card).
+     * @return True if the player has a chicken on their head, false if they don't.
+     */
+    public boolean checkIf_ChickenOnYourHead() {
+        return chickenOnYourHead;
+    }
+
+    /**
+     * This method gets the Die's random stream (used to save and restore its state, see GameSnapshotCodec).
+     * @return The Die's random stream.
+     */
+    public RandomStream getRandomStream() {
+        return rand;
     }
 
     /**
@@ -59,8 +97,22 @@ public class Die {
      * @param chickenOnYourHead True if the player now has a chicken on their head, false if they now do not.
      */
     public void setChickenOnYourHead_TrueOrFalse(boolean chickenOnYourHead) {
+
+        if(this.chickenOnYourHead == chickenOnYourHead)
+            return;
+
         this.chickenOnYourHead = chickenOnYourHead;
+        eventSink.publish(GameEventType.CHICKEN_ON_HEAD_CHANGED, playerTurnNumber, chickenOnYourHead ? 1 : 0, 0);
     }
 
+    /**
+     * This method sets where the Die publishes its rolls.
+     * @param eventSink Where the Die publishes its rolls (GameEventSink.NONE to ignore them).
+     * @param playerTurnNumber The turn number of the player rolling the Die.
+     */
+    public void setEventSink(GameEventSink eventSink, int playerTurnNumber) {
+        this.eventSink = eventSink;
+        this.playerTurnNumber = playerTurnNumber;
+    }
 
 } // End of Die class.
\ No newline at end of file
@@ -0,0 +1,178 @@
+package basic_game_components;
+
+import basic_game_components.player_stuff.Player;
+import events.GameEventSink;
+import events.GameEventType;
+import handlers.CurseCardHandler;
+import utilities.GameRandom;
+import utilities.PileManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * This class holds everything that makes up a single game of Munchkin: its random context, its piles, its players and the handlers that apply
+ * the rules. Everything in a Game is meant to be used by one thread at a time.
+ */
+public class Game {
+
+    //----------------------------------------------------
+    //            INSTANCE VARIABLES
+    //----------------------------------------------------
+
+    // The level a player must reach to win the game.
+    public static final int WINNING_LEVEL = 10;
+
+    // The game's random context (every random stream of the game is derived from its seed).
+    private GameRandom gameRandom;
+    // The game's door and treasure piles.
+    private PileManager pileManager;
+    // The players, in turn order (the player at index 0 has turn number 1, etc.).
+    private List<Player> players;
+    // The handler applying the effects of curse cards.
+    private CurseCardHandler curseCardHandler;
+    // The index (in the players list) of the player whose turn it is.
+    private int currentPlayerIndex;
+    // The number of turns played so far.
+    private int turnCount;
+    // Where every part of the game publishes its events.
+    private GameEventSink eventSink;
+
+    //----------------------------------------------------
+    //            CONSTRUCTOR(S)
+    //----------------------------------------------------
+
+    /**
+     * This method constructs a Game object. The players alternate between "male" and "female", starting with a male player.
+     * @param seed The game's seed (the same seed always produces the same game, given the same decisions).
+     * @param numberOfPlayers The number of players in the game.
+     * @param curseCardHandler The handler applying the effects of curse cards.
+     */
+    public Game(long seed, int numberOfPlayers, CurseCardHandler curseCardHandler) {
+        gameRandom = new GameRandom(seed);
+        pileManager = new PileManager(gameRandom);
+        players = new ArrayList<>(numberOfPlayers);
+
+        for(int i = 1; i <= numberOfPlayers; i++) {
+            String sex = (i % 2 == 1) ? "male" : "female";
+            players.add(new Player(i, sex, gameRandom));
+        }
+
+        this.curseCardHandler = curseCardHandler;
+        currentPlayerIndex = 0;
+        turnCount = 0;
+        eventSink = GameEventSink.NONE;
+
+    } // End of constructor method.
+
+    //----------------------------------------------------
+    //            METHOD(S)
+    //----------------------------------------------------
+
+    /**
+     * This method gets the game's random context.
+     * @return The game's random context.
+     */
+    public GameRandom getGameRandom() {
+        return gameRandom;
+    }
+
+    /**
+     * This method gets the game's piles.
+     * @return The game's piles.
+     */
+    public PileManager getPileManager() {
+        return pileManager;
+    }
+
+    /**
+     * This method gets the players, in turn order.
+     * @return The players, in turn order.
+     */
+    public List<Player> getPlayers() {
+        return players;
+    }
+
+    /**
+     * This method gets the handler applying the effects of curse cards.
+     * @return The curse card handler.
+     */
+    public CurseCardHandler getCurseCardHandler() {
+        return curseCardHandler;
+    }
+
+    /**
+     * This method sets where every part of the game publishes its events (the piles, the players with their hands, in play cards and dice,
+     * and the curse card handler). Events are ignored until this is called.
+     * @param eventSink Where the game publishes its events (ex: a GameEventBus, or GameEventSink.NONE to ignore them again).
+     */
+    public void setEventSink(GameEventSink eventSink) {
+
+        this.eventSink = eventSink;
+        pileManager.setEventSink(eventSink);
+        curseCardHandler.setEventSink(eventSink);
+
+        for(Player curPlayer : players)
+            curPlayer.setEventSink(eventSink);
+
+    } // End of setEventSink method.
+
+    /**
+     * This method gets where every part of the game publishes its events.
+     * @return Where the game publishes its events (GameEventSink.NONE if nobody listens).
+     */
+    public GameEventSink getEventSink() {
+        return eventSink;
+    }
+
+    /**
+     * This method gets the player whose turn it is.
+     * @return The player whose turn it is.
+     */
+    public Player getCurrentPlayer() {
+        return players.get(currentPlayerIndex);
+    }
+
+    /**
+     * This method gets the number of turns played so far.
+     * @return The number of turns played so far.
+     */
+    public int getTurnCount() {
+        return turnCount;
+    }
+
+    /**
+     * This method sets whose turn it is and how many turns were played (used to restore a saved game, see GameSnapshotCodec).
+     * @param currentPlayerIndex The index (in the players list) of the player whose turn it is.
+     * @param turnCount The number of turns played so far.
+     */
+    public void restoreTurn(int currentPlayerIndex, int turnCount) {
+        this.currentPlayerIndex = currentPlayerIndex;
+        this.turnCount = turnCount;
+    }
+
+    /**
+     * This method ends the current player's turn and passes the turn to the next player.
+     */
+    public void endTurn() {
+        currentPlayerIndex = (currentPlayerIndex + 1) % players.size();
+        turnCount++;
+        eventSink.publish(GameEventType.TURN_ENDED, currentPlayerIndex + 1, turnCount, 0);
+    }
+
+    /**
+     * This method gets the player who won the game, if any.
+     * @return The player who reached the winning level, or null if nobody has won yet.
+     */
+    public Player getWinner() {
+
+        for(Player curPlayer : players) {
+            if(curPlayer.getLevel() >= WINNING_LEVEL)
+                return curPlayer;
+        }
+
+        return null;
+
+    } // End of getWinner method.
+
+} // End of Game class.
@@ -0,0 +1,49 @@
+package basic_game_components;
+
+/**
+ * This enum lists the two piles a card can belong to in the game of Munchkin. It is the enum version of a card's "door" or "treasure" type
+ * string (see Card.getType()), so its ordinal can be used to index arrays.
+ */
+public enum PileType {
+
+    DOOR,
+    TREASURE;
+
+    // The pile types, in ordinal order (values() creates a new array every time it is called).
+    private static final PileType[] PILE_TYPES = values();
+
+    /**
+     * This method gets the pile type that goes with a card's type string.
+     * @param type The card's type string, "door" or "treasure".
+     * @return The pile type, or null if the type string is neither.
+     */
+    public static PileType fromType(String type) {
+
+        if(type.equals("door"))
+            return DOOR;
+
+        if(type.equals("treasure"))
+            return TREASURE;
+
+        return null;
+
+    } // End of fromType method.
+
+    /**
+     * This method gets the pile type with a certain ordinal, without creating an array like values() does.
+     * @param ordinal The pile type's ordinal.
+     * @return The pile type.
+     */
+    public static PileType fromOrdinal(int ordinal) {
+        return PILE_TYPES[ordinal];
+    }
+
+    /**
+     * This method gets the number of pile types.
+     * @return The number of pile types.
+     */
+    public static int count() {
+        return PILE_TYPES.length;
+    }
+
+} // End of PileType enum.
@@ -1,11 +1,23 @@
 package basic_game_components.player_stuff;
 
 import basic_game_components.Card;
+import basic_game_components.CardKind;
+import basic_game_components.PileType;
+import events.GameEventSink;
+import events.GameEventType;
+
 import java.util.List;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * This class simulates the player's hand.
+ *
+ * IMPORTANT NOTE: Besides the list of cards, the hand keeps a few indexes up to date (per name, per kind and per pile type): how many of those
+ * cards are in the hand and where the first one is. This makes searching for a card, or checking if there is one, O(1) instead of going
+ * through the whole hand every time. Adding a card updates the indexes in O(1), and removing a card updates them while going over the cards
+ * that shift to the left (which the list has to move anyway).
  */
 public class Hand {
     //----------------------------------------------------
@@ -16,9 +28,20 @@ public class Hand {
     private int playerTurnNumber;
     // A list of Card objects to simulate the hand.
     private List<Card> handList;
-    // The limit of cards the player can have by the end of their turn (usually 5, unless they are a dwarf, in which case it is 6).
+    // The limit of cards the player can have by the end of their turn (usually 5, unless they are a dwarf, in which case it is 6). It is
+    // derived from the player's races (see PlayerStats), which set it whenever they change.
     private int handLimit;
 
+    // The index of the hand's cards by name. Entries are kept (with a count of 0) when their last card leaves the hand, so they can be reused.
+    private Map<String, IndexEntry> nameIndex;
+    // The index of the hand's cards by kind (indexed by CardKind ordinal).
+    private IndexEntry[] kindIndex;
+    // The index of the hand's cards by pile type (indexed by PileType ordinal).
+    private IndexEntry[] typeIndex;
+
+    // Where the hand publishes its events (cards added and removed).
+    private GameEventSink eventSink;
+
     //----------------------------------------------------
     //            CONSTRUCTOR(S)
     //----------------------------------------------------
@@ -30,13 +53,33 @@ public class Hand {
     public Hand(int playerTurnNumber) {
         this.playerTurnNumber = playerTurnNumber;
         handList = new ArrayList<>();
-        handLimit = 5;
+        handLimit = PlayerStats.HAND_LIMIT;
+
+        nameIndex = new HashMap<>();
+        kindIndex = new IndexEntry[CardKind.count()];
+        typeIndex = new IndexEntry[PileType.count()];
+
+        for(int i = 0; i < kindIndex.length; i++)
+            kindIndex[i] = new IndexEntry();
+
+        for(int i = 0; i < typeIndex.length; i++)
+            typeIndex[i] = new IndexEntry();
+
+        eventSink = GameEventSink.NONE;
     }
 
     //----------------------------------------------------
     //          METHOD(S)
     //----------------------------------------------------
 
+    /**
+     * This method sets where the hand publishes its events (cards added and removed).
+     * @param eventSink Where the hand publishes its events (GameEventSink.NONE to ignore them).
+     */
+    public void setEventSink(GameEventSink eventSink) {
+        this.eventSink = eventSink;
+    }
+
     /**
      * This method gets the hand's current limit.
      * @return The hand's current limit.
@@ -46,18 +89,19 @@ public class Hand {
     }
 
     /**
-     * This method increases the hand limit to 6 (intended for when the player becomes a dwarf).
+     * This method changes the hand limit, and publishes the change if there is one. It is only called by the player's derived stats, as their
+     * races change (see PlayerStats.invalidate).
+     * @param newHandLimit The new hand limit.
      */
-    public void increaseLimit_BecomeDwarf() {
-        handLimit = 6;
-    }
+    void setHandLimit(int newHandLimit) {
 
-    /**
-     * This method resets the hand limit to 5 (intended for when the player loses their dwarf race).
-     */
-    public void resetLimit_NoLongerDwarf() {
-        handLimit = 5;
-    }
+        if(handLimit == newHandLimit)
+            return;
+
+        handLimit = newHandLimit;
+        eventSink.publish(GameEventType.HAND_LIMIT_CHANGED, playerTurnNumber, handLimit, 0);
+
+    } // End of setHandLimit method.
 
     /**
      * This method gets a card from the player's hand based on it's card location number (ex: the first card starting from the left is card 1, 
@@ -70,13 +114,37 @@ public class Hand {
         return handList.get(index);
     }
 
+    /**
+     * This method gets the number of cards currently in the player's hand.
+     * @return The number of cards currently in the player's hand.
+     */
+    public int getNumberOfCards() {
+        return handList.size();
+    }
+
     /**
      * This method adds a new card to the player's hand.
      * @param newCard The new card in question.
      */
     public void addCardToHand(Card newCard) {
+
         handList.add(newCard);
-    }
+        int index = handList.size() - 1;
+
+        IndexEntry nameEntry = nameIndex.get(newCard.getName());
+
+        if(nameEntry == null) {
+            nameEntry = new IndexEntry();
+            nameIndex.put(newCard.getName(), nameEntry);
+        }
+
+        nameEntry.add(index);
+        kindIndex[newCard.getKind().ordinal()].add(index);
+        typeIndex[newCard.getPile().ordinal()].add(index);
+
+        eventSink.publish(GameEventType.CARD_ADDED_TO_HAND, playerTurnNumber, newCard.getId(), handList.size());
+
+    } // End of addCardToHand method.
 
     /**
      * This method checks to see if the player must discard cards from their hand before the end of their turn, i.e. whether or not they
@@ -95,20 +163,13 @@ public class Hand {
      */
     public int searchForCardUsingName_ReturnCardLocationNumber(String searchedCardName) {
 
-        for(int i = 0; i < handList.size(); i++) {
+        IndexEntry nameEntry = nameIndex.get(searchedCardName);
 
-            Card curCard = handList.get(i);
-            String curCardName = curCard.getName();
+        // If it isn't in the name index, we return 0 by default, indicating that it was not found in the hand.
+        if(nameEntry == null)
+            return 0;
 
-            if(curCardName.equals(searchedCardName)) {
-                // The card location number is the index location plus 1, because we start counting from 1 for card location numbers.
-                return i + 1;
-            }
-
-        } // End of for loop.
-
-        // If it was never found in the for loop above, we return 0 by default, indicating that it was not found in the hand.
-        return 0;
+        return nameEntry.getCardLocationNumber();
 
     } // End of searchForCardUsingName_ReturnCardLocationNumber method.
 
@@ -120,22 +181,69 @@ public class Hand {
      */
     public int searchForCardUsingType_ReturnCardLocationNumber(String searchedCardType) {
 
-        for(int i = 0; i < handList.size(); i++) {
+        PileType searchedPile = PileType.fromType(searchedCardType);
 
-            Card curCard = handList.get(i);
-            String curCardType = curCard.getType();
+        // If it isn't a valid type, we return 0 by default, indicating that it was not found in the hand.
+        if(searchedPile == null)
+            return 0;
 
-            if(curCardType.equals(searchedCardType)) {
-                // The card location number is the index location plus 1, because we start counting from 1 for card location numbers.
-                return i + 1; 
-            }
+        return searchForCardUsingPile_ReturnCardLocationNumber(searchedPile);
 
-        } // End of for loop.
+    } // End of searchForCardUsingType_ReturnCardLocationNumber method.
 
-        // If it was never found in the for loop above, we return 0 by default, indicating that it was not found in the hand.
-        return 0;
+    /**
+     * This method searches for the first card of a certain pile (door or treasure). If it is found, the card location number is returned. If it
+     * is not found, return 0 (default).
+     * @param searchedPile The card's pile.
+     * @return The card's location number, if found. If not found, return 0, indicating it was not found in the hand.
+     */
+    public int searchForCardUsingPile_ReturnCardLocationNumber(PileType searchedPile) {
+        return typeIndex[searchedPile.ordinal()].getCardLocationNumber();
+    }
 
-    } // End of searchForCardUsingType_ReturnCardLocationNumber method.
+    /**
+     * This method searches for the first card of a certain kind (ex: the first monster in the hand). If it is found, the card location number
+     * is returned. If it is not found, return 0 (default).
+     * @param searchedCardKind The card's kind.
+     * @return The card's location number, if found. If not found, return 0, indicating it was not found in the hand.
+     */
+    public int searchForCardUsingKind_ReturnCardLocationNumber(CardKind searchedCardKind) {
+        return kindIndex[searchedCardKind.ordinal()].getCardLocationNumber();
+    }
+
+    /**
+     * This method checks to see if there is at least one card with a certain name in the hand.
+     * @param cardName The card's name.
+     * @return True if there is at least one card with that name in the hand, false if there isn't.
+     */
+    public boolean checkIf_CardInHand(String cardName) {
+        return countCardsUsingName(cardName) > 0;
+    }
+
+    /**
+     * This method counts the cards with a certain name in the hand.
+     * @param cardName The card's name.
+     * @return The number of cards with that name in the hand.
+     */
+    public int countCardsUsingName(String cardName) {
+
+        IndexEntry nameEntry = nameIndex.get(cardName);
+
+        if(nameEntry == null)
+            return 0;
+
+        return nameEntry.count;
+
+    } // End of countCardsUsingName method.
+
+    /**
+     * This method counts the cards of a certain kind in the hand.
+     * @param cardKind The card's kind.
+     * @return The number of cards of that kind in the hand.
+     */
+    public int countCardsUsingKind(CardKind cardKind) {
+        return kindIndex[cardKind.ordinal()].count;
+    }
 
     /**
      * This method removes a card from the player's hand using its card location number (the leftmost card is 1, followed by 2, 3, etc.).
@@ -144,9 +252,39 @@ public class Hand {
      * @return The card removed.
      */
     public Card removeCard_UsingCardLocationNumber(int cardLocationNumber) {
+
         int index = cardLocationNumber - 1;
-        return handList.remove(index);
-    }
+        Card removedCard = handList.remove(index);
+
+        IndexEntry removedNameEntry = nameIndex.get(removedCard.getName());
+        IndexEntry removedKindEntry = kindIndex[removedCard.getKind().ordinal()];
+        IndexEntry removedTypeEntry = typeIndex[removedCard.getPile().ordinal()];
+
+        // If the removed card was the first of its name/kind/type, the next one (the first one we come across below) becomes the first one.
+        removedNameEntry.forgetFirstIndex(index);
+        removedKindEntry.forgetFirstIndex(index);
+        removedTypeEntry.forgetFirstIndex(index);
+
+        // Every card after the removed one shifted one spot to the left. An index entry only has to change if it pointed to one of those cards
+        // (its old index was j + 1), or if its first card was the removed one.
+        for(int j = index; j < handList.size(); j++) {
+            Card curCard = handList.get(j);
+
+            nameIndex.get(curCard.getName()).shiftLeft(j);
+            kindIndex[curCard.getKind().ordinal()].shiftLeft(j);
+            typeIndex[curCard.getPile().ordinal()].shiftLeft(j);
+
+        } // End of for loop.
+
+        removedNameEntry.remove();
+        removedKindEntry.remove();
+        removedTypeEntry.remove();
+
+        eventSink.publish(GameEventType.CARD_REMOVED_FROM_HAND, playerTurnNumber, removedCard.getId(), handList.size());
+
+        return removedCard;
+
+    } // End of removeCard_UsingCardLocationNumber method.
 
     /**
      * This is an overrided toString method to provide a visual representation of the player's hand when printing to the console.
@@ -155,17 +293,85 @@ public class Hand {
      */
     public String toString() {
 
-        String output = "----------- Player " + playerTurnNumber + "'s Hand --------------\n";
+        StringBuilder output = new StringBuilder(64 + handList.size() * 24);
+        output.append("----------- Player ").append(playerTurnNumber).append("'s Hand --------------\n");
 
-        for(Card curCard : handList) {
-            String curCardName = curCard.getName();
-            output += curCardName + "\n";
-        }
+        for(Card curCard : handList)
+            output.append(curCard.getName()).append('\n');
 
-        output += "------------------------------------------";
+        output.append("------------------------------------------");
 
-        return output;
+        return output.toString();
 
     } // End of toString method.
 
+    /**
+     * This class is a single entry of the hand's indexes: how many cards of a certain name, kind or type are in the hand, and the index
+     * (in handList) of the first one.
+     */
+    private static class IndexEntry {
+
+        // The number of matching cards in the hand.
+        private int count;
+        // The index (in handList) of the first matching card, or -1 if there is none.
+        private int firstIndex = -1;
+
+        /**
+         * This method records a matching card added at the end of the hand.
+         * @param index The index the card was added at.
+         */
+        private void add(int index) {
+
+            if(count == 0)
+                firstIndex = index;
+
+            count++;
+
+        } // End of add method.
+
+        /**
+         * This method records that a matching card was removed. If it was the first one, the new first one has already been set by shiftLeft.
+         */
+        private void remove() {
+
+            count--;
+
+            if(count == 0)
+                firstIndex = -1;
+
+        } // End of remove method.
+
+        /**
+         * This method forgets the first index if it belonged to the card being removed, so the next matching card becomes the first one.
+         * @param removedIndex The index of the card being removed.
+         */
+        private void forgetFirstIndex(int removedIndex) {
+
+            if(firstIndex == removedIndex)
+                firstIndex = -1;
+
+        } // End of forgetFirstIndex method.
+
+        /**
+         * This method updates the first index after a card was removed, for a matching card that shifted from index j + 1 to index j.
+         * @param j The matching card's new index.
+         */
+        private void shiftLeft(int j) {
+
+            // A matching card with no first index means the first one was just removed, so this card becomes the first one.
+            if(firstIndex == j + 1 || firstIndex == -1)
+                firstIndex = j;
+
+        } // End of shiftLeft method.
+
+        /**
+         * This method gets the card location number of the first matching card.
+         * @return The card location number of the first matching card, or 0 if there is none.
+         */
+        private int getCardLocationNumber() {
+            return firstIndex + 1;
+        }
+
+    } // End of IndexEntry class.
+
 } // End of Hand class.
\ No newline at end of file
@@ -1,9 +1,13 @@
 package basic_game_components.player_stuff;
 
 import basic_game_components.Card;
+import basic_game_components.CardKind;
 
 import door_cards.*;
+import events.GameEventSink;
+import events.GameEventType;
 import treasure_cards.*;
+import utilities.CardCatalog;
 
 import java.util.List;
 import java.util.ArrayList;
@@ -27,21 +31,36 @@ public class InPlayCards {
     private int raceCardLimit;
     // Whether or not the player is a human or part-human.
     private boolean isHuman;
+    // The number of race and class cards in play that give each trait (index: the trait's bit number, see PlayerTraits).
+    private int[] traitCardCounts;
+    // The player's traits other than their sex (races, classes and human status), kept up to date as cards come and go (see PlayerTraits).
+    private int traits;
     // The current number of class cards the player has equipped.
     private int numOfEquippedClasses;
     // The limit to the number of class cards a player can have equipped at once (normally 1, 2 if they have the "Super Munchkin" card.)
     private int classCardLimit;
-    // The number of weapon hands the player has occupied. Value is 1 if the player only has a one-handed weapon, 2 if the player has either
-    // a two-handed weapon or 2 one-handed weapons, or 0 if the player has no weapons.
-    private int numOfWeaponHandsOccupied;
-    // Whether or not the player has headgear equipped.
-    private boolean headgearEquipped;
-    // Whether or not the player has armor equipped.
-    private boolean armorEquipped;
-    // Whether or not the player has footgear equipped.
-    private boolean footgearEquipped;
-    // Whether or not the player has at least one big item equipped.
-    private boolean atLeastOneBigItemEquipped;
+    // The equipped headgear (null if the head slot is free).
+    private ItemCard headgear;
+    // The equipped armor (null if the armor slot is free).
+    private ItemCard armor;
+    // The equipped footgear (null if the feet slot is free).
+    private ItemCard footgear;
+    // The weapons held in each hand (null if the hand is free). A 2-handed weapon is held in both.
+    private ItemCard[] hands;
+    // The number of equipped items that don't take up one of the slots above (classification "other").
+    private int numOfEquippedMiscItems;
+    // The number of equipped big items, whatever their slot.
+    private int numOfEquippedBigItems;
+    // The equipped items, whatever their slot, as a bitset of their card ids (see Card.getId), so checking an item is a single bit test.
+    private long[] equippedItemIds;
+    // The total combat bonus of the equipped items, kept up to date as items are equipped and removed.
+    private int equipmentCombatBonus;
+    // The total run away bonus of the equipped items, kept up to date as items are equipped and removed.
+    private int equipmentRunAwayBonus;
+    // Where the in play cards publish their events (cards added, equipped and removed).
+    private GameEventSink eventSink;
+    // The player's derived stats, invalidated as the traits and equipment totals change (null until the player sets them).
+    private PlayerStats stats;
 
     //----------------------------------------------------
     //            CONSTRUCTOR(S)
@@ -58,13 +77,20 @@ public class InPlayCards {
         numOfEquippedRaces = 0;
         raceCardLimit = 1;
         isHuman = true;
+        traitCardCounts = new int[Integer.bitCount(PlayerTraits.ALL_RACES_AND_CLASSES)];
+        traits = PlayerTraits.getLackingBit(PlayerTraits.ALL_RACES_AND_CLASSES) | PlayerTraits.HUMAN;
         numOfEquippedClasses = 0;
         classCardLimit = 1;
-        numOfWeaponHandsOccupied = 0;
-        headgearEquipped = false;
-        armorEquipped = false;
-        footgearEquipped = false;
-        atLeastOneBigItemEquipped = false;
+        headgear = null;
+        armor = null;
+        footgear = null;
+        hands = new ItemCard[2];
+        numOfEquippedMiscItems = 0;
+        numOfEquippedBigItems = 0;
+        equippedItemIds = new long[(CardCatalog.getCardCount() + Long.SIZE - 1) / Long.SIZE];
+        equipmentCombatBonus = 0;
+        equipmentRunAwayBonus = 0;
+        eventSink = GameEventSink.NONE;
 
     } // End of constructor method.
 
@@ -72,6 +98,31 @@ public class InPlayCards {
     //          METHOD(S)
     //----------------------------------------------------
 
+    /**
+     * This method sets where the in play cards publish their events (cards added, equipped and removed).
+     * @param eventSink Where the in play cards publish their events (GameEventSink.NONE to ignore them).
+     */
+    public void setEventSink(GameEventSink eventSink) {
+        this.eventSink = eventSink;
+    }
+
+    /**
+     * This method sets the player's derived stats, which the in play cards invalidate as the traits and equipment totals change.
+     * @param stats The player's derived stats.
+     */
+    void setStats(PlayerStats stats) {
+        this.stats = stats;
+    }
+
+    /**
+     * This utility method invalidates some of the player's inputs (see PlayerStats.invalidate), once the player has set their stats.
+     * @param inputs The inputs that changed.
+     */
+    private void invalidateStats(int inputs) {
+        if(stats != null)
+            stats.invalidate(inputs);
+    }
+
     //------------------------------------------
     //     DEALING WITH RACE CARDS...
     //------------------------------------------
@@ -90,6 +141,7 @@ public class InPlayCards {
      */
     public void incrementNumberOfEquippedRaces() {
         numOfEquippedRaces++;
+        publishRaces();
     }
 
     /**
@@ -97,6 +149,16 @@ public class InPlayCards {
      */
     public void decrementNumberOfEquippedRaces() {
         numOfEquippedRaces--;
+        publishRaces();
+    }
+
+    /**
+     * This method sets the number of equipped races (used to restore a saved game, see GameSnapshotCodec).
+     * @param numOfEquippedRaces The number of equipped races.
+     */
+    public void setNumberOfEquippedRaces(int numOfEquippedRaces) {
+        this.numOfEquippedRaces = numOfEquippedRaces;
+        publishRaces();
     }
 
     /**
@@ -112,6 +174,7 @@ public class InPlayCards {
      */
     public void extendRaceCardLimit_HalfBreedEquipped() {
         raceCardLimit = 2;
+        publishRaces();
     }
 
     /**
@@ -119,6 +182,7 @@ public class InPlayCards {
      */
     public void resetRaceCardLimit_HalfBreedRemoved() {
         raceCardLimit = 1;
+        publishRaces();
     }
 
     /**
@@ -142,7 +206,58 @@ public class InPlayCards {
      * @param isHuman True if you're setting the player to human or part-human, false if you are setting the player to non-human.
      */
     public void setIfPlayerIsHuman(boolean isHuman) {
+
+        if(this.isHuman == isHuman)
+            return;
+
         this.isHuman = isHuman;
+        traits ^= PlayerTraits.HUMAN | PlayerTraits.getLackingBit(PlayerTraits.HUMAN);
+        eventSink.publish(GameEventType.HUMAN_STATUS_CHANGED, playerTurnNumber, isHuman ? 1 : 0, 0);
+        invalidateStats(PlayerStats.RACES_AND_CLASSES);
+    }
+
+    /**
+     * This method gets the player's traits other than their sex: their races and classes (from the race and class cards in play) and their
+     * human status. See Player.getTraits for all of them.
+     * @return The player's traits other than their sex (see PlayerTraits).
+     */
+    public int getTraits() {
+        return traits;
+    }
+
+    /**
+     * This utility method updates the player's traits with a race or class card put in play (or taken out of play).
+     * @param card The card.
+     * @param amount 1 if the card was put in play, -1 if it was taken out of play.
+     * @return True if the traits changed (the card gave a race or class the player didn't have, or took away their last one of it).
+     */
+    private boolean updateTraits(Card card, int amount) {
+
+        if(card.getKind() != CardKind.RACE && card.getKind() != CardKind.CLASS)
+            return false;
+
+        int traitBit = PlayerTraits.getTraitBit_UsingCardName(card.getName());
+
+        if(traitBit == 0)
+            return false;
+
+        int oldTraits = traits;
+        int bitNumber = Integer.numberOfTrailingZeros(traitBit);
+        traitCardCounts[bitNumber] += amount;
+
+        // Exactly one of the trait's two bits is set.
+        traits &= ~(traitBit | PlayerTraits.getLackingBit(traitBit));
+        traits |= (traitCardCounts[bitNumber] > 0) ? traitBit : PlayerTraits.getLackingBit(traitBit);
+
+        return traits != oldTraits;
+
+    } // End of updateTraits utility method.
+
+    /**
+     * This utility method publishes the number of equipped races and the race card limit, after either one changed.
+     */
+    private void publishRaces() {
+        eventSink.publish(GameEventType.RACES_CHANGED, playerTurnNumber, numOfEquippedRaces, raceCardLimit);
     }
 
     //------------------------------------------
@@ -163,6 +278,7 @@ public class InPlayCards {
      */
     public void incrementNumberOfEquippedClasses() {
         numOfEquippedClasses++;
+        publishClasses();
     }
 
     /**
@@ -170,6 +286,16 @@ public class InPlayCards {
      */
     public void decrementNumberOfEquippedClasses() {
         numOfEquippedClasses--;
+        publishClasses();
+    }
+
+    /**
+     * This method sets the number of equipped classes (used to restore a saved game, see GameSnapshotCodec).
+     * @param numOfEquippedClasses The number of equipped classes.
+     */
+    public void setNumberOfEquippedClasses(int numOfEquippedClasses) {
+        this.numOfEquippedClasses = numOfEquippedClasses;
+        publishClasses();
     }
 
     /**
@@ -185,6 +311,7 @@ public class InPlayCards {
      */
     public void extendClassCardLimit_SuperMunchkinEquipped() {
         classCardLimit = 2;
+        publishClasses();
     }
 
     /**
@@ -192,6 +319,7 @@ public class InPlayCards {
      */
     public void resetClassCardLimit_SuperMunchkinRemoved() {
         classCardLimit = 1;
+        publishClasses();
     }
 
     /**
@@ -203,6 +331,13 @@ public class InPlayCards {
         return numOfEquippedClasses < classCardLimit;
     }
 
+    /**
+     * This utility method publishes the number of equipped classes and the class card limit, after either one changed.
+     */
+    private void publishClasses() {
+        eventSink.publish(GameEventType.CLASSES_CHANGED, playerTurnNumber, numOfEquippedClasses, classCardLimit);
+    }
+
     //------------------------------------------
     // End of dealing with class cards methods.
     //------------------------------------------
@@ -213,86 +348,255 @@ public class InPlayCards {
 
     /**
      * This method gets the number of weapon hands currently occupied by the player.
-     * @return The number of weapon hands currently occupied by the player.
+     * @return 1 (x1 1-handed weapon equipped), 2 (x1 2-handed weapon equipped, or x2 1-handed weapons equipped), or 0 (no weapons equipped).
      */
     public int get_NumOfWeaponHandsOccupied() {
+
+        int numOfWeaponHandsOccupied = 0;
+
+        for(ItemCard weapon : hands) {
+            if(weapon != null)
+                numOfWeaponHandsOccupied++;
+        }
+
         return numOfWeaponHandsOccupied;
-    }
+
+    } // End of get_NumOfWeaponHandsOccupied method.
 
     /**
-     * This method sets the number of weapon hands currently occupied by the player to a new value.
-     * @param numOfWeaponHandsOccupied This method sets the number of weapon hands currently occupied by the player to a new value.
-     * Valid values: 1 (x1 1-handed weapon equipped), 2 (x1 2-handed weapon equipped, or x2 1-handed weapons equipped), or 0 (no weapons equipped).
+     * This method gets the weapon held in one of the player's hands.
+     * @param handNumber The hand number (1 or 2).
+     * @return The weapon held in that hand, or null if the hand is free. A 2-handed weapon is returned for both hands.
      */
-    public void set_NumOfWeaponHandsOccupied(int numOfWeaponHandsOccupied) {
-        this.numOfWeaponHandsOccupied = numOfWeaponHandsOccupied;
+    public ItemCard getWeapon_UsingHandNumber(int handNumber) {
+        return hands[handNumber - 1];
     }
 
+    /**
+     * This method gets the item equipped in one of the single item slots (HEAD, ARMOR or FEET).
+     * @param slot The slot (HEAD, ARMOR or FEET).
+     * @return The item equipped in that slot, or null if the slot is free (always null for HANDS and MISC, see getWeapon_UsingHandNumber).
+     */
+    public ItemCard getEquippedItem_UsingSlot(EquipmentSlot slot) {
+
+        switch(slot) {
+            case HEAD:
+                return headgear;
+            case ARMOR:
+                return armor;
+            case FEET:
+                return footgear;
+            default:
+                return null;
+
+        } // End of switch statement.
+
+    } // End of getEquippedItem_UsingSlot method.
+
     /**
      * This method is used to check if headgear is currently equipped.
      * @return True if headgear is currently equipped, false if it is not.
      */
     public boolean checkIf_HeadgearEquipped() {
-        return headgearEquipped;
+        return headgear != null;
     }
 
     /**
-     * This method is used to set if headgear is currently equipped.
-     * @param headgearEquipped Set to true if headgear is equipped, set to false if headgear is removed.
+     * This method is used to check if armor is currently equipped.
+     * @return True if armor is currently equipped, false if it is not.
      */
-    public void setIf_HeadgearEquipped(boolean headgearEquipped) {
-        this.headgearEquipped = headgearEquipped;
+    public boolean checkIf_ArmorEquipped() {
+        return armor != null;
     }
 
-
     /**
-     * This method is used to check if armor is currently equipped.
-     * @return True if armor is currently equipped, false if it is not.
+     * This method is used to check if footgear is currently equipped.
+     * @return True if footgear is currently equipped, false if it is not.
      */
-    public boolean checkIf_ArmorEquipped() {
-        return armorEquipped;
+    public boolean checkIf_FootgearEquipped() {
+        return footgear != null;
     }
 
     /**
-     * This method is used to set if armor is currently equipped.
-     * @param armorEquipped Set to true if armor is equipped, set to false if armor is removed.
+     * This method is used to check if at least one big item is currently equipped.
+     * @return True if at least one big item is currently equipped, false if it is not.
      */
-    public void setIf_ArmorEquipped(boolean armorEquipped) {
-        this.armorEquipped = armorEquipped;
+    public boolean checkIf_atLeastOneBigItemEquipped() {
+        return numOfEquippedBigItems > 0;
     }
 
     /**
-     * This method is used to check if footgear is currently equipped.
-     * @return True if footgear is currently equipped, false if it is not.
+     * This method gets the number of equipped items that don't take up the head, armor, feet or hand slots (classification "other").
+     * @return The number of equipped misc items.
      */
-    public boolean checkIf_FootgearEquipped() {
-        return footgearEquipped;
+    public int getNumberOfEquippedMiscItems() {
+        return numOfEquippedMiscItems;
     }
 
     /**
-     * This method is used to set if footgear is currently equipped.
-     * @param footgearEquipped Set to true if footgear is equipped, set to false if headgear is removed.
+     * This method gets the number of big items currently equipped.
+     * @return The number of big items currently equipped.
      */
-    public void setIf_FootgearEquipped(boolean footgearEquipped) {
-        this.footgearEquipped = footgearEquipped;
+    public int getNumberOfEquippedBigItems() {
+        return numOfEquippedBigItems;
     }
 
     /**
-     * This method is used to check if at least one big item is currently equipped.
-     * @return True if at least one big item is currently equipped, false if it is not.
+     * This method gets the total combat bonus of the player's equipped items. It is kept up to date as items are equipped and removed, so
+     * no cards are scanned.
+     * @return The total combat bonus of the equipped items.
      */
-    public boolean checkIf_atLeastOneBigItemEquipped() {
-        return atLeastOneBigItemEquipped;
+    public int getEquipmentCombatBonus() {
+        return equipmentCombatBonus;
     }
 
     /**
-     * This method is used to set if at least one big item is currently equipped.
-     * @param headgearEquipped Set to true if headgear is equipped, set to false if headgear is removed.
+     * This method gets the total run away bonus of the player's equipped items. It is kept up to date as items are equipped and removed, so
+     * no cards are scanned.
+     * @return The total run away bonus of the equipped items.
      */
-    public void setIf_AtLeastOneBigItemEquipped(boolean atLeastOneBigItemEquipped) {
-        this.atLeastOneBigItemEquipped = atLeastOneBigItemEquipped;
+    public int getEquipmentRunAwayBonus() {
+        return equipmentRunAwayBonus;
     }
 
+    /**
+     * This method checks to see if an item can be equipped, i.e. it isn't equipped already, its slot is free (both hands for a 2-handed weapon)
+     * and, if it is big, no other big item is equipped. It doesn't check the item's "usable by" requirement.
+     * @param item The item in question.
+     * @return True if the item can be equipped, false if it cannot.
+     */
+    public boolean checkIf_ItemCanBeEquipped(ItemCard item) {
+
+        if(checkIf_ItemEquipped(item) || (item.checkIfItemIsBig() && numOfEquippedBigItems > 0))
+            return false;
+
+        switch(item.getSlot()) {
+            case HEAD:
+                return headgear == null;
+            case ARMOR:
+                return armor == null;
+            case FEET:
+                return footgear == null;
+            case HANDS:
+                return get_NumOfWeaponHandsOccupied() + item.getHandsRequirement() <= 2;
+            default:
+                return true;
+
+        } // End of switch statement.
+
+    } // End of checkIf_ItemCanBeEquipped method.
+
+    /**
+     * This method adds an item to the player's in play cards and equips it in its slot, adding its bonuses to the equipment totals. Items
+     * added with addCardToInPlayCards instead are only carried (they give no bonuses).
+     * @param item The item in question (from the CardCatalog, so it has an id).
+     * @return True if the item was equipped, false if its slot is taken (see checkIf_ItemCanBeEquipped), in which case nothing changes.
+     * @throws IllegalArgumentException If the item isn't from the CardCatalog.
+     */
+    public boolean equipItem(ItemCard item) {
+
+        if(item.getId() < 0)
+            throw new IllegalArgumentException("The item " + item.getName() + " isn't from the CardCatalog, so it can't be equipped.");
+
+        if(!checkIf_ItemCanBeEquipped(item))
+            return false;
+
+        switch(item.getSlot()) {
+            case HEAD:
+                headgear = item;
+                break;
+            case ARMOR:
+                armor = item;
+                break;
+            case FEET:
+                footgear = item;
+                break;
+            case HANDS:
+                // Fill the free hands, one per hand the weapon requires.
+                for(int i = 0, handsLeft = item.getHandsRequirement(); i < hands.length && handsLeft > 0; i++) {
+                    if(hands[i] == null) {
+                        hands[i] = item;
+                        handsLeft--;
+                    }
+                }
+                break;
+            default:
+                numOfEquippedMiscItems++;
+                break;
+
+        } // End of switch statement.
+
+        if(item.checkIfItemIsBig())
+            numOfEquippedBigItems++;
+
+        equippedItemIds[item.getId() / Long.SIZE] |= 1L << item.getId();
+
+        equipmentCombatBonus += item.getCombatBonus();
+        equipmentRunAwayBonus += item.getRunAwayBonus();
+        inPlayCardsList.add(item);
+        eventSink.publish(GameEventType.CARD_ADDED_TO_IN_PLAY, playerTurnNumber, item.getId(), 1);
+        invalidateStats(PlayerStats.EQUIPMENT);
+
+        return true;
+
+    } // End of equipItem method.
+
+    /**
+     * This method checks to see if a certain item is equipped (rather than carried or not in play at all).
+     * @param item The item in question.
+     * @return True if the item is equipped, false if it is not.
+     */
+    public boolean checkIf_ItemEquipped(ItemCard item) {
+
+        int id = item.getId();
+
+        return id >= 0 && (equippedItemIds[id / Long.SIZE] & (1L << id)) != 0;
+
+    } // End of checkIf_ItemEquipped method.
+
+    /**
+     * This utility method frees an equipped item's slot and takes its bonuses off the equipment totals. It is called whenever an item leaves
+     * the in play cards.
+     * @param item The item in question.
+     */
+    private void unequipItem(ItemCard item) {
+
+        if(!checkIf_ItemEquipped(item))
+            return;
+
+        switch(item.getSlot()) {
+            case HEAD:
+                headgear = null;
+                break;
+            case ARMOR:
+                armor = null;
+                break;
+            case FEET:
+                footgear = null;
+                break;
+            case HANDS:
+                for(int i = 0; i < hands.length; i++) {
+                    if(hands[i] == item)
+                        hands[i] = null;
+                }
+                break;
+            default:
+                numOfEquippedMiscItems--;
+                break;
+
+        } // End of switch statement.
+
+        if(item.checkIfItemIsBig())
+            numOfEquippedBigItems--;
+
+        equippedItemIds[item.getId() / Long.SIZE] &= ~(1L << item.getId());
+
+        equipmentCombatBonus -= item.getCombatBonus();
+        equipmentRunAwayBonus -= item.getRunAwayBonus();
+        invalidateStats(PlayerStats.EQUIPMENT);
+
+    } // End of unequipItem utility method.
+
     //------------------------------------------
     // End of dealing with item cards methods.
     //------------------------------------------
@@ -302,11 +606,11 @@ public class InPlayCards {
     //------------------------------------------
 
     /**
-     * This method is used to get the list implementation of the in play cards (used for specific situations).
-     * @return The list implementation of the in play cards.
+     * This method gets the number of cards in the player's in play cards.
+     * @return The number of in play cards.
      */
-    public List<Card> getInPlayCardsList() {
-        return inPlayCardsList;
+    public int getNumberOfCards() {
+        return inPlayCardsList.size();
     }
 
     /**
@@ -322,23 +626,63 @@ public class InPlayCards {
     }
 
     /**
-     * This method adds a new card to the player's in play cards.
+     * This method searches for a specific card (not just one with the same name) in the player's in play cards. If it is found, the card
+     * location number is returned. If it is not found, return 0 (default).
+     * @param searchedCard The card in question.
+     * @return The card's location number, if found. If not found, return 0, indicating it is not in play.
+     */
+    public int searchForCard_ReturnCardLocationNumber(Card searchedCard) {
+
+        for(int i = 0; i < inPlayCardsList.size(); i++) {
+            if(inPlayCardsList.get(i) == searchedCard)
+                return i + 1;
+        }
+
+        return 0;
+
+    } // End of searchForCard_ReturnCardLocationNumber method.
+
+    /**
+     * This method adds a new card to the player's in play cards. Item cards added this way are only carried, use equipItem to equip them.
      * @param newCard The new card in question.
      */
     public void addCardToInPlayCards(Card newCard) {
         inPlayCardsList.add(newCard);
+        boolean traitsChanged = updateTraits(newCard, 1);
+        eventSink.publish(GameEventType.CARD_ADDED_TO_IN_PLAY, playerTurnNumber, newCard.getId(), 0);
+
+        // After the card's event, so a dwarf's new hand limit is published after their race card.
+        if(traitsChanged)
+            invalidateStats(PlayerStats.RACES_AND_CLASSES);
     }
 
     /**
      * This method removes a card from the player's in play cards using its card location number (the leftmost card is 1, followed by 2, 3, etc.).
-     * It also returns it (used to move it somewhere else).
+     * It also returns it (used to move it somewhere else). If the card is an equipped item, its slot is freed and its bonuses are taken off
+     * the equipment totals.
      * @param cardLocationNumber The card location number (the leftmost card is 1, followed by 2, 3, etc.).
      * @return The card removed.
      */
     public Card removeCard_UsingCardLocationNumber(int cardLocationNumber) {
+
         int index = cardLocationNumber - 1;
-        return inPlayCardsList.remove(index);
-    }
+        Card removedCard = inPlayCardsList.remove(index);
+
+        boolean traitsChanged = false;
+
+        if(removedCard instanceof ItemCard)
+            unequipItem((ItemCard) removedCard);
+        else
+            traitsChanged = updateTraits(removedCard, -1);
+
+        eventSink.publish(GameEventType.CARD_REMOVED_FROM_IN_PLAY, playerTurnNumber, removedCard.getId(), inPlayCardsList.size());
+
+        if(traitsChanged)
+            invalidateStats(PlayerStats.RACES_AND_CLASSES);
+
+        return removedCard;
+
+    } // End of removeCard_UsingCardLocationNumber method.
 
     /**
      * This is an overrided toString method to provide a visual representation of the player's in play cards when printing to the console.
@@ -347,16 +691,15 @@ public class InPlayCards {
      */
     public String toString() {
 
-        String output = "------ Player " + playerTurnNumber + "'s In Play Cards ----------\n";
+        StringBuilder output = new StringBuilder(64 + inPlayCardsList.size() * 24);
+        output.append("------ Player ").append(playerTurnNumber).append("'s In Play Cards ----------\n");
 
-        for(Card curCard : inPlayCardsList) {
-            String curCardName = curCard.getName();
-            output += curCardName + "\n";
-        }
+        for(Card curCard : inPlayCardsList)
+            output.append(curCard.getName()).append('\n');
 
-        output += "------------------------------------------";
+        output.append("------------------------------------------");
 
-        return output;
+        return output.toString();
 
     } // End of toString method.
 
@@ -1,6 +1,9 @@
 package basic_game_components.player_stuff;
 
 import basic_game_components.Die;
+import events.GameEventSink;
+import events.GameEventType;
+import utilities.GameRandom;
 
 /**
  * This class simulates a player in the game of Munchkin.
@@ -16,9 +19,11 @@ public class Player {
     private int level;
     // The player's sex, male or female. Represented as Strings "male" or "female".
     private String sex;
-    // The player's combat bonus from equipment and modifier cards like potions, etc.
+    // The player's sex as a trait bit (PlayerTraits.MALE or FEMALE).
+    private int sexTrait;
+    // The player's combat bonus from modifier cards like potions, etc. (the equipment's bonus is kept by the in play cards).
     private int combatBonus;
-    // The player's run away bonus from equipment.
+    // The player's run away bonus from modifier cards (the equipment's bonus is kept by the in play cards).
     private int runAwayBonus;
     // The player's current gold amount.
     private int gold;
@@ -28,29 +33,49 @@ public class Player {
     private InPlayCards inPlayCards;
     // The player's die (when they are rolling it).
     private Die die;
+    // The player's derived stats (combat strength, run away target, traits and hand limit), kept up to date as the above change.
+    private PlayerStats stats;
+    // Where the player publishes their events (level changes), shared with their hand, in play cards and Die.
+    private GameEventSink eventSink;
 
      
     /**
      * This method constructs a Player object to simulate an individual player in the game.
+     * @param playerTurnNumber The player's turn number or turn order designation.
+     * @param sex The player's sex, "male" or "female".
+     * @param gameRandom The game's random context (the player's Die gets its own stream from it).
      */
-    public Player(int playerTurnNumber, String sex)
+    public Player(int playerTurnNumber, String sex, GameRandom gameRandom)
     {
         this.playerTurnNumber = playerTurnNumber;
         this.sex = sex;
+        sexTrait = PlayerTraits.getSexBit(sex);
         // The player starts at level 1 initially.
         level = 1;
-        // No combat bonuses until the player equips something or is modified by a usable once card.
+        // No combat bonuses until the player is modified by a usable once card (equipment bonuses are added by the in play cards).
         combatBonus = 0;
-        // No run away bonuses until the player equips something.
+        // No run away bonuses until the player is modified by a card (equipment bonuses are added by the in play cards).
         runAwayBonus = 0;
         // The player has no gold at the beginning of the game.
         gold = 0;
 
         hand = new Hand(playerTurnNumber);
         inPlayCards = new InPlayCards(playerTurnNumber);
-        die = new Die();
+        die = new Die(gameRandom.createDieStream(playerTurnNumber));
+        stats = new PlayerStats(this);
+        inPlayCards.setStats(stats);
+        eventSink = GameEventSink.NONE;
 
     } // End of constructor method.
+
+    /**
+     * This method constructs a Player object whose Die uses an arbitrary seed (for when the game doesn't need to be replayed).
+     * @param playerTurnNumber The player's turn number or turn order designation.
+     * @param sex The player's sex, "male" or "female".
+     */
+    public Player(int playerTurnNumber, String sex) {
+        this(playerTurnNumber, sex, new GameRandom());
+    }
     
     //----------------------------------------------------
 	//          METHOD(S)
@@ -78,6 +103,11 @@ public class Player {
      */
     public void modifyLevel(int amount) {
         level += amount;
+
+        if(amount != 0) {
+            stats.invalidate(PlayerStats.LEVEL);
+            eventSink.publish(GameEventType.LEVEL_CHANGED, playerTurnNumber, level, amount);
+        }
     }
 
     /**
@@ -85,7 +115,18 @@ public class Player {
      * @param level The player's new level.
      */
     public void setLevel(int level) {
-        this.level = level;
+        modifyLevel(level - this.level);
+    }
+
+    /**
+     * This method sets where the player publishes their events (level changes), as well as their hand, in play cards and Die.
+     * @param eventSink Where the player publishes their events (GameEventSink.NONE to ignore them).
+     */
+    public void setEventSink(GameEventSink eventSink) {
+        this.eventSink = eventSink;
+        hand.setEventSink(eventSink);
+        inPlayCards.setEventSink(eventSink);
+        die.setEventSink(eventSink, playerTurnNumber);
     }
 
     /**
@@ -104,40 +145,97 @@ public class Player {
             sex = "female";
         else if (sex.equals("female"))
             sex = "male";
+
+        sexTrait = PlayerTraits.getSexBit(sex);
+        stats.invalidate(PlayerStats.SEX);
+        eventSink.publish(GameEventType.SEX_CHANGED, playerTurnNumber, sex.equals("female") ? 1 : 0, 0);
+    }
+
+    /**
+     * This method gets the player's traits: their sex, races, classes and human status, as the bits items' "usable by" requirements are
+     * checked against (see PlayerTraits). The in play cards keep the races, classes and human status up to date, so nothing is scanned.
+     * @return The player's traits.
+     */
+    public int getTraits() {
+        return stats.getTraits();
     }
 
     /**
-     * This method get the player's combat bonus (from equipment and other cards).
+     * This method gets the player's sex as a trait bit (see getTraits for all of their traits).
+     * @return PlayerTraits.MALE or FEMALE.
+     */
+    int getSexTrait() {
+        return sexTrait;
+    }
+
+    /**
+     * This method gets the player's combat strength: their level plus their combat bonus (see PlayerStats.getCombatStrength).
+     * @return The player's combat strength.
+     */
+    public int getCombatStrength() {
+        return stats.getCombatStrength();
+    }
+
+    /**
+     * This method gets the roll the player needs to run away from a monster (see PlayerStats.getRunAwayTarget).
+     * @return The roll the player needs to run away.
+     */
+    public int getRunAwayTarget() {
+        return stats.getRunAwayTarget();
+    }
+
+    /**
+     * This method gets the player's derived stats (combat strength, run away target, traits and hand limit).
+     * @return The player's derived stats.
+     */
+    public PlayerStats getStats() {
+        return stats;
+    }
+
+    /**
+     * This method get the player's combat bonus (from equipment and other cards). The equipment's share is the running total kept by the
+     * in play cards, so nothing is scanned.
      * @return The player's combat bonus (from equipment and other cards).
      */ 
     public int getCombatBonus() {
-        return combatBonus;
+        return combatBonus + inPlayCards.getEquipmentCombatBonus();
     }
 
     /**
-     * This method modifies the player's combat bonus by a positive or negative amount (the addition or removal of equipment and the use of
-     * other cards).
+     * This method modifies the player's combat bonus by a positive or negative amount (the use of cards like potions). Equipment doesn't
+     * need this, since equipping or removing an item updates the in play cards' total (see InPlayCards.equipItem).
      * @param amount The amount by which the player's combat bonus is modified (positive or negative).
      */
     public void modifyCombatBonus(int amount) {
         combatBonus += amount;
+
+        if(amount != 0) {
+            stats.invalidate(PlayerStats.BONUSES);
+            eventSink.publish(GameEventType.COMBAT_BONUS_CHANGED, playerTurnNumber, combatBonus, amount);
+        }
     }
     
     /**
-     * This method gets the player's run away bonus (from equipment).
-     * @return The player's run away bonus (from equipment).
+     * This method gets the player's run away bonus (from equipment and other cards). The equipment's share is the running total kept by
+     * the in play cards, so nothing is scanned.
+     * @return The player's run away bonus (from equipment and other cards).
      */ 
     public int getRunAwayBonus() {
-        return runAwayBonus;
+        return runAwayBonus + inPlayCards.getEquipmentRunAwayBonus();
     }
 
     /**
-     * This method modifies the player's run away bonus by a positive or negative amount (the addition or removal of equipment and the use of
-     * other cards).
+     * This method modifies the player's run away bonus by a positive or negative amount (the use of cards). Equipment doesn't need this,
+     * since equipping or removing an item updates the in play cards' total (see InPlayCards.equipItem).
      * @param amount The amount by which the player's run away bonus is modified (positive or negative).
      */
     public void modifyRunAwayBonus(int amount) {
         runAwayBonus += amount;
+
+        if(amount != 0) {
+            stats.invalidate(PlayerStats.BONUSES);
+            eventSink.publish(GameEventType.RUN_AWAY_BONUS_CHANGED, playerTurnNumber, runAwayBonus, amount);
+        }
     }
 
     /**
@@ -154,6 +252,9 @@ public class Player {
      */
     public void addGold(int amount) {
         gold += amount;
+
+        if(amount != 0)
+            eventSink.publish(GameEventType.GOLD_CHANGED, playerTurnNumber, gold, amount);
     }
 
     /**
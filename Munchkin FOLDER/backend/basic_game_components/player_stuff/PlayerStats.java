@@ -0,0 +1,188 @@
+package basic_game_components.player_stuff;
+
+import treasure_cards.ItemCard;
+
+/**
+ * This class keeps a player's derived stats: their combat strength, the roll they need to run away, their traits (which items they can use)
+ * and their hand limit. Each one is derived from a few of the player's inputs (their level, the bonuses from their cards, their equipment,
+ * their sex, and their races and classes), and is only computed again once one of those changed, so reading it is O(1).
+ *
+ * IMPORTANT NOTE: The player and their hand and in play cards invalidate their inputs as they change (see invalidate), which marks the stats
+ * derived from them as dirty: the next read computes them again. The hand limit is the exception, since its changes are published (the
+ * clients and the journal follow them): it is computed again right away, and the hand publishes it if it changed (see Hand.setHandLimit).
+ *
+ * The abilities of races and classes (other than the dwarf's hand limit) and the lasting effects of curses are not inputs: they change no
+ * stat, since the game doesn't apply them yet. A curse only changes the stats through what it does to the inputs (ex: a level or an item it
+ * takes away), and the chicken on the player's head changes their roll (see Die), not their run away target. Modelling one of them means
+ * adding it as an input here, and invalidating it wherever it changes.
+ */
+public class PlayerStats {
+
+    //----------------------------------------------------
+    //            INSTANCE VARIABLES
+    //----------------------------------------------------
+
+    // The inputs the stats are derived from (bits, so several can be invalidated at once).
+    public static final int LEVEL = 1;
+    public static final int BONUSES = 1 << 1;
+    public static final int EQUIPMENT = 1 << 2;
+    public static final int SEX = 1 << 3;
+    public static final int RACES_AND_CLASSES = 1 << 4;
+
+    // The roll a player without run away bonuses needs to run away from a monster.
+    public static final int RUN_AWAY_TARGET = 5;
+    // The hand limits of a player who isn't a dwarf, and of a dwarf.
+    public static final int HAND_LIMIT = 5;
+    public static final int DWARF_HAND_LIMIT = 6;
+    // The dwarf's trait bit.
+    private static final int DWARF = PlayerTraits.getTraitBit_UsingCardName("Dwarf");
+
+    // The derived stats (bits of dirtyStats).
+    private static final int COMBAT_STRENGTH_STAT = 1;
+    private static final int RUN_AWAY_TARGET_STAT = 1 << 1;
+    private static final int TRAITS_STAT = 1 << 2;
+    private static final int HAND_LIMIT_STAT = 1 << 3;
+    private static final int ALL_STATS = (1 << 4) - 1;
+
+    // The stats derived from each combination of inputs (by inputs bits), built from the inputs each stat is derived from.
+    private static final int[] DERIVED_STATS = new int[RACES_AND_CLASSES << 1];
+
+    static {
+        for(int inputs = 0; inputs < DERIVED_STATS.length; inputs++) {
+            if((inputs & (LEVEL | BONUSES | EQUIPMENT)) != 0)
+                DERIVED_STATS[inputs] |= COMBAT_STRENGTH_STAT;
+            if((inputs & (BONUSES | EQUIPMENT)) != 0)
+                DERIVED_STATS[inputs] |= RUN_AWAY_TARGET_STAT;
+            if((inputs & (SEX | RACES_AND_CLASSES)) != 0)
+                DERIVED_STATS[inputs] |= TRAITS_STAT;
+            if((inputs & RACES_AND_CLASSES) != 0)
+                DERIVED_STATS[inputs] |= HAND_LIMIT_STAT;
+        }
+    }
+
+    // The player whose stats these are.
+    private final Player player;
+    // The stats that must be computed again before they are read.
+    private int dirtyStats;
+
+    // The cached stats (only up to date if their bit of dirtyStats isn't set).
+    private int combatStrength;
+    private int runAwayTarget;
+    private int traits;
+
+    // The number of times a stat was computed again.
+    private long recomputeCount;
+
+    //----------------------------------------------------
+    //            CONSTRUCTOR(S)
+    //----------------------------------------------------
+
+    /**
+     * This method constructs a PlayerStats object for the Player class (every stat is dirty until it is first read).
+     * @param player The player whose stats these are.
+     */
+    PlayerStats(Player player) {
+        this.player = player;
+        dirtyStats = ALL_STATS;
+        recomputeCount = 0;
+    }
+
+    //----------------------------------------------------
+    //            METHOD(S)
+    //----------------------------------------------------
+
+    /**
+     * This method invalidates some of the player's inputs, which marks the stats derived from them as dirty. It is called by the player and
+     * their hand and in play cards whenever one of their inputs changes.
+     * @param inputs The inputs that changed (LEVEL, BONUSES, EQUIPMENT, SEX and RACES_AND_CLASSES, or several of them).
+     */
+    void invalidate(int inputs) {
+
+        dirtyStats |= DERIVED_STATS[inputs];
+
+        // The hand limit's changes are published, so it is computed again right away.
+        if((dirtyStats & HAND_LIMIT_STAT) != 0) {
+            dirtyStats &= ~HAND_LIMIT_STAT;
+            recomputeCount++;
+            player.getHand().setHandLimit((getTraits() & DWARF) != 0 ? DWARF_HAND_LIMIT : HAND_LIMIT);
+        }
+
+    } // End of invalidate method.
+
+    /**
+     * This method gets the player's combat strength: their level, plus the combat bonuses of their cards and equipment.
+     * @return The player's combat strength.
+     */
+    public int getCombatStrength() {
+
+        if((dirtyStats & COMBAT_STRENGTH_STAT) != 0) {
+            combatStrength = player.getLevel() + player.getCombatBonus();
+            dirtyStats &= ~COMBAT_STRENGTH_STAT;
+            recomputeCount++;
+        }
+
+        return combatStrength;
+
+    } // End of getCombatStrength method.
+
+    /**
+     * This method gets the roll (with the player's Die, see Die.roll) the player needs to run away from a monster: RUN_AWAY_TARGET, minus the
+     * run away bonuses of their cards and equipment.
+     * @return The roll the player needs to run away.
+     */
+    public int getRunAwayTarget() {
+
+        if((dirtyStats & RUN_AWAY_TARGET_STAT) != 0) {
+            runAwayTarget = RUN_AWAY_TARGET - player.getRunAwayBonus();
+            dirtyStats &= ~RUN_AWAY_TARGET_STAT;
+            recomputeCount++;
+        }
+
+        return runAwayTarget;
+
+    } // End of getRunAwayTarget method.
+
+    /**
+     * This method gets the player's traits: their sex, races, classes and human status (see PlayerTraits).
+     * @return The player's traits.
+     */
+    public int getTraits() {
+
+        if((dirtyStats & TRAITS_STAT) != 0) {
+            traits = player.getSexTrait() | player.getInPlayCards().getTraits();
+            dirtyStats &= ~TRAITS_STAT;
+            recomputeCount++;
+        }
+
+        return traits;
+
+    } // End of getTraits method.
+
+    /**
+     * This method checks to see if the player meets an item's "usable by" requirement (ex: "dwarf only", "females only", "not thief").
+     * @param item The item.
+     * @return True if the player can use the item, false if they can't.
+     */
+    public boolean checkIf_CanUse(ItemCard item) {
+        return PlayerTraits.checkIf_RequirementMet(getTraits(), item.getUsableByMask());
+    }
+
+    /**
+     * This method checks to see if the player can equip an item: they can use it, and its slot is free (see
+     * InPlayCards.checkIf_ItemCanBeEquipped).
+     * @param item The item.
+     * @return True if the player can equip the item, false if they can't.
+     */
+    public boolean checkIf_CanEquip(ItemCard item) {
+        return checkIf_CanUse(item) && player.getInPlayCards().checkIf_ItemCanBeEquipped(item);
+    }
+
+    /**
+     * This method gets the number of times a stat was computed again (because one of its inputs changed).
+     * @return The number of times a stat was computed again.
+     */
+    public long getRecomputeCount() {
+        return recomputeCount;
+    }
+
+} // End of PlayerStats class.
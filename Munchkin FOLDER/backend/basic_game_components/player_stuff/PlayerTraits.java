@@ -0,0 +1,128 @@
+package basic_game_components.player_stuff;
+
+/**
+ * This class holds the bits of a player's traits (their sex, whether they are human, and which races and classes they have), which items'
+ * "usable by" requirements are checked against. Every trait has two bits, one for having it and one for lacking it, so that a requirement
+ * like "elf only" or "not thief" is a single bit too, and checking that a player meets a requirement is a single AND.
+ *
+ * IMPORTANT NOTE: A player's traits always have exactly one of the two bits of every trait set (see Player.getTraits, which combines the sex
+ * the player keeps with the races, classes and human status their in play cards keep). Requirements are compiled once, when the item card is
+ * constructed (see ItemCard.getUsableByMask).
+ */
+public final class PlayerTraits {
+
+    //----------------------------------------------------
+    //            INSTANCE VARIABLES
+    //----------------------------------------------------
+
+    // The races and classes that have a trait, in the order of their bits.
+    private static final String[] RACE_AND_CLASS_NAMES = { "dwarf", "elf", "halfling", "cleric", "thief", "warrior", "wizard" };
+
+    // The bits of the traits a player has (the bit of the race or class at index i of RACE_AND_CLASS_NAMES is 1 << i).
+    public static final int HUMAN = 1 << 7;
+    public static final int MALE = 1 << 16;
+    public static final int FEMALE = 1 << 17;
+    // A trait's "lacking it" bit is its "having it" bit shifted by this much (a female player lacks the male trait, and the other way round).
+    private static final int LACKING_SHIFT = 8;
+
+    // The bits of the races and classes a player can have.
+    public static final int ALL_RACES_AND_CLASSES = (1 << RACE_AND_CLASS_NAMES.length) - 1;
+
+    // The requirement of an item anyone can use.
+    public static final int ANYONE = 0;
+
+    //----------------------------------------------------
+    //            CONSTRUCTOR(S)
+    //----------------------------------------------------
+
+    /**
+     * This method isn't used, the class only holds static methods.
+     */
+    private PlayerTraits() {
+    }
+
+    //----------------------------------------------------
+    //            METHOD(S)
+    //----------------------------------------------------
+
+    /**
+     * This method gets the trait bit of a race or class card.
+     * @param cardName The race or class card's name (ex: "Elf").
+     * @return The card's trait bit, or 0 if the card gives no trait.
+     */
+    public static int getTraitBit_UsingCardName(String cardName) {
+
+        for(int i = 0; i < RACE_AND_CLASS_NAMES.length; i++) {
+            if(RACE_AND_CLASS_NAMES[i].equalsIgnoreCase(cardName))
+                return 1 << i;
+        }
+
+        return 0;
+
+    } // End of getTraitBit_UsingCardName method.
+
+    /**
+     * This method gets the bit of a trait the player lacks.
+     * @param traitBit The trait's bit (ex: HUMAN).
+     * @return The bit the player's traits have when they lack it.
+     */
+    public static int getLackingBit(int traitBit) {
+        return traitBit << LACKING_SHIFT;
+    }
+
+    /**
+     * This method gets the sex bit of a player's traits.
+     * @param sex The player's sex, "male" or "female".
+     * @return FEMALE for "female", MALE otherwise.
+     */
+    public static int getSexBit(String sex) {
+        return sex.equals("female") ? FEMALE : MALE;
+    }
+
+    /**
+     * This method compiles an item's "usable by" requirement ("any", "males only", "females only", "human only", or a race or class as in
+     * "elf only" or "not clerics") into the trait bits a player must have to use the item.
+     * @param requirement The item's "usable by" requirement.
+     * @return The requirement's bits (ANYONE if anyone can use the item).
+     * @throws IllegalArgumentException If the requirement isn't one of the above.
+     */
+    public static int compileRequirement(String requirement) {
+
+        switch(requirement) {
+            case "any":
+                return ANYONE;
+            case "males only":
+                return MALE;
+            case "females only":
+                return FEMALE;
+            case "human only":
+                return HUMAN;
+            default:
+                break;
+
+        } // End of switch statement.
+
+        // The rest are race or class requirements, like "elf only", "not wizard" or "not clerics".
+        boolean negated = requirement.startsWith("not ");
+        String cardName = negated ? requirement.substring(4) : requirement.substring(0, Math.max(0, requirement.indexOf(' ')));
+
+        for(int i = 0; i < RACE_AND_CLASS_NAMES.length; i++) {
+            if(!cardName.isEmpty() && cardName.startsWith(RACE_AND_CLASS_NAMES[i]))
+                return negated ? getLackingBit(1 << i) : 1 << i;
+        }
+
+        throw new IllegalArgumentException("Unknown \"usable by\" requirement: " + requirement);
+
+    } // End of compileRequirement method.
+
+    /**
+     * This method checks to see if a player's traits meet a requirement.
+     * @param traits The player's traits (see Player.getTraits).
+     * @param requirement The requirement's bits (see compileRequirement).
+     * @return True if the player meets the requirement, false if they don't.
+     */
+    public static boolean checkIf_RequirementMet(int traits, int requirement) {
+        return (traits & requirement) == requirement;
+    }
+
+} // End of PlayerTraits class.
@@ -1,6 +1,7 @@
 package door_cards;
 
 import basic_game_components.Card;
+import basic_game_components.CardKind;
 
 /**
  * This class represents a class card in the game of Munchkin.
@@ -16,7 +17,7 @@ public class ClassCard extends Card {
      * @param name The unique name of the card.
      */
     public ClassCard(String name) {
-        super(name, "door");
+        super(name, "door", CardKind.CLASS);
     }
 
 } // End of ClassCard class.
\ No newline at end of file
@@ -1,6 +1,7 @@
 package door_cards;
 
 import basic_game_components.Card;
+import basic_game_components.CardKind;
 
 /**
  * This class represents a monster card in the game of Munchkin.
@@ -42,7 +43,7 @@ public class MonsterCard extends Card {
 	 * @param isUndead Whether or not the monster is undead (true if undead, false if not undead).
 	 */
 	public MonsterCard(String name, int level, int treasureReward, int levelReward, boolean isUndead) {
-		super(name, "door");
+		super(name, "door", CardKind.MONSTER);
         originalLevel = level;
 		currentLevel = originalLevel;
         originalTreasureReward = treasureReward;
@@ -50,6 +51,22 @@ public class MonsterCard extends Card {
 		this.levelReward = levelReward;
 		this.isUndead = isUndead;
 	}
+
+	/**
+	 * This method constructs a game's own copy of a monster card definition from the CardCatalog. The copy shares the definition's name, so
+	 * the only thing a game pays for is the monster's modifiable values.
+	 * @param definition The shared monster card definition.
+	 */
+	public MonsterCard(MonsterCard definition) {
+		super(definition);
+		originalLevel = definition.originalLevel;
+		currentLevel = originalLevel;
+		originalTreasureReward = definition.originalTreasureReward;
+		currentTreasureReward = originalTreasureReward;
+		levelReward = definition.levelReward;
+		isUndead = definition.isUndead;
+	}
+
 	//----------------------------------------------------
 	//			METHOD(S)
 	//----------------------------------------------------
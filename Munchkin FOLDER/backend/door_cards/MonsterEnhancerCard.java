@@ -1,6 +1,7 @@
 package door_cards;
 
 import basic_game_components.Card;
+import basic_game_components.CardKind;
 
 /**
  * This class represents a monster enhancer card in the game of Munchkin.
@@ -28,7 +29,7 @@ public class MonsterEnhancerCard extends Card {
      * @param name The treasure enhancement value.
      */
     public MonsterEnhancerCard(String name, int levelEnhancementValue, int treasureEnhancementValue) {
-		super(name, "door");
+		super(name, "door", CardKind.MONSTER_ENHANCER);
         this.levelEnhancementValue = levelEnhancementValue;
         this.treasureEnhancementValue = treasureEnhancementValue;
     }
@@ -1,6 +1,7 @@
 package door_cards;
 
 import basic_game_components.Card;
+import basic_game_components.CardKind;
 
 /**
  * This class represents an "other door" card in the game of Munchkin. An "other door" card is a door card that
@@ -18,7 +19,7 @@ public class OtherDoorCard extends Card {
      * @param name The unique name of the card.
      */
     public OtherDoorCard(String name) {
-        super(name, "door");
+        super(name, "door", CardKind.OTHER_DOOR);
     }
     
 } // End of OtherDoorCard class.
\ No newline at end of file
@@ -1,6 +1,7 @@
 package door_cards;
 
 import basic_game_components.Card;
+import basic_game_components.CardKind;
 
 /**
  * This class represents a race card in the game of Munchkin.
@@ -16,7 +17,7 @@ public class RaceCard extends Card {
      * @param name The unique name of the card.
      */
     public RaceCard(String name) {
-		  super(name, "door");   
+		  super(name, "door", CardKind.RACE);   
     }
     
 
@@ -0,0 +1,61 @@
+package events;
+
+import java.io.PrintStream;
+
+/**
+ * This class prints every event it receives to a PrintStream (usually System.out), for development and testing purposes. Since listeners run
+ * on the GameEventBus's consumer thread, printing never slows down the game itself.
+ */
+public class ConsoleEventListener implements GameEventListener {
+
+    //----------------------------------------------------
+    //            INSTANCE VARIABLES
+    //----------------------------------------------------
+
+    // Where the events are printed.
+    private final PrintStream out;
+    // The StringBuilder reused to describe every event.
+    private final StringBuilder line;
+
+    //----------------------------------------------------
+    //            CONSTRUCTOR(S)
+    //----------------------------------------------------
+
+    /**
+     * This method constructs a ConsoleEventListener object.
+     * @param out Where the events are printed (ex: System.out).
+     */
+    public ConsoleEventListener(PrintStream out) {
+        this.out = out;
+        line = new StringBuilder(128);
+    }
+
+    //----------------------------------------------------
+    //            METHOD(S)
+    //----------------------------------------------------
+
+    /**
+     * This method prints the description of an event.
+     * @param event The event.
+     */
+    @Override
+    public void onEvent(GameEvent event) {
+        line.setLength(0);
+
+        // Only the events published through a game's sink have a game id (see GameEventBus.getGameSink).
+        if(event.getGameId() != 0)
+            line.append("Game ").append(event.getGameId()).append(": ");
+
+        GameEventFormatter.appendDescription(line, event);
+        out.println(line);
+    }
+
+    /**
+     * This method flushes the PrintStream once the bus is closed (it is not closed, since it is usually System.out).
+     */
+    @Override
+    public void onClose() {
+        out.flush();
+    }
+
+} // End of ConsoleEventListener class.
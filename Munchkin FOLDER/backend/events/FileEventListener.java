@@ -0,0 +1,88 @@
+package events;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * This class writes every event it receives to a log file, one line per event (its sequence number, its game's id, then its description).
+ * The file is buffered, and it is flushed and closed once the GameEventBus is closed.
+ */
+public class FileEventListener implements GameEventListener {
+
+    //----------------------------------------------------
+    //            INSTANCE VARIABLES
+    //----------------------------------------------------
+
+    // The log file's writer.
+    private final BufferedWriter writer;
+    // The StringBuilder reused to describe every event.
+    private final StringBuilder line;
+
+    //----------------------------------------------------
+    //            CONSTRUCTOR(S)
+    //----------------------------------------------------
+
+    /**
+     * This method constructs a FileEventListener object, creating the log file (or emptying it if it already exists).
+     * @param logFile The log file's path.
+     * @throws UncheckedIOException If the log file can't be created.
+     */
+    public FileEventListener(Path logFile) {
+
+        try {
+            writer = Files.newBufferedWriter(logFile, StandardCharsets.UTF_8);
+        }
+        catch(IOException e) {
+            throw new UncheckedIOException("Couldn't create the event log " + logFile, e);
+        }
+
+        line = new StringBuilder(128);
+
+    } // End of constructor method.
+
+    //----------------------------------------------------
+    //            METHOD(S)
+    //----------------------------------------------------
+
+    /**
+     * This method writes the description of an event to the log file.
+     * @param event The event.
+     * @throws UncheckedIOException If the log file can't be written to.
+     */
+    @Override
+    public void onEvent(GameEvent event) {
+
+        line.setLength(0);
+        line.append(event.getSequence()).append('\t').append(event.getGameId()).append('\t');
+        GameEventFormatter.appendDescription(line, event);
+
+        try {
+            writer.append(line).append('\n');
+        }
+        catch(IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+    } // End of onEvent method.
+
+    /**
+     * This method flushes and closes the log file once the bus is closed.
+     * @throws UncheckedIOException If the log file can't be closed.
+     */
+    @Override
+    public void onClose() {
+
+        try {
+            writer.close();
+        }
+        catch(IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+    } // End of onClose method.
+
+} // End of FileEventListener class.
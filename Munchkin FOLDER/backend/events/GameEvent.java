@@ -0,0 +1,137 @@
+package events;
+
+/**
+ * This class represents a single game event, as delivered to a GameEventListener.
+ *
+ * IMPORTANT NOTE: The GameEventBus reuses the same GameEvent object for every event it delivers, so a listener that wants to keep an event
+ * past its onEvent call must keep a copy (see copy).
+ */
+public class GameEvent {
+
+    //----------------------------------------------------
+    //            INSTANCE VARIABLES
+    //----------------------------------------------------
+
+    // The id of the game the event belongs to (0 if it was published without one, see GameEventBus.getGameSink).
+    private int gameId;
+    // The event's sequence number (events are numbered from 0 in the order they were published).
+    private long sequence;
+    // The event's type.
+    private GameEventType type;
+    // The turn number of the player involved, or 0 if no player is.
+    private int playerTurnNumber;
+    // The event's first value (its meaning depends on the type, see GameEventType).
+    private int value1;
+    // The event's second value (its meaning depends on the type, see GameEventType).
+    private int value2;
+
+    //----------------------------------------------------
+    //            CONSTRUCTOR(S)
+    //----------------------------------------------------
+
+    /**
+     * This method constructs a GameEvent object.
+     * @param gameId The id of the game the event belongs to.
+     * @param sequence The event's sequence number.
+     * @param type The event's type.
+     * @param playerTurnNumber The turn number of the player involved, or 0 if no player is.
+     * @param value1 The event's first value.
+     * @param value2 The event's second value.
+     */
+    public GameEvent(int gameId, long sequence, GameEventType type, int playerTurnNumber, int value1, int value2) {
+        set(gameId, sequence, type, playerTurnNumber, value1, value2);
+    }
+
+    /**
+     * This method constructs an empty GameEvent object (to be filled by the GameEventBus).
+     */
+    GameEvent() {
+    }
+
+    //----------------------------------------------------
+    //            METHOD(S)
+    //----------------------------------------------------
+
+    /**
+     * This method gets the id of the game the event belongs to.
+     * @return The id of the game, or 0 if the event was published without one.
+     */
+    public int getGameId() {
+        return gameId;
+    }
+
+    /**
+     * This method gets the event's sequence number (events are numbered from 0 in the order they were published).
+     * @return The event's sequence number.
+     */
+    public long getSequence() {
+        return sequence;
+    }
+
+    /**
+     * This method gets the event's type.
+     * @return The event's type.
+     */
+    public GameEventType getType() {
+        return type;
+    }
+
+    /**
+     * This method gets the turn number of the player involved in the event.
+     * @return The player's turn number, or 0 if no player is involved.
+     */
+    public int getPlayerTurnNumber() {
+        return playerTurnNumber;
+    }
+
+    /**
+     * This method gets the event's first value (its meaning depends on the type, see GameEventType).
+     * @return The event's first value.
+     */
+    public int getValue1() {
+        return value1;
+    }
+
+    /**
+     * This method gets the event's second value (its meaning depends on the type, see GameEventType).
+     * @return The event's second value.
+     */
+    public int getValue2() {
+        return value2;
+    }
+
+    /**
+     * This method makes a copy of the event that can be kept after the listener returns.
+     * @return A copy of the event.
+     */
+    public GameEvent copy() {
+        return new GameEvent(gameId, sequence, type, playerTurnNumber, value1, value2);
+    }
+
+    /**
+     * This method fills the event with new values (used by the GameEventBus to reuse a single object).
+     * @param gameId The id of the game the event belongs to.
+     * @param sequence The event's sequence number.
+     * @param type The event's type.
+     * @param playerTurnNumber The turn number of the player involved, or 0 if no player is.
+     * @param value1 The event's first value.
+     * @param value2 The event's second value.
+     */
+    void set(int gameId, long sequence, GameEventType type, int playerTurnNumber, int value1, int value2) {
+        this.gameId = gameId;
+        this.sequence = sequence;
+        this.type = type;
+        this.playerTurnNumber = playerTurnNumber;
+        this.value1 = value1;
+        this.value2 = value2;
+    }
+
+    /**
+     * This is an overrided toString method to provide a visual representation of the event when printing to the console (see
+     * GameEventFormatter for a description using card names).
+     */
+    public String toString() {
+        return "#" + sequence + " game=" + gameId + " " + type + " player=" + playerTurnNumber + " value1=" + value1 + " value2=" + value2;
+    }
+
+} // End of GameEvent class.
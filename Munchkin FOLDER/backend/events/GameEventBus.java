@@ -0,0 +1,357 @@
+package events;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * This class delivers game events to its listeners (console output, a log file, test assertions, etc.) on its own consumer thread, so the
+ * game's threads never wait for any I/O. Any number of games or threads can publish to the same bus: each game publishes through its own sink
+ * (see getGameSink), which stamps its events with the game's id, so the listeners can tell the games apart.
+ *
+ * IMPORTANT NOTE: Events go through a bounded, lock-free ring buffer. Each slot has a sequence number telling producers when it is free and
+ * the consumer when it is filled, and the events themselves are stored in plain arrays of primitives, so publishing never locks and never
+ * allocates anything. When the ring buffer is full, the overflow policy decides what happens: DROP (the default) throws the event away so the
+ * game never stalls, while BLOCK makes the publisher wait for room (backpressure). Both are counted (see getDroppedCount and
+ * getBlockedCount).
+ */
+public class GameEventBus implements GameEventSink, AutoCloseable {
+
+    /**
+     * This enum lists what publishing does when the ring buffer is full.
+     */
+    public enum OverflowPolicy {
+        // Throw the event away (and count it), so the publisher never waits.
+        DROP,
+        // Wait for the consumer to make room (and count the wait), so no event is ever lost.
+        BLOCK
+    }
+
+    //----------------------------------------------------
+    //            INSTANCE VARIABLES
+    //----------------------------------------------------
+
+    // The default capacity of the ring buffer.
+    public static final int DEFAULT_CAPACITY = 1 << 14;
+    // How long the consumer sleeps when there is nothing to deliver.
+    private static final long IDLE_PARK_NANOS = 100_000;
+    // How long a blocked publisher sleeps before checking for room again.
+    private static final long FULL_PARK_NANOS = 10_000;
+
+    // The capacity of the ring buffer (a power of two) minus 1, used to turn sequence numbers into slots.
+    private final int mask;
+    // The sequence number of each slot: equal to the next sequence to be published in it when it is free, that sequence + 1 once it is filled.
+    private final AtomicLongArray slotSequences;
+    // The id of the game of the event in each slot.
+    private final int[] gameIds;
+    // The type of the event in each slot.
+    private final GameEventType[] types;
+    // The player turn number of the event in each slot.
+    private final int[] playerTurnNumbers;
+    // The first value of the event in each slot.
+    private final int[] values1;
+    // The second value of the event in each slot.
+    private final int[] values2;
+    // The sequence number the next published event gets (i.e. the number of events accepted so far).
+    private final AtomicLong nextSequence;
+    // The number of events delivered to the listeners so far (only written by the consumer thread).
+    private volatile long deliveredCount;
+    // What publishing does when the ring buffer is full.
+    private final OverflowPolicy overflowPolicy;
+    // The listeners every event is delivered to.
+    private final List<GameEventListener> listeners;
+    // The number of events thrown away because the ring buffer was full (DROP) or the bus was closed.
+    private final LongAdder droppedCount;
+    // The number of publishes that had to wait for room (BLOCK).
+    private final LongAdder blockedCount;
+    // The number of times a listener threw an exception (the event is still delivered to the other listeners).
+    private final LongAdder listenerFailureCount;
+    // The thread delivering the events to the listeners.
+    private final Thread consumerThread;
+    // Whether or not the bus was closed.
+    private volatile boolean closed;
+
+    //----------------------------------------------------
+    //            CONSTRUCTOR(S)
+    //----------------------------------------------------
+
+    /**
+     * This method constructs a GameEventBus object and starts its consumer thread.
+     * @param capacity The capacity of the ring buffer (a power of two, at least 2).
+     * @param overflowPolicy What publishing does when the ring buffer is full.
+     */
+    public GameEventBus(int capacity, OverflowPolicy overflowPolicy) {
+
+        if(capacity < 2 || Integer.bitCount(capacity) != 1)
+            throw new IllegalArgumentException("The capacity must be a power of two (at least 2): " + capacity);
+
+        mask = capacity - 1;
+        slotSequences = new AtomicLongArray(capacity);
+        gameIds = new int[capacity];
+        types = new GameEventType[capacity];
+        playerTurnNumbers = new int[capacity];
+        values1 = new int[capacity];
+        values2 = new int[capacity];
+
+        for(int slot = 0; slot < capacity; slot++)
+            slotSequences.set(slot, slot);
+
+        nextSequence = new AtomicLong();
+        deliveredCount = 0;
+        this.overflowPolicy = overflowPolicy;
+        listeners = new CopyOnWriteArrayList<>();
+        droppedCount = new LongAdder();
+        blockedCount = new LongAdder();
+        listenerFailureCount = new LongAdder();
+        closed = false;
+
+        consumerThread = new Thread(this::consume, "game-event-bus");
+        consumerThread.setDaemon(true);
+        consumerThread.start();
+
+    } // End of constructor method.
+
+    /**
+     * This method constructs a GameEventBus object with the default capacity that drops events when it is full, and starts its consumer thread.
+     */
+    public GameEventBus() {
+        this(DEFAULT_CAPACITY, OverflowPolicy.DROP);
+    }
+
+    //----------------------------------------------------
+    //            METHOD(S)
+    //----------------------------------------------------
+
+    /**
+     * This method adds a listener. It only receives the events delivered after it was added.
+     * @param listener The listener.
+     */
+    public void addListener(GameEventListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * This method gets the sink a game publishes its events through: it publishes them to the bus, stamped with the game's id. Get it once
+     * per game (ex: when the game is created), since each call creates a new sink.
+     * @param gameId The id of the game (not 0, which is the id of the events published straight to the bus).
+     * @return The game's sink.
+     */
+    public GameEventSink getGameSink(int gameId) {
+        return (type, playerTurnNumber, value1, value2) -> publish(gameId, type, playerTurnNumber, value1, value2);
+    }
+
+    /**
+     * This method publishes an event without a game id (its game id is 0). Use a game's sink instead when several games share the bus (see
+     * getGameSink).
+     * @param type The event's type.
+     * @param playerTurnNumber The turn number of the player involved, or 0 if no player is.
+     * @param value1 The event's first value.
+     * @param value2 The event's second value.
+     */
+    @Override
+    public void publish(GameEventType type, int playerTurnNumber, int value1, int value2) {
+        publish(0, type, playerTurnNumber, value1, value2);
+    }
+
+    /**
+     * This method publishes an event of a game. It never locks and never allocates anything. If the ring buffer is full, the event is dropped
+     * or the publisher waits, depending on the overflow policy. Events published once the bus is closed are dropped.
+     * @param gameId The id of the game the event belongs to.
+     * @param type The event's type.
+     * @param playerTurnNumber The turn number of the player involved, or 0 if no player is.
+     * @param value1 The event's first value.
+     * @param value2 The event's second value.
+     */
+    public void publish(int gameId, GameEventType type, int playerTurnNumber, int value1, int value2) {
+
+        boolean waited = false;
+
+        while(!closed) {
+            long sequence = nextSequence.get();
+            int slot = (int) sequence & mask;
+            long difference = slotSequences.get(slot) - sequence;
+
+            if(difference == 0) {
+                // The slot is free: claim the sequence, fill the slot, then publish it by moving its sequence on.
+                if(nextSequence.compareAndSet(sequence, sequence + 1)) {
+                    gameIds[slot] = gameId;
+                    types[slot] = type;
+                    playerTurnNumbers[slot] = playerTurnNumber;
+                    values1[slot] = value1;
+                    values2[slot] = value2;
+                    slotSequences.lazySet(slot, sequence + 1);
+                    return;
+                }
+            }
+            else if(difference < 0) {
+                // The slot still holds an event the consumer hasn't delivered: the ring buffer is full.
+                if(overflowPolicy == OverflowPolicy.DROP)
+                    break;
+
+                if(!waited) {
+                    waited = true;
+                    blockedCount.increment();
+                }
+
+                LockSupport.parkNanos(FULL_PARK_NANOS);
+            }
+
+            // Otherwise another publisher claimed the sequence first, so try the next one.
+
+        } // End of while loop.
+
+        droppedCount.increment();
+
+    } // End of publish method.
+
+    /**
+     * This method waits until every event published so far has been delivered to the listeners (used by tests and before reading a log).
+     */
+    public void flush() {
+
+        long target = nextSequence.get();
+
+        while(deliveredCount < target && consumerThread.isAlive())
+            LockSupport.parkNanos(IDLE_PARK_NANOS);
+
+    } // End of flush method.
+
+    /**
+     * This method closes the bus: the events already published are delivered, the listeners are closed, and the consumer thread stops. Events
+     * published from then on are dropped (and counted).
+     */
+    @Override
+    public void close() {
+
+        if(closed)
+            return;
+
+        closed = true;
+        LockSupport.unpark(consumerThread);
+
+        try {
+            consumerThread.join();
+        }
+        catch(InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+    } // End of close method.
+
+    /**
+     * This method gets the number of events accepted by the bus so far (delivered or about to be).
+     * @return The number of events accepted.
+     */
+    public long getPublishedCount() {
+        return nextSequence.get();
+    }
+
+    /**
+     * This method gets the number of events delivered to the listeners so far.
+     * @return The number of events delivered.
+     */
+    public long getDeliveredCount() {
+        return deliveredCount;
+    }
+
+    /**
+     * This method gets the number of events thrown away because the ring buffer was full (DROP policy) or the bus was closed.
+     * @return The number of events dropped.
+     */
+    public long getDroppedCount() {
+        return droppedCount.sum();
+    }
+
+    /**
+     * This method gets the number of publishes that had to wait for room in the ring buffer (BLOCK policy).
+     * @return The number of publishes that were blocked.
+     */
+    public long getBlockedCount() {
+        return blockedCount.sum();
+    }
+
+    /**
+     * This method gets the number of times a listener threw an exception.
+     * @return The number of listener failures.
+     */
+    public long getListenerFailureCount() {
+        return listenerFailureCount.sum();
+    }
+
+    /**
+     * This utility method is the consumer thread's loop: it delivers the events as they are published, and sleeps briefly when there are none.
+     * Once the bus is closed and every accepted event is delivered, it closes the listeners and stops.
+     */
+    private void consume() {
+
+        // The same event object is reused for every delivery.
+        GameEvent event = new GameEvent();
+
+        while(true) {
+            if(deliverAvailableEvents(event) == 0) {
+                if(closed && deliveredCount == nextSequence.get())
+                    break;
+
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+            }
+
+        } // End of while loop.
+
+        for(GameEventListener listener : listeners) {
+            try {
+                listener.onClose();
+            }
+            catch(RuntimeException e) {
+                listenerFailureCount.increment();
+            }
+        }
+
+    } // End of consume utility method.
+
+    /**
+     * This utility method delivers every event that is ready, in sequence order.
+     * @param event The event object reused for every delivery.
+     * @return The number of events delivered.
+     */
+    private int deliverAvailableEvents(GameEvent event) {
+
+        int numDelivered = 0;
+        long sequence = deliveredCount;
+
+        while(true) {
+            int slot = (int) sequence & mask;
+
+            // The slot isn't filled yet (nothing more to deliver, or its publisher is still writing it).
+            if(slotSequences.get(slot) != sequence + 1)
+                break;
+
+            event.set(gameIds[slot], sequence, types[slot], playerTurnNumbers[slot], values1[slot], values2[slot]);
+
+            // The event was copied out, so free the slot for the publisher that will use it next, one lap later.
+            slotSequences.lazySet(slot, sequence + mask + 1);
+            sequence++;
+
+            for(GameEventListener listener : listeners) {
+                try {
+                    listener.onEvent(event);
+                }
+                catch(RuntimeException e) {
+                    listenerFailureCount.increment();
+                }
+            }
+
+            // Only once every listener has seen the event, so flush doesn't return while it is still being delivered.
+            deliveredCount = sequence;
+
+            numDelivered++;
+
+        } // End of while loop.
+
+        return numDelivered;
+
+    } // End of deliverAvailableEvents utility method.
+
+} // End of GameEventBus class.
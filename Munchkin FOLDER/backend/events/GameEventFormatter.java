@@ -0,0 +1,154 @@
+package events;
+
+import basic_game_components.PileType;
+import handlers.CurseResult;
+import utilities.CardCatalog;
+
+/**
+ * This class turns game events into readable descriptions (ex: "Player 2 drew Boots of Butt-Kicking from the treasure pile."), using the card
+ * catalog for the card names. It is shared by the listeners that write events as text (see ConsoleEventListener and FileEventListener).
+ */
+public final class GameEventFormatter {
+
+    //----------------------------------------------------
+    //            CONSTRUCTOR(S)
+    //----------------------------------------------------
+
+    /**
+     * The formatter is never instantiated, it only has static methods.
+     */
+    private GameEventFormatter() {}
+
+    //----------------------------------------------------
+    //            METHOD(S)
+    //----------------------------------------------------
+
+    /**
+     * This method describes an event, starting with its sequence number and its game's id.
+     * @param event The event.
+     * @return The event's description.
+     */
+    public static String format(GameEvent event) {
+
+        StringBuilder description = new StringBuilder(96);
+        description.append('#').append(event.getSequence()).append(" [game ").append(event.getGameId()).append("] ");
+        appendDescription(description, event);
+
+        return description.toString();
+
+    } // End of format method.
+
+    /**
+     * This method appends the description of an event (without its sequence number and game id) to a StringBuilder.
+     * @param description The StringBuilder to append the description to.
+     * @param event The event.
+     */
+    public static void appendDescription(StringBuilder description, GameEvent event) {
+
+        int player = event.getPlayerTurnNumber();
+        int value1 = event.getValue1();
+        int value2 = event.getValue2();
+
+        switch(event.getType()) {
+            case CARD_DRAWN:
+                description.append(cardName(value1)).append(" was drawn from the ").append(pileName(value2)).append(" pile.");
+                break;
+            case CARD_DISCARDED:
+                description.append(cardName(value1)).append(" was placed in the ").append(pileName(value2)).append(" discards.");
+                break;
+            case CARD_ADDED_TO_HAND:
+                description.append("Player ").append(player).append(" put ").append(cardName(value1)).append(" in their hand (")
+                    .append(value2).append(" cards).");
+                break;
+            case CARD_REMOVED_FROM_HAND:
+                description.append("Player ").append(player).append(" took ").append(cardName(value1)).append(" out of their hand (")
+                    .append(value2).append(" cards).");
+                break;
+            case CARD_ADDED_TO_IN_PLAY:
+                description.append("Player ").append(player).append(value2 == 1 ? " equipped " : " put in play ").append(cardName(value1))
+                    .append('.');
+                break;
+            case CARD_REMOVED_FROM_IN_PLAY:
+                description.append("Player ").append(player).append(" took ").append(cardName(value1)).append(" out of play (")
+                    .append(value2).append(" cards in play).");
+                break;
+            case LEVEL_CHANGED:
+                description.append("Player ").append(player).append(value2 < 0 ? " went down to level " : " went up to level ")
+                    .append(value1).append(" (").append(value2 < 0 ? "" : "+").append(value2).append(").");
+                break;
+            case DIE_ROLLED:
+                description.append("Player ").append(player).append(" rolled a ").append(value1).append('.');
+                break;
+            case CURSE_APPLIED:
+                description.append("Player ").append(player).append(" was cursed by ").append(cardName(value1)).append(": ")
+                    .append(CurseResult.fromOrdinal(value2).getDescription());
+                break;
+            case PILE_RESHUFFLED:
+                description.append("The ").append(pileName(value1)).append(" discards were shuffled back into the pile (").append(value2)
+                    .append(" cards).");
+                break;
+            case CARD_TAKEN_FROM_DISCARDS:
+                description.append(cardName(value1)).append(" was taken out of the ").append(pileName(value2)).append(" discards.");
+                break;
+            case SEX_CHANGED:
+                description.append("Player ").append(player).append(" is now ").append(value1 == 1 ? "female." : "male.");
+                break;
+            case COMBAT_BONUS_CHANGED:
+                description.append("Player ").append(player).append("'s combat bonus is now ").append(value1).append(" (")
+                    .append(value2 < 0 ? "" : "+").append(value2).append(").");
+                break;
+            case RUN_AWAY_BONUS_CHANGED:
+                description.append("Player ").append(player).append("'s run away bonus is now ").append(value1).append(" (")
+                    .append(value2 < 0 ? "" : "+").append(value2).append(").");
+                break;
+            case GOLD_CHANGED:
+                description.append("Player ").append(player).append(" now has ").append(value1).append(" gold (")
+                    .append(value2 < 0 ? "" : "+").append(value2).append(").");
+                break;
+            case HAND_LIMIT_CHANGED:
+                description.append("Player ").append(player).append("'s hand limit is now ").append(value1).append('.');
+                break;
+            case CHICKEN_ON_HEAD_CHANGED:
+                description.append("Player ").append(player).append(value1 == 1 ? " now has" : " no longer has")
+                    .append(" a chicken on their head.");
+                break;
+            case RACES_CHANGED:
+                description.append("Player ").append(player).append(" now has ").append(value1).append(" race(s) (limit ").append(value2)
+                    .append(").");
+                break;
+            case CLASSES_CHANGED:
+                description.append("Player ").append(player).append(" now has ").append(value1).append(" class(es) (limit ").append(value2)
+                    .append(").");
+                break;
+            case HUMAN_STATUS_CHANGED:
+                description.append("Player ").append(player).append(value1 == 1 ? " is now human." : " is no longer human.");
+                break;
+            case TURN_ENDED:
+                description.append("Turn ").append(value1).append(" ended, it is now player ").append(player).append("'s turn.");
+                break;
+            default:
+                description.append(event.getType()).append(" player=").append(player).append(" value1=").append(value1).append(" value2=")
+                    .append(value2);
+        }
+
+    } // End of appendDescription method.
+
+    /**
+     * This utility method gets the name of the card with a certain id.
+     * @param cardId The card's id (its catalog index).
+     * @return The card's name.
+     */
+    private static String cardName(int cardId) {
+        return CardCatalog.getCardDefinition(cardId).getName();
+    }
+
+    /**
+     * This utility method gets the name of a pile from its PileType ordinal.
+     * @param pileOrdinal The pile's PileType ordinal.
+     * @return The pile's name, "door" or "treasure".
+     */
+    private static String pileName(int pileOrdinal) {
+        return PileType.fromOrdinal(pileOrdinal) == PileType.DOOR ? "door" : "treasure";
+    }
+
+} // End of GameEventFormatter class.
@@ -0,0 +1,21 @@
+package events;
+
+/**
+ * This interface consumes the events delivered by a GameEventBus (ex: printing them, writing them to a file, or recording them for tests).
+ * Listeners are called on the bus's own consumer thread, one event at a time, never on the game's thread.
+ */
+public interface GameEventListener {
+
+    /**
+     * This method handles an event. The event object is reused by the bus, so use event.copy() to keep it.
+     * @param event The event.
+     */
+    void onEvent(GameEvent event);
+
+    /**
+     * This method is called once the bus is closed and every event has been delivered (ex: to flush and close a file).
+     */
+    default void onClose() {
+    }
+
+} // End of GameEventListener interface.
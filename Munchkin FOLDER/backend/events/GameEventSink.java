@@ -0,0 +1,24 @@
+package events;
+
+/**
+ * This interface receives the events published by the game's components (piles, hands, in play cards, dice, players and handlers). Events
+ * are passed as primitive values rather than objects, so publishing one never allocates anything.
+ *
+ * IMPORTANT NOTE: Every component starts with the NONE sink, which ignores everything, so a game that nobody listens to pays nothing more than
+ * an empty method call per event.
+ */
+public interface GameEventSink {
+
+    // The sink that ignores every event (the default of every component).
+    GameEventSink NONE = (type, playerTurnNumber, value1, value2) -> { };
+
+    /**
+     * This method publishes an event.
+     * @param type The event's type.
+     * @param playerTurnNumber The turn number of the player involved, or 0 if no player is (ex: a card drawn from a pile).
+     * @param value1 The event's first value (its meaning depends on the type, see GameEventType).
+     * @param value2 The event's second value (its meaning depends on the type, see GameEventType).
+     */
+    void publish(GameEventType type, int playerTurnNumber, int value1, int value2);
+
+} // End of GameEventSink interface.
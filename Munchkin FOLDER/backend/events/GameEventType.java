@@ -0,0 +1,76 @@
+package events;
+
+/**
+ * This enum lists the kinds of events published while a game is played (see GameEventSink). The meaning of an event's two values depends on
+ * its type, as described next to each one.
+ *
+ * IMPORTANT NOTE: Every change to a game's state is published as one of these events, so a game can be rebuilt from a snapshot by replaying
+ * the events that followed it (see persistence.JournalRecovery). The ordinals are written to the event journal, so new types must always be
+ * added at the end.
+ */
+public enum GameEventType {
+
+    // A card was drawn from a pile. Value 1: the card's id. Value 2: the pile (PileType ordinal).
+    CARD_DRAWN,
+    // A card was placed in the discards. Value 1: the card's id. Value 2: the pile (PileType ordinal).
+    CARD_DISCARDED,
+    // A card was added to a player's hand. Value 1: the card's id. Value 2: the number of cards in the hand afterwards.
+    CARD_ADDED_TO_HAND,
+    // A card was removed from a player's hand. Value 1: the card's id. Value 2: the number of cards in the hand afterwards.
+    CARD_REMOVED_FROM_HAND,
+    // A card was added to a player's in play cards. Value 1: the card's id. Value 2: 1 if it is an equipped item, 0 otherwise.
+    CARD_ADDED_TO_IN_PLAY,
+    // A card was removed from a player's in play cards. Value 1: the card's id. Value 2: the number of in play cards afterwards.
+    CARD_REMOVED_FROM_IN_PLAY,
+    // A player's level changed. Value 1: the new level. Value 2: the change (positive or negative).
+    LEVEL_CHANGED,
+    // A player rolled their die. Value 1: the result. Value 2: unused (0).
+    DIE_ROLLED,
+    // A curse was applied to a player. Value 1: the curse card's id. Value 2: the outcome (CurseResult ordinal).
+    CURSE_APPLIED,
+    // A pile ran dry and its discards were shuffled back into it. Value 1: the pile (PileType ordinal). Value 2: the pile's new size.
+    PILE_RESHUFFLED,
+    // A card was taken out of the discards (ex: by "Curse! Change Class"). Value 1: the card's id. Value 2: the pile (PileType ordinal).
+    CARD_TAKEN_FROM_DISCARDS,
+    // A player's sex changed. Value 1: 1 if the player is now female, 0 if male. Value 2: unused (0).
+    SEX_CHANGED,
+    // A player's combat bonus from modifier cards changed. Value 1: the new bonus (without equipment). Value 2: the change.
+    COMBAT_BONUS_CHANGED,
+    // A player's run away bonus from modifier cards changed. Value 1: the new bonus (without equipment). Value 2: the change.
+    RUN_AWAY_BONUS_CHANGED,
+    // A player's gold changed. Value 1: the new amount of gold. Value 2: the change.
+    GOLD_CHANGED,
+    // A player's hand limit changed (ex: they became a dwarf). Value 1: the new hand limit. Value 2: unused (0).
+    HAND_LIMIT_CHANGED,
+    // A chicken was put on (or taken off) a player's head. Value 1: 1 if the player now has a chicken on their head, 0 if not. Value 2: unused (0).
+    CHICKEN_ON_HEAD_CHANGED,
+    // A player's races changed. Value 1: the number of equipped races. Value 2: the race card limit.
+    RACES_CHANGED,
+    // A player's classes changed. Value 1: the number of equipped classes. Value 2: the class card limit.
+    CLASSES_CHANGED,
+    // Whether or not a player is human changed. Value 1: 1 if the player is now human, 0 if not. Value 2: unused (0).
+    HUMAN_STATUS_CHANGED,
+    // A turn ended (the player is the one whose turn it now is). Value 1: the number of turns played so far. Value 2: unused (0).
+    TURN_ENDED;
+
+    // The event types, in ordinal order (values() creates a new array every time it is called).
+    private static final GameEventType[] TYPES = values();
+
+    /**
+     * This method gets the event type with a certain ordinal, without creating an array like values() does.
+     * @param ordinal The event type's ordinal.
+     * @return The event type.
+     */
+    public static GameEventType fromOrdinal(int ordinal) {
+        return TYPES[ordinal];
+    }
+
+    /**
+     * This method gets the number of event types.
+     * @return The number of event types.
+     */
+    public static int count() {
+        return TYPES.length;
+    }
+
+} // End of GameEventType enum.
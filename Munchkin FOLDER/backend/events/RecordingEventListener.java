@@ -0,0 +1,76 @@
+package events;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * This class keeps a copy of every event it receives, so tests (and the simulator) can check what happened during a game after the fact (ex:
+ * how many curses were applied, or that a card was discarded). Call the bus's flush method before reading the events.
+ */
+public class RecordingEventListener implements GameEventListener {
+
+    //----------------------------------------------------
+    //            INSTANCE VARIABLES
+    //----------------------------------------------------
+
+    // The copies of the events received, in the order they were delivered.
+    private final List<GameEvent> events;
+
+    //----------------------------------------------------
+    //            CONSTRUCTOR(S)
+    //----------------------------------------------------
+
+    /**
+     * This method constructs an empty RecordingEventListener object.
+     */
+    public RecordingEventListener() {
+        events = new ArrayList<>();
+    }
+
+    //----------------------------------------------------
+    //            METHOD(S)
+    //----------------------------------------------------
+
+    /**
+     * This method keeps a copy of an event.
+     * @param event The event.
+     */
+    @Override
+    public synchronized void onEvent(GameEvent event) {
+        events.add(event.copy());
+    }
+
+    /**
+     * This method gets a copy of the list of events received so far.
+     * @return The events received, in the order they were delivered.
+     */
+    public synchronized List<GameEvent> getEvents() {
+        return new ArrayList<>(events);
+    }
+
+    /**
+     * This method counts the events of a certain type received so far.
+     * @param type The event type.
+     * @return The number of events of that type.
+     */
+    public synchronized int countEvents(GameEventType type) {
+
+        int count = 0;
+
+        for(GameEvent event : events) {
+            if(event.getType() == type)
+                count++;
+        }
+
+        return count;
+
+    } // End of countEvents method.
+
+    /**
+     * This method forgets every event received so far.
+     */
+    public synchronized void clear() {
+        events.clear();
+    }
+
+} // End of RecordingEventListener class.
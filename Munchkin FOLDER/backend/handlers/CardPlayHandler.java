@@ -0,0 +1,201 @@
+package handlers;
+
+import basic_game_components.Card;
+import basic_game_components.CardKind;
+import basic_game_components.Game;
+import basic_game_components.PileType;
+import basic_game_components.player_stuff.Hand;
+import basic_game_components.player_stuff.InPlayCards;
+import basic_game_components.player_stuff.Player;
+import basic_game_components.player_stuff.PlayerTraits;
+import door_cards.ClassCard;
+import door_cards.RaceCard;
+import treasure_cards.ItemCard;
+import utilities.PileManager;
+
+/**
+ * This class holds the rules for playing cards from a player's hand (items, race and class cards, "go up a level" cards) and for discarding
+ * cards a player has in play. They are shared by the headless simulation and the game server, so both play by the same rules.
+ *
+ * IMPORTANT NOTE: Playing a race or class card keeps the player's race and class counts (and their human status and hand limit) up to date,
+ * and so does discarding one.
+ */
+public final class CardPlayHandler {
+
+    /**
+     * This method isn't used, the class only holds static methods.
+     */
+    private CardPlayHandler() {
+    }
+
+    //------------------------------------------
+    //     PLAYING CARDS
+    //     FROM THE HAND...
+    //------------------------------------------
+
+    /**
+     * This method plays a card from a player's hand if it can be played right away: an item that fits an empty slot, a race or class card the
+     * player has room for, or a "go up a level" card (which can't be used to reach the winning level). The card leaves the hand only if it was
+     * played.
+     * @param player The player.
+     * @param pileManager The game's piles (a "go up a level" card is discarded once played).
+     * @param cardLocationNumber The location of the card in the player's hand (starting at 1).
+     * @return True if the card was played, false if it stays in the hand.
+     */
+    public static boolean tryToPlayCard_UsingCardLocationNumber(Player player, PileManager pileManager, int cardLocationNumber) {
+
+        Hand hand = player.getHand();
+        Card card = hand.getCard_UsingCardLocationNumber(cardLocationNumber);
+        boolean played;
+
+        switch(card.getKind()) {
+            case ITEM:
+                played = tryToEquip(player, (ItemCard) card);
+                break;
+            case RACE:
+                played = tryToPlayRace(player, (RaceCard) card);
+                break;
+            case CLASS:
+                played = tryToPlayClass(player, (ClassCard) card);
+                break;
+            case GUAL:
+                played = player.getLevel() < Game.WINNING_LEVEL - 1;
+                break;
+            default:
+                played = false;
+                break;
+
+        } // End of switch statement.
+
+        if(!played)
+            return false;
+
+        hand.removeCard_UsingCardLocationNumber(cardLocationNumber);
+
+        if(card.getKind() == CardKind.GUAL) {
+            player.modifyLevel(1);
+            pileManager.discardTreasureCard(card);
+        }
+
+        return true;
+
+    } // End of tryToPlayCard_UsingCardLocationNumber method.
+
+    /**
+     * This method equips an item if its slot is free and the player meets its "usable by" requirement. The item isn't removed from the hand.
+     * @param player The player.
+     * @param item The item.
+     * @return True if the item was equipped, false if it can't be.
+     */
+    public static boolean tryToEquip(Player player, ItemCard item) {
+
+        if(!meetsUsableByRequirement(player, item))
+            return false;
+
+        // Equipping the item adds its bonuses to the player's equipment totals.
+        return player.getInPlayCards().equipItem(item);
+
+    } // End of tryToEquip method.
+
+    /**
+     * This method checks an item's "usable by" requirement (ex: "dwarf only", "females only", "not thief") against the player's sex and the
+     * race and class cards they have in play. Both are kept as bits (see PlayerTraits), so this is a single AND.
+     * @param player The player.
+     * @param item The item.
+     * @return True if the player can use the item, false if they can't.
+     */
+    public static boolean meetsUsableByRequirement(Player player, ItemCard item) {
+        return player.getStats().checkIf_CanUse(item);
+    }
+
+    /**
+     * This method checks a "usable by" requirement that doesn't come with an item. It is compiled first, so use the method that takes the item
+     * whenever there is one.
+     * @param player The player.
+     * @param requirement The "usable by" requirement (ex: "dwarf only", "females only", "not thief").
+     * @return True if the player meets the requirement, false if they don't.
+     */
+    public static boolean meetsUsableByRequirement(Player player, String requirement) {
+        return PlayerTraits.checkIf_RequirementMet(player.getTraits(), PlayerTraits.compileRequirement(requirement));
+    }
+
+    /**
+     * This method plays a race card if the player has room for another race. The card isn't removed from the hand.
+     * @param player The player.
+     * @param raceCard The race card.
+     * @return True if the race card was played, false if it can't be.
+     */
+    public static boolean tryToPlayRace(Player player, RaceCard raceCard) {
+
+        InPlayCards inPlayCards = player.getInPlayCards();
+
+        if(!inPlayCards.checkIf_RaceCardCanBeEquipped())
+            return false;
+
+        inPlayCards.addCardToInPlayCards(raceCard);
+        inPlayCards.incrementNumberOfEquippedRaces();
+        inPlayCards.setIfPlayerIsHuman(false);
+
+        return true;
+
+    } // End of tryToPlayRace method.
+
+    /**
+     * This method plays a class card if the player has room for another class. The card isn't removed from the hand.
+     * @param player The player.
+     * @param classCard The class card.
+     * @return True if the class card was played, false if it can't be.
+     */
+    public static boolean tryToPlayClass(Player player, ClassCard classCard) {
+
+        InPlayCards inPlayCards = player.getInPlayCards();
+
+        if(!inPlayCards.checkIf_ClassCardCanBeEquipped())
+            return false;
+
+        inPlayCards.addCardToInPlayCards(classCard);
+        inPlayCards.incrementNumberOfEquippedClasses();
+
+        return true;
+
+    } // End of tryToPlayClass method.
+
+    //------------------------------------------
+    //     DISCARDING CARDS
+    //     IN PLAY...
+    //------------------------------------------
+
+    /**
+     * This method discards one of a player's in play cards. Discarding an item takes its bonuses away, and discarding a race or class card
+     * updates the player's race or class count (a player who discards their last race becomes human again, and a dwarf's hand limit goes back
+     * to normal, see PlayerStats).
+     * @param player The player.
+     * @param pileManager The game's piles.
+     * @param cardLocationNumber The location of the card in the player's in play cards (starting at 1).
+     * @return The card discarded.
+     */
+    public static Card discardInPlayCard_UsingCardLocationNumber(Player player, PileManager pileManager, int cardLocationNumber) {
+
+        InPlayCards inPlayCards = player.getInPlayCards();
+        Card removedCard = inPlayCards.removeCard_UsingCardLocationNumber(cardLocationNumber);
+
+        if(removedCard.getKind() == CardKind.CLASS) {
+            inPlayCards.decrementNumberOfEquippedClasses();
+        }
+        else if(removedCard.getKind() == CardKind.RACE) {
+            inPlayCards.decrementNumberOfEquippedRaces();
+
+            if(inPlayCards.getNumberOfEquippedRaces() == 0)
+                inPlayCards.setIfPlayerIsHuman(true);
+        }
+
+        if(removedCard.getPile() == PileType.DOOR)
+            pileManager.discardDoorCard(removedCard);
+        else
+            pileManager.discardTreasureCard(removedCard);
+
+        return removedCard;
+
+    } // End of discardInPlayCard_UsingCardLocationNumber method.
+
+} // End of CardPlayHandler class.
@@ -0,0 +1,435 @@
+package handlers;
+
+import basic_game_components.Card;
+import basic_game_components.Game;
+import basic_game_components.PileType;
+import basic_game_components.player_stuff.Hand;
+import basic_game_components.player_stuff.InPlayCards;
+import basic_game_components.player_stuff.Player;
+import basic_game_components.player_stuff.PlayerStats;
+import door_cards.MonsterCard;
+import door_cards.MonsterEnhancerCard;
+import treasure_cards.HelperCard;
+import utilities.PileManager;
+
+import java.util.ArrayList;
+
+/**
+ * This class represents a combat in progress: the player fighting (and the player helping them, if any), the monsters they face, and the
+ * bonuses the cards played during the fight gave to each side (monster enhancers, one shot treasures, a "Hireling"). Cards played during the
+ * combat (see CombatReactionHandler) stay with it until it is resolved, then they are discarded along with the monsters. The fighter's
+ * "Hireling" is the exception: it is one of their in play cards, and it stays in play after the combat unless it is sacrificed (see resolve).
+ *
+ * IMPORTANT NOTE: Monster enhancers change the monster cards themselves (see MonsterCard.modifyLevel), so every monster that leaves the
+ * combat has its level and treasure reward reset before it is discarded. The monsters' strength and rewards are running totals, updated as
+ * each card is added, so asking who is winning (which every reaction window does for every player) and resolving the combat never loop over
+ * the monsters. A combat is reused from one fight to the next (see CombatResolver), so it keeps its arrays and list.
+ */
+public class Combat {
+
+    //----------------------------------------------------
+    //            INSTANCE VARIABLES
+    //----------------------------------------------------
+
+    // The most monsters a player can face at once.
+    public static final int MAX_MONSTERS = 4;
+    // The lowest roll (die plus run away bonus) that escapes a monster.
+    public static final int RUN_AWAY_TARGET = PlayerStats.RUN_AWAY_TARGET;
+    // The number of treasures taken from a monster that went "Out To Lunch".
+    public static final int OUT_TO_LUNCH_TREASURES = 2;
+
+    // The combat bonus of a "Hireling" fighting along with the fighter.
+    public static final int HIRELING_BONUS = 1;
+
+    // The outcomes of a combat (see resolve).
+    public static final int FIGHTER_WON = 1;
+    public static final int FIGHTER_RAN_AWAY = 2;
+    public static final int MONSTERS_LEFT = 3;
+
+    // The player fighting, and the player helping them (null if nobody is).
+    private Player fighter;
+    private Player helper;
+    // The "Hireling" the fighter has in play, fighting along with them, or null if there is none.
+    private HelperCard hireling;
+    // The monsters faced (from index 0 to numberOfMonsters - 1).
+    private final MonsterCard[] monsters;
+    private int numberOfMonsters;
+    // The bonuses given to each side by the cards played during the combat.
+    private int fighterBonus;
+    private int monsterBonus;
+    // The running totals of the monsters' levels, of the levels they give, and of the treasures they give (never negative for a monster).
+    private int monsterLevels;
+    private int levelRewards;
+    private int treasureRewards;
+    // The treasures the fighter takes without beating a monster (ex: from "Out To Lunch").
+    private int treasuresWithoutFight;
+    // The cards played during the combat, discarded once it is resolved.
+    private final ArrayList<Card> playedCards;
+
+    //----------------------------------------------------
+    //            CONSTRUCTOR(S)
+    //----------------------------------------------------
+
+    /**
+     * This method constructs a Combat object.
+     * @param fighter The player fighting.
+     * @param monster The monster they face (already out of their hand or the door pile).
+     */
+    public Combat(Player fighter, MonsterCard monster) {
+        monsters = new MonsterCard[MAX_MONSTERS];
+        playedCards = new ArrayList<>();
+        reset(fighter, monster);
+    }
+
+    //----------------------------------------------------
+    //            METHOD(S)
+    //----------------------------------------------------
+
+    /**
+     * This method starts the combat over with a new fighter and monster, as if it was just constructed (see CombatResolver). The combat must
+     * have been resolved first.
+     * @param fighter The player fighting.
+     * @param monster The monster they face (already out of their hand or the door pile).
+     */
+    void reset(Player fighter, MonsterCard monster) {
+
+        this.fighter = fighter;
+        helper = null;
+        hireling = null;
+        numberOfMonsters = 0;
+        fighterBonus = 0;
+        monsterBonus = 0;
+        monsterLevels = 0;
+        levelRewards = 0;
+        treasureRewards = 0;
+        treasuresWithoutFight = 0;
+        playedCards.clear();
+        addMonster(monster);
+
+        // A hireling the fighter already has in play fights along with them.
+        HelperCard followingHireling = findHireling(fighter);
+
+        if(followingHireling != null)
+            addHireling(followingHireling);
+
+    } // End of reset method.
+
+    /**
+     * This method gets the player fighting.
+     * @return The fighter.
+     */
+    public Player getFighter() {
+        return fighter;
+    }
+
+    /**
+     * This method gets the player helping the fighter.
+     * @return The helper, or null if nobody is.
+     */
+    public Player getHelper() {
+        return helper;
+    }
+
+    /**
+     * This method makes a player help the fighter: their level and combat bonus count for the fighter's side, they take every other treasure
+     * if the monsters are beaten (see resolve), and they have to run away too if they aren't.
+     * @param newHelper The player helping.
+     * @return True if they help, false if they are the fighter or someone already helps.
+     */
+    public boolean setHelper(Player newHelper) {
+
+        if(helper != null || newHelper == null || newHelper == fighter)
+            return false;
+
+        helper = newHelper;
+        return true;
+
+    } // End of setHelper method.
+
+    /**
+     * This method gets the "Hireling" fighting along with the fighter.
+     * @return The hireling, or null if there is none.
+     */
+    public HelperCard getHireling() {
+        return hireling;
+    }
+
+    /**
+     * This method makes a "Hireling" the fighter has in play fight along with them (it gives HIRELING_BONUS). It stays in the fighter's in play
+     * cards, and is only discarded if it is sacrificed (see resolve). A combat picks up the hireling its fighter has in play on its own.
+     * @param newHireling The hireling (already in the fighter's in play cards).
+     * @return True if it was added, false if a hireling already fights or the fighter doesn't have this one in play.
+     */
+    public boolean addHireling(HelperCard newHireling) {
+
+        if(hireling != null || fighter.getInPlayCards().searchForCard_ReturnCardLocationNumber(newHireling) == 0)
+            return false;
+
+        hireling = newHireling;
+        fighterBonus += HIRELING_BONUS;
+
+        return true;
+
+    } // End of addHireling method.
+
+    /**
+     * This method gets the number of monsters faced.
+     * @return The number of monsters (0 once they all left the combat).
+     */
+    public int getNumberOfMonsters() {
+        return numberOfMonsters;
+    }
+
+    /**
+     * This method gets one of the monsters faced.
+     * @param monsterNumber The monster's number (from 1 to getNumberOfMonsters()).
+     * @return The monster.
+     */
+    public MonsterCard getMonster(int monsterNumber) {
+        return monsters[monsterNumber - 1];
+    }
+
+    /**
+     * This method adds a monster to the combat (ex: a "Wandering Monster").
+     * @param monster The monster.
+     * @return True if it was added, false if the fighter already faces MAX_MONSTERS.
+     */
+    public boolean addMonster(MonsterCard monster) {
+
+        if(numberOfMonsters == MAX_MONSTERS)
+            return false;
+
+        monsters[numberOfMonsters] = monster;
+        numberOfMonsters++;
+        monsterLevels += monster.getLevel();
+        levelRewards += monster.getLevelReward();
+        treasureRewards += Math.max(0, monster.getTreasureReward());
+
+        return true;
+
+    } // End of addMonster method.
+
+    /**
+     * This method plays a monster enhancer on one of the monsters, and keeps it with the played cards so it is discarded at the end.
+     * @param monsterNumber The monster's number (from 1 to getNumberOfMonsters()).
+     * @param enhancer The monster enhancer.
+     */
+    public void enhanceMonster(int monsterNumber, MonsterEnhancerCard enhancer) {
+
+        MonsterCard monster = monsters[monsterNumber - 1];
+
+        treasureRewards -= Math.max(0, monster.getTreasureReward());
+        monster.modifyLevel(enhancer.getLevelEnhancementValue());
+        monster.modifyTreasureReward(enhancer.getTreasureEnhancementValue());
+        monsterLevels += enhancer.getLevelEnhancementValue();
+        treasureRewards += Math.max(0, monster.getTreasureReward());
+
+        playedCards.add(enhancer);
+
+    } // End of enhanceMonster method.
+
+    /**
+     * This method takes one of the monsters out of the combat, resets it, and keeps it with the played cards so it is discarded at the end.
+     * @param monsterNumber The monster's number (from 1 to getNumberOfMonsters()).
+     * @return The monster.
+     */
+    public MonsterCard removeMonster(int monsterNumber) {
+
+        MonsterCard monster = monsters[monsterNumber - 1];
+
+        monsterLevels -= monster.getLevel();
+        levelRewards -= monster.getLevelReward();
+        treasureRewards -= Math.max(0, monster.getTreasureReward());
+
+        System.arraycopy(monsters, monsterNumber, monsters, monsterNumber - 1, numberOfMonsters - monsterNumber);
+        numberOfMonsters--;
+        monsters[numberOfMonsters] = null;
+
+        monster.resetLevel();
+        monster.resetTreasureReward();
+        playedCards.add(monster);
+
+        return monster;
+
+    } // End of removeMonster method.
+
+    /**
+     * This method changes the bonus the cards played during the combat gave to the fighter.
+     * @param amount The change (positive or negative).
+     */
+    public void modifyFighterBonus(int amount) {
+        fighterBonus += amount;
+    }
+
+    /**
+     * This method changes the bonus the cards played during the combat gave to the monsters.
+     * @param amount The change (positive or negative).
+     */
+    public void modifyMonsterBonus(int amount) {
+        monsterBonus += amount;
+    }
+
+    /**
+     * This method gives the fighter treasures they take whether or not they fight (ex: from "Out To Lunch").
+     * @param amount The number of treasures.
+     */
+    public void addTreasuresWithoutFight(int amount) {
+        treasuresWithoutFight += amount;
+    }
+
+    /**
+     * This method keeps a card played during the combat until it is resolved.
+     * @param card The card.
+     */
+    public void addPlayedCard(Card card) {
+        playedCards.add(card);
+    }
+
+    /**
+     * This method gets the combat strength of the fighter's side (the fighter's and the helper's levels and combat bonuses, and the bonus from
+     * the cards played during the combat).
+     * @return The fighter's strength.
+     */
+    public int getFighterStrength() {
+
+        int strength = fighter.getCombatStrength() + fighterBonus;
+
+        if(helper != null)
+            strength += helper.getCombatStrength();
+
+        return strength;
+
+    } // End of getFighterStrength method.
+
+    /**
+     * This method gets the monsters' combat strength (their levels and the bonus from the cards played during the combat).
+     * @return The monsters' strength.
+     */
+    public int getMonsterStrength() {
+        return monsterLevels + monsterBonus;
+    }
+
+    /**
+     * This method checks if the fighter would win if the combat were resolved right now.
+     * @return True if the fighter's strength beats the monsters', false otherwise.
+     */
+    public boolean checkIf_FighterWinning() {
+        return numberOfMonsters > 0 && getFighterStrength() > getMonsterStrength();
+    }
+
+    /**
+     * This method resolves the combat: if the fighter's side beats the monsters, the fighter gains every monster's levels and the treasures are
+     * shared with the helper (who takes every other one, starting with the second), otherwise the fighter and the helper run away from each
+     * monster (losing a level for each failed roll). A fighter with a "Hireling" sacrifices it instead: it is discarded, and they escape every
+     * monster without rolling (their helper still rolls). Every monster and card played during the combat is then discarded.
+     * @param pileManager The game's piles.
+     * @return The outcome (FIGHTER_WON, FIGHTER_RAN_AWAY, or MONSTERS_LEFT if there was no monster left to fight).
+     */
+    public int resolve(PileManager pileManager) {
+
+        int outcome;
+        int treasures = treasuresWithoutFight;
+
+        if(numberOfMonsters == 0)
+            outcome = MONSTERS_LEFT;
+        else if(checkIf_FighterWinning()) {
+            fighter.modifyLevel(Math.min(levelRewards, Game.WINNING_LEVEL - fighter.getLevel()));
+            treasures += treasureRewards;
+            outcome = FIGHTER_WON;
+        }
+        else {
+            boolean hirelingSacrificed = hireling != null;
+
+            if(hirelingSacrificed)
+                sacrificeHireling(pileManager);
+
+            for(int i = 0; i < numberOfMonsters; i++) {
+                if(!hirelingSacrificed)
+                    runAway(fighter);
+
+                if(helper != null)
+                    runAway(helper);
+            }
+
+            outcome = FIGHTER_RAN_AWAY;
+        }
+
+        Hand fighterHand = fighter.getHand();
+        Hand helperHand = (helper != null && outcome == FIGHTER_WON) ? helper.getHand() : fighterHand;
+
+        for(int i = 0; i < treasures; i++) {
+            Card treasure = pileManager.drawTreasureCard();
+            if(treasure != null)
+                ((i % 2 == 1) ? helperHand : fighterHand).addCardToHand(treasure);
+        }
+
+        while(numberOfMonsters > 0)
+            removeMonster(numberOfMonsters);
+
+        for(int i = 0; i < playedCards.size(); i++) {
+            Card curCard = playedCards.get(i);
+
+            if(curCard.getPile() == PileType.DOOR)
+                pileManager.discardDoorCard(curCard);
+            else
+                pileManager.discardTreasureCard(curCard);
+        }
+
+        playedCards.clear();
+        helper = null;
+        hireling = null;
+
+        return outcome;
+
+    } // End of resolve method.
+
+    /**
+     * This utility method finds the "Hireling" a player has in play.
+     * @param player The player.
+     * @return The hireling, or null if they don't have one in play.
+     */
+    private static HelperCard findHireling(Player player) {
+
+        InPlayCards inPlayCards = player.getInPlayCards();
+
+        for(int location = 1; location <= inPlayCards.getNumberOfCards(); location++) {
+            Card curCard = inPlayCards.getCard_UsingCardLocationNumber(location);
+
+            if(curCard instanceof HelperCard)
+                return (HelperCard) curCard;
+        }
+
+        return null;
+
+    } // End of findHireling utility method.
+
+    /**
+     * This utility method sacrifices the fighter's "Hireling": it leaves their in play cards and is discarded, and its bonus is lost.
+     * @param pileManager The game's piles.
+     */
+    private void sacrificeHireling(PileManager pileManager) {
+
+        InPlayCards inPlayCards = fighter.getInPlayCards();
+        int location = inPlayCards.searchForCard_ReturnCardLocationNumber(hireling);
+
+        pileManager.discardTreasureCard(inPlayCards.removeCard_UsingCardLocationNumber(location));
+        fighterBonus -= HIRELING_BONUS;
+        hireling = null;
+
+    } // End of sacrificeHireling utility method.
+
+    /**
+     * This utility method makes a player roll to run away from a monster: they lose a level if the roll misses their run away target (see
+     * PlayerStats.getRunAwayTarget).
+     * @param player The player.
+     */
+    private static void runAway(Player player) {
+
+        int roll = player.getDie().roll();
+
+        if(roll < player.getRunAwayTarget() && player.getLevel() > 1)
+            player.modifyLevel(-1);
+
+    } // End of runAway utility method.
+
+} // End of Combat class.
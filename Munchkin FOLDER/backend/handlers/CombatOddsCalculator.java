@@ -0,0 +1,433 @@
+package handlers;
+
+import basic_game_components.Card;
+import basic_game_components.Game;
+import basic_game_components.PileType;
+import basic_game_components.player_stuff.Hand;
+import basic_game_components.player_stuff.Player;
+import door_cards.MonsterCard;
+import door_cards.MonsterEnhancerCard;
+import events.GameEventSink;
+import events.GameEventType;
+import treasure_cards.OneShotTreasureCard;
+import utilities.CardCatalog;
+import utilities.Deck;
+
+import java.util.List;
+
+/**
+ * This class gives the exact odds of the fights and escapes of a game, for its bots and its UI: the chance of running away, whether a player
+ * can beat a monster (with the one shot treasures in their hand, and even if every rival plays every monster enhancer they hold), the chance
+ * of keeping one's level, and of beating the next monster that comes out of the door pile.
+ *
+ * IMPORTANT NOTE: Nothing is sampled and nothing is scanned when the odds are asked for. The chances of running away come from a table
+ * computed once for every run away target (with and without a chicken on the player's head). Beating a known monster isn't left to chance
+ * (a fight is won with a strength higher than the monster's), so it is a yes or no answer: it assumes the worst of the rivals when asked to,
+ * rather than guessing which of them would play their enhancers. The calculator is the game's event sink, and
+ * the events keep the rest up to date as the game is played: the combat bonus of the one shot treasures and the level enhancement of the
+ * monster enhancers in each player's hand, and how many monsters of each level are in the door pile (as a running count of the monsters
+ * below each level). Every question is then answered with a few array reads. The calculator must be created before the game is played on
+ * (or again after a game is restored from a snapshot, which publishes no events), and like the game it is only used by one thread.
+ */
+public class CombatOddsCalculator implements GameEventSink {
+
+    //----------------------------------------------------
+    //            INSTANCE VARIABLES
+    //----------------------------------------------------
+
+    // The number of sides of a Die (a player runs away if their roll reaches their run away target, see Player.getRunAwayTarget).
+    private static final int DIE_SIDES = 6;
+
+    // The run away targets the table covers (a lower target always escapes, even with a chicken, and a higher one never does).
+    private static final int MIN_RUN_AWAY_TARGET = 0;
+    private static final int MAX_RUN_AWAY_TARGET = DIE_SIDES + 1;
+    // The chance of running away (index 1: with a chicken on the player's head, 0 without; index 2: run away target - MIN_RUN_AWAY_TARGET).
+    private static final double[][] ESCAPE_CHANCES = createEscapeChances();
+
+    // The highest level of a monster in the catalog.
+    private static final int MAX_MONSTER_LEVEL = findMaxMonsterLevel();
+
+    // The game's door pile.
+    private final Deck doorPile;
+    // The players (index: player turn number - 1).
+    private final Player[] players;
+
+    // The combat bonus of the one shot treasures in each player's hand (index: player turn number).
+    private final int[] oneShotBonusesInHand;
+    // The level enhancement of the monster enhancers in each player's hand (index: player turn number), and of every hand together.
+    private final int[] enhancerBonusesInHand;
+    private int totalEnhancerBonusInHands;
+
+    // The number of monsters of each level in the door pile and in the door discards (index: monster level).
+    private final int[] pileMonstersByLevel;
+    private final int[] discardMonstersByLevel;
+    // The number of monsters below each level in the door pile (index: level, up to MAX_MONSTER_LEVEL + 1), and in the pile in all.
+    private final int[] pileMonstersBelowLevel;
+    private int numberOfPileMonsters;
+    private int numberOfDiscardMonsters;
+
+    // The sink every event is passed on to.
+    private final GameEventSink next;
+
+    //----------------------------------------------------
+    //            CONSTRUCTOR(S)
+    //----------------------------------------------------
+
+    /**
+     * This method constructs a CombatOddsCalculator object from the game's current state. It must then be set as the game's event sink (see
+     * Game.setEventSink) to stay up to date.
+     * @param game The game.
+     * @param next The sink every event is passed on to (ex: the game's current event sink, or GameEventSink.NONE if none).
+     */
+    public CombatOddsCalculator(Game game, GameEventSink next) {
+
+        this.next = next;
+        doorPile = game.getPileManager().getDoorPile();
+
+        List<Player> playerList = game.getPlayers();
+        players = playerList.toArray(new Player[0]);
+        oneShotBonusesInHand = new int[players.length + 1];
+        enhancerBonusesInHand = new int[players.length + 1];
+        totalEnhancerBonusInHands = 0;
+
+        for(Player curPlayer : players) {
+            Hand hand = curPlayer.getHand();
+
+            for(int location = 1; location <= hand.getNumberOfCards(); location++)
+                updateHandBonuses(curPlayer.getPlayerTurnNumber(), hand.getCard_UsingCardLocationNumber(location).getId(), 1);
+        }
+
+        pileMonstersByLevel = new int[MAX_MONSTER_LEVEL + 1];
+        discardMonstersByLevel = new int[MAX_MONSTER_LEVEL + 1];
+        pileMonstersBelowLevel = new int[MAX_MONSTER_LEVEL + 2];
+        numberOfPileMonsters = 0;
+        numberOfDiscardMonsters = 0;
+
+        for(int position = 0; position < doorPile.getPileSize(); position++)
+            updatePileMonsters(doorPile.getPileCardId(position), 1);
+
+        for(int position = 0; position < doorPile.getDiscardsSize(); position++)
+            updateDiscardMonsters(doorPile.getDiscardCardId(position), 1);
+
+    } // End of constructor method.
+
+    //----------------------------------------------------
+    //            METHOD(S)
+    //----------------------------------------------------
+
+    //------------------------------------------
+    //     ANSWERING...
+    //------------------------------------------
+
+    /**
+     * This method gets the chance a player runs away from a monster (their Die roll, minus 1 with a chicken on their head, must reach their
+     * run away target, see Player.getRunAwayTarget).
+     * @param playerTurnNumber The player's turn number.
+     * @return The chance of running away, between 0 and 1.
+     */
+    public double getEscapeChance(int playerTurnNumber) {
+
+        Player player = players[playerTurnNumber - 1];
+        int runAwayTarget = Math.max(MIN_RUN_AWAY_TARGET, Math.min(MAX_RUN_AWAY_TARGET, player.getRunAwayTarget()));
+
+        return ESCAPE_CHANCES[player.getDie().checkIf_ChickenOnYourHead() ? 1 : 0][runAwayTarget - MIN_RUN_AWAY_TARGET];
+
+    } // End of getEscapeChance method.
+
+    /**
+     * This method gets the highest combat strength a player can reach in a fight: their level, their combat bonus, and every one shot
+     * treasure in their hand.
+     * @param playerTurnNumber The player's turn number.
+     * @return The player's highest combat strength.
+     */
+    public int getMaxCombatStrength(int playerTurnNumber) {
+        Player player = players[playerTurnNumber - 1];
+        return player.getCombatStrength() + oneShotBonusesInHand[playerTurnNumber];
+    }
+
+    /**
+     * This method gets how many levels the player's rivals can add to a monster the player fights, by playing every monster enhancer they hold.
+     * @param playerTurnNumber The player's turn number.
+     * @return The level enhancement of the monster enhancers in the rivals' hands.
+     */
+    public int getRivalEnhancerBonus(int playerTurnNumber) {
+        return totalEnhancerBonusInHands - enhancerBonusesInHand[playerTurnNumber];
+    }
+
+    /**
+     * This method checks to see if a player can beat a monster when they fight it with everything they have (a fight is won with a combat
+     * strength higher than the monster's level).
+     * @param playerTurnNumber The player's turn number.
+     * @param monster The monster (its level already includes the enhancers played on it so far).
+     * @param rivalsEnhanceMonster True to count every monster enhancer the rivals hold as played on the monster, false to take it as it is.
+     * @return True if the player can beat the monster, false if they can't.
+     */
+    public boolean checkIf_CanWin(int playerTurnNumber, MonsterCard monster, boolean rivalsEnhanceMonster) {
+
+        int monsterLevel = monster.getLevel() + (rivalsEnhanceMonster ? getRivalEnhancerBonus(playerTurnNumber) : 0);
+
+        return getMaxCombatStrength(playerTurnNumber) > monsterLevel;
+
+    } // End of checkIf_CanWin method.
+
+    /**
+     * This method checks to see if the fighter of a combat in progress can beat its monsters: their side's strength so far, plus every one
+     * shot treasure in the fighter's hand, against the monsters' strength so far.
+     * @param combat The combat.
+     * @param rivalsEnhanceMonsters True to count every monster enhancer held by the players on neither side as played on the monsters, false
+     *                              to take them as they are.
+     * @return True if the fighter can beat the monsters, false if they can't (or there are no monsters left).
+     */
+    public boolean checkIf_CanWin(Combat combat, boolean rivalsEnhanceMonsters) {
+
+        int fighterTurnNumber = combat.getFighter().getPlayerTurnNumber();
+        int monsterStrength = combat.getMonsterStrength();
+
+        if(rivalsEnhanceMonsters) {
+            monsterStrength += getRivalEnhancerBonus(fighterTurnNumber);
+
+            if(combat.getHelper() != null)
+                monsterStrength -= enhancerBonusesInHand[combat.getHelper().getPlayerTurnNumber()];
+        }
+
+        return combat.getNumberOfMonsters() > 0 && combat.getFighterStrength() + oneShotBonusesInHand[fighterTurnNumber] > monsterStrength;
+
+    } // End of checkIf_CanWin method.
+
+    /**
+     * This method gets the chance a player keeps their level when a monster comes: they either beat it, or run away from it (a player at
+     * level 1 can't lose a level).
+     * @param playerTurnNumber The player's turn number.
+     * @param monster The monster (its level already includes the enhancers played on it so far).
+     * @param rivalsEnhanceMonster True to count every monster enhancer the rivals hold as played on the monster, false to take it as it is.
+     * @return The chance of keeping their level, between 0 and 1.
+     */
+    public double getKeepLevelChance(int playerTurnNumber, MonsterCard monster, boolean rivalsEnhanceMonster) {
+
+        if(players[playerTurnNumber - 1].getLevel() == 1 || checkIf_CanWin(playerTurnNumber, monster, rivalsEnhanceMonster))
+            return 1;
+
+        return getEscapeChance(playerTurnNumber);
+
+    } // End of getKeepLevelChance method.
+
+    /**
+     * This method gets the chance the next door card is a monster. Only the order of the door pile is unknown, so the chance comes from the
+     * monsters it holds (or from the monsters in the discards, if the pile has run dry and they are about to be shuffled back in).
+     * @return The chance the next door card is a monster, between 0 and 1.
+     */
+    public double getNextDoorMonsterChance() {
+
+        if(doorPile.getPileSize() == 0)
+            return (doorPile.getDiscardsSize() == 0) ? 0 : (double) numberOfDiscardMonsters / doorPile.getDiscardsSize();
+
+        return (double) numberOfPileMonsters / doorPile.getPileSize();
+
+    } // End of getNextDoorMonsterChance method.
+
+    /**
+     * This method gets the chance a player beats the next monster that comes out of the door pile, with everything they have, if the next
+     * door card is a monster.
+     * @param playerTurnNumber The player's turn number.
+     * @return The chance of beating the next monster, between 0 and 1 (1 if there are no monsters left to draw).
+     */
+    public double getNextMonsterWinChance(int playerTurnNumber) {
+
+        int strength = Math.max(0, Math.min(MAX_MONSTER_LEVEL + 1, getMaxCombatStrength(playerTurnNumber)));
+
+        if(doorPile.getPileSize() == 0) {
+            if(numberOfDiscardMonsters == 0)
+                return 1;
+
+            // The discards are about to become the pile, which is rare enough to count them instead.
+            int beaten = 0;
+
+            for(int level = 0; level < strength; level++)
+                beaten += discardMonstersByLevel[level];
+
+            return (double) beaten / numberOfDiscardMonsters;
+        }
+
+        if(numberOfPileMonsters == 0)
+            return 1;
+
+        return (double) pileMonstersBelowLevel[strength] / numberOfPileMonsters;
+
+    } // End of getNextMonsterWinChance method.
+
+    //------------------------------------------
+    //     KEEPING UP
+    //     WITH THE GAME...
+    //------------------------------------------
+
+    /**
+     * This method updates the odds with a change made to the game, and passes the event on.
+     * @param type The event's type.
+     * @param playerTurnNumber The turn number of the player involved, or 0 if no player is.
+     * @param value1 The event's first value.
+     * @param value2 The event's second value.
+     */
+    @Override
+    public void publish(GameEventType type, int playerTurnNumber, int value1, int value2) {
+
+        next.publish(type, playerTurnNumber, value1, value2);
+
+        switch(type) {
+            case CARD_ADDED_TO_HAND:
+                updateHandBonuses(playerTurnNumber, value1, 1);
+                break;
+            case CARD_REMOVED_FROM_HAND:
+                updateHandBonuses(playerTurnNumber, value1, -1);
+                break;
+            case CARD_DRAWN:
+                if(value2 == PileType.DOOR.ordinal())
+                    updatePileMonsters(value1, -1);
+                break;
+            case CARD_DISCARDED:
+                if(value2 == PileType.DOOR.ordinal())
+                    updateDiscardMonsters(value1, 1);
+                break;
+            case CARD_TAKEN_FROM_DISCARDS:
+                if(value2 == PileType.DOOR.ordinal())
+                    updateDiscardMonsters(value1, -1);
+                break;
+            case PILE_RESHUFFLED:
+                if(value1 == PileType.DOOR.ordinal())
+                    returnDiscardMonstersToPile();
+                break;
+            default:
+                break;
+
+        } // End of switch statement.
+
+    } // End of publish method.
+
+    /**
+     * This utility method updates a player's hand bonuses with a card added to (or removed from) their hand.
+     * @param playerTurnNumber The player's turn number.
+     * @param cardId The card's id.
+     * @param amount 1 if the card was added, -1 if it was removed.
+     */
+    private void updateHandBonuses(int playerTurnNumber, int cardId, int amount) {
+
+        Card card = CardCatalog.getCardDefinition(cardId);
+
+        if(card instanceof OneShotTreasureCard) {
+            oneShotBonusesInHand[playerTurnNumber] += amount * ((OneShotTreasureCard) card).getCombatBonus();
+        }
+        else if(card instanceof MonsterEnhancerCard) {
+            int levelEnhancement = amount * ((MonsterEnhancerCard) card).getLevelEnhancementValue();
+            enhancerBonusesInHand[playerTurnNumber] += levelEnhancement;
+            totalEnhancerBonusInHands += levelEnhancement;
+        }
+
+    } // End of updateHandBonuses utility method.
+
+    /**
+     * This utility method updates the monster counts of the door pile with a card drawn from (or placed in) it.
+     * @param cardId The card's id.
+     * @param amount 1 if the card was placed in the pile, -1 if it was drawn.
+     */
+    private void updatePileMonsters(int cardId, int amount) {
+
+        Card card = CardCatalog.getCardDefinition(cardId);
+
+        if(!(card instanceof MonsterCard))
+            return;
+
+        int monsterLevel = ((MonsterCard) card).getLevel();
+
+        pileMonstersByLevel[monsterLevel] += amount;
+        numberOfPileMonsters += amount;
+
+        for(int level = monsterLevel + 1; level < pileMonstersBelowLevel.length; level++)
+            pileMonstersBelowLevel[level] += amount;
+
+    } // End of updatePileMonsters utility method.
+
+    /**
+     * This utility method updates the monster counts of the door discards with a card discarded (or taken out of the discards).
+     * @param cardId The card's id.
+     * @param amount 1 if the card was discarded, -1 if it was taken out of the discards.
+     */
+    private void updateDiscardMonsters(int cardId, int amount) {
+
+        Card card = CardCatalog.getCardDefinition(cardId);
+
+        if(card instanceof MonsterCard) {
+            discardMonstersByLevel[((MonsterCard) card).getLevel()] += amount;
+            numberOfDiscardMonsters += amount;
+        }
+
+    } // End of updateDiscardMonsters utility method.
+
+    /**
+     * This utility method moves the monster counts of the door discards to the door pile, once the discards are shuffled back into it.
+     */
+    private void returnDiscardMonstersToPile() {
+
+        int monstersBelowLevel = 0;
+
+        for(int level = 0; level <= MAX_MONSTER_LEVEL; level++) {
+            pileMonstersBelowLevel[level] = monstersBelowLevel;
+            pileMonstersByLevel[level] += discardMonstersByLevel[level];
+            monstersBelowLevel += pileMonstersByLevel[level];
+            discardMonstersByLevel[level] = 0;
+        }
+
+        pileMonstersBelowLevel[MAX_MONSTER_LEVEL + 1] = monstersBelowLevel;
+        numberOfPileMonsters += numberOfDiscardMonsters;
+        numberOfDiscardMonsters = 0;
+
+    } // End of returnDiscardMonstersToPile utility method.
+
+    //------------------------------------------
+    //     TABLES...
+    //------------------------------------------
+
+    /**
+     * This utility method computes the chance of running away for every run away target, with and without a chicken on the player's head, by
+     * counting the faces of the Die that escape.
+     * @return The table of chances (see ESCAPE_CHANCES).
+     */
+    private static double[][] createEscapeChances() {
+
+        double[][] escapeChances = new double[2][MAX_RUN_AWAY_TARGET - MIN_RUN_AWAY_TARGET + 1];
+
+        for(int chicken = 0; chicken <= 1; chicken++) {
+            for(int runAwayTarget = MIN_RUN_AWAY_TARGET; runAwayTarget <= MAX_RUN_AWAY_TARGET; runAwayTarget++) {
+                int escapingFaces = 0;
+
+                for(int face = 1; face <= DIE_SIDES; face++) {
+                    if(face - chicken >= runAwayTarget)
+                        escapingFaces++;
+                }
+
+                escapeChances[chicken][runAwayTarget - MIN_RUN_AWAY_TARGET] = (double) escapingFaces / DIE_SIDES;
+            }
+        }
+
+        return escapeChances;
+
+    } // End of createEscapeChances utility method.
+
+    /**
+     * This utility method finds the highest level of a monster in the catalog.
+     * @return The highest monster level.
+     */
+    private static int findMaxMonsterLevel() {
+
+        int maxLevel = 0;
+
+        for(int cardId = 0; cardId < CardCatalog.getDoorCardCount(); cardId++) {
+            Card card = CardCatalog.getCardDefinition(cardId);
+
+            if(card instanceof MonsterCard)
+                maxLevel = Math.max(maxLevel, ((MonsterCard) card).getLevel());
+        }
+
+        return maxLevel;
+
+    } // End of findMaxMonsterLevel utility method.
+
+} // End of CombatOddsCalculator class.
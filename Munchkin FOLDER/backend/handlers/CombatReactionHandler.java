@@ -0,0 +1,248 @@
+package handlers;
+
+import basic_game_components.Card;
+import basic_game_components.CardKind;
+import basic_game_components.Game;
+import basic_game_components.player_stuff.Player;
+import door_cards.MonsterCard;
+import door_cards.MonsterEnhancerCard;
+import treasure_cards.HelperCard;
+import treasure_cards.ItemCard;
+import treasure_cards.OneShotTreasureCard;
+
+import java.util.List;
+
+/**
+ * This class handles the cards any player can play during a combat, whether or not it is their turn: "Illusion" and "Out To Lunch" (which
+ * change or remove the monsters), "Wandering Monster" (which adds one), monster enhancers, "Cheat!", one shot treasures and the fighter's
+ * "Hireling" (which change the strength of a side), and curses.
+ *
+ * IMPORTANT NOTE: Reactions played at the same time are applied in rule order (see getRuleOrder): first the cards that decide which monsters
+ * are fought, then the ones that make them stronger or weaker, then the bonuses of each side, and curses last. A reaction's card (and its
+ * second card, for the reactions that need one) is out of the player's hand from the moment it is chosen until it is applied.
+ */
+public final class CombatReactionHandler {
+
+    //----------------------------------------------------
+    //            INSTANCE VARIABLES
+    //----------------------------------------------------
+
+    // The rule order of each kind of reaction (the lowest is applied first).
+    public static final int CHANGE_MONSTERS = 0;
+    public static final int ADD_MONSTER = 1;
+    public static final int ENHANCE_MONSTER = 2;
+    public static final int COMBAT_BONUS = 3;
+    public static final int CURSE = 4;
+    // The rule order of a card that can't be played during a combat.
+    public static final int NOT_A_REACTION = -1;
+
+    // The "other door" cards played during a combat.
+    public static final String ILLUSION = "Illusion";
+    public static final String OUT_TO_LUNCH = "Out To Lunch";
+    public static final String WANDERING_MONSTER = "Wandering Monster";
+    public static final String CHEAT = "Cheat!";
+
+    // The argument of a one shot treasure played for the monsters (0 plays it for the fighter).
+    public static final int FOR_THE_MONSTERS = 1;
+
+    //----------------------------------------------------
+    //            CONSTRUCTOR(S)
+    //----------------------------------------------------
+
+    /**
+     * This method isn't used, the class only holds constants and static methods.
+     */
+    private CombatReactionHandler() {
+    }
+
+    //----------------------------------------------------
+    //            METHOD(S)
+    //----------------------------------------------------
+
+    /**
+     * This method gets the rule order of a card played during a combat.
+     * @param card The card.
+     * @return Its rule order (CHANGE_MONSTERS to CURSE), or NOT_A_REACTION if it can't be played during a combat.
+     */
+    public static int getRuleOrder(Card card) {
+
+        switch(card.getKind()) {
+            case MONSTER_ENHANCER:
+                return ENHANCE_MONSTER;
+            case ONE_SHOT_TREASURE:
+            case HELPER:
+                return COMBAT_BONUS;
+            case CURSE:
+                return CURSE;
+            case OTHER_DOOR:
+                break;
+            default:
+                return NOT_A_REACTION;
+
+        } // End of switch statement.
+
+        switch(card.getName()) {
+            case ILLUSION:
+            case OUT_TO_LUNCH:
+                return CHANGE_MONSTERS;
+            case WANDERING_MONSTER:
+                return ADD_MONSTER;
+            case CHEAT:
+                return COMBAT_BONUS;
+            default:
+                return NOT_A_REACTION;
+
+        } // End of switch statement.
+
+    } // End of getRuleOrder method.
+
+    /**
+     * This method checks to see if a card is played along with a second card from the same hand ("Illusion" and "Wandering Monster" with a
+     * monster, "Cheat!" with an item).
+     * @param card The card.
+     * @return True if it needs a second card, false if it doesn't.
+     */
+    public static boolean checkIf_NeedsSecondCard(Card card) {
+        return card.getKind() == CardKind.OTHER_DOOR && !card.getName().equals(OUT_TO_LUNCH);
+    }
+
+    /**
+     * This method checks to see if a player can play a card during a combat.
+     * @param combat The combat.
+     * @param player The player reacting (the fighter or anyone else).
+     * @param card The card.
+     * @param secondCard The card played along with it (see checkIf_NeedsSecondCard), or null if there is none.
+     * @param argument The reaction's argument: the monster number for a monster enhancer (0 for the first monster), FOR_THE_MONSTERS or 0 for
+     *                 a one shot treasure, the target's player turn number for a curse, and unused (0) for the rest.
+     * @param numberOfPlayers The number of players in the game.
+     * @return True if the card can be played, false if it can't.
+     */
+    public static boolean checkIf_CanReact(Combat combat, Player player, Card card, Card secondCard, int argument, int numberOfPlayers) {
+
+        int ruleOrder = getRuleOrder(card);
+
+        if(ruleOrder == NOT_A_REACTION || checkIf_NeedsSecondCard(card) != (secondCard != null))
+            return false;
+
+        switch(ruleOrder) {
+            case CHANGE_MONSTERS:
+            case ADD_MONSTER:
+                return secondCard == null || secondCard instanceof MonsterCard;
+            case ENHANCE_MONSTER:
+                return argument >= 0 && argument <= Combat.MAX_MONSTERS;
+            case COMBAT_BONUS:
+                if(card.getName().equals(CHEAT))
+                    return player == combat.getFighter() && secondCard instanceof ItemCard
+                            && player.getInPlayCards().checkIf_ItemCanBeEquipped((ItemCard) secondCard);
+
+                if(card instanceof HelperCard)
+                    return player == combat.getFighter() && combat.getHireling() == null;
+
+                return argument == 0 || (argument == FOR_THE_MONSTERS && ((OneShotTreasureCard) card).checkIfEitherSidePlayableStatus());
+            case CURSE:
+                return argument >= 1 && argument <= numberOfPlayers;
+            default:
+                return false;
+
+        } // End of switch statement.
+
+    } // End of checkIf_CanReact method.
+
+    /**
+     * This method applies a reaction to a combat (see checkIf_CanReact). The cards are kept with the combat until it is resolved (a monster
+     * played along with a card fights), except curses, which are discarded once applied, a "Hireling", which the fighter puts in play and
+     * keeps until it is sacrificed (see Combat.resolve), and the item played along with "Cheat!", which the fighter equips whether or not they
+     * meet its "usable by" requirement, and keeps in play.
+     * @param game The game.
+     * @param combat The combat.
+     * @param player The player reacting.
+     * @param card The card.
+     * @param secondCard The card played along with it, or null if there is none.
+     * @param argument The reaction's argument (see checkIf_CanReact).
+     * @param curseChooser Makes the players' choices for curses like "Curse! Income Tax".
+     * @return True if the reaction was applied, false if the combat no longer allows it (ex: its monster left), in which case nothing changed.
+     */
+    public static boolean applyReaction(Game game, Combat combat, Player player, Card card, Card secondCard, int argument,
+                                        CurseChooser curseChooser) {
+
+        switch(getRuleOrder(card)) {
+            case CHANGE_MONSTERS:
+                if(combat.getNumberOfMonsters() == 0)
+                    return false;
+
+                if(card.getName().equals(OUT_TO_LUNCH)) {
+                    // The monsters go out to lunch: the fighter takes the treasures, but no level.
+                    while(combat.getNumberOfMonsters() > 0)
+                        combat.removeMonster(combat.getNumberOfMonsters());
+
+                    combat.addTreasuresWithoutFight(Combat.OUT_TO_LUNCH_TREASURES);
+                }
+                else {
+                    // The first monster was an illusion: the monster played along with the card takes its place.
+                    combat.removeMonster(1);
+                    combat.addMonster((MonsterCard) secondCard);
+                    secondCard = null;
+                }
+                break;
+            case ADD_MONSTER:
+                if(combat.getNumberOfMonsters() == 0 || !combat.addMonster((MonsterCard) secondCard))
+                    return false;
+
+                secondCard = null;
+                break;
+            case ENHANCE_MONSTER: {
+                int monsterNumber = Math.max(1, argument);
+
+                if(monsterNumber > combat.getNumberOfMonsters())
+                    return false;
+
+                combat.enhanceMonster(monsterNumber, (MonsterEnhancerCard) card);
+                return true;
+            }
+            case COMBAT_BONUS:
+                if(combat.getNumberOfMonsters() == 0)
+                    return false;
+
+                if(card instanceof HelperCard) {
+                    if(combat.getHireling() != null)
+                        return false;
+
+                    // The hireling is put in play, so it fights along with the fighter in the combats that follow too.
+                    player.getInPlayCards().addCardToInPlayCards(card);
+                    return combat.addHireling((HelperCard) card);
+                }
+
+                if(card.getName().equals(CHEAT)) {
+                    // Only the slot is checked, so the item's bonuses count from now on, through the fighter's equipment totals.
+                    if(!player.getInPlayCards().equipItem((ItemCard) secondCard))
+                        return false;
+
+                    secondCard = null;
+                }
+                else if(argument == FOR_THE_MONSTERS)
+                    combat.modifyMonsterBonus(((OneShotTreasureCard) card).getCombatBonus());
+                else
+                    combat.modifyFighterBonus(((OneShotTreasureCard) card).getCombatBonus());
+                break;
+            case CURSE: {
+                List<Player> players = game.getPlayers();
+                game.getCurseCardHandler().handleCurse_PlayerChoice(card, players.get(argument - 1), players, game.getPileManager(),
+                        curseChooser);
+                game.getPileManager().discardDoorCard(card);
+                return true;
+            }
+            default:
+                return false;
+
+        } // End of switch statement.
+
+        combat.addPlayedCard(card);
+
+        if(secondCard != null)
+            combat.addPlayedCard(secondCard);
+
+        return true;
+
+    } // End of applyReaction method.
+
+} // End of CombatReactionHandler class.
@@ -0,0 +1,126 @@
+package handlers;
+
+import basic_game_components.player_stuff.Player;
+import door_cards.MonsterCard;
+import utilities.PileManager;
+
+/**
+ * This class builds and resolves a game's combats: it hands out a combat for each fight (the fighter, their helper if any, and the monsters
+ * and cards added as the fight goes on, see Combat), and takes it back once it is resolved.
+ *
+ * IMPORTANT NOTE: The combats are pooled: a resolved combat is kept and started over for the next fight (see Combat.reset), so once the pool
+ * has as many combats as the game ever has going on at once (a single one, for a game played by the rules), fighting allocates nothing. Like
+ * the game itself, a resolver is only used by one thread, and a resolved combat must not be used anymore by whoever resolved it.
+ */
+public class CombatResolver {
+
+    //----------------------------------------------------
+    //            INSTANCE VARIABLES
+    //----------------------------------------------------
+
+    // The default maximum number of idle combats kept in the pool.
+    public static final int DEFAULT_MAX_IDLE_COMBATS = 4;
+
+    // The idle combats (from index 0 to numberOfIdleCombats - 1).
+    private final Combat[] idleCombats;
+    private int numberOfIdleCombats;
+    // The number of combats created because the pool was empty.
+    private long createdCount;
+
+    //----------------------------------------------------
+    //            CONSTRUCTOR(S)
+    //----------------------------------------------------
+
+    /**
+     * This method constructs a CombatResolver object (empty: combats are created the first time they are needed).
+     * @param maxIdleCombats The maximum number of idle combats kept in the pool.
+     */
+    public CombatResolver(int maxIdleCombats) {
+        idleCombats = new Combat[maxIdleCombats];
+        numberOfIdleCombats = 0;
+        createdCount = 0;
+    }
+
+    /**
+     * This method constructs a CombatResolver object that keeps up to DEFAULT_MAX_IDLE_COMBATS idle combats.
+     */
+    public CombatResolver() {
+        this(DEFAULT_MAX_IDLE_COMBATS);
+    }
+
+    //----------------------------------------------------
+    //            METHOD(S)
+    //----------------------------------------------------
+
+    /**
+     * This method starts a combat, from the pool (or a new one if the pool is empty).
+     * @param fighter The player fighting.
+     * @param monster The monster they face (already out of their hand or the door pile).
+     * @return The combat.
+     */
+    public Combat startCombat(Player fighter, MonsterCard monster) {
+
+        if(numberOfIdleCombats == 0) {
+            createdCount++;
+            return new Combat(fighter, monster);
+        }
+
+        numberOfIdleCombats--;
+        Combat combat = idleCombats[numberOfIdleCombats];
+        idleCombats[numberOfIdleCombats] = null;
+        combat.reset(fighter, monster);
+
+        return combat;
+
+    } // End of startCombat method.
+
+    /**
+     * This method starts a combat in which another player helps the fighter (see Combat.setHelper).
+     * @param fighter The player fighting.
+     * @param helper The player helping them.
+     * @param monster The monster they face (already out of their hand or the door pile).
+     * @return The combat.
+     */
+    public Combat startCombat(Player fighter, Player helper, MonsterCard monster) {
+
+        Combat combat = startCombat(fighter, monster);
+        combat.setHelper(helper);
+
+        return combat;
+
+    } // End of startCombat method.
+
+    /**
+     * This method resolves a combat (see Combat.resolve), and puts it back in the pool.
+     * @param combat The combat.
+     * @param pileManager The game's piles.
+     * @return The outcome (Combat.FIGHTER_WON, FIGHTER_RAN_AWAY or MONSTERS_LEFT).
+     */
+    public int resolve(Combat combat, PileManager pileManager) {
+
+        int outcome = combat.resolve(pileManager);
+
+        if(numberOfIdleCombats < idleCombats.length)
+            idleCombats[numberOfIdleCombats++] = combat;
+
+        return outcome;
+
+    } // End of resolve method.
+
+    /**
+     * This method gets the number of idle combats in the pool.
+     * @return The number of idle combats.
+     */
+    public int getIdleCount() {
+        return numberOfIdleCombats;
+    }
+
+    /**
+     * This method gets the number of combats created because the pool was empty.
+     * @return The number of combats created.
+     */
+    public long getCreatedCount() {
+        return createdCount;
+    }
+
+} // End of CombatResolver class.
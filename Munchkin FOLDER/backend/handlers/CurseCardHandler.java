@@ -1,238 +1,111 @@
 package handlers;
 
 import basic_game_components.Card;
-import basic_game_components.Die;
 import basic_game_components.player_stuff.Player;
-import basic_game_components.player_stuff.InPlayCards;
 
-import door_cards.ClassCard;
-import door_cards.RaceCard;
-import treasure_cards.ItemCard;
+import events.GameEventSink;
+import events.GameEventType;
+import utilities.PileManager;
 
 import java.util.List;
-import java.util.ArrayList;
 
+/**
+ * This class handles the effects of the curse cards in the game of Munchkin.
+ *
+ * IMPORTANT NOTE: The effects themselves are CurseEffect objects looked up by card id in a CurseEffectRegistry, so applying a curse compares
+ * no strings and prints nothing. Each curse returns a CurseResult, and the details of the outcome are in the handler's CurseContext (see
+ * getLastContext), which is reused for every curse. A CurseCardHandler is therefore not thread-safe: each game or worker thread uses its own.
+ */
 public class CurseCardHandler {
 
-    private List<Integer> bigItemLocationNumbers;
-
-
+    //----------------------------------------------------
+	//			INSTANCE VARIABLES
+	//----------------------------------------------------
 
-    public CurseCardHandler() {};
+    // The effect of every curse card, indexed by card id.
+    private CurseEffectRegistry registry;
+    // The context reused for every curse this handler applies.
+    private CurseContext context;
+    // Where the handler publishes the curses it applies.
+    private GameEventSink eventSink;
 
     //----------------------------------------------------
-	//			METHOD(S)
+	//			CONSTRUCTOR(S)
 	//----------------------------------------------------
 
-    public void handleCurse_NoPlayerChoice(String curseCardName, Player targetPlayer, List<Player> allPlayers, List<Card> doorDiscards) {
-
-        switch(curseCardName) {
-            case "Curse! Change Class":
-                changeClassCurse_Operation(targetPlayer, doorDiscards);
-                return;
-            case "Curse! Change Race":
-                changeRaceCurse_Operation(targetPlayer, doorDiscards);
-                return;
-            case "Curse! Change Sex":
-                changeSexCurse_Operation(targetPlayer);
-                return;
-            case "Curse! Chicken On Your Head":
-                chickenOnYourHeadCurse_Operation(targetPlayer);
-                return;
-            case "Curse! Duck Of Doom":
-                duckOfDoomCurse_Operation(targetPlayer);
-                return;
-            //case "Curse! Income Tax":                           PLAYER CHOICE
-            //    return;
-            //case "Curse! Lose A Big Item":                      PLAYER CHOICE
-            //    return;
-            case "Curse! Lose A Level":
-                LoseLevelCurse_Operation(targetPlayer)
-                return;
-            //case "Curse! Lose A Small Item":                    PLAYER CHOICE
-            //    return;
-            case "Curse! Lose The Armor You Are Wearing":
-                return;
-            case "Curse! Lose The Footgear You Are Wearing":
-                return;
-            case "Curse! Lose The Headgear You Are Wearing":
-                return;
-            //case "Curse! Lose Two Cards":                       PLAYER CHOICE
-            //    return;
-            case "Curse! Lose Your Class":
-                return;
-            case "Curse! Lose Your Race":
-                return;
-            case "Curse! Malign Mirror":
-                return;
-            case "Truly Obnoxious Curse!":
-                return;
-
-        } // End of switch statement.
-
-    } // End of handleCurse method.
-
-    //------------------------------------------
-    //     OPERATIONS FOR CURSES
-    //     THAT DON'T INVOLVE PLAYER CHOICE...
-    //------------------------------------------
-
     /**
-     * This utility method runs the operation of the "Curse! Change Class" card. It prints a brief description of the effect that card has in the specific
-     * scenario, which may vary (printing used for development and testing purposes).
-     * @param targetPlayer The player targeted by the curse.
-     * @param doorDiscards The door discard pile.
-     * @return A brief description of the effect that card has in the specific scenario, which may vary (used for future development purposes).
+     * This method constructs a CurseCardHandler object that applies the standard effects (see CurseEffects).
      */
-    private void changeClassCurse_Operation(Player targetPlayer, List<Card> doorDiscards) {
-
-        InPlayCards inPlayCards = targetPlayer.getInPlayCards();
-
-        int numberOfEquippedClasses = inPlayCards.getNumberOfEquippedClasses();
-
-        // If the player doesn't have a single class card, it has no effect.
-        if(numberOfEquippedClasses == 0)
-            System.out.println("No effect");
-
-        List<Card> inPlayCardsList = inPlayCards.getInPlayCardsList();
-        
-        // We can assume the player has at least one class card. Remove all that can be found in their in play cards.
-        for(int i = 0; i < inPlayCardsList.size(); i++) {
-            Card curCard = inPlayCardsList.get(i);
-            if(curCard instanceof RaceCard) {
-                inPlayCardsList.remove(i);
-                inPlayCards.decrementNumberOfEquippedRaces();
-            }
-
-        } // End of while loop.
-
-        // Try to find the first class card available for the replacement. We search from the last index to the first 
-        // (top to bottom in this implementation).
-        for(int i = doorDiscards.size() - 1; i <= 0; i--) {
-             Card curCard = doorDiscards.get(i);
-            if(curCard instanceof ClassCard) {
-                inPlayCards.addCardToInPlayCards(curCard);
-                System.out.println("All class cards removed and replaced with the first one found in the door discards");
-            }
-
-        } // End of for loop.
-
-        System.out.println("All class cards removed but no replacement found.");
-
-    } // End of changeClassCurse_Operation utility method.
+    public CurseCardHandler() {
+        this(CurseEffectRegistry.getStandardRegistry());
+    }
 
     /**
-     * This utility method runs the operation of the "Curse! Change Race" card. It prints a brief description of the effect that card has in the specific
-     * scenario, which may vary (printing used for development and testing purposes).
-     * @param targetPlayer The player targeted by the curse.
-     * @param doorDiscards The door discard pile.
-     * @return A brief description of the effect that card has in the specific scenario, which may vary (used for future development purposes).
+     * This method constructs a CurseCardHandler object that applies the effects of the given registry (ex: one with house rules registered).
+     * @param registry The effect of every curse card.
      */
-    private void changeRaceCurse_Operation(Player targetPlayer, List<Card> doorDiscards) {
-
-        InPlayCards inPlayCards = targetPlayer.getInPlayCards();
-
-        int numberOfEquippedRaces = inPlayCards.getNumberOfEquippedRaces();
-
-        // If the target player doesn't have a single race card, it has no effect.
-        if(numberOfEquippedRaces == 0)
-        System.out.println("No effect.");
-
-        List<Card> inPlayCardsList = inPlayCards.getInPlayCardsList();
-        
-        // We can assume the target player has at least one race card. Remove all that can be found in their in play cards.
-        for(int i = 0; i < inPlayCardsList.size(); i++) {
-            Card curCard = inPlayCardsList.get(i);
-            if(curCard instanceof RaceCard) {
-                inPlayCardsList.remove(i);
-                inPlayCards.decrementNumberOfEquippedRaces();
-            }
-
-        } // End of while loop.
-
-        // Try to find the first race card available for the replacement. We search from the last index to the first 
-        // (top to bottom in this implementation).
-        for(int i = doorDiscards.size() - 1; i <= 0; i--) {
-             Card curCard = doorDiscards.get(i);
-            if(curCard instanceof RaceCard) {
-                inPlayCards.addCardToInPlayCards(curCard);
-                System.out.println("All race cards removed and replaced with the first one found in the door discards.");
-            }
-
-        } // End of for loop.
-
-        System.out.println("All race cards removed but no replacement found.");
+    public CurseCardHandler(CurseEffectRegistry registry) {
+        this.registry = registry;
+        context = new CurseContext();
+        eventSink = GameEventSink.NONE;
+    }
 
-    } // End of changeRaceCurse_Operation utility method.
+    //----------------------------------------------------
+	//			METHOD(S)
+	//----------------------------------------------------
 
     /**
-     * This utility method runs the operation of the "Curse! Change Sex" card. It prints a brief description of the effect that card has in the specific
-     * scenario, which may vary (printing used for development and testing purposes).
-     * @param player The player targeted by the curse.
-     * @return A brief description of the effect that card has in the specific scenario, which may vary (used for future development purposes).
+     * This method sets where the handler publishes the curses it applies (a CURSE_APPLIED event with the curse's outcome).
+     * @param eventSink Where the handler publishes its events (GameEventSink.NONE to ignore them).
      */
-    private void changeSexCurse_Operation(Player targetPlayer) {
-
-        String prevSex = targetPlayer.getSex();
-        targetPlayer.changeSex();
-        String newSex = targetPlayer.getSex();
-
-        System.out.println("Player's sex changed from " + prevSex + " to " + newSex + ".");
-
-    } // End of changeSexCurse_Operation utility method.
+    public void setEventSink(GameEventSink eventSink) {
+        this.eventSink = eventSink;
+    }
 
     /**
-     * This utility method runs the operation of the "Curse! Chicken On Your Head" card. It prints a brief description of the effect that card has in the specific
-     * scenario, which may vary (printing used for development and testing purposes).
-     * @param player The player targeted by the curse.
-     * @return A brief description of the effect that card has in the specific scenario, which may vary (used for future development purposes).
+     * This method applies the effect of a curse card that doesn't involve any choice from the players. Curses that do ("Curse! Income Tax",
+     * "Curse! Lose A Big Item", "Curse! Lose A Small Item" and "Curse! Lose Two Cards") have no effect and return PLAYER_CHOICE_REQUIRED.
+     * @param curseCard The curse card.
+     * @param targetPlayer The player targeted by the curse.
+     * @param allPlayers All the players in the game.
+     * @param pileManager The game's piles (the door discards are searched by some curses, and removed cards are discarded to them).
+     * @return The outcome of the curse.
      */
-    private void chickenOnYourHeadCurse_Operation(Player targetPlayer) {
-        Die targetPlayerDie = targetPlayer.getDie();
-        targetPlayerDie.setChickenOnYourHead_TrueOrFalse(true);
-        System.out.println("Player now has a chicken on their head (-1 to all die rolls).");
+    public CurseResult handleCurse_NoPlayerChoice(Card curseCard, Player targetPlayer, List<Player> allPlayers, PileManager pileManager) {
+        return handleCurse_PlayerChoice(curseCard, targetPlayer, allPlayers, pileManager, null);
     }
 
     /**
-     * This utility method runs the operation of the "Curse! Duck Of Doom" card. It prints a brief description of the effect that card has in the specific
-     * scenario, which may vary (printing used for development and testing purposes).
-     * @param player The player targeted by the curse.
-     * @return A brief description of the effect that card has in the specific scenario, which may vary (used for future development purposes).
+     * This method applies the effect of any curse card, asking a CurseChooser to make the players' choices when the curse involves any.
+     * @param curseCard The curse card.
+     * @param targetPlayer The player targeted by the curse.
+     * @param allPlayers All the players in the game.
+     * @param pileManager The game's piles (the door discards are searched by some curses, and removed cards are discarded to them).
+     * @param chooser Makes the players' choices (null to only apply curses that don't involve any).
+     * @return The outcome of the curse.
      */
-    private void duckOfDoomCurse_Operation(Player player) {
+    public CurseResult handleCurse_PlayerChoice(Card curseCard, Player targetPlayer, List<Player> allPlayers, PileManager pileManager,
+            CurseChooser chooser) {
 
-        int playerLevel = player.getLevel();
+        CurseEffect effect = registry.getEffect(curseCard.getId());
 
-        if(playerLevel <= 2) {
-            player.setLevel(1);
-            System.out.println("Player's level was 2 or less, so it just got set to 1.");
-        }
+        context.reset(targetPlayer, allPlayers, pileManager, chooser);
 
-        player.modifyLevel(-2);
-        System.out.println("Player's level reduced by 2.");
+        CurseResult result = (effect == null) ? CurseResult.NO_EFFECT : effect.apply(context);
 
-    } // End of duckOfDoomCurse_Operation utility method. 
-
-    /**
-     * This utility method runs the operation of the "Curse! Lose A Level" card. It prints a brief description of the effect that card has in the specific
-     * scenario, which may vary (printing used for development and testing purposes).
-     * @param player
-     */
-    private void LoseLevelCurse_Operation(Player player) {
-        int playerLevel = player.getLevel();
+        eventSink.publish(GameEventType.CURSE_APPLIED, targetPlayer.getPlayerTurnNumber(), curseCard.getId(), result.ordinal());
 
-        if(playerLevel == 1) {
-            player.setLevel(1);
-            System.out.println("Player is already the lowest level, 1. No effect.");
-        }
+        return result;
 
-        player.modifyLevel(-1);
-        System.out.println("Player's level reduced by 1.");
+    } // End of handleCurse_PlayerChoice method.
 
-    } // End of LoseALevelCurse_Operation utility method.
-
-    private void LoseArmorCurse_Operation(Player player) {
-
-    } // End of LoseArmorCurse_Operation utility method.
+    /**
+     * This method gets the context of the last curse applied, which records the details of its outcome (how many levels and cards were lost,
+     * etc.). It is only valid until the next curse is applied.
+     * @return The context of the last curse applied.
+     */
+    public CurseContext getLastContext() {
+        return context;
+    }
 
-} // End of CurseCardHandler class.
\ No newline at end of file
+} // End of CurseCardHandler class.
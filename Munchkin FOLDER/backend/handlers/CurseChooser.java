@@ -0,0 +1,47 @@
+package handlers;
+
+import basic_game_components.player_stuff.Player;
+
+/**
+ * This interface makes the choices the players face when a curse involves player choice ("Curse! Income Tax", "Curse! Lose A Big Item",
+ * "Curse! Lose A Small Item" and "Curse! Lose Two Cards"). A user interface can ask the real players, while simulations and bots can use the
+ * DefaultCurseChooser.
+ *
+ * Every method returns a card location number (in the player's in play cards or hand), or 0 if there is nothing to choose.
+ */
+public interface CurseChooser {
+
+    /**
+     * This method chooses the item the player loses to "Curse! Lose A Big Item" or "Curse! Lose A Small Item".
+     * @param player The player targeted by the curse.
+     * @param big True if a big item must be chosen, false if a small one must be chosen.
+     * @return The in play card location number of the item, or 0 if the player has no item of that size.
+     */
+    int chooseItemToLose(Player player, boolean big);
+
+    /**
+     * This method chooses the item the target of "Curse! Income Tax" discards (its gold value is the tax every other player must pay).
+     * @param player The player targeted by the curse.
+     * @return The in play card location number of the item, or 0 if the player has no items.
+     */
+    int chooseItemForIncomeTax(Player player);
+
+    /**
+     * This method chooses the next item a player discards to pay the income tax. It is called until the tax is paid or 0 is returned, in which
+     * case the player loses a level instead (the items already discarded are not given back, so 0 should be returned right away by a player
+     * who can't or won't pay).
+     * @param player The player paying the tax.
+     * @param amountLeftToPay The gold value still to be paid.
+     * @return The in play card location number of the item, or 0 to stop paying.
+     */
+    int chooseItemToPayIncomeTax(Player player, int amountLeftToPay);
+
+    /**
+     * This method chooses the card a player discards from the hand of the target of "Curse! Lose Two Cards".
+     * @param chooser The player choosing (the target's neighbour).
+     * @param targetPlayer The player targeted by the curse.
+     * @return The hand card location number of the card, or 0 if the target's hand is empty.
+     */
+    int chooseCardToDiscardFromHand(Player chooser, Player targetPlayer);
+
+} // End of CurseChooser interface.
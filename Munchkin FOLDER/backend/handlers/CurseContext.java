@@ -0,0 +1,137 @@
+package handlers;
+
+import basic_game_components.player_stuff.Player;
+import utilities.PileManager;
+
+import java.util.List;
+
+/**
+ * This class holds everything a CurseEffect needs to apply a curse (the target player, all the players, the game's piles and, for curses
+ * involving player choice, a CurseChooser), and records the details of the outcome (how many levels and cards the target lost, how many
+ * other players lost a level).
+ *
+ * IMPORTANT NOTE: A single context is reused for every curse a CurseCardHandler applies (see reset), so applying a curse doesn't allocate
+ * anything. The details of the outcome are only valid until the next curse is applied.
+ */
+public class CurseContext {
+
+    //----------------------------------------------------
+    //            INSTANCE VARIABLES
+    //----------------------------------------------------
+
+    // The player targeted by the curse.
+    private Player targetPlayer;
+    // All the players in the game.
+    private List<Player> allPlayers;
+    // The game's piles (the door discards are searched by some curses, and removed cards are discarded to them).
+    private PileManager pileManager;
+    // Makes the players' choices, or null if the curse must be applied without any player choice.
+    private CurseChooser chooser;
+    // The number of levels the target player lost.
+    private int levelsLost;
+    // The number of cards the target player lost (from their hand or their in play cards).
+    private int cardsLost;
+    // The number of other players who lost a level (ex: for not paying the income tax).
+    private int otherPlayersWhoLostALevel;
+
+    //----------------------------------------------------
+    //            METHOD(S)
+    //----------------------------------------------------
+
+    /**
+     * This method prepares the context for a new curse, clearing the details of the previous outcome.
+     * @param targetPlayer The player targeted by the curse.
+     * @param allPlayers All the players in the game.
+     * @param pileManager The game's piles.
+     * @param chooser Makes the players' choices, or null if the curse must be applied without any player choice.
+     */
+    public void reset(Player targetPlayer, List<Player> allPlayers, PileManager pileManager, CurseChooser chooser) {
+        this.targetPlayer = targetPlayer;
+        this.allPlayers = allPlayers;
+        this.pileManager = pileManager;
+        this.chooser = chooser;
+        levelsLost = 0;
+        cardsLost = 0;
+        otherPlayersWhoLostALevel = 0;
+    }
+
+    /**
+     * This method gets the player targeted by the curse.
+     * @return The player targeted by the curse.
+     */
+    public Player getTargetPlayer() {
+        return targetPlayer;
+    }
+
+    /**
+     * This method gets all the players in the game.
+     * @return All the players in the game.
+     */
+    public List<Player> getAllPlayers() {
+        return allPlayers;
+    }
+
+    /**
+     * This method gets the game's piles.
+     * @return The game's piles.
+     */
+    public PileManager getPileManager() {
+        return pileManager;
+    }
+
+    /**
+     * This method gets what makes the players' choices.
+     * @return The CurseChooser, or null if the curse must be applied without any player choice.
+     */
+    public CurseChooser getChooser() {
+        return chooser;
+    }
+
+    /**
+     * This method gets the number of levels the target player lost to the curse.
+     * @return The number of levels lost.
+     */
+    public int getLevelsLost() {
+        return levelsLost;
+    }
+
+    /**
+     * This method gets the number of cards the target player lost to the curse (from their hand or their in play cards).
+     * @return The number of cards lost.
+     */
+    public int getCardsLost() {
+        return cardsLost;
+    }
+
+    /**
+     * This method gets the number of other players who lost a level to the curse (ex: for not paying the income tax).
+     * @return The number of other players who lost a level.
+     */
+    public int getOtherPlayersWhoLostALevel() {
+        return otherPlayersWhoLostALevel;
+    }
+
+    /**
+     * This method records that the target player lost levels (used by the effects).
+     * @param amount The number of levels lost.
+     */
+    public void recordLevelsLost(int amount) {
+        levelsLost += amount;
+    }
+
+    /**
+     * This method records that the target player lost cards (used by the effects).
+     * @param amount The number of cards lost.
+     */
+    public void recordCardsLost(int amount) {
+        cardsLost += amount;
+    }
+
+    /**
+     * This method records that another player lost a level (used by the effects).
+     */
+    public void recordOtherPlayerLostALevel() {
+        otherPlayersWhoLostALevel++;
+    }
+
+} // End of CurseContext class.
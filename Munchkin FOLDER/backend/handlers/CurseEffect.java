@@ -0,0 +1,19 @@
+package handlers;
+
+/**
+ * This interface represents the effect of a curse card. Effects are registered in a CurseEffectRegistry under the ids of the curse cards
+ * they belong to, so applying a curse is an array lookup followed by a single call.
+ *
+ * IMPORTANT NOTE: Effects must not keep any state of their own (the same effect object is shared by every game). Everything they need is
+ * in the CurseContext, and everything they report goes in the CurseContext or the returned CurseResult.
+ */
+public interface CurseEffect {
+
+    /**
+     * This method applies the curse.
+     * @param context The curse's context (target player, all players, piles and player choices).
+     * @return The outcome of the curse.
+     */
+    CurseResult apply(CurseContext context);
+
+} // End of CurseEffect interface.
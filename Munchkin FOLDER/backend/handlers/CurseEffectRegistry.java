@@ -0,0 +1,143 @@
+package handlers;
+
+import basic_game_components.Card;
+import basic_game_components.CardKind;
+import utilities.CardCatalog;
+
+/**
+ * This class maps every curse card to its CurseEffect, using the card's id (see CardCatalog) as the index of a plain array. New curse cards, or
+ * house rules for existing ones, are added by registering an effect instead of editing a switch statement.
+ *
+ * IMPORTANT NOTE: The standard registry (see getStandardRegistry) is shared by every game, so it is unmodifiable: registering an effect in it
+ * throws an UnsupportedOperationException. Use createStandardRegistry to get a copy that can be modified.
+ */
+public class CurseEffectRegistry {
+
+    // The standard registry, with the effects of CurseEffects registered for every curse card of the CardCatalog.
+    private static final CurseEffectRegistry STANDARD_REGISTRY = createStandardRegistry().makeUnmodifiable();
+
+    // The effect of every card in the CardCatalog, indexed by card id (null for cards that aren't curses, or curses without an effect).
+    private CurseEffect[] effectsById;
+    // Whether or not effects can still be registered (false for the standard registry).
+    private boolean isModifiable;
+
+    //----------------------------------------------------
+    //            CONSTRUCTOR(S)
+    //----------------------------------------------------
+
+    /**
+     * This method constructs an empty CurseEffectRegistry (no curse has an effect yet).
+     */
+    public CurseEffectRegistry() {
+        effectsById = new CurseEffect[CardCatalog.getCardCount()];
+        isModifiable = true;
+    }
+
+    //----------------------------------------------------
+    //            METHOD(S)
+    //----------------------------------------------------
+
+    /**
+     * This method gets the standard registry, shared by every game. It is unmodifiable (see createStandardRegistry for a copy that isn't).
+     * @return The standard registry.
+     */
+    public static CurseEffectRegistry getStandardRegistry() {
+        return STANDARD_REGISTRY;
+    }
+
+    /**
+     * This method creates a new registry with the standard effect (see CurseEffects) registered for every curse card of the CardCatalog.
+     * @return The new registry.
+     */
+    public static CurseEffectRegistry createStandardRegistry() {
+
+        CurseEffectRegistry registry = new CurseEffectRegistry();
+
+        registry.register("Curse! Change Class", CurseEffects::changeClass);
+        registry.register("Curse! Change Race", CurseEffects::changeRace);
+        registry.register("Curse! Change Sex", CurseEffects::changeSex);
+        registry.register("Curse! Chicken On Your Head", CurseEffects::chickenOnYourHead);
+        registry.register("Curse! Duck Of Doom", CurseEffects::duckOfDoom);
+        registry.register("Curse! Income Tax", CurseEffects::incomeTax);
+        registry.register("Curse! Lose A Big Item", CurseEffects::loseABigItem);
+        registry.register("Curse! Lose A Level", CurseEffects::loseALevel);
+        registry.register("Curse! Lose A Small Item", CurseEffects::loseASmallItem);
+        registry.register("Curse! Lose The Armor You Are Wearing", CurseEffects::loseTheArmor);
+        registry.register("Curse! Lose The Footgear You Are Wearing", CurseEffects::loseTheFootgear);
+        registry.register("Curse! Lose The Headgear You Are Wearing", CurseEffects::loseTheHeadgear);
+        registry.register("Curse! Lose Two Cards", CurseEffects::loseTwoCards);
+        registry.register("Curse! Lose Your Class", CurseEffects::loseYourClass);
+        registry.register("Curse! Lose Your Race", CurseEffects::loseYourRace);
+        registry.register("Curse! Malign Mirror", CurseEffects::malignMirror);
+        registry.register("Truly Obnoxious Curse!", CurseEffects::trulyObnoxious);
+
+        return registry;
+
+    } // End of createStandardRegistry method.
+
+    /**
+     * This method registers the effect of a curse card using its id. It replaces any effect already registered for it.
+     * @param cardId The curse card's id.
+     * @param effect The curse's effect.
+     * @throws UnsupportedOperationException If the registry is unmodifiable (see getStandardRegistry).
+     */
+    public void register(int cardId, CurseEffect effect) {
+        checkModifiable();
+        effectsById[cardId] = effect;
+    }
+
+    /**
+     * This method registers the effect of every curse card with a certain name (some curses, like "Curse! Lose A Level", have several copies).
+     * Names are only compared here, never when a curse is applied.
+     * @param curseCardName The curse card's name.
+     * @param effect The curse's effect.
+     * @throws UnsupportedOperationException If the registry is unmodifiable (see getStandardRegistry).
+     */
+    public void register(String curseCardName, CurseEffect effect) {
+
+        checkModifiable();
+
+        for(int id = 0; id < effectsById.length; id++) {
+            Card definition = CardCatalog.getCardDefinition(id);
+            if(definition.getKind() == CardKind.CURSE && definition.getName().equals(curseCardName))
+                effectsById[id] = effect;
+        }
+
+    } // End of register method.
+
+    /**
+     * This method gets the effect of a curse card using its id.
+     * @param cardId The curse card's id.
+     * @return The curse's effect, or null if none is registered.
+     */
+    public CurseEffect getEffect(int cardId) {
+        return effectsById[cardId];
+    }
+
+    /**
+     * This method checks to see if effects can still be registered.
+     * @return True if the registry can be modified, false if it is unmodifiable (like the standard registry).
+     */
+    public boolean checkIf_Modifiable() {
+        return isModifiable;
+    }
+
+    /**
+     * This utility method makes the registry unmodifiable, once its effects are registered.
+     * @return The registry.
+     */
+    private CurseEffectRegistry makeUnmodifiable() {
+        isModifiable = false;
+        return this;
+    }
+
+    /**
+     * This utility method makes sure effects can still be registered.
+     * @throws UnsupportedOperationException If the registry is unmodifiable.
+     */
+    private void checkModifiable() {
+        if(!isModifiable)
+            throw new UnsupportedOperationException("The standard curse effect registry is shared by every game, use createStandardRegistry.");
+    }
+
+} // End of CurseEffectRegistry class.
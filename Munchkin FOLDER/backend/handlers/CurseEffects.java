@@ -0,0 +1,557 @@
+package handlers;
+
+import basic_game_components.Card;
+import basic_game_components.CardKind;
+import basic_game_components.PileType;
+import basic_game_components.player_stuff.Hand;
+import basic_game_components.player_stuff.InPlayCards;
+import basic_game_components.player_stuff.Player;
+import treasure_cards.EquipmentSlot;
+import treasure_cards.ItemCard;
+import utilities.Deck;
+import utilities.PileManager;
+
+import java.util.List;
+
+/**
+ * This class holds the standard effects of the curse cards in the game of Munchkin, one static method per curse. The CurseEffectRegistry
+ * registers them as CurseEffect objects (method references) under the ids of their cards.
+ *
+ * IMPORTANT NOTE: Cards the target player loses are always discarded. The effects of the curses involving player choice ask the context's
+ * CurseChooser, and return PLAYER_CHOICE_REQUIRED without doing anything if there is none.
+ */
+public final class CurseEffects {
+
+    /**
+     * This method isn't used, the class only holds static methods.
+     */
+    private CurseEffects() {
+    }
+
+    //------------------------------------------
+    //     CURSES THAT DON'T INVOLVE
+    //     PLAYER CHOICE...
+    //------------------------------------------
+
+    /**
+     * This method applies "Curse! Change Class": all the target's class cards are discarded and replaced with the topmost class card of the
+     * door discards (if there is one).
+     * @param context The curse's context.
+     * @return NO_EFFECT if the target has no class, CLASS_REPLACED or CLASS_REMOVED otherwise.
+     */
+    public static CurseResult changeClass(CurseContext context) {
+
+        InPlayCards inPlayCards = context.getTargetPlayer().getInPlayCards();
+        PileManager pileManager = context.getPileManager();
+
+        // If the player doesn't have a single class card, it has no effect.
+        if(inPlayCards.getNumberOfEquippedClasses() == 0)
+            return CurseResult.NO_EFFECT;
+
+        // Find the replacement before discarding the player's own class cards, so they can't get them back.
+        Card replacementCard = takeTopmostDoorDiscard(pileManager, CardKind.CLASS);
+
+        discardAllInPlayCardsOfKind(context, CardKind.CLASS);
+
+        if(replacementCard != null) {
+            inPlayCards.addCardToInPlayCards(replacementCard);
+            inPlayCards.incrementNumberOfEquippedClasses();
+            return CurseResult.CLASS_REPLACED;
+        }
+
+        return CurseResult.CLASS_REMOVED;
+
+    } // End of changeClass method.
+
+    /**
+     * This method applies "Curse! Change Race": all the target's race cards are discarded and replaced with the topmost race card of the door
+     * discards (if there is one, otherwise the target becomes human).
+     * @param context The curse's context.
+     * @return NO_EFFECT if the target has no race, RACE_REPLACED or RACE_REMOVED otherwise.
+     */
+    public static CurseResult changeRace(CurseContext context) {
+
+        Player targetPlayer = context.getTargetPlayer();
+        InPlayCards inPlayCards = targetPlayer.getInPlayCards();
+        PileManager pileManager = context.getPileManager();
+
+        // If the target player doesn't have a single race card, it has no effect.
+        if(inPlayCards.getNumberOfEquippedRaces() == 0)
+            return CurseResult.NO_EFFECT;
+
+        // Find the replacement before discarding the player's own race cards, so they can't get them back.
+        Card replacementCard = takeTopmostDoorDiscard(pileManager, CardKind.RACE);
+
+        discardAllInPlayCardsOfKind(context, CardKind.RACE);
+
+        if(replacementCard != null) {
+            inPlayCards.addCardToInPlayCards(replacementCard);
+            inPlayCards.incrementNumberOfEquippedRaces();
+            inPlayCards.setIfPlayerIsHuman(false);
+
+            return CurseResult.RACE_REPLACED;
+        }
+
+        inPlayCards.setIfPlayerIsHuman(true);
+        return CurseResult.RACE_REMOVED;
+
+    } // End of changeRace method.
+
+    /**
+     * This method applies "Curse! Change Sex": the target's sex changes.
+     * @param context The curse's context.
+     * @return SEX_CHANGED.
+     */
+    public static CurseResult changeSex(CurseContext context) {
+        context.getTargetPlayer().changeSex();
+        return CurseResult.SEX_CHANGED;
+    }
+
+    /**
+     * This method applies "Curse! Chicken On Your Head": -1 to all of the target's die rolls.
+     * @param context The curse's context.
+     * @return CHICKEN_ON_HEAD.
+     */
+    public static CurseResult chickenOnYourHead(CurseContext context) {
+        context.getTargetPlayer().getDie().setChickenOnYourHead_TrueOrFalse(true);
+        return CurseResult.CHICKEN_ON_HEAD;
+    }
+
+    /**
+     * This method applies "Curse! Duck Of Doom": the target loses 2 levels (but never goes below level 1).
+     * @param context The curse's context.
+     * @return NO_EFFECT if the target is level 1, LEVEL_LOST otherwise.
+     */
+    public static CurseResult duckOfDoom(CurseContext context) {
+        return loseLevels(context, 2);
+    }
+
+    /**
+     * This method applies "Curse! Lose A Level": the target loses a level (but never goes below level 1).
+     * @param context The curse's context.
+     * @return NO_EFFECT if the target is level 1, LEVEL_LOST otherwise.
+     */
+    public static CurseResult loseALevel(CurseContext context) {
+        return loseLevels(context, 1);
+    }
+
+    /**
+     * This method applies "Curse! Lose The Armor You Are Wearing".
+     * @param context The curse's context.
+     * @return NO_EFFECT if the target wears no armor, ITEM_LOST otherwise.
+     */
+    public static CurseResult loseTheArmor(CurseContext context) {
+        return loseEquippedItem(context, EquipmentSlot.ARMOR);
+    }
+
+    /**
+     * This method applies "Curse! Lose The Footgear You Are Wearing".
+     * @param context The curse's context.
+     * @return NO_EFFECT if the target wears no footgear, ITEM_LOST otherwise.
+     */
+    public static CurseResult loseTheFootgear(CurseContext context) {
+        return loseEquippedItem(context, EquipmentSlot.FEET);
+    }
+
+    /**
+     * This method applies "Curse! Lose The Headgear You Are Wearing".
+     * @param context The curse's context.
+     * @return NO_EFFECT if the target wears no headgear, ITEM_LOST otherwise.
+     */
+    public static CurseResult loseTheHeadgear(CurseContext context) {
+        return loseEquippedItem(context, EquipmentSlot.HEAD);
+    }
+
+    /**
+     * This method applies "Curse! Lose Your Class": the target discards a class card (the one played last if they have two). If they have no
+     * class, they lose a level instead.
+     * @param context The curse's context.
+     * @return CLASS_REMOVED, or LEVEL_LOST or NO_EFFECT if the target has no class.
+     */
+    public static CurseResult loseYourClass(CurseContext context) {
+
+        InPlayCards inPlayCards = context.getTargetPlayer().getInPlayCards();
+
+        if(inPlayCards.getNumberOfEquippedClasses() == 0)
+            return loseLevels(context, 1);
+
+        discardLastInPlayCardOfKind(context, CardKind.CLASS);
+        inPlayCards.decrementNumberOfEquippedClasses();
+
+        return CurseResult.CLASS_REMOVED;
+
+    } // End of loseYourClass method.
+
+    /**
+     * This method applies "Curse! Lose Your Race": the target discards a race card (the one played last if they have two), becoming human if
+     * it was their only one.
+     * @param context The curse's context.
+     * @return NO_EFFECT if the target has no race, RACE_REMOVED otherwise.
+     */
+    public static CurseResult loseYourRace(CurseContext context) {
+
+        Player targetPlayer = context.getTargetPlayer();
+        InPlayCards inPlayCards = targetPlayer.getInPlayCards();
+
+        if(inPlayCards.getNumberOfEquippedRaces() == 0)
+            return CurseResult.NO_EFFECT;
+
+        discardLastInPlayCardOfKind(context, CardKind.RACE);
+        inPlayCards.decrementNumberOfEquippedRaces();
+
+        if(inPlayCards.getNumberOfEquippedRaces() == 0)
+            inPlayCards.setIfPlayerIsHuman(true);
+
+        return CurseResult.RACE_REMOVED;
+
+    } // End of loseYourRace method.
+
+    /**
+     * This method applies "Truly Obnoxious Curse!": the target loses the equipped item that gives them the biggest combat bonus.
+     * @param context The curse's context.
+     * @return NO_EFFECT if the target has no equipped item with a bonus, ITEM_LOST otherwise.
+     */
+    public static CurseResult trulyObnoxious(CurseContext context) {
+
+        InPlayCards inPlayCards = context.getTargetPlayer().getInPlayCards();
+        int bestLocation = 0;
+        int bestBonus = 0;
+
+        for(int location = 1; location <= inPlayCards.getNumberOfCards(); location++) {
+            Card curCard = inPlayCards.getCard_UsingCardLocationNumber(location);
+
+            if(curCard instanceof ItemCard) {
+                ItemCard item = (ItemCard) curCard;
+                if(item.getCombatBonus() > bestBonus && inPlayCards.checkIf_ItemEquipped(item)) {
+                    bestLocation = location;
+                    bestBonus = item.getCombatBonus();
+                }
+            }
+
+        } // End of for loop.
+
+        if(bestLocation == 0)
+            return CurseResult.NO_EFFECT;
+
+        discardInPlayCard(context, bestLocation);
+        return CurseResult.ITEM_LOST;
+
+    } // End of trulyObnoxious method.
+
+    /**
+     * This method applies "Curse! Malign Mirror". Its effect only matters during the target's next combat, which isn't modelled yet.
+     * @param context The curse's context.
+     * @return UNSUPPORTED.
+     */
+    public static CurseResult malignMirror(CurseContext context) {
+        return CurseResult.UNSUPPORTED;
+    }
+
+    //------------------------------------------
+    //     CURSES THAT INVOLVE
+    //     PLAYER CHOICE...
+    //------------------------------------------
+
+    /**
+     * This method applies "Curse! Lose A Big Item": the target discards a big item of their choice.
+     * @param context The curse's context.
+     * @return NO_EFFECT if the target has no big item, ITEM_LOST otherwise (or PLAYER_CHOICE_REQUIRED if there is no chooser).
+     */
+    public static CurseResult loseABigItem(CurseContext context) {
+        return loseChosenItem(context, true);
+    }
+
+    /**
+     * This method applies "Curse! Lose A Small Item": the target discards a small item of their choice.
+     * @param context The curse's context.
+     * @return NO_EFFECT if the target has no small item, ITEM_LOST otherwise (or PLAYER_CHOICE_REQUIRED if there is no chooser).
+     */
+    public static CurseResult loseASmallItem(CurseContext context) {
+        return loseChosenItem(context, false);
+    }
+
+    /**
+     * This method applies "Curse! Income Tax": the target discards an item of their choice, then every other player must discard items worth
+     * at least as much gold, or lose a level.
+     * @param context The curse's context.
+     * @return NO_EFFECT if the target has no items, INCOME_TAX_PAID otherwise (or PLAYER_CHOICE_REQUIRED if there is no chooser).
+     */
+    public static CurseResult incomeTax(CurseContext context) {
+
+        CurseChooser chooser = context.getChooser();
+
+        if(chooser == null)
+            return CurseResult.PLAYER_CHOICE_REQUIRED;
+
+        Player targetPlayer = context.getTargetPlayer();
+        int location = chooser.chooseItemForIncomeTax(targetPlayer);
+
+        if(!checkIf_ItemLocation(targetPlayer.getInPlayCards(), location))
+            return CurseResult.NO_EFFECT;
+
+        int tax = ((ItemCard) discardInPlayCard(context, location)).getGoldValue();
+        List<Player> allPlayers = context.getAllPlayers();
+
+        for(int i = 0; i < allPlayers.size(); i++) {
+            Player curPlayer = allPlayers.get(i);
+
+            if(curPlayer != targetPlayer && !payIncomeTax(context, curPlayer, tax) && curPlayer.getLevel() > 1) {
+                curPlayer.modifyLevel(-1);
+                context.recordOtherPlayerLostALevel();
+            }
+
+        } // End of for loop.
+
+        return CurseResult.INCOME_TAX_PAID;
+
+    } // End of incomeTax method.
+
+    /**
+     * This method applies "Curse! Lose Two Cards": the player on the target's left chooses a card from the target's hand and discards it, then
+     * the player on the target's right does the same.
+     * @param context The curse's context.
+     * @return NO_EFFECT if the target's hand is empty, CARDS_LOST otherwise (or PLAYER_CHOICE_REQUIRED if there is no chooser).
+     */
+    public static CurseResult loseTwoCards(CurseContext context) {
+
+        CurseChooser chooser = context.getChooser();
+
+        if(chooser == null)
+            return CurseResult.PLAYER_CHOICE_REQUIRED;
+
+        Player targetPlayer = context.getTargetPlayer();
+        Hand hand = targetPlayer.getHand();
+        List<Player> allPlayers = context.getAllPlayers();
+        int numberOfPlayers = allPlayers.size();
+        int targetIndex = allPlayers.indexOf(targetPlayer);
+
+        // The player on the left is the next one in turn order, the player on the right the previous one.
+        for(int offset = 1; offset >= -1; offset -= 2) {
+            Player chooserPlayer = allPlayers.get(Math.floorMod(targetIndex + offset, numberOfPlayers));
+            int location = chooser.chooseCardToDiscardFromHand(chooserPlayer, targetPlayer);
+
+            if(location < 1 || location > hand.getNumberOfCards())
+                continue;
+
+            discard(context.getPileManager(), hand.removeCard_UsingCardLocationNumber(location));
+            context.recordCardsLost(1);
+
+        } // End of for loop.
+
+        return context.getCardsLost() == 0 ? CurseResult.NO_EFFECT : CurseResult.CARDS_LOST;
+
+    } // End of loseTwoCards method.
+
+    //------------------------------------------
+    //     UTILITY METHODS...
+    //------------------------------------------
+
+    /**
+     * This utility method makes the target lose levels (but never go below level 1).
+     * @param context The curse's context.
+     * @param amount The number of levels lost.
+     * @return NO_EFFECT if the target is level 1, LEVEL_LOST otherwise.
+     */
+    private static CurseResult loseLevels(CurseContext context, int amount) {
+
+        Player targetPlayer = context.getTargetPlayer();
+        int levelsLost = Math.min(amount, targetPlayer.getLevel() - 1);
+
+        if(levelsLost <= 0)
+            return CurseResult.NO_EFFECT;
+
+        targetPlayer.modifyLevel(-levelsLost);
+        context.recordLevelsLost(levelsLost);
+
+        return CurseResult.LEVEL_LOST;
+
+    } // End of loseLevels utility method.
+
+    /**
+     * This utility method makes the target discard the item equipped in one of the single item slots (HEAD, ARMOR or FEET).
+     * @param context The curse's context.
+     * @param slot The slot.
+     * @return NO_EFFECT if the slot is free, ITEM_LOST otherwise.
+     */
+    private static CurseResult loseEquippedItem(CurseContext context, EquipmentSlot slot) {
+
+        InPlayCards inPlayCards = context.getTargetPlayer().getInPlayCards();
+        ItemCard item = inPlayCards.getEquippedItem_UsingSlot(slot);
+
+        if(item == null)
+            return CurseResult.NO_EFFECT;
+
+        discardInPlayCard(context, inPlayCards.searchForCard_ReturnCardLocationNumber(item));
+        return CurseResult.ITEM_LOST;
+
+    } // End of loseEquippedItem utility method.
+
+    /**
+     * This utility method makes the target discard a big or small item of their choice.
+     * @param context The curse's context.
+     * @param big True for a big item, false for a small one.
+     * @return NO_EFFECT if the target has no item of that size, ITEM_LOST otherwise (or PLAYER_CHOICE_REQUIRED if there is no chooser).
+     */
+    private static CurseResult loseChosenItem(CurseContext context, boolean big) {
+
+        CurseChooser chooser = context.getChooser();
+
+        if(chooser == null)
+            return CurseResult.PLAYER_CHOICE_REQUIRED;
+
+        Player targetPlayer = context.getTargetPlayer();
+        InPlayCards inPlayCards = targetPlayer.getInPlayCards();
+        int location = chooser.chooseItemToLose(targetPlayer, big);
+
+        // Ignore a choice that isn't an item of the right size.
+        if(!checkIf_ItemLocation(inPlayCards, location)
+                || ((ItemCard) inPlayCards.getCard_UsingCardLocationNumber(location)).checkIfItemIsBig() != big)
+            return CurseResult.NO_EFFECT;
+
+        discardInPlayCard(context, location);
+        return CurseResult.ITEM_LOST;
+
+    } // End of loseChosenItem utility method.
+
+    /**
+     * This utility method lets a player pay the income tax with items of their choice.
+     * @param context The curse's context.
+     * @param player The player paying the tax.
+     * @param tax The gold value to be paid.
+     * @return True if the tax was paid in full, false if the player stopped paying (they must lose a level).
+     */
+    private static boolean payIncomeTax(CurseContext context, Player player, int tax) {
+
+        InPlayCards inPlayCards = player.getInPlayCards();
+        int amountLeftToPay = tax;
+
+        while(amountLeftToPay > 0) {
+            int location = context.getChooser().chooseItemToPayIncomeTax(player, amountLeftToPay);
+
+            if(!checkIf_ItemLocation(inPlayCards, location))
+                return false;
+
+            ItemCard item = (ItemCard) inPlayCards.removeCard_UsingCardLocationNumber(location);
+            context.getPileManager().discardTreasureCard(item);
+            amountLeftToPay -= item.getGoldValue();
+
+        } // End of while loop.
+
+        return true;
+
+    } // End of payIncomeTax utility method.
+
+    /**
+     * This utility method checks to see if a chosen in play card location number holds an item.
+     * @param inPlayCards The player's in play cards.
+     * @param location The chosen card location number.
+     * @return True if the location holds an item, false if it doesn't (or is out of range, ex: 0 for no choice).
+     */
+    private static boolean checkIf_ItemLocation(InPlayCards inPlayCards, int location) {
+        return location >= 1 && location <= inPlayCards.getNumberOfCards()
+                && inPlayCards.getCard_UsingCardLocationNumber(location) instanceof ItemCard;
+    }
+
+    /**
+     * This utility method removes a card from the target's in play cards, discards it and records the loss.
+     * @param context The curse's context.
+     * @param location The card's location number in the target's in play cards.
+     * @return The card discarded.
+     */
+    private static Card discardInPlayCard(CurseContext context, int location) {
+
+        Card removedCard = context.getTargetPlayer().getInPlayCards().removeCard_UsingCardLocationNumber(location);
+        discard(context.getPileManager(), removedCard);
+        context.recordCardsLost(1);
+
+        return removedCard;
+
+    } // End of discardInPlayCard utility method.
+
+    /**
+     * This utility method discards every card of a certain kind from the target's in play cards (searching backwards, so removing a card
+     * doesn't shift the ones we haven't checked yet), updating the class or race count.
+     * @param context The curse's context.
+     * @param cardKind The kind of card (CLASS or RACE).
+     */
+    private static void discardAllInPlayCardsOfKind(CurseContext context, CardKind cardKind) {
+
+        Player targetPlayer = context.getTargetPlayer();
+        InPlayCards inPlayCards = targetPlayer.getInPlayCards();
+
+        for(int location = inPlayCards.getNumberOfCards(); location >= 1; location--) {
+            Card curCard = inPlayCards.getCard_UsingCardLocationNumber(location);
+
+            if(curCard.getKind() == cardKind) {
+                discardInPlayCard(context, location);
+
+                if(cardKind == CardKind.CLASS) {
+                    inPlayCards.decrementNumberOfEquippedClasses();
+                }
+                else {
+                    inPlayCards.decrementNumberOfEquippedRaces();
+                }
+            }
+
+        } // End of for loop.
+
+    } // End of discardAllInPlayCardsOfKind utility method.
+
+    /**
+     * This utility method discards the last played card of a certain kind from the target's in play cards. The class or race count is left to
+     * the caller.
+     * @param context The curse's context.
+     * @param cardKind The kind of card.
+     * @return The card discarded, or null if there was none.
+     */
+    private static Card discardLastInPlayCardOfKind(CurseContext context, CardKind cardKind) {
+
+        InPlayCards inPlayCards = context.getTargetPlayer().getInPlayCards();
+
+        for(int location = inPlayCards.getNumberOfCards(); location >= 1; location--) {
+            if(inPlayCards.getCard_UsingCardLocationNumber(location).getKind() == cardKind)
+                return discardInPlayCard(context, location);
+        }
+
+        return null;
+
+    } // End of discardLastInPlayCardOfKind utility method.
+
+    /**
+     * This utility method searches the door discards from the top down for the first card of a certain kind (ex: a class card), and takes it out
+     * of the discards.
+     * @param pileManager The game's piles.
+     * @param cardKind The kind of card searched for.
+     * @return The card taken out of the discards, or null if none was found.
+     */
+    private static Card takeTopmostDoorDiscard(PileManager pileManager, CardKind cardKind) {
+
+        Deck doorPile = pileManager.getDoorPile();
+
+        for(int i = doorPile.getDiscardsSize() - 1; i >= 0; i--) {
+            Card curCard = pileManager.getCard_UsingCatalogIndex(doorPile.getDiscardCardId(i));
+
+            if(curCard.getKind() == cardKind)
+                return pileManager.takeDoorDiscard(i);
+
+        } // End of for loop.
+
+        return null;
+
+    } // End of takeTopmostDoorDiscard utility method.
+
+    /**
+     * This utility method discards a card to the right discards (door or treasure).
+     * @param pileManager The game's piles.
+     * @param card The card discarded.
+     */
+    private static void discard(PileManager pileManager, Card card) {
+
+        if(card.getPile() == PileType.DOOR)
+            pileManager.discardDoorCard(card);
+        else
+            pileManager.discardTreasureCard(card);
+
+    } // End of discard utility method.
+
+} // End of CurseEffects class.
@@ -0,0 +1,55 @@
+package handlers;
+
+/**
+ * This enum lists the possible outcomes of a curse (see CurseEffect). Effects return one of these instead of printing a description, so
+ * resolving a curse involves no I/O and no allocation. The details (how many levels or cards were lost, etc.) are recorded in the CurseContext.
+ */
+public enum CurseResult {
+
+    NO_EFFECT("No effect."),
+    PLAYER_CHOICE_REQUIRED("The curse needs a player choice, but no CurseChooser was given. No effect."),
+    UNSUPPORTED("The curse's effect isn't supported yet. No effect."),
+    SEX_CHANGED("Player's sex changed."),
+    CHICKEN_ON_HEAD("Player now has a chicken on their head (-1 to all die rolls)."),
+    LEVEL_LOST("Player lost one or more levels."),
+    CLASS_REPLACED("Class cards removed and replaced with the first one found in the door discards."),
+    CLASS_REMOVED("Class cards removed."),
+    RACE_REPLACED("Race cards removed and replaced with the first one found in the door discards."),
+    RACE_REMOVED("Race cards removed."),
+    ITEM_LOST("Player lost an item."),
+    CARDS_LOST("Player lost cards from their hand."),
+    INCOME_TAX_PAID("Player discarded an item and every other player paid the tax or lost a level.");
+
+    // The outcomes, in ordinal order (values() creates a new array every time it is called).
+    private static final CurseResult[] RESULTS = values();
+
+    // A brief description of the outcome (used for development and testing purposes).
+    private final String description;
+
+    /**
+     * This method constructs a curse result.
+     * @param description A brief description of the outcome.
+     */
+    CurseResult(String description) {
+        this.description = description;
+    }
+
+    /**
+     * This method gets a brief description of the outcome (used for development and testing purposes, ex: printing it to the console).
+     * @return A brief description of the outcome.
+     */
+    public String getDescription() {
+        return description;
+    }
+
+    /**
+     * This method gets the outcome with a certain ordinal, without creating an array like values() does (ex: to describe a CURSE_APPLIED
+     * event).
+     * @param ordinal The outcome's ordinal.
+     * @return The outcome.
+     */
+    public static CurseResult fromOrdinal(int ordinal) {
+        return RESULTS[ordinal];
+    }
+
+} // End of CurseResult enum.
@@ -0,0 +1,120 @@
+package handlers;
+
+import basic_game_components.Card;
+import basic_game_components.player_stuff.InPlayCards;
+import basic_game_components.player_stuff.Player;
+import treasure_cards.ItemCard;
+
+/**
+ * This class makes simple, sensible curse choices without asking anyone (used by simulations and bots). Players always give up their
+ * cheapest items, only pay the income tax if they have a level to lose and their items are worth enough, and the target's neighbours discard
+ * the first card of their hand.
+ */
+public class DefaultCurseChooser implements CurseChooser {
+
+    /**
+     * This method chooses the player's cheapest item of the right size.
+     * @param player The player targeted by the curse.
+     * @param big True if a big item must be chosen, false if a small one must be chosen.
+     * @return The in play card location number of the item, or 0 if the player has no item of that size.
+     */
+    @Override
+    public int chooseItemToLose(Player player, boolean big) {
+
+        InPlayCards inPlayCards = player.getInPlayCards();
+        int cheapestLocation = 0;
+        int cheapestValue = Integer.MAX_VALUE;
+
+        for(int location = 1; location <= inPlayCards.getNumberOfCards(); location++) {
+            Card curCard = inPlayCards.getCard_UsingCardLocationNumber(location);
+
+            if(curCard instanceof ItemCard) {
+                ItemCard item = (ItemCard) curCard;
+                if(item.checkIfItemIsBig() == big && item.getGoldValue() < cheapestValue) {
+                    cheapestLocation = location;
+                    cheapestValue = item.getGoldValue();
+                }
+            }
+
+        } // End of for loop.
+
+        return cheapestLocation;
+
+    } // End of chooseItemToLose method.
+
+    /**
+     * This method chooses the player's cheapest item (big or small), which keeps the tax low for everyone.
+     * @param player The player targeted by the curse.
+     * @return The in play card location number of the item, or 0 if the player has no items.
+     */
+    @Override
+    public int chooseItemForIncomeTax(Player player) {
+        return findCheapestItem(player.getInPlayCards());
+    }
+
+    /**
+     * This method pays the tax with the player's cheapest items, as long as their items are worth enough to pay it in full. A level 1 player
+     * never pays, since they can't lose a level anyway.
+     * @param player The player paying the tax.
+     * @param amountLeftToPay The gold value still to be paid.
+     * @return The in play card location number of the item, or 0 if the player won't pay.
+     */
+    @Override
+    public int chooseItemToPayIncomeTax(Player player, int amountLeftToPay) {
+
+        if(player.getLevel() == 1)
+            return 0;
+
+        InPlayCards inPlayCards = player.getInPlayCards();
+        int totalValue = 0;
+
+        for(int location = 1; location <= inPlayCards.getNumberOfCards(); location++) {
+            Card curCard = inPlayCards.getCard_UsingCardLocationNumber(location);
+            if(curCard instanceof ItemCard)
+                totalValue += ((ItemCard) curCard).getGoldValue();
+        }
+
+        // Losing a level is better than losing every item for nothing.
+        if(totalValue < amountLeftToPay)
+            return 0;
+
+        return findCheapestItem(inPlayCards);
+
+    } // End of chooseItemToPayIncomeTax method.
+
+    /**
+     * This method discards the first card of the target's hand.
+     * @param chooser The player choosing (the target's neighbour).
+     * @param targetPlayer The player targeted by the curse.
+     * @return 1, or 0 if the target's hand is empty.
+     */
+    @Override
+    public int chooseCardToDiscardFromHand(Player chooser, Player targetPlayer) {
+        return targetPlayer.getHand().getNumberOfCards() > 0 ? 1 : 0;
+    }
+
+    /**
+     * This utility method finds the cheapest item in a player's in play cards.
+     * @param inPlayCards The player's in play cards.
+     * @return The in play card location number of the cheapest item, or 0 if there are no items.
+     */
+    private int findCheapestItem(InPlayCards inPlayCards) {
+
+        int cheapestLocation = 0;
+        int cheapestValue = Integer.MAX_VALUE;
+
+        for(int location = 1; location <= inPlayCards.getNumberOfCards(); location++) {
+            Card curCard = inPlayCards.getCard_UsingCardLocationNumber(location);
+
+            if(curCard instanceof ItemCard && ((ItemCard) curCard).getGoldValue() < cheapestValue) {
+                cheapestLocation = location;
+                cheapestValue = ((ItemCard) curCard).getGoldValue();
+            }
+
+        } // End of for loop.
+
+        return cheapestLocation;
+
+    } // End of findCheapestItem utility method.
+
+} // End of DefaultCurseChooser class.
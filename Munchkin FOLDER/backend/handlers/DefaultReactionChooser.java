@@ -0,0 +1,119 @@
+package handlers;
+
+import basic_game_components.Card;
+import basic_game_components.player_stuff.Hand;
+import basic_game_components.player_stuff.Player;
+import door_cards.MonsterEnhancerCard;
+import treasure_cards.HelperCard;
+import treasure_cards.OneShotTreasureCard;
+
+/**
+ * This class makes simple, sensible combat reactions without asking anyone (used by bots and the seats nobody plays). The fighter plays their
+ * strongest one shot treasure (or their "Hireling") while they are losing, and the other players make the monsters stronger while the
+ * fighter is winning (with their strongest monster enhancer, or else their strongest one shot treasure that can be played for the monsters).
+ * Nobody plays the cards that need a second card, or curses.
+ *
+ * IMPORTANT NOTE: Once the chooser has the game's odds (see setCombatOdds), nobody wastes a card on a fight it can't change: the fighter
+ * keeps their cards if they can't win even with every one shot treasure in their hand, and the others keep theirs if the fighter would
+ * still win after every one of them played every monster enhancer they hold (see CombatOddsCalculator.checkIf_CanWin).
+ */
+public class DefaultReactionChooser implements ReactionChooser {
+
+    //----------------------------------------------------
+    //            INSTANCE VARIABLES
+    //----------------------------------------------------
+
+    // The odds of the game the chooser reacts in, or null to react without them.
+    private CombatOddsCalculator combatOdds;
+
+    //----------------------------------------------------
+    //            METHOD(S)
+    //----------------------------------------------------
+
+    /**
+     * This method sets the odds the chooser weighs its reactions with. They must be the odds of the game it reacts in.
+     * @param combatOdds The game's odds, or null to react without them.
+     */
+    public void setCombatOdds(CombatOddsCalculator combatOdds) {
+        this.combatOdds = combatOdds;
+    }
+
+    /**
+     * This method chooses a card that helps the player's side, if their side is losing.
+     * @param combat The combat.
+     * @param player The player reacting (the fighter or anyone else).
+     * @return The hand card location number of the card, or 0 to pass.
+     */
+    @Override
+    public int chooseReaction(Combat combat, Player player) {
+
+        if(combat.getNumberOfMonsters() == 0)
+            return 0;
+
+        boolean isFighter = player == combat.getFighter();
+
+        if(isFighter == combat.checkIf_FighterWinning())
+            return 0;
+
+        // The fighter can't win whatever they play, or the rivals can't stop them whatever they play.
+        if(combatOdds != null && combatOdds.checkIf_CanWin(combat, !isFighter) != isFighter)
+            return 0;
+
+        Hand hand = player.getHand();
+        int bestLocation = 0;
+        int bestValue = 0;
+
+        for(int location = 1; location <= hand.getNumberOfCards(); location++) {
+            Card curCard = hand.getCard_UsingCardLocationNumber(location);
+            int value;
+
+            // Enhancers win ties with one shot treasures of the same bonus, since they also raise the treasures at stake.
+            if(curCard instanceof OneShotTreasureCard && (isFighter || ((OneShotTreasureCard) curCard).checkIfEitherSidePlayableStatus()))
+                value = 2 * ((OneShotTreasureCard) curCard).getCombatBonus();
+            else if(curCard instanceof HelperCard && isFighter && combat.getHireling() == null)
+                value = 2 * Combat.HIRELING_BONUS;
+            else if(curCard instanceof MonsterEnhancerCard && !isFighter)
+                value = 2 * ((MonsterEnhancerCard) curCard).getLevelEnhancementValue() + 1;
+            else
+                continue;
+
+            if(value > bestValue) {
+                bestLocation = location;
+                bestValue = value;
+            }
+
+        } // End of for loop.
+
+        return bestLocation;
+
+    } // End of chooseReaction method.
+
+    /**
+     * This method never chooses a second card (the default choices never need one).
+     * @param combat The combat.
+     * @param player The player reacting.
+     * @param cardLocationNumber The hand card location number of the reaction's card.
+     * @return 0.
+     */
+    @Override
+    public int chooseSecondCard(Combat combat, Player player, int cardLocationNumber) {
+        return 0;
+    }
+
+    /**
+     * This method plays one shot treasures for the player's side, and monster enhancers on the first monster.
+     * @param combat The combat.
+     * @param player The player reacting.
+     * @param cardLocationNumber The hand card location number of the reaction's card.
+     * @return FOR_THE_MONSTERS for a one shot treasure played by anyone but the fighter, 0 otherwise.
+     */
+    @Override
+    public int chooseArgument(Combat combat, Player player, int cardLocationNumber) {
+
+        Card card = player.getHand().getCard_UsingCardLocationNumber(cardLocationNumber);
+
+        return (card instanceof OneShotTreasureCard && player != combat.getFighter()) ? CombatReactionHandler.FOR_THE_MONSTERS : 0;
+
+    } // End of chooseArgument method.
+
+} // End of DefaultReactionChooser class.
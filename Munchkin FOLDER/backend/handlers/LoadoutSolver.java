@@ -0,0 +1,345 @@
+package handlers;
+
+import basic_game_components.Card;
+import basic_game_components.player_stuff.Hand;
+import basic_game_components.player_stuff.InPlayCards;
+import basic_game_components.player_stuff.Player;
+import treasure_cards.ItemCard;
+
+/**
+ * This class finds a player's best loadout: the combination of the items they have (in their hand or in play) that gives the most combat
+ * bonus, or the most of a weighted mix of combat and run away bonus, while fitting their slots (one headgear, one armor, one footgear, two
+ * hands of weapons and a single big item) and their "usable by" requirements.
+ *
+ * IMPORTANT NOTE: The search is a branch and bound over the items that compete for a slot, sorted by value, with the slots taken so far kept
+ * as a bitmask: a branch is dropped as soon as even every remaining item couldn't beat the best loadout found. Small items that don't take a
+ * slot never compete, so they are always chosen. A solver keeps its scratch arrays from one search to the next (nothing is allocated once it
+ * has seen its largest set of items), so each thread should use its own.
+ */
+public class LoadoutSolver {
+
+    //----------------------------------------------------
+    //            INSTANCE VARIABLES
+    //----------------------------------------------------
+
+    // The slots an item can take, as bits of the "slots taken" mask. A 1-handed weapon takes whichever hand is free.
+    private static final int HEAD = 1;
+    private static final int ARMOR = 1 << 1;
+    private static final int FEET = 1 << 2;
+    private static final int FIRST_HAND = 1 << 3;
+    private static final int SECOND_HAND = 1 << 4;
+    private static final int BOTH_HANDS = FIRST_HAND | SECOND_HAND;
+    private static final int BIG_ITEM = 1 << 5;
+
+    // The maximum number of items competing for a slot (the chosen ones are kept as the bits of a long). The CardCatalog has far fewer items
+    // that take a slot, so only a player holding made-up items could have more (see solve).
+    public static final int MAX_COMPETING_ITEMS = 64;
+
+    // The items competing for a slot, sorted by value (highest first), with the slots they take (other than a single hand), whether they
+    // take a single hand, and the sum of the values from each one to the last.
+    private ItemCard[] competingItems;
+    private int[] competingValues;
+    private int[] competingSlots;
+    private boolean[] competingOneHanded;
+    private int[] remainingValues;
+    private int numberOfCompetingItems;
+
+    // The best loadout found: the competing items chosen (bit i: the i-th competing item), and its value.
+    private long bestChoice;
+    private int bestValue;
+
+    // The chosen items, and their bonuses.
+    private ItemCard[] chosenItems;
+    private int numberOfChosenItems;
+    private int chosenCombatBonus;
+    private int chosenRunAwayBonus;
+
+    //----------------------------------------------------
+    //            CONSTRUCTOR(S)
+    //----------------------------------------------------
+
+    /**
+     * This method constructs a LoadoutSolver object.
+     */
+    public LoadoutSolver() {
+        competingItems = new ItemCard[16];
+        competingValues = new int[16];
+        competingSlots = new int[16];
+        competingOneHanded = new boolean[16];
+        remainingValues = new int[17];
+        chosenItems = new ItemCard[16];
+        numberOfChosenItems = 0;
+    }
+
+    //----------------------------------------------------
+    //            METHOD(S)
+    //----------------------------------------------------
+
+    /**
+     * This method finds the player's loadout with the most combat bonus.
+     * @param player The player.
+     * @return The combat bonus of the loadout (see getChosenItem for its items).
+     * @throws IllegalStateException If more than MAX_COMPETING_ITEMS of the player's items compete for a slot.
+     */
+    public int solveForCombat(Player player) {
+        return solve(player, 1, 0);
+    }
+
+    /**
+     * This method finds the player's best loadout, out of the items in their hand and in play (equipped or carried) they can use. Each item is
+     * worth its combat bonus times the combat weight, plus its run away bonus times the run away weight, and items worth nothing are left out.
+     * @param player The player.
+     * @param combatWeight What each point of combat bonus is worth.
+     * @param runAwayWeight What each point of run away bonus is worth.
+     * @return The value of the loadout (see getChosenItem for its items).
+     * @throws IllegalStateException If more than MAX_COMPETING_ITEMS of the player's items compete for a slot (leaving some out could miss
+     *         the best loadout).
+     */
+    public int solve(Player player, int combatWeight, int runAwayWeight) {
+
+        numberOfChosenItems = 0;
+        numberOfCompetingItems = 0;
+        chosenCombatBonus = 0;
+        chosenRunAwayBonus = 0;
+
+        int freeValue = 0;
+
+        Hand hand = player.getHand();
+
+        for(int location = 1; location <= hand.getNumberOfCards(); location++)
+            freeValue += addCandidate(player, hand.getCard_UsingCardLocationNumber(location), combatWeight, runAwayWeight);
+
+        InPlayCards inPlayCards = player.getInPlayCards();
+
+        for(int location = 1; location <= inPlayCards.getNumberOfCards(); location++)
+            freeValue += addCandidate(player, inPlayCards.getCard_UsingCardLocationNumber(location), combatWeight, runAwayWeight);
+
+        remainingValues[numberOfCompetingItems] = 0;
+
+        for(int i = numberOfCompetingItems - 1; i >= 0; i--)
+            remainingValues[i] = remainingValues[i + 1] + competingValues[i];
+
+        bestChoice = 0;
+        bestValue = 0;
+        search(0, 0, 0, 0);
+
+        for(int i = 0; i < numberOfCompetingItems; i++) {
+            if((bestChoice & (1L << i)) != 0)
+                choose(competingItems[i]);
+        }
+
+        return freeValue + bestValue;
+
+    } // End of solve method.
+
+    /**
+     * This method gets the number of items in the loadout found by the last search.
+     * @return The number of chosen items.
+     */
+    public int getNumberOfChosenItems() {
+        return numberOfChosenItems;
+    }
+
+    /**
+     * This method gets one of the items in the loadout found by the last search.
+     * @param index The item's index (from 0 to getNumberOfChosenItems() - 1).
+     * @return The chosen item.
+     */
+    public ItemCard getChosenItem(int index) {
+        return chosenItems[index];
+    }
+
+    /**
+     * This method checks to see if an item is in the loadout found by the last search.
+     * @param item The item in question.
+     * @return True if the item was chosen, false if it wasn't.
+     */
+    public boolean checkIf_ItemChosen(ItemCard item) {
+
+        for(int i = 0; i < numberOfChosenItems; i++) {
+            if(chosenItems[i] == item)
+                return true;
+        }
+
+        return false;
+
+    } // End of checkIf_ItemChosen method.
+
+    /**
+     * This method gets the combat bonus of the loadout found by the last search.
+     * @return The loadout's combat bonus.
+     */
+    public int getChosenCombatBonus() {
+        return chosenCombatBonus;
+    }
+
+    /**
+     * This method gets the run away bonus of the loadout found by the last search.
+     * @return The loadout's run away bonus.
+     */
+    public int getChosenRunAwayBonus() {
+        return chosenRunAwayBonus;
+    }
+
+    /**
+     * This utility method looks at one of the player's cards: an item they can use and that is worth something is either chosen right away
+     * (if it doesn't take a slot) or added to the competing items, in order of value.
+     * @param player The player.
+     * @param card The card.
+     * @param combatWeight What each point of combat bonus is worth.
+     * @param runAwayWeight What each point of run away bonus is worth.
+     * @return The item's value if it was chosen right away, 0 otherwise.
+     * @throws IllegalStateException If MAX_COMPETING_ITEMS items already compete for a slot.
+     */
+    private int addCandidate(Player player, Card card, int combatWeight, int runAwayWeight) {
+
+        if(!(card instanceof ItemCard))
+            return 0;
+
+        ItemCard item = (ItemCard) card;
+        int value = item.getCombatBonus() * combatWeight + item.getRunAwayBonus() * runAwayWeight;
+
+        if(value <= 0 || !CardPlayHandler.meetsUsableByRequirement(player, item))
+            return 0;
+
+        int slots = item.checkIfItemIsBig() ? BIG_ITEM : 0;
+        boolean oneHanded = false;
+
+        switch(item.getSlot()) {
+            case HEAD:
+                slots |= HEAD;
+                break;
+            case ARMOR:
+                slots |= ARMOR;
+                break;
+            case FEET:
+                slots |= FEET;
+                break;
+            case HANDS:
+                if(item.getHandsRequirement() >= 2)
+                    slots |= BOTH_HANDS;
+                else
+                    oneHanded = item.getHandsRequirement() == 1;
+                break;
+            default:
+                break;
+
+        } // End of switch statement.
+
+        if(slots == 0 && !oneHanded) {
+            choose(item);
+            return value;
+        }
+
+        if(numberOfCompetingItems == MAX_COMPETING_ITEMS)
+            throw new IllegalStateException("More than " + MAX_COMPETING_ITEMS + " items compete for a slot: " + item.getName());
+
+        if(numberOfCompetingItems == competingItems.length)
+            growCompetingItems();
+
+        // Insert the item in order of value (highest first, the earlier of two equal items first).
+        int i = numberOfCompetingItems;
+
+        while(i > 0 && competingValues[i - 1] < value) {
+            competingItems[i] = competingItems[i - 1];
+            competingValues[i] = competingValues[i - 1];
+            competingSlots[i] = competingSlots[i - 1];
+            competingOneHanded[i] = competingOneHanded[i - 1];
+            i--;
+        }
+
+        competingItems[i] = item;
+        competingValues[i] = value;
+        competingSlots[i] = slots;
+        competingOneHanded[i] = oneHanded;
+        numberOfCompetingItems++;
+
+        return 0;
+
+    } // End of addCandidate utility method.
+
+    /**
+     * This utility method searches the loadouts that add competing items (from a certain one on) to the ones chosen so far, keeping the best.
+     * @param first The first competing item that may still be added.
+     * @param slotsTaken The slots taken by the items chosen so far.
+     * @param value The value of the items chosen so far.
+     * @param choice The items chosen so far (bit i: the i-th competing item).
+     */
+    private void search(int first, int slotsTaken, int value, long choice) {
+
+        if(value > bestValue) {
+            bestValue = value;
+            bestChoice = choice;
+        }
+
+        for(int i = first; i < numberOfCompetingItems; i++) {
+
+            // Even every remaining item couldn't beat the best loadout (the items are sorted, so the rest can't either).
+            if(value + remainingValues[i] <= bestValue)
+                return;
+
+            int slots = competingSlots[i];
+
+            if((slotsTaken & slots) != 0)
+                continue;
+
+            if(competingOneHanded[i]) {
+                if((slotsTaken & FIRST_HAND) == 0)
+                    slots |= FIRST_HAND;
+                else if((slotsTaken & SECOND_HAND) == 0)
+                    slots |= SECOND_HAND;
+                else
+                    continue;
+            }
+
+            search(i + 1, slotsTaken | slots, value + competingValues[i], choice | (1L << i));
+
+        } // End of for loop.
+
+    } // End of search utility method.
+
+    /**
+     * This utility method adds an item to the chosen ones.
+     * @param item The item.
+     */
+    private void choose(ItemCard item) {
+
+        if(numberOfChosenItems == chosenItems.length) {
+            ItemCard[] newChosenItems = new ItemCard[chosenItems.length * 2];
+            System.arraycopy(chosenItems, 0, newChosenItems, 0, numberOfChosenItems);
+            chosenItems = newChosenItems;
+        }
+
+        chosenItems[numberOfChosenItems] = item;
+        numberOfChosenItems++;
+        chosenCombatBonus += item.getCombatBonus();
+        chosenRunAwayBonus += item.getRunAwayBonus();
+
+    } // End of choose utility method.
+
+    /**
+     * This utility method doubles the room for competing items.
+     */
+    private void growCompetingItems() {
+
+        int newLength = Math.min(competingItems.length * 2, MAX_COMPETING_ITEMS);
+
+        ItemCard[] newItems = new ItemCard[newLength];
+        int[] newValues = new int[newLength];
+        int[] newSlots = new int[newLength];
+        boolean[] newOneHanded = new boolean[newLength];
+
+        System.arraycopy(competingItems, 0, newItems, 0, numberOfCompetingItems);
+        System.arraycopy(competingValues, 0, newValues, 0, numberOfCompetingItems);
+        System.arraycopy(competingSlots, 0, newSlots, 0, numberOfCompetingItems);
+        System.arraycopy(competingOneHanded, 0, newOneHanded, 0, numberOfCompetingItems);
+
+        competingItems = newItems;
+        competingValues = newValues;
+        competingSlots = newSlots;
+        competingOneHanded = newOneHanded;
+        remainingValues = new int[newLength + 1];
+
+    } // End of growCompetingItems utility method.
+
+} // End of LoadoutSolver class.
@@ -0,0 +1,42 @@
+package handlers;
+
+import basic_game_components.player_stuff.Player;
+
+/**
+ * This interface makes the choices of the players who react to a combat without being asked (ex: the seats nobody plays on the server).
+ * Every player gets asked once each time a reaction window opens (see server.ReactionWindow), so a chooser plays at most one card per window;
+ * the DefaultReactionChooser makes simple, sensible choices.
+ *
+ * Every method returns a card location number in the player's hand, or 0 if the player passes (or there is nothing to choose).
+ */
+public interface ReactionChooser {
+
+    /**
+     * This method chooses the card the player plays in reaction to the combat (see CombatReactionHandler.getRuleOrder).
+     * @param combat The combat.
+     * @param player The player reacting (the fighter or anyone else).
+     * @return The hand card location number of the card, or 0 to pass.
+     */
+    int chooseReaction(Combat combat, Player player);
+
+    /**
+     * This method chooses the card played along with the reaction's card, for the ones that need a second card (see
+     * CombatReactionHandler.checkIf_NeedsSecondCard).
+     * @param combat The combat.
+     * @param player The player reacting.
+     * @param cardLocationNumber The hand card location number of the reaction's card.
+     * @return The hand card location number of the second card, or 0 if the player has none.
+     */
+    int chooseSecondCard(Combat combat, Player player, int cardLocationNumber);
+
+    /**
+     * This method chooses the argument of the reaction (see CombatReactionHandler.checkIf_CanReact): the monster a monster enhancer goes on,
+     * the side a one shot treasure helps, or the target of a curse.
+     * @param combat The combat.
+     * @param player The player reacting.
+     * @param cardLocationNumber The hand card location number of the reaction's card.
+     * @return The reaction's argument.
+     */
+    int chooseArgument(Combat combat, Player player, int cardLocationNumber);
+
+} // End of ReactionChooser interface.
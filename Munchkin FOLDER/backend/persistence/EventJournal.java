@@ -0,0 +1,584 @@
+package persistence;
+
+import events.GameEventType;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * This class is an append-only journal of game events, shared by every game hosted by a node. Together with the games' snapshots (see
+ * GameSnapshotCodec) it lets any game be rebuilt after a crash: restore its last snapshot, then replay the events it journaled since (see
+ * JournalRecovery). A snapshot stores the journal position the game had reached, so replaying it only reads the journal from there on, and
+ * the segments before the oldest position a live game's snapshot still needs can be deleted (see deleteSegmentsBefore).
+ *
+ * IMPORTANT NOTE: The journal is a series of memory-mapped segment files (journal-00000000.seg, journal-00000001.seg, etc.) holding fixed-size
+ * records. Appending a record only claims its position with a single atomic add and writes it straight into the mapped memory, so it never
+ * locks, allocates or waits for the disk, and any number of game threads can append at once. Each record ends with a checksum written last,
+ * which marks it as complete. A committer thread regularly forces every complete record written since its last pass to the disk at once
+ * (group commit), so a thousand actions cost one disk flush rather than a thousand. Callers that must know an action is durable (ex: before
+ * acknowledging it to a client) wait for its position to be committed (see awaitCommitted).
+ *
+ * Record layout (32 bytes, little-endian): game id, event type (GameEventType ordinal), game sequence (8 bytes), player turn number, value 1,
+ * value 2, checksum. When the journal is opened, the records are read from the start up to the first incomplete one (ex: one being written
+ * during a crash), and appending resumes from there. Everything after it is erased first: appenders can finish out of order (and the disk
+ * can write the mapped pages out of order), so complete records may follow the incomplete one, and they would otherwise be read as if they
+ * came after the records appended from then on.
+ */
+public class EventJournal implements AutoCloseable {
+
+    //----------------------------------------------------
+    //            INSTANCE VARIABLES
+    //----------------------------------------------------
+
+    // The size of a record, in bytes.
+    public static final int RECORD_SIZE = 32;
+    // The default size of a segment file (64 MB, about 2 million records).
+    public static final int DEFAULT_SEGMENT_SIZE = 64 << 20;
+    // The default time the committer waits between two group commits (1 millisecond).
+    public static final long DEFAULT_COMMIT_INTERVAL_NANOS = 1_000_000;
+
+    // The offsets of a record's fields.
+    private static final int GAME_ID_OFFSET = 0;
+    private static final int TYPE_OFFSET = 4;
+    private static final int SEQUENCE_OFFSET = 8;
+    private static final int PLAYER_OFFSET = 16;
+    private static final int VALUE1_OFFSET = 20;
+    private static final int VALUE2_OFFSET = 24;
+    private static final int CHECKSUM_OFFSET = 28;
+
+    // Views used to read and write the records' ints and longs, with ordered writes (the checksum is only visible after the rest).
+    private static final VarHandle INT_VIEW = MethodHandles.byteBufferViewVarHandle(int[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle LONG_VIEW = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    // The directory holding the segment files.
+    private final Path directory;
+    // The size of each segment file (a multiple of RECORD_SIZE).
+    private final int segmentSize;
+    // How long the committer waits between two group commits.
+    private final long commitIntervalNanos;
+    // The position of the first record still in the journal (the start of the oldest segment file kept, see deleteSegmentsBefore).
+    private volatile long firstPosition;
+    // The mapped segments, indexed by segment number (null if not mapped yet, or retired once committed).
+    private volatile MappedByteBuffer[] segments;
+    // The position (in bytes, from the start of the first segment) where the next record is appended.
+    private final AtomicLong writePosition;
+    // The position up to which every record is complete and forced to the disk (only written by the committer thread).
+    private volatile long committedPosition;
+    // The number of group commits done so far.
+    private volatile long commitCount;
+    // The thread doing the group commits.
+    private final Thread committerThread;
+    // Whether or not the journal was closed.
+    private volatile boolean closed;
+
+    //----------------------------------------------------
+    //            CONSTRUCTOR(S)
+    //----------------------------------------------------
+
+    /**
+     * This method opens a journal (creating its directory if needed), reads its existing records to find where appending resumes, and starts
+     * its committer thread.
+     * @param directory The directory holding the segment files.
+     * @param segmentSize The size of each segment file (a multiple of RECORD_SIZE).
+     * @param commitIntervalNanos How long the committer waits between two group commits.
+     * @throws UncheckedIOException If the directory or a segment file can't be created or mapped.
+     */
+    public EventJournal(Path directory, int segmentSize, long commitIntervalNanos) {
+
+        if(segmentSize <= 0 || segmentSize % RECORD_SIZE != 0)
+            throw new IllegalArgumentException("The segment size must be a positive multiple of " + RECORD_SIZE + ": " + segmentSize);
+
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.commitIntervalNanos = commitIntervalNanos;
+        segments = new MappedByteBuffer[16];
+
+        try {
+            Files.createDirectories(directory);
+        }
+        catch(IOException e) {
+            throw new UncheckedIOException("Couldn't create the journal directory " + directory, e);
+        }
+
+        // Appending resumes right after the last complete record, once whatever follows it is erased.
+        firstPosition = (long) findFirstSegment() * segmentSize;
+        long end = findEndOfCompleteRecords(firstPosition, Long.MAX_VALUE);
+        eraseRecordsFrom(end);
+        writePosition = new AtomicLong(end);
+        committedPosition = end;
+        commitCount = 0;
+        closed = false;
+
+        committerThread = new Thread(this::commitLoop, "event-journal-committer");
+        committerThread.setDaemon(true);
+        committerThread.start();
+
+    } // End of constructor method.
+
+    /**
+     * This method opens a journal with the default segment size and commit interval.
+     * @param directory The directory holding the segment files.
+     * @throws UncheckedIOException If the directory or a segment file can't be created or mapped.
+     */
+    public EventJournal(Path directory) {
+        this(directory, DEFAULT_SEGMENT_SIZE, DEFAULT_COMMIT_INTERVAL_NANOS);
+    }
+
+    //----------------------------------------------------
+    //            METHOD(S)
+    //----------------------------------------------------
+
+    /**
+     * This method appends a record to the journal. It never locks and never waits for the disk (the record is committed by the committer thread
+     * shortly after). The records of a single game must be appended by one thread at a time, in sequence order.
+     * @param gameId The id of the game the event belongs to.
+     * @param gameSequence The event's sequence number within its game (0, 1, 2, etc.).
+     * @param type The event's type.
+     * @param playerTurnNumber The turn number of the player involved, or 0 if no player is.
+     * @param value1 The event's first value.
+     * @param value2 The event's second value.
+     * @return The position right after the record (wait for it with awaitCommitted to know the record is on the disk).
+     * @throws IllegalStateException If the journal is closed.
+     */
+    public long append(int gameId, long gameSequence, GameEventType type, int playerTurnNumber, int value1, int value2) {
+
+        if(closed)
+            throw new IllegalStateException("The journal is closed.");
+
+        long position = writePosition.getAndAdd(RECORD_SIZE);
+        MappedByteBuffer segment = getSegment((int) (position / segmentSize));
+        int offset = (int) (position % segmentSize);
+        int typeOrdinal = type.ordinal();
+
+        INT_VIEW.set(segment, offset + GAME_ID_OFFSET, gameId);
+        INT_VIEW.set(segment, offset + TYPE_OFFSET, typeOrdinal);
+        LONG_VIEW.set(segment, offset + SEQUENCE_OFFSET, gameSequence);
+        INT_VIEW.set(segment, offset + PLAYER_OFFSET, playerTurnNumber);
+        INT_VIEW.set(segment, offset + VALUE1_OFFSET, value1);
+        INT_VIEW.set(segment, offset + VALUE2_OFFSET, value2);
+        // Written last: once the checksum is visible, so is the rest of the record.
+        INT_VIEW.setRelease(segment, offset + CHECKSUM_OFFSET, checksum(gameId, typeOrdinal, gameSequence, playerTurnNumber, value1, value2));
+
+        return position + RECORD_SIZE;
+
+    } // End of append method.
+
+    /**
+     * This method waits until every record up to a certain position is committed to the disk.
+     * @param position The position (as returned by append).
+     * @param timeoutNanos The longest time to wait.
+     * @return True if the records are committed, false if the time ran out (or the journal was closed) first.
+     */
+    public boolean awaitCommitted(long position, long timeoutNanos) {
+
+        long deadline = System.nanoTime() + timeoutNanos;
+
+        while(committedPosition < position) {
+            if(!committerThread.isAlive() || System.nanoTime() - deadline >= 0)
+                return false;
+
+            LockSupport.parkNanos(Math.max(commitIntervalNanos / 4, 10_000));
+        }
+
+        return true;
+
+    } // End of awaitCommitted method.
+
+    /**
+     * This method reads every committed record still in the journal, from the oldest to the newest.
+     * @param visitor The visitor called for every record.
+     * @return The number of records read.
+     */
+    public long forEachRecord(JournalRecordVisitor visitor) {
+        return forEachRecord(0, visitor);
+    }
+
+    /**
+     * This method reads the committed records from a certain position on, from the oldest to the newest (ex: to replay the events games
+     * journaled after their snapshots, see JournalRecovery). Segments must not be deleted while the journal is read.
+     * @param fromPosition The position of the first record to read (records deleted since are skipped, and so is a position past the
+     *                     committed records).
+     * @param visitor The visitor called for every record.
+     * @return The number of records read.
+     * @throws IllegalArgumentException If the position isn't the start of a record.
+     */
+    public long forEachRecord(long fromPosition, JournalRecordVisitor visitor) {
+
+        if(fromPosition < 0 || fromPosition % RECORD_SIZE != 0)
+            throw new IllegalArgumentException("Not the position of a record: " + fromPosition);
+
+        long end = committedPosition;
+        long numRecords = 0;
+
+        for(long position = Math.max(fromPosition, firstPosition); position < end; position += RECORD_SIZE) {
+            MappedByteBuffer segment = getSegment((int) (position / segmentSize));
+            int offset = (int) (position % segmentSize);
+            int typeOrdinal = (int) INT_VIEW.get(segment, offset + TYPE_OFFSET);
+
+            if(typeOrdinal < 0 || typeOrdinal >= GameEventType.count())
+                throw new IllegalStateException("Unknown event type " + typeOrdinal + " in the journal at position " + position + ".");
+
+            visitor.visit((int) INT_VIEW.get(segment, offset + GAME_ID_OFFSET), (long) LONG_VIEW.get(segment, offset + SEQUENCE_OFFSET),
+                GameEventType.fromOrdinal(typeOrdinal), (int) INT_VIEW.get(segment, offset + PLAYER_OFFSET),
+                (int) INT_VIEW.get(segment, offset + VALUE1_OFFSET), (int) INT_VIEW.get(segment, offset + VALUE2_OFFSET));
+
+            numRecords++;
+
+        } // End of for loop.
+
+        return numRecords;
+
+    } // End of forEachRecord method.
+
+    /**
+     * This method deletes the segment files holding only records before a certain position (ex: the oldest journal position the snapshots of
+     * the live games still need, see JournalRecovery.trimJournal). The segment the committed records end in is always kept (it is created if
+     * needed), so appending resumes from the same position once the journal is reopened.
+     * @param position The position of the oldest record to keep.
+     * @return The number of segment files deleted.
+     * @throws UncheckedIOException If a segment file can't be deleted.
+     */
+    public synchronized int deleteSegmentsBefore(long position) {
+
+        int firstSegment = (int) (firstPosition / segmentSize);
+        int keptSegment = (int) (Math.min(position, committedPosition) / segmentSize);
+
+        if(keptSegment <= firstSegment)
+            return 0;
+
+        // The segment kept must exist before the older ones are deleted, since opening the journal starts from the oldest segment file.
+        getSegment(keptSegment);
+        firstPosition = (long) keptSegment * segmentSize;
+        retireSegmentsBefore(keptSegment);
+
+        try {
+            for(int segmentNumber = firstSegment; segmentNumber < keptSegment; segmentNumber++)
+                Files.deleteIfExists(getSegmentPath(segmentNumber));
+        }
+        catch(IOException e) {
+            throw new UncheckedIOException("Couldn't delete the journal segments before " + keptSegment + " in " + directory, e);
+        }
+
+        return keptSegment - firstSegment;
+
+    } // End of deleteSegmentsBefore method.
+
+    /**
+     * This method gets the position of the oldest record still in the journal (0 until segments are deleted, see deleteSegmentsBefore).
+     * @return The first position, in bytes.
+     */
+    public long getFirstPosition() {
+        return firstPosition;
+    }
+
+    /**
+     * This method gets the position where the next record will be appended.
+     * @return The write position, in bytes.
+     */
+    public long getWritePosition() {
+        return writePosition.get();
+    }
+
+    /**
+     * This method gets the position up to which every record is committed to the disk.
+     * @return The committed position, in bytes.
+     */
+    public long getCommittedPosition() {
+        return committedPosition;
+    }
+
+    /**
+     * This method gets the number of group commits done so far (compare with the number of records to see how many each commit covered).
+     * @return The number of group commits.
+     */
+    public long getCommitCount() {
+        return commitCount;
+    }
+
+    /**
+     * This method closes the journal: every record already appended is committed, then the committer thread stops. Appending must be stopped
+     * before the journal is closed.
+     */
+    @Override
+    public void close() {
+
+        if(closed)
+            return;
+
+        closed = true;
+        LockSupport.unpark(committerThread);
+
+        try {
+            committerThread.join();
+        }
+        catch(InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+    } // End of close method.
+
+    /**
+     * This utility method is the committer thread's loop: every commit interval, it finds the records completed since the last pass and forces
+     * them to the disk all at once. It also maps the next segment ahead of time, so appending never has to create a file.
+     */
+    private void commitLoop() {
+
+        while(true) {
+            boolean closing = closed;
+            long committed = committedPosition;
+            long complete = findEndOfCompleteRecords(committed, writePosition.get());
+
+            if(complete > committed) {
+                force(committed, complete);
+                committedPosition = complete;
+                commitCount++;
+                retireSegmentsBefore((int) (complete / segmentSize));
+            }
+
+            // Stop once closed and every record appended before closing is committed.
+            if(closing && complete >= writePosition.get())
+                break;
+
+            getSegment((int) (writePosition.get() / segmentSize) + 1);
+            LockSupport.parkNanos(commitIntervalNanos);
+
+        } // End of while loop.
+
+    } // End of commitLoop utility method.
+
+    /**
+     * This utility method finds where the run of complete records starting at a position ends (at the first record whose checksum doesn't
+     * match, i.e. one still being written, or never written at all).
+     * @param from The position to start from.
+     * @param end The position not to go past.
+     * @return The position right after the last complete record.
+     */
+    private long findEndOfCompleteRecords(long from, long end) {
+
+        long position = from;
+
+        while(position < end) {
+            int segmentNumber = (int) (position / segmentSize);
+
+            // When opening the journal, stop at the first segment file that doesn't exist.
+            if(end == Long.MAX_VALUE && position % segmentSize == 0 && !Files.exists(getSegmentPath(segmentNumber)))
+                break;
+
+            MappedByteBuffer segment = getSegment(segmentNumber);
+            int offset = (int) (position % segmentSize);
+            int storedChecksum = (int) INT_VIEW.getAcquire(segment, offset + CHECKSUM_OFFSET);
+
+            if(storedChecksum == 0 || storedChecksum != checksum((int) INT_VIEW.get(segment, offset + GAME_ID_OFFSET),
+                    (int) INT_VIEW.get(segment, offset + TYPE_OFFSET), (long) LONG_VIEW.get(segment, offset + SEQUENCE_OFFSET),
+                    (int) INT_VIEW.get(segment, offset + PLAYER_OFFSET), (int) INT_VIEW.get(segment, offset + VALUE1_OFFSET),
+                    (int) INT_VIEW.get(segment, offset + VALUE2_OFFSET)))
+                break;
+
+            position += RECORD_SIZE;
+
+        } // End of while loop.
+
+        return position;
+
+    } // End of findEndOfCompleteRecords utility method.
+
+    /**
+     * This utility method finds the oldest segment file of the journal (the ones before it were deleted, see deleteSegmentsBefore).
+     * @return The number of the oldest segment file, or 0 if there is none.
+     * @throws UncheckedIOException If the directory can't be listed.
+     */
+    private int findFirstSegment() {
+
+        int firstSegment = Integer.MAX_VALUE;
+
+        try(DirectoryStream<Path> segmentFiles = Files.newDirectoryStream(directory, "journal-*.seg")) {
+            for(Path segmentFile : segmentFiles) {
+                String name = segmentFile.getFileName().toString();
+                firstSegment = Math.min(firstSegment, Integer.parseInt(name.substring("journal-".length(), name.length() - ".seg".length())));
+            }
+        }
+        catch(IOException e) {
+            throw new UncheckedIOException("Couldn't list the journal segments in " + directory, e);
+        }
+
+        return (firstSegment == Integer.MAX_VALUE) ? 0 : firstSegment;
+
+    } // End of findFirstSegment utility method.
+
+    /**
+     * This utility method erases everything from a position to the end of the journal, when it is opened: the rest of that position's segment
+     * is zeroed (and forced to the disk) and the segment files after it are deleted, so no complete record is left past the position.
+     * @param from The position right after the last complete record.
+     * @throws UncheckedIOException If a segment file can't be deleted.
+     */
+    private void eraseRecordsFrom(long from) {
+
+        int segmentNumber = (int) (from / segmentSize);
+        int offset = (int) (from % segmentSize);
+
+        if(Files.exists(getSegmentPath(segmentNumber))) {
+            MappedByteBuffer segment = getSegment(segmentNumber);
+
+            for(int position = offset; position < segmentSize; position += Long.BYTES)
+                LONG_VIEW.set(segment, position, 0L);
+
+            segment.force(offset, segmentSize - offset);
+        }
+
+        try {
+            int next = segmentNumber + 1;
+
+            while(Files.deleteIfExists(getSegmentPath(next)))
+                next++;
+        }
+        catch(IOException e) {
+            throw new UncheckedIOException("Couldn't erase the journal segments after " + segmentNumber + " in " + directory, e);
+        }
+
+    } // End of eraseRecordsFrom utility method.
+
+    /**
+     * This utility method forces the records between two positions to the disk (one flush per segment involved).
+     * @param from The first position.
+     * @param to The position right after the last record.
+     */
+    private void force(long from, long to) {
+
+        while(from < to) {
+            int segmentNumber = (int) (from / segmentSize);
+            int offset = (int) (from % segmentSize);
+            int length = (int) Math.min(to - from, segmentSize - offset);
+
+            getSegment(segmentNumber).force(offset, length);
+            from += length;
+
+        } // End of while loop.
+
+    } // End of force utility method.
+
+    /**
+     * This utility method gets a mapped segment, mapping it first if needed.
+     * @param segmentNumber The segment number.
+     * @return The mapped segment.
+     */
+    private MappedByteBuffer getSegment(int segmentNumber) {
+
+        // The slot is read once: retireSegmentsBefore can clear it at any time.
+        MappedByteBuffer[] currentSegments = segments;
+        MappedByteBuffer segment = (segmentNumber < currentSegments.length) ? currentSegments[segmentNumber] : null;
+
+        return (segment != null) ? segment : mapSegment(segmentNumber);
+
+    } // End of getSegment utility method.
+
+    /**
+     * This utility method maps a segment file (creating it if it doesn't exist yet) and adds it to the mapped segments.
+     * @param segmentNumber The segment number.
+     * @return The mapped segment.
+     * @throws IllegalStateException If the segment was deleted (see deleteSegmentsBefore).
+     * @throws UncheckedIOException If the segment file can't be created or mapped.
+     */
+    private synchronized MappedByteBuffer mapSegment(int segmentNumber) {
+
+        MappedByteBuffer[] currentSegments = segments;
+
+        if(segmentNumber < currentSegments.length && currentSegments[segmentNumber] != null)
+            return currentSegments[segmentNumber];
+
+        // Mapping it again would create an empty file in its place.
+        if((long) segmentNumber * segmentSize < firstPosition)
+            throw new IllegalStateException("The journal segment " + segmentNumber + " was deleted.");
+
+        MappedByteBuffer segment;
+
+        // The mapping stays valid once the channel is closed. A new file is filled with zeros, i.e. no complete records.
+        try(FileChannel channel = FileChannel.open(getSegmentPath(segmentNumber), StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE)) {
+            segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+        }
+        catch(IOException e) {
+            throw new UncheckedIOException("Couldn't map the journal segment " + segmentNumber + " in " + directory, e);
+        }
+
+        // A new array is published rather than changing the one readers may hold.
+        MappedByteBuffer[] newSegments = Arrays.copyOf(currentSegments, (segmentNumber < currentSegments.length) ? currentSegments.length
+            : Math.max(segmentNumber + 1, currentSegments.length * 2));
+
+        newSegments[segmentNumber] = segment;
+        segments = newSegments;
+
+        return segment;
+
+    } // End of mapSegment utility method.
+
+    /**
+     * This utility method forgets the mapped segments before a certain one, once they are fully committed, so their memory can be unmapped
+     * (they are mapped again if the journal is read). A new array is published rather than changing the one readers may hold.
+     * @param segmentNumber The first segment to keep.
+     */
+    private synchronized void retireSegmentsBefore(int segmentNumber) {
+
+        MappedByteBuffer[] currentSegments = segments;
+        MappedByteBuffer[] newSegments = null;
+
+        for(int i = 0; i < segmentNumber && i < currentSegments.length; i++) {
+            if(currentSegments[i] == null)
+                continue;
+
+            if(newSegments == null)
+                newSegments = currentSegments.clone();
+
+            newSegments[i] = null;
+        }
+
+        if(newSegments != null)
+            segments = newSegments;
+
+    } // End of retireSegmentsBefore utility method.
+
+    /**
+     * This utility method gets the path of a segment file.
+     * @param segmentNumber The segment number.
+     * @return The segment file's path.
+     */
+    private Path getSegmentPath(int segmentNumber) {
+        return directory.resolve(String.format("journal-%08d.seg", segmentNumber));
+    }
+
+    /**
+     * This utility method computes a record's checksum (never 0, so a record that was never written can't look complete).
+     * @param gameId The id of the game the event belongs to.
+     * @param typeOrdinal The event type's ordinal.
+     * @param gameSequence The event's sequence number within its game.
+     * @param playerTurnNumber The turn number of the player involved.
+     * @param value1 The event's first value.
+     * @param value2 The event's second value.
+     * @return The record's checksum.
+     */
+    private static int checksum(int gameId, int typeOrdinal, long gameSequence, int playerTurnNumber, int value1, int value2) {
+
+        int hash = gameId * 0x9E3779B1;
+        hash = (hash ^ typeOrdinal) * 0x85EBCA6B;
+        hash = (hash ^ (int) gameSequence) * 0xC2B2AE35;
+        hash = (hash ^ (int) (gameSequence >>> 32)) * 0x9E3779B1;
+        hash = (hash ^ playerTurnNumber) * 0x85EBCA6B;
+        hash = (hash ^ value1) * 0xC2B2AE35;
+        hash = (hash ^ value2) * 0x9E3779B1;
+
+        return (hash ^ (hash >>> 16)) | 1;
+
+    } // End of checksum utility method.
+
+} // End of EventJournal class.
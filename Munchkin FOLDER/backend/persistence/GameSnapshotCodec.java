@@ -0,0 +1,724 @@
+package persistence;
+
+import basic_game_components.Card;
+import basic_game_components.CardKind;
+import basic_game_components.Die;
+import basic_game_components.Game;
+import basic_game_components.player_stuff.Hand;
+import basic_game_components.player_stuff.InPlayCards;
+import basic_game_components.player_stuff.Player;
+import door_cards.MonsterCard;
+import events.GameEventSink;
+import handlers.CurseCardHandler;
+import treasure_cards.ItemCard;
+import utilities.CardCatalog;
+import utilities.Deck;
+import utilities.PileManager;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+
+/**
+ * This class saves a whole game to a compact binary snapshot and restores it, so live games can be checkpointed every turn and resumed after a
+ * restart. Encoding writes into a ByteBuffer supplied by the caller (reuse one per game or per thread), and decoding restores the snapshot into
+ * an existing Game, so neither encode nor decode allocates anything (decodeNewGame does, since it creates the Game it restores into). No Java
+ * serialization or reflection is involved.
+ *
+ * IMPORTANT NOTE: Cards are stored as their ids (see CardCatalog), counts and small numbers as varints (7 bits per byte), signed numbers as
+ * zigzag varints, and the players' flags as bits packed into a single byte. The random streams' states are stored too, so a restored game keeps
+ * playing exactly like the original would have. Only the monsters whose level, treasure reward or undead status were modified are stored.
+ *
+ * Snapshot layout (version 4):
+ *   magic (4 bytes), version, seed (8 bytes), journal sequence, journal position, number of cards in the catalog, number of players,
+ *   current player index, turn count
+ *   door pile and treasure pile: random state (8 bytes), pile size and card ids (bottom to top), discards size and card ids (bottom to top)
+ *   modified monsters: count, then for each one its id, level change, treasure reward change and undead status (0 or 1)
+ *   each player: flags, level, combat bonus, run away bonus, gold, equipped races, equipped classes, Die random state (8 bytes),
+ *                hand size and card ids, in play size and card ids, followed by one bit per in play card telling whether it is equipped
+ *
+ * The hand a one-handed weapon is held in isn't stored: restored weapons fill the hands in the order they were put in play. The journal
+ * sequence (added in version 2, version 1 snapshots are still read as having 0) is the number of events the game had written to its
+ * EventJournal when the snapshot was taken, i.e. where replaying the journal picks up (see JournalRecovery). Version 3 no longer sets the
+ * flag for a dwarf's hand limit: it follows the race cards in play (see PlayerStats), so the flag is ignored in older snapshots. The journal
+ * position (added in version 4, older snapshots are read as having 0, i.e. the start of the journal) is where the game's last journaled
+ * event ended, so replaying the journal starts reading there.
+ */
+public final class GameSnapshotCodec {
+
+    //----------------------------------------------------
+    //            INSTANCE VARIABLES
+    //----------------------------------------------------
+
+    // The first 4 bytes of every snapshot ("MNCH").
+    public static final int MAGIC = 0x4D4E4348;
+    // The version of the snapshot format written by this codec.
+    public static final int VERSION = 4;
+
+    // The bits of a player's flags byte.
+    private static final int FEMALE_FLAG = 1;
+    // (1 << 1 was a dwarf's hand limit, set by versions 1 and 2 only.)
+    private static final int HUMAN_FLAG = 1 << 2;
+    private static final int HALF_BREED_FLAG = 1 << 3;
+    private static final int SUPER_MUNCHKIN_FLAG = 1 << 4;
+    private static final int CHICKEN_ON_HEAD_FLAG = 1 << 5;
+
+    //----------------------------------------------------
+    //            CONSTRUCTOR(S)
+    //----------------------------------------------------
+
+    /**
+     * The codec is never instantiated, it only has static methods.
+     */
+    private GameSnapshotCodec() {}
+
+    //----------------------------------------------------
+    //            METHOD(S)
+    //----------------------------------------------------
+
+    /**
+     * This method gets the largest size a snapshot can have, to size the buffers it is written to.
+     * @param numberOfPlayers The number of players in the game.
+     * @return The largest size of a snapshot, in bytes.
+     */
+    public static int getMaxSnapshotSize(int numberOfPlayers) {
+        // Header and piles, then every card stored once (2 bytes per id, 1 equipped bit) plus a full monster record, then each player's fields.
+        return 64 + CardCatalog.getCardCount() * 16 + numberOfPlayers * 64;
+    }
+
+    /**
+     * This method writes a snapshot of a game that isn't journaled into a buffer, starting at the buffer's position (which is moved past the
+     * snapshot).
+     * @param game The game.
+     * @param buffer The buffer (see getMaxSnapshotSize for how big it must be).
+     * @throws java.nio.BufferOverflowException If the buffer is too small.
+     */
+    public static void encode(Game game, ByteBuffer buffer) {
+        encode(game, 0, buffer);
+    }
+
+    /**
+     * This method writes a snapshot of a game into a buffer, starting at the buffer's position (which is moved past the snapshot). Replaying
+     * the journal for it reads the whole journal.
+     * @param game The game.
+     * @param journalSequence The number of events the game has written to its journal so far (see JournalEventSink.getNextSequence).
+     * @param buffer The buffer (see getMaxSnapshotSize for how big it must be).
+     * @throws java.nio.BufferOverflowException If the buffer is too small.
+     */
+    public static void encode(Game game, long journalSequence, ByteBuffer buffer) {
+        encode(game, journalSequence, 0, buffer);
+    }
+
+    /**
+     * This method writes a snapshot of a journaled game into a buffer, starting at the buffer's position (which is moved past the snapshot).
+     * The snapshot should only be kept (in place of the previous one) once the journal position is committed (see
+     * EventJournal.awaitCommitted), like an action is before it is acknowledged.
+     * @param game The game.
+     * @param journalSequence The number of events the game has written to its journal so far (see JournalEventSink.getNextSequence).
+     * @param journalPosition The journal position right after the game's last event (see JournalEventSink.getLastPosition).
+     * @param buffer The buffer (see getMaxSnapshotSize for how big it must be).
+     * @throws java.nio.BufferOverflowException If the buffer is too small.
+     */
+    public static void encode(Game game, long journalSequence, long journalPosition, ByteBuffer buffer) {
+
+        List<Player> players = game.getPlayers();
+        PileManager pileManager = game.getPileManager();
+
+        buffer.putInt(MAGIC);
+        putVarInt(buffer, VERSION);
+        buffer.putLong(game.getGameRandom().getSeed());
+        putVarLong(buffer, journalSequence);
+        putVarLong(buffer, journalPosition);
+        putVarInt(buffer, CardCatalog.getCardCount());
+        putVarInt(buffer, players.size());
+        putVarInt(buffer, game.getCurrentPlayer().getPlayerTurnNumber() - 1);
+        putVarInt(buffer, game.getTurnCount());
+
+        encodeDeck(pileManager.getDoorPile(), buffer);
+        encodeDeck(pileManager.getTreasurePile(), buffer);
+        encodeMonsters(pileManager, buffer);
+
+        for(Player curPlayer : players)
+            encodePlayer(curPlayer, buffer);
+
+    } // End of encode method.
+
+    /**
+     * This method restores a game from a snapshot, starting at the buffer's position (which is moved past the snapshot). The game must have
+     * been constructed with the snapshot's seed and number of players (see decodeNewGame), and its event sink receives no events while the
+     * snapshot is restored.
+     * @param buffer The buffer holding the snapshot.
+     * @param game The game the snapshot is restored into.
+     * @return The journal sequence stored in the snapshot (0 if the game wasn't journaled).
+     * @throws IllegalArgumentException If the snapshot is corrupted, of an unknown version, or from a different game.
+     */
+    public static long decode(ByteBuffer buffer, Game game) {
+
+        List<Player> players = game.getPlayers();
+        PileManager pileManager = game.getPileManager();
+
+        int version = readVersion(buffer);
+        long seed = buffer.getLong();
+        long journalSequence = (version >= 2) ? getVarLong(buffer) : 0;
+
+        if(version >= 4)
+            getVarLong(buffer);
+
+        checkCardCount(buffer);
+        int numberOfPlayers = getVarInt(buffer);
+
+        if(seed != game.getGameRandom().getSeed() || numberOfPlayers != players.size())
+            throw new IllegalArgumentException("The snapshot is from a different game (seed " + seed + ", " + numberOfPlayers + " players).");
+
+        int currentPlayerIndex = getVarInt(buffer);
+        int turnCount = getVarInt(buffer);
+
+        if(currentPlayerIndex >= numberOfPlayers)
+            throw new IllegalArgumentException("Corrupted snapshot: player index " + currentPlayerIndex + ".");
+
+        // Restoring moves every card around, which nobody listening to the game needs to hear about.
+        GameEventSink eventSink = game.getEventSink();
+        game.setEventSink(GameEventSink.NONE);
+
+        try {
+            game.restoreTurn(currentPlayerIndex, turnCount);
+            decodeDeck(buffer, pileManager.getDoorPile());
+            decodeDeck(buffer, pileManager.getTreasurePile());
+            decodeMonsters(buffer, pileManager);
+
+            for(Player curPlayer : players)
+                decodePlayer(buffer, curPlayer, pileManager);
+        }
+        finally {
+            game.setEventSink(eventSink);
+        }
+
+        return journalSequence;
+
+    } // End of decode method.
+
+    /**
+     * This method creates a new game and restores a snapshot into it (ex: to resume a game after a restart). The buffer's position is moved
+     * past the snapshot.
+     * @param buffer The buffer holding the snapshot.
+     * @param curseCardHandler The handler applying the effects of curse cards in the new game.
+     * @return The restored game.
+     * @throws IllegalArgumentException If the snapshot is corrupted or of an unknown version.
+     */
+    public static Game decodeNewGame(ByteBuffer buffer, CurseCardHandler curseCardHandler) {
+
+        int start = buffer.position();
+        int version = readVersion(buffer);
+        long seed = buffer.getLong();
+
+        if(version >= 2)
+            getVarLong(buffer);
+
+        if(version >= 4)
+            getVarLong(buffer);
+
+        checkCardCount(buffer);
+        int numberOfPlayers = getVarInt(buffer);
+
+        Game game = new Game(seed, numberOfPlayers, curseCardHandler);
+
+        buffer.position(start);
+        decode(buffer, game);
+
+        return game;
+
+    } // End of decodeNewGame method.
+
+    /**
+     * This method gets the journal sequence stored in a snapshot without restoring it (the buffer's position doesn't move).
+     * @param buffer The buffer holding the snapshot, at its position.
+     * @return The journal sequence stored in the snapshot (0 if the game wasn't journaled).
+     * @throws IllegalArgumentException If the buffer doesn't hold a snapshot, or one of an unknown version.
+     */
+    public static long readJournalSequence(ByteBuffer buffer) {
+
+        int start = buffer.position();
+        int version = readVersion(buffer);
+        buffer.getLong();
+        long journalSequence = (version >= 2) ? getVarLong(buffer) : 0;
+        buffer.position(start);
+
+        return journalSequence;
+
+    } // End of readJournalSequence method.
+
+    /**
+     * This method gets the journal position stored in a snapshot without restoring it (the buffer's position doesn't move).
+     * @param buffer The buffer holding the snapshot, at its position.
+     * @return The journal position stored in the snapshot (0 if it has none, i.e. the whole journal must be read).
+     * @throws IllegalArgumentException If the buffer doesn't hold a snapshot, or one of an unknown version.
+     */
+    public static long readJournalPosition(ByteBuffer buffer) {
+
+        int start = buffer.position();
+        int version = readVersion(buffer);
+        buffer.getLong();
+        long journalPosition = 0;
+
+        if(version >= 4) {
+            getVarLong(buffer);
+            journalPosition = getVarLong(buffer);
+        }
+
+        buffer.position(start);
+
+        return journalPosition;
+
+    } // End of readJournalPosition method.
+
+    /**
+     * This utility method reads and checks the magic and version at the start of a snapshot.
+     * @param buffer The buffer holding the snapshot.
+     * @return The snapshot's version.
+     * @throws IllegalArgumentException If the snapshot isn't one, or is of an unknown version.
+     */
+    private static int readVersion(ByteBuffer buffer) {
+
+        if(buffer.remaining() < 4 || buffer.getInt() != MAGIC)
+            throw new IllegalArgumentException("Not a game snapshot.");
+
+        int version = getVarInt(buffer);
+
+        if(version < 1 || version > VERSION)
+            throw new IllegalArgumentException("Unknown snapshot version " + version + " (expected 1 to " + VERSION + ").");
+
+        return version;
+
+    } // End of readVersion utility method.
+
+    /**
+     * This utility method reads the number of cards a snapshot was written with, and checks it against the catalog.
+     * @param buffer The buffer holding the snapshot.
+     * @throws IllegalArgumentException If the snapshot was written with a different card catalog.
+     */
+    private static void checkCardCount(ByteBuffer buffer) {
+
+        int cardCount = getVarInt(buffer);
+
+        if(cardCount != CardCatalog.getCardCount())
+            throw new IllegalArgumentException("The snapshot has " + cardCount + " cards, the catalog has " + CardCatalog.getCardCount() + ".");
+
+    } // End of checkCardCount utility method.
+
+    //------------------------------------------
+    //     PILES AND MONSTERS...
+    //------------------------------------------
+
+    /**
+     * This utility method writes a pile and its discards.
+     * @param deck The pile's deck.
+     * @param buffer The buffer.
+     */
+    private static void encodeDeck(Deck deck, ByteBuffer buffer) {
+
+        buffer.putLong(deck.getRandomStream().getState());
+
+        putVarInt(buffer, deck.getPileSize());
+
+        for(int i = 0; i < deck.getPileSize(); i++)
+            putVarInt(buffer, deck.getPileCardId(i));
+
+        putVarInt(buffer, deck.getDiscardsSize());
+
+        for(int i = 0; i < deck.getDiscardsSize(); i++)
+            putVarInt(buffer, deck.getDiscardCardId(i));
+
+    } // End of encodeDeck utility method.
+
+    /**
+     * This utility method restores a pile and its discards.
+     * @param buffer The buffer.
+     * @param deck The pile's deck.
+     */
+    private static void decodeDeck(ByteBuffer buffer, Deck deck) {
+
+        deck.getRandomStream().setState(buffer.getLong());
+        deck.clear();
+
+        int pileSize = getCardCount(buffer);
+
+        for(int i = 0; i < pileSize; i++)
+            deck.placeOnPile(getCardId(buffer));
+
+        int discardsSize = getCardCount(buffer);
+
+        for(int i = 0; i < discardsSize; i++)
+            deck.discard(getCardId(buffer));
+
+    } // End of decodeDeck utility method.
+
+    /**
+     * This utility method writes the monsters whose level, treasure reward or undead status differ from their card definition.
+     * @param pileManager The game's piles (holding the game's copy of every monster).
+     * @param buffer The buffer.
+     */
+    private static void encodeMonsters(PileManager pileManager, ByteBuffer buffer) {
+
+        int numModified = 0;
+
+        for(int id = 0; id < CardCatalog.getDoorCardCount(); id++) {
+            if(checkIf_MonsterModified(pileManager.getCard_UsingCatalogIndex(id)))
+                numModified++;
+        }
+
+        putVarInt(buffer, numModified);
+
+        for(int id = 0; id < CardCatalog.getDoorCardCount() && numModified > 0; id++) {
+            Card curCard = pileManager.getCard_UsingCatalogIndex(id);
+
+            if(checkIf_MonsterModified(curCard)) {
+                MonsterCard monster = (MonsterCard) curCard;
+                MonsterCard definition = (MonsterCard) CardCatalog.getCardDefinition(id);
+
+                putVarInt(buffer, id);
+                putZigZagVarInt(buffer, monster.getLevel() - definition.getLevel());
+                putZigZagVarInt(buffer, monster.getTreasureReward() - definition.getTreasureReward());
+                buffer.put(monster.getUndeadStatus() ? (byte) 1 : (byte) 0);
+                numModified--;
+            }
+
+        } // End of for loop.
+
+    } // End of encodeMonsters utility method.
+
+    /**
+     * This utility method restores every monster: they are all reset to their card definition, then the modified ones are changed back.
+     * @param buffer The buffer.
+     * @param pileManager The game's piles (holding the game's copy of every monster).
+     */
+    private static void decodeMonsters(ByteBuffer buffer, PileManager pileManager) {
+
+        for(int id = 0; id < CardCatalog.getDoorCardCount(); id++) {
+            Card curCard = pileManager.getCard_UsingCatalogIndex(id);
+
+            if(curCard.getKind() == CardKind.MONSTER) {
+                MonsterCard monster = (MonsterCard) curCard;
+                monster.resetLevel();
+                monster.resetTreasureReward();
+                monster.setIfMonsterIsUndead(((MonsterCard) CardCatalog.getCardDefinition(id)).getUndeadStatus());
+            }
+
+        } // End of for loop.
+
+        int numModified = getVarInt(buffer);
+
+        for(int i = 0; i < numModified; i++) {
+            Card curCard = pileManager.getCard_UsingCatalogIndex(getCardId(buffer));
+
+            if(curCard.getKind() != CardKind.MONSTER)
+                throw new IllegalArgumentException("Corrupted snapshot: " + curCard.getName() + " isn't a monster.");
+
+            MonsterCard monster = (MonsterCard) curCard;
+            monster.modifyLevel(getZigZagVarInt(buffer));
+            monster.modifyTreasureReward(getZigZagVarInt(buffer));
+            monster.setIfMonsterIsUndead(buffer.get() != 0);
+
+        } // End of for loop.
+
+    } // End of decodeMonsters utility method.
+
+    /**
+     * This utility method checks to see if a game's card is a monster whose level, treasure reward or undead status differ from its definition.
+     * @param card The game's card.
+     * @return True if it is a modified monster, false if it isn't.
+     */
+    private static boolean checkIf_MonsterModified(Card card) {
+
+        if(card.getKind() != CardKind.MONSTER)
+            return false;
+
+        MonsterCard monster = (MonsterCard) card;
+        MonsterCard definition = (MonsterCard) CardCatalog.getCardDefinition(card.getId());
+
+        return monster.getLevel() != definition.getLevel() || monster.getTreasureReward() != definition.getTreasureReward()
+            || monster.getUndeadStatus() != definition.getUndeadStatus();
+
+    } // End of checkIf_MonsterModified utility method.
+
+    //------------------------------------------
+    //     PLAYERS...
+    //------------------------------------------
+
+    /**
+     * This utility method writes a player, along with their Die, hand and in play cards.
+     * @param player The player.
+     * @param buffer The buffer.
+     */
+    private static void encodePlayer(Player player, ByteBuffer buffer) {
+
+        Hand hand = player.getHand();
+        InPlayCards inPlayCards = player.getInPlayCards();
+        Die die = player.getDie();
+
+        int flags = 0;
+
+        if(player.getSex().equals("female"))
+            flags |= FEMALE_FLAG;
+        if(inPlayCards.checkIfPlayerIsHuman())
+            flags |= HUMAN_FLAG;
+        if(inPlayCards.getRaceCardLimit() > 1)
+            flags |= HALF_BREED_FLAG;
+        if(inPlayCards.getClassCardLimit() > 1)
+            flags |= SUPER_MUNCHKIN_FLAG;
+        if(die.checkIf_ChickenOnYourHead())
+            flags |= CHICKEN_ON_HEAD_FLAG;
+
+        buffer.put((byte) flags);
+        putZigZagVarInt(buffer, player.getLevel());
+        // Only the bonuses from modifier cards are stored, the equipment's share comes back with the equipped items.
+        putZigZagVarInt(buffer, player.getCombatBonus() - inPlayCards.getEquipmentCombatBonus());
+        putZigZagVarInt(buffer, player.getRunAwayBonus() - inPlayCards.getEquipmentRunAwayBonus());
+        putZigZagVarInt(buffer, player.getGold());
+        putVarInt(buffer, inPlayCards.getNumberOfEquippedRaces());
+        putVarInt(buffer, inPlayCards.getNumberOfEquippedClasses());
+        buffer.putLong(die.getRandomStream().getState());
+
+        putVarInt(buffer, hand.getNumberOfCards());
+
+        for(int i = 1; i <= hand.getNumberOfCards(); i++)
+            putVarInt(buffer, hand.getCard_UsingCardLocationNumber(i).getId());
+
+        int numInPlay = inPlayCards.getNumberOfCards();
+        putVarInt(buffer, numInPlay);
+
+        for(int i = 1; i <= numInPlay; i++)
+            putVarInt(buffer, inPlayCards.getCard_UsingCardLocationNumber(i).getId());
+
+        // The equipped flags, 8 per byte.
+        int equippedBits = 0;
+
+        for(int i = 0; i < numInPlay; i++) {
+            Card curCard = inPlayCards.getCard_UsingCardLocationNumber(i + 1);
+
+            if(curCard instanceof ItemCard && inPlayCards.checkIf_ItemEquipped((ItemCard) curCard))
+                equippedBits |= 1 << (i & 7);
+
+            if((i & 7) == 7 || i == numInPlay - 1) {
+                buffer.put((byte) equippedBits);
+                equippedBits = 0;
+            }
+
+        } // End of for loop.
+
+    } // End of encodePlayer utility method.
+
+    /**
+     * This utility method restores a player, along with their Die, hand and in play cards.
+     * @param buffer The buffer.
+     * @param player The player.
+     * @param pileManager The game's piles (holding the game's instance of every card).
+     */
+    private static void decodePlayer(ByteBuffer buffer, Player player, PileManager pileManager) {
+
+        Hand hand = player.getHand();
+        InPlayCards inPlayCards = player.getInPlayCards();
+        Die die = player.getDie();
+
+        int flags = buffer.get();
+
+        if(player.getSex().equals("female") != ((flags & FEMALE_FLAG) != 0))
+            player.changeSex();
+
+        player.setLevel(getZigZagVarInt(buffer));
+        int combatBonus = getZigZagVarInt(buffer);
+        int runAwayBonus = getZigZagVarInt(buffer);
+        player.addGold(getZigZagVarInt(buffer) - player.getGold());
+        int numOfEquippedRaces = getVarInt(buffer);
+        int numOfEquippedClasses = getVarInt(buffer);
+        die.getRandomStream().setState(buffer.getLong());
+        die.setChickenOnYourHead_TrueOrFalse((flags & CHICKEN_ON_HEAD_FLAG) != 0);
+
+        // The hand (emptied from the right, so no card has to shift).
+        while(hand.getNumberOfCards() > 0)
+            hand.removeCard_UsingCardLocationNumber(hand.getNumberOfCards());
+
+        int handSize = getCardCount(buffer);
+
+        for(int i = 0; i < handSize; i++)
+            hand.addCardToHand(pileManager.getCard_UsingCatalogIndex(getCardId(buffer)));
+
+        // The in play cards. Their equipped flags come after their ids, so the ids are skipped once to find the flags, then read again.
+        while(inPlayCards.getNumberOfCards() > 0)
+            inPlayCards.removeCard_UsingCardLocationNumber(inPlayCards.getNumberOfCards());
+
+        int numInPlay = getCardCount(buffer);
+        int idsPosition = buffer.position();
+
+        for(int i = 0; i < numInPlay; i++)
+            getCardId(buffer);
+
+        int flagsPosition = buffer.position();
+        int endPosition = flagsPosition + (numInPlay + 7) / 8;
+        buffer.position(idsPosition);
+
+        for(int i = 0; i < numInPlay; i++) {
+            Card curCard = pileManager.getCard_UsingCatalogIndex(getCardId(buffer));
+            boolean equipped = (buffer.get(flagsPosition + (i >> 3)) & (1 << (i & 7))) != 0;
+
+            if(!equipped)
+                inPlayCards.addCardToInPlayCards(curCard);
+            else if(!(curCard instanceof ItemCard) || !inPlayCards.equipItem((ItemCard) curCard))
+                throw new IllegalArgumentException("Corrupted snapshot: " + curCard.getName() + " can't be equipped.");
+
+        } // End of for loop.
+
+        buffer.position(endPosition);
+
+        inPlayCards.setIfPlayerIsHuman((flags & HUMAN_FLAG) != 0);
+        inPlayCards.setNumberOfEquippedRaces(numOfEquippedRaces);
+        inPlayCards.setNumberOfEquippedClasses(numOfEquippedClasses);
+
+        if((flags & HALF_BREED_FLAG) != 0)
+            inPlayCards.extendRaceCardLimit_HalfBreedEquipped();
+        else
+            inPlayCards.resetRaceCardLimit_HalfBreedRemoved();
+
+        if((flags & SUPER_MUNCHKIN_FLAG) != 0)
+            inPlayCards.extendClassCardLimit_SuperMunchkinEquipped();
+        else
+            inPlayCards.resetClassCardLimit_SuperMunchkinRemoved();
+
+        // The modifier bonuses, now that the equipment's share is back.
+        player.modifyCombatBonus(combatBonus - (player.getCombatBonus() - inPlayCards.getEquipmentCombatBonus()));
+        player.modifyRunAwayBonus(runAwayBonus - (player.getRunAwayBonus() - inPlayCards.getEquipmentRunAwayBonus()));
+
+    } // End of decodePlayer utility method.
+
+    //------------------------------------------
+    //     VARINTS...
+    //------------------------------------------
+
+    /**
+     * This utility method writes a non-negative int as a varint (7 bits per byte, the high bit telling whether another byte follows).
+     * @param buffer The buffer.
+     * @param value The value (non-negative).
+     */
+    private static void putVarInt(ByteBuffer buffer, int value) {
+
+        while((value & ~0x7F) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+
+        buffer.put((byte) value);
+
+    } // End of putVarInt utility method.
+
+    /**
+     * This utility method reads a varint.
+     * @param buffer The buffer.
+     * @return The value.
+     * @throws IllegalArgumentException If the varint is longer than 5 bytes.
+     */
+    private static int getVarInt(ByteBuffer buffer) {
+
+        int value = 0;
+
+        for(int shift = 0; shift < 35; shift += 7) {
+            byte curByte = buffer.get();
+            value |= (curByte & 0x7F) << shift;
+
+            if(curByte >= 0)
+                return value;
+        }
+
+        throw new IllegalArgumentException("Corrupted snapshot: varint too long.");
+
+    } // End of getVarInt utility method.
+
+    /**
+     * This utility method writes a non-negative long as a varint (7 bits per byte, the high bit telling whether another byte follows).
+     * @param buffer The buffer.
+     * @param value The value (non-negative).
+     */
+    private static void putVarLong(ByteBuffer buffer, long value) {
+
+        while((value & ~0x7FL) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+
+        buffer.put((byte) value);
+
+    } // End of putVarLong utility method.
+
+    /**
+     * This utility method reads a long varint.
+     * @param buffer The buffer.
+     * @return The value.
+     * @throws IllegalArgumentException If the varint is longer than 10 bytes.
+     */
+    private static long getVarLong(ByteBuffer buffer) {
+
+        long value = 0;
+
+        for(int shift = 0; shift < 70; shift += 7) {
+            byte curByte = buffer.get();
+            value |= (long) (curByte & 0x7F) << shift;
+
+            if(curByte >= 0)
+                return value;
+        }
+
+        throw new IllegalArgumentException("Corrupted snapshot: varint too long.");
+
+    } // End of getVarLong utility method.
+
+    /**
+     * This utility method writes a signed int as a zigzag varint (0, -1, 1, -2, ... become 0, 1, 2, 3, ... so small negative values stay short).
+     * @param buffer The buffer.
+     * @param value The value.
+     */
+    private static void putZigZagVarInt(ByteBuffer buffer, int value) {
+        putVarInt(buffer, (value << 1) ^ (value >> 31));
+    }
+
+    /**
+     * This utility method reads a zigzag varint.
+     * @param buffer The buffer.
+     * @return The value.
+     */
+    private static int getZigZagVarInt(ByteBuffer buffer) {
+        int encoded = getVarInt(buffer);
+        return (encoded >>> 1) ^ -(encoded & 1);
+    }
+
+    /**
+     * This utility method reads a card id and checks that it is in the catalog.
+     * @param buffer The buffer.
+     * @return The card id.
+     * @throws IllegalArgumentException If the id isn't in the catalog.
+     */
+    private static int getCardId(ByteBuffer buffer) {
+
+        int cardId = getVarInt(buffer);
+
+        if(cardId < 0 || cardId >= CardCatalog.getCardCount())
+            throw new IllegalArgumentException("Corrupted snapshot: card id " + cardId + ".");
+
+        return cardId;
+
+    } // End of getCardId utility method.
+
+    /**
+     * This utility method reads a number of cards and checks that there are that many cards in the catalog.
+     * @param buffer The buffer.
+     * @return The number of cards.
+     * @throws IllegalArgumentException If there aren't that many cards in the catalog.
+     */
+    private static int getCardCount(ByteBuffer buffer) {
+
+        int count = getVarInt(buffer);
+
+        if(count < 0 || count > CardCatalog.getCardCount())
+            throw new IllegalArgumentException("Corrupted snapshot: " + count + " cards.");
+
+        return count;
+
+    } // End of getCardCount utility method.
+
+} // End of GameSnapshotCodec class.
@@ -0,0 +1,109 @@
+package persistence;
+
+import events.GameEventSink;
+import events.GameEventType;
+
+/**
+ * This class is the event sink of a single journaled game: every event the game publishes is numbered and appended to the EventJournal, then
+ * passed on to another sink (ex: the game's sink on a GameEventBus feeding the console, see GameEventBus.getGameSink, or
+ * GameEventSink.NONE).
+ *
+ * IMPORTANT NOTE: The next sequence number and the last position are what a snapshot of the game must store (see GameSnapshotCodec.encode),
+ * so that recovery knows which journaled events came after it, and where to start reading them.
+ */
+public class JournalEventSink implements GameEventSink {
+
+    //----------------------------------------------------
+    //            INSTANCE VARIABLES
+    //----------------------------------------------------
+
+    // The journal the events are appended to.
+    private final EventJournal journal;
+    // The id of the game.
+    private final int gameId;
+    // The sequence number of the game's next event.
+    private long nextSequence;
+    // The position right after the game's last journaled event (wait for it to be committed to know every event is on the disk).
+    private long lastPosition;
+    // The sink every event is passed on to.
+    private final GameEventSink next;
+
+    //----------------------------------------------------
+    //            CONSTRUCTOR(S)
+    //----------------------------------------------------
+
+    /**
+     * This method constructs a JournalEventSink object.
+     * @param journal The journal the events are appended to.
+     * @param gameId The id of the game.
+     * @param nextSequence The sequence number of the game's next event (0 for a new game, see JournalRecovery for a recovered one).
+     * @param lastPosition The journal position right after the game's last event (0 for a new game, see JournalRecovery for a recovered
+     *                     one).
+     * @param next The sink every event is passed on to (GameEventSink.NONE if none).
+     */
+    public JournalEventSink(EventJournal journal, int gameId, long nextSequence, long lastPosition, GameEventSink next) {
+        this.journal = journal;
+        this.gameId = gameId;
+        this.nextSequence = nextSequence;
+        this.lastPosition = lastPosition;
+        this.next = next;
+    }
+
+    /**
+     * This method constructs a JournalEventSink object for a new game.
+     * @param journal The journal the events are appended to.
+     * @param gameId The id of the game.
+     * @param nextSequence The sequence number of the game's next event (0 for a new game).
+     * @param next The sink every event is passed on to (GameEventSink.NONE if none).
+     */
+    public JournalEventSink(EventJournal journal, int gameId, long nextSequence, GameEventSink next) {
+        this(journal, gameId, nextSequence, 0, next);
+    }
+
+    //----------------------------------------------------
+    //            METHOD(S)
+    //----------------------------------------------------
+
+    /**
+     * This method appends an event to the journal and passes it on.
+     * @param type The event's type.
+     * @param playerTurnNumber The turn number of the player involved, or 0 if no player is.
+     * @param value1 The event's first value.
+     * @param value2 The event's second value.
+     */
+    @Override
+    public void publish(GameEventType type, int playerTurnNumber, int value1, int value2) {
+
+        lastPosition = journal.append(gameId, nextSequence, type, playerTurnNumber, value1, value2);
+        nextSequence++;
+        next.publish(type, playerTurnNumber, value1, value2);
+
+    } // End of publish method.
+
+    /**
+     * This method gets the id of the game.
+     * @return The id of the game.
+     */
+    public int getGameId() {
+        return gameId;
+    }
+
+    /**
+     * This method gets the sequence number of the game's next event, i.e. the number of events journaled so far (store it in the game's
+     * snapshots).
+     * @return The sequence number of the game's next event.
+     */
+    public long getNextSequence() {
+        return nextSequence;
+    }
+
+    /**
+     * This method gets the journal position right after the game's last event (see EventJournal.awaitCommitted), which is also where
+     * replaying the game's next events starts reading (store it in the game's snapshots).
+     * @return The position right after the game's last event, or 0 if it has none yet.
+     */
+    public long getLastPosition() {
+        return lastPosition;
+    }
+
+} // End of JournalEventSink class.
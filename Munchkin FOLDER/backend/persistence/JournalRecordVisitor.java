@@ -0,0 +1,21 @@
+package persistence;
+
+import events.GameEventType;
+
+/**
+ * This interface is called for every record read from an EventJournal (see EventJournal.forEachRecord).
+ */
+public interface JournalRecordVisitor {
+
+    /**
+     * This method handles a record.
+     * @param gameId The id of the game the event belongs to.
+     * @param gameSequence The event's sequence number within its game.
+     * @param type The event's type.
+     * @param playerTurnNumber The turn number of the player involved, or 0 if no player is.
+     * @param value1 The event's first value.
+     * @param value2 The event's second value.
+     */
+    void visit(int gameId, long gameSequence, GameEventType type, int playerTurnNumber, int value1, int value2);
+
+} // End of JournalRecordVisitor interface.
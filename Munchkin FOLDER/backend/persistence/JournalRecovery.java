@@ -0,0 +1,394 @@
+package persistence;
+
+import basic_game_components.Card;
+import basic_game_components.Game;
+import basic_game_components.PileType;
+import basic_game_components.player_stuff.Hand;
+import basic_game_components.player_stuff.InPlayCards;
+import basic_game_components.player_stuff.Player;
+import events.GameEventSink;
+import events.GameEventType;
+import handlers.CurseCardHandler;
+import treasure_cards.ItemCard;
+import utilities.Deck;
+import utilities.PileManager;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.IntFunction;
+
+/**
+ * This class rebuilds games after a crash or a restart: a game's last snapshot is restored (see GameSnapshotCodec), then the events it
+ * journaled after the snapshot was taken are replayed on it, in order (see EventJournal). The journal is only read from the position stored
+ * in the snapshot on, and every live game can be rebuilt in a single pass over the journal (see recoverGames).
+ *
+ * IMPORTANT NOTE: Replaying an event calls the same method that published it (ex: a CARD_DRAWN event draws the top card of the pile), and the
+ * random streams are part of the snapshot, so shuffles and die rolls come out the same. Every replayed event is checked against the game (ex:
+ * the card drawn must be the one journaled), and an IllegalStateException is thrown as soon as they don't match. Events that only describe the
+ * consequences of other events (CURSE_APPLIED and PILE_RESHUFFLED) don't change anything. The journal segments no live game's snapshot needs
+ * anymore are deleted by trimJournal.
+ */
+public final class JournalRecovery {
+
+    //----------------------------------------------------
+    //            CONSTRUCTOR(S)
+    //----------------------------------------------------
+
+    /**
+     * The recovery is never instantiated, it only has static methods.
+     */
+    private JournalRecovery() {}
+
+    //----------------------------------------------------
+    //            METHOD(S)
+    //----------------------------------------------------
+
+    /**
+     * This method rebuilds a game from its last snapshot and the journal, and journals its next events where the old ones left off.
+     * @param journal The journal.
+     * @param gameId The id of the game.
+     * @param snapshot The buffer holding the game's last snapshot (taken with its journal sequence and position, see GameSnapshotCodec.encode).
+     * @param curseCardHandler The handler applying the effects of curse cards in the rebuilt game.
+     * @param next The sink the game's events are passed on to once they are journaled (GameEventSink.NONE if none).
+     * @return The rebuilt game (its event sink is a JournalEventSink).
+     * @throws IllegalArgumentException If the snapshot is corrupted.
+     * @throws IllegalStateException If the journal doesn't match the snapshot.
+     */
+    public static Game recoverGame(EventJournal journal, int gameId, ByteBuffer snapshot, CurseCardHandler curseCardHandler,
+            GameEventSink next) {
+
+        long journalSequence = GameSnapshotCodec.readJournalSequence(snapshot);
+        long journalPosition = GameSnapshotCodec.readJournalPosition(snapshot);
+        Game game = GameSnapshotCodec.decodeNewGame(snapshot, curseCardHandler);
+        long nextSequence = replay(journal, gameId, journalSequence, journalPosition, game);
+
+        // Every record the game has is committed, so its next one comes after the committed position.
+        game.setEventSink(new JournalEventSink(journal, gameId, nextSequence, journal.getCommittedPosition(), next));
+
+        return game;
+
+    } // End of recoverGame method.
+
+    /**
+     * This method rebuilds every live game from its last snapshot, reading the journal only once (from the oldest position the snapshots
+     * stored), and journals their next events where the old ones left off.
+     * @param journal The journal.
+     * @param snapshots The buffer holding each game's last snapshot, by game id (see recoverGame).
+     * @param curseCardHandlers The handler applying the effects of curse cards in each rebuilt game, by game id.
+     * @param nextSinks The sink each game's events are passed on to once they are journaled, by game id (GameEventSink.NONE if none).
+     * @return The rebuilt games, by game id (their event sinks are JournalEventSinks).
+     * @throws IllegalArgumentException If a snapshot is corrupted.
+     * @throws IllegalStateException If the journal doesn't match a snapshot.
+     */
+    public static Map<Integer, Game> recoverGames(EventJournal journal, Map<Integer, ByteBuffer> snapshots,
+            IntFunction<CurseCardHandler> curseCardHandlers, IntFunction<GameEventSink> nextSinks) {
+
+        // The games are sorted by id, so each record finds its game with a binary search.
+        int[] gameIds = new int[snapshots.size()];
+        int numberOfGames = 0;
+
+        for(int gameId : snapshots.keySet())
+            gameIds[numberOfGames++] = gameId;
+
+        Arrays.sort(gameIds);
+
+        GameReplay[] replays = new GameReplay[numberOfGames];
+        long fromPosition = Long.MAX_VALUE;
+
+        for(int i = 0; i < numberOfGames; i++) {
+            ByteBuffer snapshot = snapshots.get(gameIds[i]);
+            long journalSequence = GameSnapshotCodec.readJournalSequence(snapshot);
+
+            fromPosition = Math.min(fromPosition, GameSnapshotCodec.readJournalPosition(snapshot));
+            replays[i] = new GameReplay(gameIds[i], GameSnapshotCodec.decodeNewGame(snapshot, curseCardHandlers.apply(gameIds[i])),
+                journalSequence);
+        }
+
+        if(numberOfGames > 0) {
+            journal.forEachRecord(fromPosition, (gameId, gameSequence, type, playerTurnNumber, value1, value2) -> {
+                int index = Arrays.binarySearch(gameIds, gameId);
+
+                if(index >= 0)
+                    replays[index].replayRecord(gameSequence, type, playerTurnNumber, value1, value2);
+            });
+        }
+
+        Map<Integer, Game> games = new HashMap<>();
+        long committedPosition = journal.getCommittedPosition();
+
+        for(GameReplay replay : replays) {
+            replay.game.setEventSink(new JournalEventSink(journal, replay.gameId, replay.nextSequence, committedPosition,
+                nextSinks.apply(replay.gameId)));
+            games.put(replay.gameId, replay.game);
+        }
+
+        return games;
+
+    } // End of recoverGames method.
+
+    /**
+     * This method replays the events a game journaled from a certain sequence number on, reading the whole journal. The game's event sink
+     * receives no events while they are replayed.
+     * @param journal The journal.
+     * @param gameId The id of the game.
+     * @param fromSequence The sequence number of the first event to replay (the journal sequence of the snapshot the game was restored from).
+     * @param game The game, as restored from its snapshot.
+     * @return The sequence number of the game's next event.
+     * @throws IllegalStateException If the journal doesn't match the game (ex: an event is missing).
+     */
+    public static long replay(EventJournal journal, int gameId, long fromSequence, Game game) {
+        return replay(journal, gameId, fromSequence, 0, game);
+    }
+
+    /**
+     * This method replays the events a game journaled from a certain sequence number on, reading the journal from a certain position on. The
+     * game's event sink receives no events while they are replayed.
+     * @param journal The journal.
+     * @param gameId The id of the game.
+     * @param fromSequence The sequence number of the first event to replay (the journal sequence of the snapshot the game was restored from).
+     * @param fromPosition The position the game's first event to replay can't be before (the journal position of the snapshot).
+     * @param game The game, as restored from its snapshot.
+     * @return The sequence number of the game's next event.
+     * @throws IllegalStateException If the journal doesn't match the game (ex: an event is missing).
+     */
+    public static long replay(EventJournal journal, int gameId, long fromSequence, long fromPosition, Game game) {
+
+        GameReplay replay = new GameReplay(gameId, game, fromSequence);
+
+        GameEventSink eventSink = game.getEventSink();
+        game.setEventSink(GameEventSink.NONE);
+
+        try {
+            journal.forEachRecord(fromPosition, (recordGameId, gameSequence, type, playerTurnNumber, value1, value2) -> {
+                if(recordGameId == gameId)
+                    replay.replayRecord(gameSequence, type, playerTurnNumber, value1, value2);
+            });
+        }
+        finally {
+            game.setEventSink(eventSink);
+        }
+
+        return replay.nextSequence;
+
+    } // End of replay method.
+
+    /**
+     * This method deletes the journal segments the live games don't need anymore: the ones before the oldest journal position stored in their
+     * snapshots (see EventJournal.deleteSegmentsBefore). Call it once the new snapshots are kept, and not while a game is recovered.
+     * @param journal The journal.
+     * @param snapshots The buffers holding the last snapshot of every live game.
+     * @return The number of segment files deleted.
+     * @throws IllegalArgumentException If a buffer doesn't hold a snapshot.
+     */
+    public static int trimJournal(EventJournal journal, Collection<ByteBuffer> snapshots) {
+
+        long oldestPosition = Long.MAX_VALUE;
+
+        for(ByteBuffer snapshot : snapshots)
+            oldestPosition = Math.min(oldestPosition, GameSnapshotCodec.readJournalPosition(snapshot));
+
+        return journal.deleteSegmentsBefore(oldestPosition);
+
+    } // End of trimJournal method.
+
+    /**
+     * This method applies a single journaled event to a game, by calling the method that published it.
+     * @param game The game.
+     * @param type The event's type.
+     * @param playerTurnNumber The turn number of the player involved, or 0 if no player is.
+     * @param value1 The event's first value.
+     * @param value2 The event's second value.
+     * @throws IllegalStateException If the event doesn't match the game.
+     */
+    public static void applyEvent(Game game, GameEventType type, int playerTurnNumber, int value1, int value2) {
+
+        PileManager pileManager = game.getPileManager();
+        Player player = (playerTurnNumber > 0) ? game.getPlayers().get(playerTurnNumber - 1) : null;
+
+        switch(type) {
+            case CARD_DRAWN: {
+                Card card = (PileType.fromOrdinal(value2) == PileType.DOOR) ? pileManager.drawDoorCard() : pileManager.drawTreasureCard();
+                check(card != null && card.getId() == value1, "drew another card than the journaled one");
+                break;
+            }
+            case CARD_DISCARDED: {
+                Card card = pileManager.getCard_UsingCatalogIndex(value1);
+
+                if(PileType.fromOrdinal(value2) == PileType.DOOR)
+                    pileManager.discardDoorCard(card);
+                else
+                    pileManager.discardTreasureCard(card);
+                break;
+            }
+            case CARD_TAKEN_FROM_DISCARDS: {
+                Deck doorPile = pileManager.getDoorPile();
+                int position = doorPile.getDiscardsSize() - 1;
+
+                while(position >= 0 && doorPile.getDiscardCardId(position) != value1)
+                    position--;
+
+                check(position >= 0, "the card taken isn't in the door discards");
+                pileManager.takeDoorDiscard(position);
+                break;
+            }
+            case CARD_ADDED_TO_HAND:
+                player.getHand().addCardToHand(pileManager.getCard_UsingCatalogIndex(value1));
+                break;
+            case CARD_REMOVED_FROM_HAND: {
+                Hand hand = player.getHand();
+                int location = hand.getNumberOfCards();
+
+                while(location >= 1 && hand.getCard_UsingCardLocationNumber(location).getId() != value1)
+                    location--;
+
+                check(location >= 1, "the card removed isn't in the hand");
+                hand.removeCard_UsingCardLocationNumber(location);
+                break;
+            }
+            case CARD_ADDED_TO_IN_PLAY: {
+                Card card = pileManager.getCard_UsingCatalogIndex(value1);
+
+                if(value2 == 1)
+                    check(card instanceof ItemCard && player.getInPlayCards().equipItem((ItemCard) card), "the item can't be equipped");
+                else
+                    player.getInPlayCards().addCardToInPlayCards(card);
+                break;
+            }
+            case CARD_REMOVED_FROM_IN_PLAY: {
+                InPlayCards inPlayCards = player.getInPlayCards();
+                int location = inPlayCards.searchForCard_ReturnCardLocationNumber(pileManager.getCard_UsingCatalogIndex(value1));
+
+                check(location >= 1, "the card removed isn't in play");
+                inPlayCards.removeCard_UsingCardLocationNumber(location);
+                break;
+            }
+            case LEVEL_CHANGED:
+                player.setLevel(value1);
+                break;
+            case DIE_ROLLED:
+                check(player.getDie().roll() == value1, "rolled another result than the journaled one");
+                break;
+            case SEX_CHANGED:
+                if(player.getSex().equals("female") != (value1 == 1))
+                    player.changeSex();
+                break;
+            case COMBAT_BONUS_CHANGED:
+                player.modifyCombatBonus(value2);
+                break;
+            case RUN_AWAY_BONUS_CHANGED:
+                player.modifyRunAwayBonus(value2);
+                break;
+            case GOLD_CHANGED:
+                player.addGold(value2);
+                break;
+            case HAND_LIMIT_CHANGED:
+                // The hand limit follows the race cards replayed before it (see PlayerStats).
+                check(player.getHand().getHandLimit() == value1, "the hand limit doesn't follow the races in play");
+                break;
+            case CHICKEN_ON_HEAD_CHANGED:
+                player.getDie().setChickenOnYourHead_TrueOrFalse(value1 == 1);
+                break;
+            case RACES_CHANGED:
+                player.getInPlayCards().setNumberOfEquippedRaces(value1);
+
+                if(value2 > 1)
+                    player.getInPlayCards().extendRaceCardLimit_HalfBreedEquipped();
+                else
+                    player.getInPlayCards().resetRaceCardLimit_HalfBreedRemoved();
+                break;
+            case CLASSES_CHANGED:
+                player.getInPlayCards().setNumberOfEquippedClasses(value1);
+
+                if(value2 > 1)
+                    player.getInPlayCards().extendClassCardLimit_SuperMunchkinEquipped();
+                else
+                    player.getInPlayCards().resetClassCardLimit_SuperMunchkinRemoved();
+                break;
+            case HUMAN_STATUS_CHANGED:
+                player.getInPlayCards().setIfPlayerIsHuman(value1 == 1);
+                break;
+            case TURN_ENDED:
+                game.endTurn();
+                check(game.getTurnCount() == value1, "the turn count doesn't match");
+                break;
+            default:
+                // CURSE_APPLIED and PILE_RESHUFFLED only describe the consequences of other events.
+                break;
+
+        } // End of switch statement.
+
+    } // End of applyEvent method.
+
+    /**
+     * This utility method throws an IllegalStateException if a replayed event doesn't match the game.
+     * @param condition The condition that must be true.
+     * @param problem What doesn't match.
+     */
+    private static void check(boolean condition, String problem) {
+        if(!condition)
+            throw new IllegalStateException("The journal doesn't match the game: " + problem + ".");
+    }
+
+    //----------------------------------------------------
+    //            REPLAYS
+    //----------------------------------------------------
+
+    /**
+     * This class holds a game being replayed, and the sequence number of the next event it must be given.
+     */
+    private static final class GameReplay {
+
+        // The id of the game.
+        private final int gameId;
+        // The game, restored from its snapshot.
+        private final Game game;
+        // The sequence number of the next event to replay.
+        private long nextSequence;
+
+        /**
+         * This method constructs a GameReplay object.
+         * @param gameId The id of the game.
+         * @param game The game, restored from its snapshot.
+         * @param fromSequence The sequence number of the first event to replay (the journal sequence of the snapshot).
+         */
+        private GameReplay(int gameId, Game game, long fromSequence) {
+            this.gameId = gameId;
+            this.game = game;
+            nextSequence = fromSequence;
+        }
+
+        /**
+         * This method replays one of the game's records, unless its event is already in the snapshot.
+         * @param gameSequence The event's sequence number within the game.
+         * @param type The event's type.
+         * @param playerTurnNumber The turn number of the player involved, or 0 if no player is.
+         * @param value1 The event's first value.
+         * @param value2 The event's second value.
+         * @throws IllegalStateException If the record doesn't match the game (ex: events are missing before it).
+         */
+        private void replayRecord(long gameSequence, GameEventType type, int playerTurnNumber, int value1, int value2) {
+
+            if(gameSequence < nextSequence)
+                return;
+
+            if(gameSequence != nextSequence)
+                throw new IllegalStateException("Couldn't replay game " + gameId + " at event " + nextSequence + ": it is missing journaled"
+                    + " events " + nextSequence + " to " + (gameSequence - 1) + ".");
+
+            try {
+                applyEvent(game, type, playerTurnNumber, value1, value2);
+            }
+            catch(IllegalStateException e) {
+                throw new IllegalStateException("Couldn't replay game " + gameId + " at event " + nextSequence + ": " + e.getMessage(), e);
+            }
+
+            nextSequence++;
+
+        } // End of replayRecord method.
+
+    } // End of GameReplay class.
+
+} // End of JournalRecovery class.
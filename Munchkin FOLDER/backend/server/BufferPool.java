@@ -0,0 +1,122 @@
+package server;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * This class keeps a pool of direct byte buffers of the same size, so the server reads and writes its frames without allocating (and without
+ * the copy the JVM makes when a heap buffer is written to a socket). Any thread can acquire and release buffers.
+ *
+ * IMPORTANT NOTE: The pool grows when it is empty, and keeps up to its maximum number of idle buffers (the rest are left to the garbage
+ * collector). A released buffer must not be used anymore by whoever released it.
+ */
+public class BufferPool {
+
+    //----------------------------------------------------
+    //            INSTANCE VARIABLES
+    //----------------------------------------------------
+
+    // The size of every buffer in the pool.
+    private final int bufferSize;
+    // The maximum number of idle buffers kept in the pool.
+    private final int maxIdleBuffers;
+    // The idle buffers.
+    private final ConcurrentLinkedQueue<ByteBuffer> idleBuffers;
+    // The number of idle buffers (the queue's own size is slow to count).
+    private final AtomicInteger idleCount;
+    // The number of buffers allocated because the pool was empty.
+    private final LongAdder allocatedCount;
+    // The number of buffers acquired from the pool.
+    private final LongAdder acquiredCount;
+
+    //----------------------------------------------------
+    //            CONSTRUCTOR(S)
+    //----------------------------------------------------
+
+    /**
+     * This method constructs a BufferPool object (empty: buffers are allocated the first time they are needed).
+     * @param bufferSize The size of every buffer in the pool.
+     * @param maxIdleBuffers The maximum number of idle buffers kept in the pool.
+     */
+    public BufferPool(int bufferSize, int maxIdleBuffers) {
+        this.bufferSize = bufferSize;
+        this.maxIdleBuffers = maxIdleBuffers;
+        idleBuffers = new ConcurrentLinkedQueue<>();
+        idleCount = new AtomicInteger();
+        allocatedCount = new LongAdder();
+        acquiredCount = new LongAdder();
+    }
+
+    //----------------------------------------------------
+    //            METHOD(S)
+    //----------------------------------------------------
+
+    /**
+     * This method gets a buffer from the pool (or allocates one if the pool is empty).
+     * @return A cleared buffer of the pool's size.
+     */
+    public ByteBuffer acquire() {
+
+        acquiredCount.increment();
+        ByteBuffer buffer = idleBuffers.poll();
+
+        if(buffer == null) {
+            allocatedCount.increment();
+            return ByteBuffer.allocateDirect(bufferSize);
+        }
+
+        idleCount.decrementAndGet();
+        buffer.clear();
+
+        return buffer;
+
+    } // End of acquire method.
+
+    /**
+     * This method gives a buffer back to the pool.
+     * @param buffer A buffer acquired from the pool.
+     */
+    public void release(ByteBuffer buffer) {
+
+        if(idleCount.incrementAndGet() <= maxIdleBuffers)
+            idleBuffers.offer(buffer);
+        else
+            idleCount.decrementAndGet();
+
+    } // End of release method.
+
+    /**
+     * This method gets the size of every buffer in the pool.
+     * @return The size of the buffers.
+     */
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    /**
+     * This method gets the number of idle buffers in the pool.
+     * @return The number of idle buffers.
+     */
+    public int getIdleCount() {
+        return idleCount.get();
+    }
+
+    /**
+     * This method gets the number of buffers allocated because the pool was empty.
+     * @return The number of buffers allocated.
+     */
+    public long getAllocatedCount() {
+        return allocatedCount.sum();
+    }
+
+    /**
+     * This method gets the number of buffers acquired from the pool (the ones allocated included).
+     * @return The number of buffers acquired.
+     */
+    public long getAcquiredCount() {
+        return acquiredCount.sum();
+    }
+
+} // End of BufferPool class.
@@ -0,0 +1,254 @@
+package server;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * This class is a client connected to the GameServer: its socket, the partial frame it is sending (if any), and the frames waiting to be
+ * written to it.
+ *
+ * IMPORTANT NOTE: Only the server's selector thread reads from and writes to the socket. Any thread (usually a game's actor) can send frames
+ * to the client: they are queued, and the first frame queued while the client had nothing waiting asks the selector thread to write.
+ */
+public class ClientConnection {
+
+    //----------------------------------------------------
+    //            INSTANCE VARIABLES
+    //----------------------------------------------------
+
+    // The maximum number of frames written to the socket at once.
+    static final int MAX_FRAMES_PER_WRITE = 16;
+
+    // The socket.
+    private final SocketChannel channel;
+    // The server the client is connected to.
+    private final GameServer server;
+    // The frames waiting to be written.
+    private final ConcurrentLinkedQueue<OutboundFrame> outboundFrames;
+    // Whether or not the selector thread was asked to write the waiting frames.
+    private final AtomicBoolean writeScheduled;
+    // Whether or not the connection was closed.
+    private volatile boolean closed;
+    // The key of the socket in the server's selector (only used by the selector thread).
+    private SelectionKey selectionKey;
+    // The pooled buffer holding the start of a frame not fully received yet, or null if there is none (only used by the selector thread).
+    private ByteBuffer readBuffer;
+    // The number of bytes of the first waiting frame already written to the socket (only used by the selector thread).
+    private int firstFrameOffset;
+    // The id of the game the client plays in, or 0 if none (set by the game's actor).
+    private final AtomicInteger joinedGameId;
+
+    //----------------------------------------------------
+    //            CONSTRUCTOR(S)
+    //----------------------------------------------------
+
+    /**
+     * This method constructs a ClientConnection object.
+     * @param channel The socket.
+     * @param server The server the client is connected to.
+     */
+    ClientConnection(SocketChannel channel, GameServer server) {
+        this.channel = channel;
+        this.server = server;
+        outboundFrames = new ConcurrentLinkedQueue<>();
+        writeScheduled = new AtomicBoolean(false);
+        closed = false;
+        selectionKey = null;
+        readBuffer = null;
+        firstFrameOffset = 0;
+        joinedGameId = new AtomicInteger(0);
+    }
+
+    //----------------------------------------------------
+    //            METHOD(S)
+    //----------------------------------------------------
+
+    /**
+     * This method sends a finished frame to the client. The frame's reference is handed over to the connection, which releases it once the
+     * frame is written (or right away if the connection is closed, even if it is closed while the frame is being queued).
+     * @param frame The frame.
+     */
+    public void send(OutboundFrame frame) {
+
+        if(closed) {
+            frame.release();
+            return;
+        }
+
+        outboundFrames.offer(frame);
+
+        // The connection may have been closed (and its frames released) in the meantime: nothing would release this frame then.
+        if(closed) {
+            releaseOutboundFrames();
+            return;
+        }
+
+        if(writeScheduled.compareAndSet(false, true))
+            server.scheduleWrite(this);
+
+    } // End of send method.
+
+    /**
+     * This method checks if the connection was closed.
+     * @return True if the connection was closed, false if it is still open.
+     */
+    public boolean checkIf_Closed() {
+        return closed;
+    }
+
+    /**
+     * This method gets the socket.
+     * @return The socket.
+     */
+    SocketChannel getChannel() {
+        return channel;
+    }
+
+    /**
+     * This method gets the key of the socket in the server's selector.
+     * @return The selection key.
+     */
+    SelectionKey getSelectionKey() {
+        return selectionKey;
+    }
+
+    /**
+     * This method sets the key of the socket in the server's selector.
+     * @param selectionKey The selection key.
+     */
+    void setSelectionKey(SelectionKey selectionKey) {
+        this.selectionKey = selectionKey;
+    }
+
+    /**
+     * This method gets the buffer holding the start of a frame not fully received yet.
+     * @return The read buffer, or null if there is none.
+     */
+    ByteBuffer getReadBuffer() {
+        return readBuffer;
+    }
+
+    /**
+     * This method sets the buffer holding the start of a frame not fully received yet.
+     * @param readBuffer The read buffer, or null if there is none.
+     */
+    void setReadBuffer(ByteBuffer readBuffer) {
+        this.readBuffer = readBuffer;
+    }
+
+    /**
+     * This method gets the id of the game the client plays in.
+     * @return The id of the game, or 0 if the client hasn't joined one.
+     */
+    public int getJoinedGameId() {
+        return joinedGameId.get();
+    }
+
+    /**
+     * This method records that the client joined a game (called by the game's actor). A client plays in one game at a time.
+     * @param gameId The id of the game.
+     * @return True if the client joined the game, false if it already plays in one.
+     */
+    boolean tryToJoinGame(int gameId) {
+        return joinedGameId.compareAndSet(0, gameId);
+    }
+
+    /**
+     * This method records that the client left its game (called by the game's actor).
+     */
+    void leaveGame() {
+        joinedGameId.set(0);
+    }
+
+    /**
+     * This method writes as many waiting frames as the socket accepts, several at once (only called by the selector thread).
+     * @param buffers An array of MAX_FRAMES_PER_WRITE buffers the method can use.
+     * @param frames An array of MAX_FRAMES_PER_WRITE frames the method can use.
+     * @return True if every waiting frame was written, false if the socket is full.
+     * @throws IOException If the socket was closed by the client.
+     */
+    boolean writeFrames(ByteBuffer[] buffers, OutboundFrame[] frames) throws IOException {
+
+        // Clear the flag first, so a frame queued from now on asks for another write.
+        writeScheduled.set(false);
+
+        while(true) {
+            int numberOfFrames = 0;
+
+            for(OutboundFrame curFrame : outboundFrames) {
+                buffers[numberOfFrames] = curFrame.prepareToWrite(numberOfFrames == 0 ? firstFrameOffset : 0);
+                frames[numberOfFrames] = curFrame;
+
+                if(++numberOfFrames == MAX_FRAMES_PER_WRITE)
+                    break;
+            }
+
+            if(numberOfFrames == 0)
+                return true;
+
+            channel.write(buffers, 0, numberOfFrames);
+
+            // Release the frames written completely, and remember how much of the next one was.
+            for(int i = 0; i < numberOfFrames; i++) {
+                if(buffers[i].hasRemaining()) {
+                    firstFrameOffset = buffers[i].position();
+                    return false;
+                }
+
+                outboundFrames.poll();
+                frames[i].release();
+                firstFrameOffset = 0;
+
+            } // End of for loop.
+
+        } // End of while loop.
+
+    } // End of writeFrames method.
+
+    /**
+     * This method closes the connection: the socket is closed, and the frames still waiting are released (only called by the selector
+     * thread).
+     * @param bufferPool The pool the read buffer goes back to.
+     */
+    void close(BufferPool bufferPool) {
+
+        closed = true;
+
+        if(selectionKey != null)
+            selectionKey.cancel();
+
+        try {
+            channel.close();
+        }
+        catch(IOException e) {
+            // The socket is gone either way.
+        }
+
+        if(readBuffer != null) {
+            bufferPool.release(readBuffer);
+            readBuffer = null;
+        }
+
+        releaseOutboundFrames();
+
+    } // End of close method.
+
+    /**
+     * This utility method releases the frames still waiting (once the connection is closed). Both the selector thread and a sending thread
+     * can call it at once: each frame is only polled, and so released, once.
+     */
+    private void releaseOutboundFrames() {
+
+        OutboundFrame frame;
+
+        while((frame = outboundFrames.poll()) != null)
+            frame.release();
+
+    } // End of releaseOutboundFrames utility method.
+
+} // End of ClientConnection class.
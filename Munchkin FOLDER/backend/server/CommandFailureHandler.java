@@ -0,0 +1,27 @@
+package server;
+
+/**
+ * This interface is told about every command a GameActor couldn't execute (the command, or the end of batch command, threw an exception,
+ * or an Error such as a StackOverflowError or an AssertionError). The game itself goes on: the actor executes the next commands as usual.
+ * Any other VirtualMachineError (ex: an OutOfMemoryError) isn't reported: it is thrown on, since the whole server is in trouble.
+ *
+ * IMPORTANT NOTE: The handler is called by the game's actor, on a carrier thread shared with other games, so it must return quickly (ex: log
+ * the failure, or count it by game). An exception it throws is ignored.
+ */
+@FunctionalInterface
+public interface CommandFailureHandler {
+
+    // The handler that prints every failure, with its game id and stack trace, to the standard error stream (the default of every host).
+    CommandFailureHandler PRINT_STACK_TRACE = (gameId, exception) -> {
+        System.err.println("A command of game " + gameId + " failed:");
+        exception.printStackTrace();
+    };
+
+    /**
+     * This method is called when a command of a game threw an exception or an Error.
+     * @param gameId The id of the game.
+     * @param exception The exception or Error the command threw.
+     */
+    void commandFailed(int gameId, Throwable exception);
+
+} // End of CommandFailureHandler interface.
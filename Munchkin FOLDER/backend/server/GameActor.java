@@ -0,0 +1,288 @@
+package server;
+
+import basic_game_components.Game;
+
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+/**
+ * This class is the single writer of a hosted game: it owns the game (its piles, players and handlers), and executes the commands sent to it
+ * from its mailbox, one at a time. Any number of threads can send commands to the same actor.
+ *
+ * IMPORTANT NOTE: An actor has no thread of its own. When a command arrives in an empty mailbox, the actor is scheduled on the host's carrier
+ * threads, runs the commands waiting in its mailbox (at most MAX_COMMANDS_PER_RUN, so a busy game can't starve the others), and gives the
+ * carrier thread back. The "scheduled" flag makes sure only one carrier thread runs a given actor at a time, and setting it and clearing it
+ * also publishes the game's state from one carrier thread to the next, so the game itself never needs a lock. An idle game costs nothing but
+ * its memory. The flag is cleared however the run ends, so a command throwing an Error can't leave the game stuck with its mailbox growing.
+ */
+public class GameActor implements Runnable {
+
+    //----------------------------------------------------
+    //            INSTANCE VARIABLES
+    //----------------------------------------------------
+
+    // The maximum number of commands an actor executes before giving its carrier thread back to the other games.
+    public static final int MAX_COMMANDS_PER_RUN = 64;
+
+    // The id of the game.
+    private final int gameId;
+    // The game (only touched by the commands, on whichever carrier thread is running the actor).
+    private final Game game;
+    // The carrier threads the actor is scheduled on.
+    private final Executor carriers;
+    // Who is told about the commands that threw an exception.
+    private final CommandFailureHandler failureHandler;
+    // The commands waiting to be executed.
+    private final Queue<GameCommand> mailbox;
+    // Whether or not the actor is waiting for, or running on, a carrier thread.
+    private final AtomicBoolean scheduled;
+    // The command executed after each batch of commands (ex: sending the batch's changes to the clients), or null if none.
+    private volatile GameCommand endOfBatchCommand;
+    // Whether or not the actor was stopped (the commands already in the mailbox are still executed).
+    private volatile boolean stopped;
+    // The number of commands executed so far (only written by the actor).
+    private volatile long executedCount;
+    // The number of commands that threw an exception (only written by the actor).
+    private volatile long failedCount;
+
+    //----------------------------------------------------
+    //            CONSTRUCTOR(S)
+    //----------------------------------------------------
+
+    /**
+     * This method constructs a GameActor object. The game must not be used by anything else from then on.
+     * @param gameId The id of the game.
+     * @param game The game.
+     * @param carriers The carrier threads the actor is scheduled on.
+     * @param failureHandler Who is told about the commands that threw an exception.
+     */
+    public GameActor(int gameId, Game game, Executor carriers, CommandFailureHandler failureHandler) {
+        this.gameId = gameId;
+        this.game = game;
+        this.carriers = carriers;
+        this.failureHandler = failureHandler;
+        mailbox = new ConcurrentLinkedQueue<>();
+        scheduled = new AtomicBoolean(false);
+        endOfBatchCommand = null;
+        stopped = false;
+        executedCount = 0;
+        failedCount = 0;
+    }
+
+    /**
+     * This method constructs a GameActor object that prints the commands that threw an exception (see
+     * CommandFailureHandler.PRINT_STACK_TRACE). The game must not be used by anything else from then on.
+     * @param gameId The id of the game.
+     * @param game The game.
+     * @param carriers The carrier threads the actor is scheduled on.
+     */
+    public GameActor(int gameId, Game game, Executor carriers) {
+        this(gameId, game, carriers, CommandFailureHandler.PRINT_STACK_TRACE);
+    }
+
+    //----------------------------------------------------
+    //            METHOD(S)
+    //----------------------------------------------------
+
+    /**
+     * This method sends a command to the actor. It returns right away: the command is executed later, on a carrier thread.
+     * @param command The command.
+     * @return True if the command was put in the mailbox, false if the actor was stopped.
+     */
+    public boolean tell(GameCommand command) {
+
+        if(stopped)
+            return false;
+
+        mailbox.offer(command);
+        schedule();
+
+        return true;
+
+    } // End of tell method.
+
+    /**
+     * This method sends a query to the actor, and gets its answer later (ex: a snapshot of the game, or whose turn it is).
+     * @param <T> The type of the answer.
+     * @param query The query, executed by the actor like any other command (its answer must not be part of the game).
+     * @return The answer, completed exceptionally if the query threw an exception or if the actor was stopped.
+     */
+    public <T> CompletableFuture<T> ask(Function<Game, T> query) {
+
+        CompletableFuture<T> answer = new CompletableFuture<>();
+
+        GameCommand command = curGame -> {
+            try {
+                answer.complete(query.apply(curGame));
+            }
+            catch(RuntimeException | Error e) {
+                answer.completeExceptionally(e);
+                throw e;
+            }
+        };
+
+        if(!tell(command))
+            answer.completeExceptionally(new IllegalStateException("Game " + gameId + " was stopped."));
+
+        return answer;
+
+    } // End of ask method.
+
+    /**
+     * This method sets a command executed after each batch of commands the actor runs (a batch is every command waiting in the mailbox, up to
+     * MAX_COMMANDS_PER_RUN). It is how a game's changes are sent once per batch instead of once per command.
+     * @param endOfBatchCommand The command, or null for none. If it throws an exception, it counts (and is reported) as a failed command.
+     */
+    public void setEndOfBatchCommand(GameCommand endOfBatchCommand) {
+        this.endOfBatchCommand = endOfBatchCommand;
+    }
+
+    /**
+     * This method stops the actor: commands sent from then on are refused, but the ones already in the mailbox are still executed.
+     */
+    public void stop() {
+        stopped = true;
+    }
+
+    /**
+     * This method runs the commands waiting in the mailbox (called by the carrier threads, never directly).
+     */
+    @Override
+    public void run() {
+
+        long executed = executedCount;
+        long failed = failedCount;
+
+        try {
+            for(int i = 0; i < MAX_COMMANDS_PER_RUN; i++) {
+                GameCommand command = mailbox.poll();
+
+                if(command == null)
+                    break;
+
+                executed++;
+
+                try {
+                    command.execute(game);
+                }
+                catch(RuntimeException | Error e) {
+                    if(checkIf_Fatal(e))
+                        throw e;
+
+                    // A failed command doesn't stop the game: the next ones are executed as usual.
+                    failed++;
+                    reportFailure(e);
+                }
+
+            } // End of for loop.
+
+            GameCommand endOfBatch = endOfBatchCommand;
+
+            if(endOfBatch != null && executed != executedCount) {
+                try {
+                    endOfBatch.execute(game);
+                }
+                catch(RuntimeException | Error e) {
+                    if(checkIf_Fatal(e))
+                        throw e;
+
+                    failed++;
+                    reportFailure(e);
+                }
+            }
+        }
+        finally {
+            executedCount = executed;
+            failedCount = failed;
+
+            // Give the carrier thread back, then make sure a command sent in the meantime isn't left waiting (even if the run was cut short).
+            scheduled.set(false);
+
+            if(!mailbox.isEmpty())
+                schedule();
+        }
+
+    } // End of run method.
+
+    /**
+     * This method gets the id of the game.
+     * @return The id of the game.
+     */
+    public int getGameId() {
+        return gameId;
+    }
+
+    /**
+     * This method checks if the actor was stopped.
+     * @return True if the actor was stopped, false if it still accepts commands.
+     */
+    public boolean checkIf_Stopped() {
+        return stopped;
+    }
+
+    /**
+     * This method checks if the actor has no command waiting to be executed.
+     * @return True if the mailbox is empty, false if it isn't.
+     */
+    public boolean checkIf_MailboxIsEmpty() {
+        return mailbox.isEmpty();
+    }
+
+    /**
+     * This method gets the number of commands executed so far (including the ones that failed).
+     * @return The number of commands executed so far.
+     */
+    public long getExecutedCount() {
+        return executedCount;
+    }
+
+    /**
+     * This method gets the number of commands that threw an exception.
+     * @return The number of commands that failed.
+     */
+    public long getFailedCount() {
+        return failedCount;
+    }
+
+    /**
+     * This utility method tells the failure handler about a command that threw an exception or an Error.
+     * @param exception The exception or Error the command threw.
+     */
+    private void reportFailure(Throwable exception) {
+
+        try {
+            failureHandler.commandFailed(gameId, exception);
+        }
+        catch(RuntimeException | Error e) {
+            // A failing handler doesn't stop the game either.
+            if(checkIf_Fatal(e))
+                throw e;
+        }
+
+    } // End of reportFailure utility method.
+
+    /**
+     * This utility method checks if an Error thrown by a command is one the game can't go on after: a VirtualMachineError (ex: an
+     * OutOfMemoryError), except for a StackOverflowError, whose stack is unwound by the time it is caught.
+     * @param error The exception or Error.
+     * @return True if it must be thrown on, false if it is reported like a failed command.
+     */
+    private static boolean checkIf_Fatal(Throwable error) {
+        return error instanceof VirtualMachineError && !(error instanceof StackOverflowError);
+    }
+
+    /**
+     * This utility method puts the actor on the carrier threads' queue, unless it is already there or running.
+     */
+    private void schedule() {
+
+        if(scheduled.compareAndSet(false, true))
+            carriers.execute(this);
+
+    } // End of schedule utility method.
+
+} // End of GameActor class.
@@ -0,0 +1,244 @@
+package server;
+
+import events.GameEventSink;
+import events.GameEventType;
+
+import java.nio.ByteBuffer;
+
+/**
+ * This class is the event sink of a game hosted by the GameServer: it collects the changes the game's actor makes while running a batch of
+ * commands (a "tick"), so the GameRoom can send each client the tick's changes as a single small GAME_DELTA frame instead of the whole game.
+ *
+ * IMPORTANT NOTE: The events published by the piles, hands, in play cards and players already describe every change to the game, so they are
+ * what is tracked. A player's attributes (level, gold, bonuses, etc.) are coalesced: a tick that changes the same attribute several times only
+ * sends its last value once, with the changes summed. If a tick makes more than MAX_ENTRIES changes, the tracker overflows and the clients get
+ * their whole view of the game again instead. Like the game, a tracker is only used by the game's actor, so it needs no lock.
+ */
+public class GameChangeTracker implements GameEventSink {
+
+    //----------------------------------------------------
+    //            INSTANCE VARIABLES
+    //----------------------------------------------------
+
+    // The maximum number of changes kept per tick (a GAME_DELTA frame with that many changes still fits in a frame, with the tick's results).
+    public static final int MAX_ENTRIES = 256;
+
+    // The changes made during the current tick, in order.
+    private final int[] types;
+    private final int[] playerTurnNumbers;
+    private final int[] values1;
+    private final int[] values2;
+    private int numberOfEntries;
+    // The entry holding each player's attribute (index: player turn number * number of event types + event type ordinal) plus 1, 0 if none.
+    private final int[] attributeEntries;
+    // Whether or not the current tick made more than MAX_ENTRIES changes.
+    private boolean overflowed;
+    // The number of ticks that changed the game so far.
+    private int version;
+    // The sink every event is passed on to.
+    private final GameEventSink next;
+
+    //----------------------------------------------------
+    //            CONSTRUCTOR(S)
+    //----------------------------------------------------
+
+    /**
+     * This method constructs a GameChangeTracker object.
+     * @param numberOfPlayers The number of players in the game.
+     * @param next The sink every event is passed on to (GameEventSink.NONE if none).
+     */
+    public GameChangeTracker(int numberOfPlayers, GameEventSink next) {
+        this.next = next;
+        types = new int[MAX_ENTRIES];
+        playerTurnNumbers = new int[MAX_ENTRIES];
+        values1 = new int[MAX_ENTRIES];
+        values2 = new int[MAX_ENTRIES];
+        numberOfEntries = 0;
+        attributeEntries = new int[(numberOfPlayers + 1) * GameEventType.count()];
+        overflowed = false;
+        version = 0;
+    }
+
+    //----------------------------------------------------
+    //            METHOD(S)
+    //----------------------------------------------------
+
+    /**
+     * This method records a change made during the current tick, and passes the event on.
+     * @param type The event's type.
+     * @param playerTurnNumber The turn number of the player involved, or 0 if no player is.
+     * @param value1 The event's first value.
+     * @param value2 The event's second value.
+     */
+    @Override
+    public void publish(GameEventType type, int playerTurnNumber, int value1, int value2) {
+
+        next.publish(type, playerTurnNumber, value1, value2);
+
+        if(overflowed)
+            return;
+
+        boolean attribute = checkIf_Attribute(type);
+        int attributeIndex = playerTurnNumber * GameEventType.count() + type.ordinal();
+
+        if(attribute && attributeEntries[attributeIndex] != 0) {
+            int entry = attributeEntries[attributeIndex] - 1;
+            values1[entry] = value1;
+            values2[entry] = checkIf_ChangeSummed(type) ? values2[entry] + value2 : value2;
+            return;
+        }
+
+        if(numberOfEntries == MAX_ENTRIES) {
+            overflowed = true;
+            return;
+        }
+
+        types[numberOfEntries] = type.ordinal();
+        playerTurnNumbers[numberOfEntries] = playerTurnNumber;
+        values1[numberOfEntries] = value1;
+        values2[numberOfEntries] = value2;
+        numberOfEntries++;
+
+        if(attribute)
+            attributeEntries[attributeIndex] = numberOfEntries;
+
+    } // End of publish method.
+
+    /**
+     * This method checks if the current tick changed the game.
+     * @return True if there is something to send to the clients, false if not.
+     */
+    public boolean checkIf_Changed() {
+        return numberOfEntries != 0 || overflowed;
+    }
+
+    /**
+     * This method checks if the current tick made too many changes to be sent as a GAME_DELTA frame.
+     * @return True if the clients must get their whole view of the game instead, false if not.
+     */
+    public boolean checkIf_Overflowed() {
+        return overflowed;
+    }
+
+    /**
+     * This method gets the game's version, i.e. the number of ticks that changed the game so far (the current one isn't counted until endTick).
+     * @return The game's version.
+     */
+    public int getVersion() {
+        return version;
+    }
+
+    /**
+     * This method gets the number of changes recorded during the current tick.
+     * @return The number of changes.
+     */
+    public int getNumberOfEntries() {
+        return numberOfEntries;
+    }
+
+    /**
+     * This method writes the current tick's changes as a GAME_DELTA frame, as a certain player is allowed to see them. Its version is the one
+     * the game will have once the tick ends.
+     * @param buffer The buffer.
+     * @param viewerTurnNumber The turn number of the player the frame is for.
+     * @throws IllegalStateException If the tracker overflowed (send the player's whole view instead).
+     */
+    public void putDelta(ByteBuffer buffer, int viewerTurnNumber) {
+
+        if(overflowed)
+            throw new IllegalStateException("The tick made more than " + MAX_ENTRIES + " changes.");
+
+        int framePosition = GameProtocol.beginFrame(buffer, GameProtocol.GAME_DELTA);
+        GameProtocol.putVarInt(buffer, version + 1);
+        GameProtocol.putVarInt(buffer, numberOfEntries);
+
+        for(int i = 0; i < numberOfEntries; i++) {
+            int type = types[i];
+            int value1 = values1[i];
+
+            if(checkIf_CardHidden(type, playerTurnNumbers[i], viewerTurnNumber))
+                value1 = GameProtocol.HIDDEN_CARD_ID;
+
+            buffer.put((byte) type);
+            buffer.put((byte) playerTurnNumbers[i]);
+            GameProtocol.putZigZagVarInt(buffer, value1);
+            GameProtocol.putZigZagVarInt(buffer, values2[i]);
+
+        } // End of for loop.
+
+        GameProtocol.endFrame(buffer, framePosition);
+
+    } // End of putDelta method.
+
+    /**
+     * This method ends the current tick: the game's version goes up by one if the tick changed the game, and the next tick starts empty.
+     */
+    public void endTick() {
+
+        if(!checkIf_Changed())
+            return;
+
+        for(int i = 0; i < numberOfEntries; i++)
+            attributeEntries[playerTurnNumbers[i] * GameEventType.count() + types[i]] = 0;
+
+        numberOfEntries = 0;
+        overflowed = false;
+        version++;
+
+    } // End of endTick method.
+
+    /**
+     * This utility method checks if an event sets one of a player's attributes (only its last value in a tick needs to be sent).
+     * @param type The event's type.
+     * @return True if the event sets an attribute, false if it moves a card or reports something that happened.
+     */
+    private static boolean checkIf_Attribute(GameEventType type) {
+
+        switch(type) {
+            case LEVEL_CHANGED:
+            case SEX_CHANGED:
+            case COMBAT_BONUS_CHANGED:
+            case RUN_AWAY_BONUS_CHANGED:
+            case GOLD_CHANGED:
+            case HAND_LIMIT_CHANGED:
+            case CHICKEN_ON_HEAD_CHANGED:
+            case RACES_CHANGED:
+            case CLASSES_CHANGED:
+            case HUMAN_STATUS_CHANGED:
+                return true;
+            default:
+                return false;
+
+        } // End of switch statement.
+
+    } // End of checkIf_Attribute utility method.
+
+    /**
+     * This utility method checks if an attribute event's second value is a change (summed when coalesced) rather than a value (replaced).
+     * @param type The event's type.
+     * @return True if the second value is a change, false if not.
+     */
+    private static boolean checkIf_ChangeSummed(GameEventType type) {
+        return type == GameEventType.LEVEL_CHANGED || type == GameEventType.COMBAT_BONUS_CHANGED
+                || type == GameEventType.RUN_AWAY_BONUS_CHANGED || type == GameEventType.GOLD_CHANGED;
+    }
+
+    /**
+     * This utility method checks if the card of an event must be hidden from a player: nobody sees the cards drawn, and only a hand's owner
+     * sees the cards going in and out of it (everybody still sees how many cards it holds).
+     * @param type The event type's ordinal.
+     * @param playerTurnNumber The turn number of the player involved in the event.
+     * @param viewerTurnNumber The turn number of the player the event is sent to.
+     * @return True if the card's id must be replaced by HIDDEN_CARD_ID, false if not.
+     */
+    private static boolean checkIf_CardHidden(int type, int playerTurnNumber, int viewerTurnNumber) {
+
+        if(type == GameEventType.CARD_DRAWN.ordinal())
+            return true;
+
+        return (type == GameEventType.CARD_ADDED_TO_HAND.ordinal() || type == GameEventType.CARD_REMOVED_FROM_HAND.ordinal())
+                && playerTurnNumber != viewerTurnNumber;
+
+    } // End of checkIf_CardHidden utility method.
+
+} // End of GameChangeTracker class.
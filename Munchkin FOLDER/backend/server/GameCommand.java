@@ -0,0 +1,21 @@
+package server;
+
+import basic_game_components.Game;
+
+/**
+ * This interface is something to do to a game hosted by a GameSessionHost (ex: play a card, end the turn). Commands are sent to the game's
+ * GameActor, which executes them one at a time, in the order they were sent.
+ *
+ * IMPORTANT NOTE: A command is only ever executed by its game's actor, so it can read and change the game freely without any lock. It must not
+ * keep a reference to the game (or to anything in it) once it returns, nor block (ex: wait for I/O), since other games share the same threads.
+ */
+@FunctionalInterface
+public interface GameCommand {
+
+    /**
+     * This method executes the command.
+     * @param game The game the command was sent to.
+     */
+    void execute(Game game);
+
+} // End of GameCommand interface.
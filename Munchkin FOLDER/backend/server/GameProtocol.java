@@ -0,0 +1,329 @@
+package server;
+
+import java.nio.ByteBuffer;
+
+/**
+ * This class defines the binary protocol spoken between the GameServer and its clients over TCP, and writes its frames.
+ *
+ * Every frame starts with its length (2 bytes, unsigned, not counting the length itself), followed by its type (1 byte) and its payload:
+ *
+ *   Client frames:
+ *     CREATE_GAME           seed (8 bytes), number of players (1 byte, at most SimulationResults.MAX_PLAYERS). The client joins the game as
+ *                           player 1.
+ *     JOIN_GAME             game id (4 bytes), player turn number (1 byte).
+ *     DRAW_CARD             pile ordinal (1 byte), unused (1 byte). The card goes to the player's hand.
+ *     PLAY_CARD             hand location (1 byte), unused (1 byte). An item, race, class or "go up a level" card.
+ *     EQUIP_ITEM            hand location (1 byte), unused (1 byte).
+ *     PLAY_CURSE            hand location (1 byte), target player turn number (1 byte).
+ *     DISCARD_CARD          hand location (1 byte), unused (1 byte).
+ *     DISCARD_IN_PLAY_CARD  in play location (1 byte), unused (1 byte).
+ *     END_TURN              unused (2 bytes). Refused while the player has too many cards in their hand.
+ *     REQUEST_STATE         unused (2 bytes).
+ *     FIGHT_MONSTER         hand location (1 byte), unused (1 byte). The player looks for trouble with a monster from their hand.
+ *     REACT                 hand location (1 byte, 0 to pass), second hand location or argument (1 byte, see ReactionWindow.answer), window
+ *                           number (1 byte, its lowest 8 bits). Any player can answer the open reaction window of a combat.
+ *
+ *   Server frames:
+ *     RESULT                type of the client frame (1 byte), status (1 byte). Every client frame gets exactly one, in order.
+ *     GAME_CREATED          game id (4 bytes), sent before the RESULT of a CREATE_GAME frame.
+ *     GAME_STATE            the game as the client's player sees it (see GameViewCodec), sent when the client joins and when it asks for it.
+ *     GAME_DELTA            version, number of changes, then each change: event type (1 byte, GameEventType ordinal), player turn number
+ *                           (1 byte, 0 if none), value 1 and value 2 (zigzag varints, see GameEventType for their meaning).
+ *     REACTION_WINDOW       window number (1 byte, its lowest 8 bits), round (1 byte), fighter turn number (1 byte), fighter strength and
+ *                           monster strength (zigzag varints), number of monsters (1 byte), then each monster's card id (zigzag varint).
+ *                           Sent after the changes and results of the batch that opened the window, and when a client joins during one.
+ *     COMBAT_ENDED          fighter turn number (1 byte), outcome (1 byte, see handlers.Combat.resolve).
+ *     TURN_PHASE            player turn number (1 byte), phase (1 byte, TurnPhase ordinal). Sent after the changes and results of the batch
+ *                           that changed the turn's phase, and after the GAME_STATE frame's RESULT.
+ *
+ * All fixed size numbers are big endian, and varints hold 7 bits per byte (lowest bits first). Locations and player turn numbers start at 1,
+ * like everywhere else in the game. A client plays in one game at a time, and its game commands are refused (NOT_JOINED) until it gets the
+ * RESULT of its CREATE_GAME or JOIN_GAME frame (its game commands may otherwise reach the game before it joined). A game command is refused
+ * (WRONG_PHASE) when the turn's phase doesn't allow it (see TurnPhase), and (BUSY) when the game already has too many commands waiting.
+ *
+ * Every GAME_STATE and GAME_DELTA frame carries the game's version, which goes up by one each time the game's actor sends the changes made by a
+ * batch of commands. A client applies a GAME_DELTA on top of the state with the previous version, and the changes a command made always arrive
+ * before its RESULT. The ids of the cards a client isn't allowed to see (the cards drawn, and the cards going in and out of the other players'
+ * hands) are replaced by HIDDEN_CARD_ID.
+ */
+public final class GameProtocol {
+
+    //------------------------------------------
+    //     FRAME SIZES...
+    //------------------------------------------
+
+    // The size of the length at the beginning of every frame.
+    public static final int LENGTH_SIZE = 2;
+    // The size of the header of every frame (its length and its type).
+    public static final int HEADER_SIZE = LENGTH_SIZE + 1;
+    // The maximum size of a frame, length included (also the size of the server's pooled buffers).
+    public static final int MAX_FRAME_SIZE = 4096;
+    // The size of a game command frame (DRAW_CARD to FIGHT_MONSTER), length included.
+    public static final int COMMAND_FRAME_SIZE = HEADER_SIZE + 2;
+    // The size of a REACT frame, length included.
+    public static final int REACT_FRAME_SIZE = HEADER_SIZE + 3;
+
+    //------------------------------------------
+    //     CLIENT FRAME TYPES...
+    //------------------------------------------
+
+    public static final byte CREATE_GAME = 1;
+    public static final byte JOIN_GAME = 2;
+    public static final byte DRAW_CARD = 3;
+    public static final byte PLAY_CARD = 4;
+    public static final byte EQUIP_ITEM = 5;
+    public static final byte PLAY_CURSE = 6;
+    public static final byte DISCARD_CARD = 7;
+    public static final byte DISCARD_IN_PLAY_CARD = 8;
+    public static final byte END_TURN = 9;
+    public static final byte REQUEST_STATE = 10;
+    public static final byte FIGHT_MONSTER = 11;
+    public static final byte REACT = 12;
+
+    //------------------------------------------
+    //     SERVER FRAME TYPES...
+    //------------------------------------------
+
+    public static final byte RESULT = 64;
+    public static final byte GAME_CREATED = 65;
+    public static final byte GAME_STATE = 66;
+    public static final byte GAME_DELTA = 67;
+    public static final byte REACTION_WINDOW = 68;
+    public static final byte COMBAT_ENDED = 69;
+    public static final byte TURN_PHASE = 70;
+
+    // The card id sent in place of a card the client isn't allowed to see.
+    public static final int HIDDEN_CARD_ID = -1;
+
+    //------------------------------------------
+    //     RESULT STATUSES...
+    //------------------------------------------
+
+    // The frame was executed.
+    public static final byte OK = 0;
+    // The frame is too short, too long or of an unknown type.
+    public static final byte MALFORMED = 1;
+    // The client sent a game command without joining a game first, or tried to join a second game.
+    public static final byte NOT_JOINED = 2;
+    // The game doesn't exist (or was ended).
+    public static final byte UNKNOWN_GAME = 3;
+    // Another client already plays that player, or the game has no such player.
+    public static final byte SEAT_TAKEN = 4;
+    // It isn't the client's turn.
+    public static final byte NOT_YOUR_TURN = 5;
+    // There is no card at that location, or it isn't the right kind of card.
+    public static final byte INVALID_CARD = 6;
+    // The card can't be played right now (ex: its slot is taken).
+    public static final byte CANNOT_PLAY = 7;
+    // The player must discard down to their hand limit before ending their turn.
+    public static final byte MUST_DISCARD = 8;
+    // The pile is empty.
+    public static final byte EMPTY_PILE = 9;
+    // A combat is in progress, so only reactions (and REQUEST_STATE) are allowed.
+    public static final byte IN_COMBAT = 10;
+    // No reaction window is open, the REACT frame was for an earlier one, or the player already answered it.
+    public static final byte NO_REACTION_WINDOW = 11;
+    // The turn's phase doesn't allow the command (ex: ending the turn before kicking open the door, see TurnPhase).
+    public static final byte WRONG_PHASE = 12;
+    // The game has too many commands waiting to be executed (the client should wait for its results before sending more).
+    public static final byte BUSY = 13;
+
+    /**
+     * This method isn't used, the class only holds constants and static methods.
+     */
+    private GameProtocol() {
+    }
+
+    //------------------------------------------
+    //     WRITING FRAMES...
+    //------------------------------------------
+
+    /**
+     * This method starts a frame at the buffer's position: room is left for its length, and its type is written.
+     * @param buffer The buffer.
+     * @param type The frame's type.
+     * @return The position of the frame in the buffer (pass it to endFrame once the payload is written).
+     */
+    public static int beginFrame(ByteBuffer buffer, byte type) {
+
+        int framePosition = buffer.position();
+        buffer.putShort((short) 0);
+        buffer.put(type);
+
+        return framePosition;
+
+    } // End of beginFrame method.
+
+    /**
+     * This method ends a frame: its length is written now that its payload is.
+     * @param buffer The buffer (its position is right after the frame's payload).
+     * @param framePosition The position of the frame in the buffer (returned by beginFrame).
+     * @throws IllegalArgumentException If the frame is bigger than MAX_FRAME_SIZE.
+     */
+    public static void endFrame(ByteBuffer buffer, int framePosition) {
+
+        int frameSize = buffer.position() - framePosition;
+
+        if(frameSize > MAX_FRAME_SIZE)
+            throw new IllegalArgumentException("The frame is too big: " + frameSize + " bytes.");
+
+        buffer.putShort(framePosition, (short) (frameSize - LENGTH_SIZE));
+
+    } // End of endFrame method.
+
+    /**
+     * This method writes a RESULT frame.
+     * @param buffer The buffer.
+     * @param commandType The type of the client frame the result is for.
+     * @param status The status (OK, NOT_YOUR_TURN, etc.).
+     */
+    public static void putResult(ByteBuffer buffer, byte commandType, byte status) {
+
+        int framePosition = beginFrame(buffer, RESULT);
+        buffer.put(commandType);
+        buffer.put(status);
+        endFrame(buffer, framePosition);
+
+    } // End of putResult method.
+
+    /**
+     * This method writes a CREATE_GAME frame.
+     * @param buffer The buffer.
+     * @param seed The game's seed.
+     * @param numberOfPlayers The number of players in the game.
+     */
+    public static void putCreateGame(ByteBuffer buffer, long seed, int numberOfPlayers) {
+
+        int framePosition = beginFrame(buffer, CREATE_GAME);
+        buffer.putLong(seed);
+        buffer.put((byte) numberOfPlayers);
+        endFrame(buffer, framePosition);
+
+    } // End of putCreateGame method.
+
+    /**
+     * This method writes a JOIN_GAME frame.
+     * @param buffer The buffer.
+     * @param gameId The id of the game.
+     * @param playerTurnNumber The turn number of the player the client plays.
+     */
+    public static void putJoinGame(ByteBuffer buffer, int gameId, int playerTurnNumber) {
+
+        int framePosition = beginFrame(buffer, JOIN_GAME);
+        buffer.putInt(gameId);
+        buffer.put((byte) playerTurnNumber);
+        endFrame(buffer, framePosition);
+
+    } // End of putJoinGame method.
+
+    /**
+     * This method writes a game command frame (DRAW_CARD to FIGHT_MONSTER).
+     * @param buffer The buffer.
+     * @param type The frame's type.
+     * @param argument1 The command's first argument (ex: a hand location), or 0 if it has none.
+     * @param argument2 The command's second argument (ex: a target player turn number), or 0 if it has none.
+     */
+    public static void putCommand(ByteBuffer buffer, byte type, int argument1, int argument2) {
+
+        int framePosition = beginFrame(buffer, type);
+        buffer.put((byte) argument1);
+        buffer.put((byte) argument2);
+        endFrame(buffer, framePosition);
+
+    } // End of putCommand method.
+
+    /**
+     * This method writes a REACT frame.
+     * @param buffer The buffer.
+     * @param cardLocationNumber The hand location of the card played in reaction, or 0 to pass.
+     * @param argument The hand location of the second card, for the reactions that need one, or else the reaction's argument.
+     * @param windowNumber The number of the window answered.
+     */
+    public static void putReact(ByteBuffer buffer, int cardLocationNumber, int argument, int windowNumber) {
+
+        int framePosition = beginFrame(buffer, REACT);
+        buffer.put((byte) cardLocationNumber);
+        buffer.put((byte) argument);
+        buffer.put((byte) windowNumber);
+        endFrame(buffer, framePosition);
+
+    } // End of putReact method.
+
+    /**
+     * This method writes an unsigned number as a varint (7 bits per byte, the highest bit telling whether another byte follows).
+     * @param buffer The buffer.
+     * @param value The number (treated as unsigned).
+     */
+    public static void putVarInt(ByteBuffer buffer, int value) {
+
+        while((value & ~0x7F) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+
+        buffer.put((byte) value);
+
+    } // End of putVarInt method.
+
+    /**
+     * This method writes a signed number as a zigzag varint, so small negative numbers (like HIDDEN_CARD_ID) take a single byte too.
+     * @param buffer The buffer.
+     * @param value The number.
+     */
+    public static void putZigZagVarInt(ByteBuffer buffer, int value) {
+        putVarInt(buffer, (value << 1) ^ (value >> 31));
+    }
+
+    //------------------------------------------
+    //     READING FRAMES...
+    //------------------------------------------
+
+    /**
+     * This method gets the size of the frame at the buffer's position, without moving the position.
+     * @param buffer The buffer (ready to be read).
+     * @return The size of the frame (length included), or 0 if its length isn't in the buffer yet.
+     */
+    public static int peekFrameSize(ByteBuffer buffer) {
+
+        if(buffer.remaining() < LENGTH_SIZE)
+            return 0;
+
+        return LENGTH_SIZE + Short.toUnsignedInt(buffer.getShort(buffer.position()));
+
+    } // End of peekFrameSize method.
+
+    /**
+     * This method reads a varint written by putVarInt.
+     * @param buffer The buffer, positioned at the varint (its position is moved past it).
+     * @return The number.
+     */
+    public static int getVarInt(ByteBuffer buffer) {
+
+        int value = 0;
+        int shift = 0;
+        byte curByte;
+
+        do {
+            curByte = buffer.get();
+            value |= (curByte & 0x7F) << shift;
+            shift += 7;
+        } while(curByte < 0);
+
+        return value;
+
+    } // End of getVarInt method.
+
+    /**
+     * This method reads a zigzag varint written by putZigZagVarInt.
+     * @param buffer The buffer, positioned at the varint (its position is moved past it).
+     * @return The number.
+     */
+    public static int getZigZagVarInt(ByteBuffer buffer) {
+
+        int value = getVarInt(buffer);
+
+        return (value >>> 1) ^ -(value & 1);
+
+    } // End of getZigZagVarInt method.
+
+} // End of GameProtocol class.
@@ -0,0 +1,677 @@
+package server;
+
+import basic_game_components.Card;
+import basic_game_components.CardKind;
+import basic_game_components.Game;
+import basic_game_components.PileType;
+import basic_game_components.player_stuff.Hand;
+import basic_game_components.player_stuff.InPlayCards;
+import basic_game_components.player_stuff.Player;
+import door_cards.MonsterCard;
+import handlers.CardPlayHandler;
+import handlers.Combat;
+import handlers.CombatOddsCalculator;
+import handlers.CurseChooser;
+import handlers.DefaultCurseChooser;
+import handlers.DefaultReactionChooser;
+import treasure_cards.ItemCard;
+import utilities.PileManager;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+
+/**
+ * This class is the network side of a game hosted by the GameServer: it knows which client plays which player, executes the clients' game
+ * commands, and sends the results and the game's changes back.
+ *
+ * IMPORTANT NOTE: Like the game itself, a room is only used by the game's actor (every method is called from a GameCommand), so it needs no
+ * lock. The results of a batch of commands are held back until the actor has run the whole batch (see flush): each client then gets a single
+ * frame with the batch's changes, as its player is allowed to see them (see GameChangeTracker), followed by its results. A client only gets
+ * its whole view of the game when it joins, when it asks for it, or when a batch made too many changes. Each turn has TURN_TIMEOUT_MILLIS to
+ * end: its timer is kept on the host's TimingWheel, and is armed again by the flush that follows a new turn. During a combat, every client
+ * answers the same reaction windows (see ReactionWindow), and the seats nobody plays react on their own; the windows and the combats' outcomes
+ * are announced by the flush that follows them.
+ *
+ * The clients' game commands reach the room through its InboundCommandQueue: the actor drains every command waiting in a single run, and each
+ * one goes through the same stages: it is validated (the client's seat, whose turn it is, and what the turn's phase allows, see TurnPhase),
+ * applied to the game, and moves the turn to its next phase; the events it published and its result then go out with the end of batch flush.
+ */
+public class GameRoom {
+
+    //----------------------------------------------------
+    //            INSTANCE VARIABLES
+    //----------------------------------------------------
+
+    // How long a player has to end their turn before it is ended for them.
+    public static final long TURN_TIMEOUT_MILLIS = 90_000;
+
+    // The id of the game.
+    private final int gameId;
+    // The server hosting the game.
+    private final GameServer server;
+    // The pool the frames' buffers come from.
+    private final BufferPool bufferPool;
+    // The changes made to the game since the last flush (it is the game's event sink).
+    private final GameChangeTracker changeTracker;
+    // The client playing each player (index 0 is the player with turn number 1), or null if nobody does.
+    private final ClientConnection[] seats;
+    // The RESULT frames held back until the next flush (for each seat: command type and status of each result).
+    private final byte[][] pendingResults;
+    private final int[] numberOfPendingResults;
+    // Makes the players' choices for curses like "Curse! Income Tax".
+    private final CurseChooser curseChooser;
+    // The actor of the game, and the wheel its turn timer is kept on.
+    private final GameActor actor;
+    private final TimingWheel timingWheel;
+    // The timer of the current turn (null if none is armed), and the turn count it was armed for.
+    private GameTimer turnTimer;
+    private int timedTurnCount;
+    // Runs the reaction windows of the game's combats.
+    private final ReactionWindow reactionWindow;
+    // Makes the reactions of the seats nobody plays, and the odds it weighs them with (null until the game's first combat).
+    private final DefaultReactionChooser reactionChooser;
+    private CombatOddsCalculator combatOdds;
+    // Whether each seat is empty, as of the start of the last combat (kept so starting a combat allocates nothing).
+    private final boolean[] botSeats;
+    // The last window and the number of combats resolved the clients were told about.
+    private int announcedWindowNumber;
+    private int announcedCombats;
+    // The phase of the current turn, and the turn count it is for (a new turn starts with KICK_OPEN_THE_DOOR, see getPhase).
+    private TurnPhase phase;
+    private int phaseTurnCount;
+    // The last phase and turn count the clients were told about.
+    private TurnPhase announcedPhase;
+    private int announcedPhaseTurnCount;
+    // The clients' game commands waiting for the actor.
+    private final InboundCommandQueue inboundQueue;
+
+    //----------------------------------------------------
+    //            CONSTRUCTOR(S)
+    //----------------------------------------------------
+
+    /**
+     * This method constructs a GameRoom object, with nobody in it.
+     * @param gameId The id of the game.
+     * @param numberOfPlayers The number of players in the game.
+     * @param changeTracker The game's event sink.
+     * @param server The server hosting the game.
+     * @param bufferPool The pool the frames' buffers come from.
+     * @param actor The actor of the game.
+     * @param timingWheel The wheel the turn timer is kept on.
+     */
+    public GameRoom(int gameId, int numberOfPlayers, GameChangeTracker changeTracker, GameServer server, BufferPool bufferPool,
+                    GameActor actor, TimingWheel timingWheel) {
+        this.gameId = gameId;
+        this.changeTracker = changeTracker;
+        this.server = server;
+        this.bufferPool = bufferPool;
+        this.actor = actor;
+        this.timingWheel = timingWheel;
+        seats = new ClientConnection[numberOfPlayers];
+        pendingResults = new byte[numberOfPlayers][2 * GameActor.MAX_COMMANDS_PER_RUN];
+        numberOfPendingResults = new int[numberOfPlayers];
+        curseChooser = new DefaultCurseChooser();
+        reactionChooser = new DefaultReactionChooser();
+        reactionWindow = new ReactionWindow(numberOfPlayers, actor, timingWheel, reactionChooser, curseChooser);
+        botSeats = new boolean[numberOfPlayers];
+        phase = TurnPhase.KICK_OPEN_THE_DOOR;
+        phaseTurnCount = 0;
+        announcedPhase = null;
+        announcedPhaseTurnCount = 0;
+        inboundQueue = new InboundCommandQueue(InboundCommandQueue.DEFAULT_CAPACITY, actor, this::handleInbound);
+    }
+
+    //----------------------------------------------------
+    //            METHOD(S)
+    //----------------------------------------------------
+
+    /**
+     * This method seats a client as one of the players (or seats it again after it reconnected), and sends it its whole view of the game.
+     * @param game The game.
+     * @param client The client.
+     * @param playerTurnNumber The turn number of the player the client plays.
+     * @param commandType The type of the client's frame (CREATE_GAME or JOIN_GAME). The creator of a game gets its id first.
+     */
+    public void join(Game game, ClientConnection client, int playerTurnNumber, byte commandType) {
+
+        if(playerTurnNumber < 1 || playerTurnNumber > seats.length || seats[playerTurnNumber - 1] != null || !client.tryToJoinGame(gameId)) {
+            sendResult(client, commandType, GameProtocol.SEAT_TAKEN);
+            endIfEmpty();
+            return;
+        }
+
+        // The client may have disconnected while the command was waiting (its connection then never leaves the game).
+        if(client.checkIf_Closed()) {
+            client.leaveGame();
+            endIfEmpty();
+            return;
+        }
+
+        // The other players get the changes made so far first, so the view the client gets matches theirs.
+        flush(game);
+        seats[playerTurnNumber - 1] = client;
+
+        OutboundFrame frame = new OutboundFrame(bufferPool);
+        ByteBuffer buffer = frame.getBuffer();
+
+        if(commandType == GameProtocol.CREATE_GAME) {
+            int framePosition = GameProtocol.beginFrame(buffer, GameProtocol.GAME_CREATED);
+            buffer.putInt(gameId);
+            GameProtocol.endFrame(buffer, framePosition);
+        }
+
+        GameViewCodec.putView(game, playerTurnNumber, changeTracker.getVersion(), buffer);
+        GameProtocol.putResult(buffer, commandType, GameProtocol.OK);
+        putTurnPhase(game, buffer);
+
+        if(reactionWindow.checkIf_Open())
+            putReactionWindow(buffer);
+
+        frame.finish();
+        client.send(frame);
+
+    } // End of join method.
+
+    /**
+     * This method gets the reaction windows of the game's combats.
+     * @return The reaction window.
+     */
+    public ReactionWindow getReactionWindow() {
+        return reactionWindow;
+    }
+
+    /**
+     * This method gets the queue the clients' game commands wait in until the actor executes them (see handleInbound).
+     * @return The inbound command queue.
+     */
+    public InboundCommandQueue getInboundQueue() {
+        return inboundQueue;
+    }
+
+    /**
+     * This method gets the phase of the current turn. A new turn starts with KICK_OPEN_THE_DOOR, and the turn leaves COMBAT for CHARITY once
+     * the combat is resolved (whether by the last reaction window or by the turn's timer).
+     * @param game The game.
+     * @return The phase.
+     */
+    public TurnPhase getPhase(Game game) {
+
+        if(game.getTurnCount() != phaseTurnCount) {
+            phase = TurnPhase.KICK_OPEN_THE_DOOR;
+            phaseTurnCount = game.getTurnCount();
+        }
+        else if(phase == TurnPhase.COMBAT && !reactionWindow.checkIf_CombatInProgress())
+            phase = TurnPhase.CHARITY;
+
+        return phase;
+
+    } // End of getPhase method.
+
+    /**
+     * This method executes a command taken out of the inbound command queue (the queue's InboundCommandHandler): a REACT frame goes to the
+     * reaction window, and the others are executed for the player whose turn it is.
+     * @param game The game.
+     * @param client The client.
+     * @param commandType The command's type (DRAW_CARD to REACT).
+     * @param argument1 The command's first argument.
+     * @param argument2 The command's second argument.
+     * @param argument3 The command's third argument (the window number of a REACT frame).
+     */
+    public void handleInbound(Game game, ClientConnection client, byte commandType, int argument1, int argument2, int argument3) {
+
+        if(commandType == GameProtocol.REACT)
+            handleReaction(game, client, argument1, argument2, argument3);
+        else
+            handleCommand(game, client, commandType, argument1, argument2);
+
+    } // End of handleInbound method.
+
+    /**
+     * This method frees the seat of a client that disconnected (passing in the open reaction window for it). The game ends once nobody is left.
+     * @param game The game.
+     * @param client The client.
+     */
+    public void leave(Game game, ClientConnection client) {
+
+        int playerTurnNumber = findSeat(client);
+
+        if(playerTurnNumber != 0) {
+            seats[playerTurnNumber - 1] = null;
+            numberOfPendingResults[playerTurnNumber - 1] = 0;
+            client.leaveGame();
+
+            if(!reactionWindow.checkIf_Answered(playerTurnNumber))
+                reactionWindow.answer(game, playerTurnNumber, reactionWindow.getWindowNumber(), 0, 0);
+        }
+
+        endIfEmpty();
+
+    } // End of leave method.
+
+    /**
+     * This method executes a client's game command (DRAW_CARD to FIGHT_MONSTER, see GameProtocol). Its result is sent with the next flush,
+     * after the changes it made. Only REQUEST_STATE is allowed during a combat, and the other commands must be allowed by the turn's phase.
+     * @param game The game.
+     * @param client The client.
+     * @param commandType The command's type.
+     * @param argument1 The command's first argument.
+     * @param argument2 The command's second argument.
+     */
+    public void handleCommand(Game game, ClientConnection client, byte commandType, int argument1, int argument2) {
+
+        int playerTurnNumber = findSeat(client);
+
+        if(playerTurnNumber == 0) {
+            sendResult(client, commandType, GameProtocol.NOT_JOINED);
+            return;
+        }
+
+        if(commandType == GameProtocol.REQUEST_STATE) {
+            flush(game);
+
+            OutboundFrame frame = new OutboundFrame(bufferPool);
+            GameViewCodec.putView(game, playerTurnNumber, changeTracker.getVersion(), frame.getBuffer());
+            GameProtocol.putResult(frame.getBuffer(), commandType, GameProtocol.OK);
+            putTurnPhase(game, frame.getBuffer());
+            frame.finish();
+            client.send(frame);
+            return;
+        }
+
+        TurnPhase curPhase = getPhase(game);
+        byte status;
+
+        if(game.getCurrentPlayer().getPlayerTurnNumber() != playerTurnNumber)
+            status = GameProtocol.NOT_YOUR_TURN;
+        else if(curPhase == TurnPhase.COMBAT)
+            status = GameProtocol.IN_COMBAT;
+        else if(!curPhase.checkIf_Allows(commandType)
+                || (commandType == GameProtocol.DRAW_CARD && argument1 != PileType.DOOR.ordinal()))
+            status = GameProtocol.WRONG_PHASE;
+        else {
+            status = executeCommand(game, game.getCurrentPlayer(), commandType, argument1, argument2);
+            advancePhase(commandType, status);
+        }
+
+        addPendingResult(game, playerTurnNumber, commandType, status);
+
+    } // End of handleCommand method.
+
+    /**
+     * This method takes a client's answer to the open reaction window (a REACT frame), whether or not it is their turn. Its result is sent with
+     * the next flush, after the changes it made.
+     * @param game The game.
+     * @param client The client.
+     * @param cardLocationNumber The hand location of the card played in reaction, or 0 to pass.
+     * @param argument The hand location of the second card, for the reactions that need one, or else the reaction's argument.
+     * @param windowNumber The number of the window answered (its lowest 8 bits).
+     */
+    public void handleReaction(Game game, ClientConnection client, int cardLocationNumber, int argument, int windowNumber) {
+
+        int playerTurnNumber = findSeat(client);
+
+        if(playerTurnNumber == 0) {
+            sendResult(client, GameProtocol.REACT, GameProtocol.NOT_JOINED);
+            return;
+        }
+
+        byte status = reactionWindow.answer(game, playerTurnNumber, windowNumber, cardLocationNumber, argument);
+
+        addPendingResult(game, playerTurnNumber, GameProtocol.REACT, status);
+
+    } // End of handleReaction method.
+
+    /**
+     * This method sends every client the changes made since the last flush (a GAME_DELTA frame, or its whole view if there were too many),
+     * followed by the results held back for it, all in a single frame. It is the actor's end of batch command, so it runs once per batch.
+     * If the batch started a new turn, the turn timer is armed again. A combat that ended and a reaction window that opened during the batch are
+     * announced last (a COMBAT_ENDED and a REACTION_WINDOW frame), after the turn's phase if it changed (a TURN_PHASE frame).
+     * @param game The game.
+     */
+    public void flush(Game game) {
+
+        boolean changed = changeTracker.checkIf_Changed();
+        boolean combatEnded = reactionWindow.getNumberOfCombatsResolved() != announcedCombats;
+        boolean windowOpened = reactionWindow.checkIf_Open() && reactionWindow.getWindowNumber() != announcedWindowNumber;
+        boolean phaseChanged = getPhase(game) != announcedPhase || phaseTurnCount != announcedPhaseTurnCount;
+
+        for(int i = 0; i < seats.length; i++) {
+
+            if(seats[i] == null || (!changed && numberOfPendingResults[i] == 0 && !combatEnded && !windowOpened && !phaseChanged))
+                continue;
+
+            OutboundFrame frame = new OutboundFrame(bufferPool);
+            ByteBuffer buffer = frame.getBuffer();
+
+            if(changeTracker.checkIf_Overflowed())
+                GameViewCodec.putView(game, i + 1, changeTracker.getVersion() + 1, buffer);
+            else if(changed)
+                changeTracker.putDelta(buffer, i + 1);
+
+            for(int j = 0; j < numberOfPendingResults[i]; j++)
+                GameProtocol.putResult(buffer, pendingResults[i][2 * j], pendingResults[i][2 * j + 1]);
+
+            if(phaseChanged)
+                putTurnPhase(game, buffer);
+
+            if(combatEnded) {
+                int framePosition = GameProtocol.beginFrame(buffer, GameProtocol.COMBAT_ENDED);
+                buffer.put((byte) reactionWindow.getLastFighterTurnNumber());
+                buffer.put((byte) reactionWindow.getLastOutcome());
+                GameProtocol.endFrame(buffer, framePosition);
+            }
+
+            if(windowOpened)
+                putReactionWindow(buffer);
+
+            numberOfPendingResults[i] = 0;
+            frame.finish();
+            seats[i].send(frame);
+
+        } // End of for loop.
+
+        announcedCombats = reactionWindow.getNumberOfCombatsResolved();
+        announcedWindowNumber = reactionWindow.getWindowNumber();
+        announcedPhase = phase;
+        announcedPhaseTurnCount = phaseTurnCount;
+        changeTracker.endTick();
+        armTurnTimer(game);
+
+    } // End of flush method.
+
+    /**
+     * This method gets the number of clients seated in the room.
+     * @return The number of clients seated.
+     */
+    public int getNumberOfClients() {
+
+        int numberOfClients = 0;
+
+        for(ClientConnection curClient : seats) {
+            if(curClient != null)
+                numberOfClients++;
+        }
+
+        return numberOfClients;
+
+    } // End of getNumberOfClients method.
+
+    /**
+     * This utility method executes a game command for the player whose turn it is.
+     * @param game The game.
+     * @param player The player whose turn it is.
+     * @param commandType The command's type.
+     * @param argument1 The command's first argument.
+     * @param argument2 The command's second argument.
+     * @return The command's status (OK if the game changed).
+     */
+    private byte executeCommand(Game game, Player player, byte commandType, int argument1, int argument2) {
+
+        PileManager pileManager = game.getPileManager();
+        Hand hand = player.getHand();
+        InPlayCards inPlayCards = player.getInPlayCards();
+
+        switch(commandType) {
+            case GameProtocol.DRAW_CARD: {
+                if(argument1 >= PileType.count())
+                    return GameProtocol.INVALID_CARD;
+
+                Card card = (PileType.fromOrdinal(argument1) == PileType.DOOR) ? pileManager.drawDoorCard() : pileManager.drawTreasureCard();
+
+                if(card == null)
+                    return GameProtocol.EMPTY_PILE;
+
+                hand.addCardToHand(card);
+                return GameProtocol.OK;
+            }
+            case GameProtocol.PLAY_CARD:
+                if(argument1 < 1 || argument1 > hand.getNumberOfCards())
+                    return GameProtocol.INVALID_CARD;
+
+                return CardPlayHandler.tryToPlayCard_UsingCardLocationNumber(player, pileManager, argument1)
+                        ? GameProtocol.OK : GameProtocol.CANNOT_PLAY;
+            case GameProtocol.EQUIP_ITEM: {
+                if(argument1 < 1 || argument1 > hand.getNumberOfCards()
+                        || !(hand.getCard_UsingCardLocationNumber(argument1) instanceof ItemCard))
+                    return GameProtocol.INVALID_CARD;
+
+                if(!CardPlayHandler.tryToEquip(player, (ItemCard) hand.getCard_UsingCardLocationNumber(argument1)))
+                    return GameProtocol.CANNOT_PLAY;
+
+                hand.removeCard_UsingCardLocationNumber(argument1);
+                return GameProtocol.OK;
+            }
+            case GameProtocol.PLAY_CURSE: {
+                List<Player> players = game.getPlayers();
+
+                if(argument1 < 1 || argument1 > hand.getNumberOfCards()
+                        || hand.getCard_UsingCardLocationNumber(argument1).getKind() != CardKind.CURSE
+                        || argument2 < 1 || argument2 > players.size())
+                    return GameProtocol.INVALID_CARD;
+
+                Card curseCard = hand.removeCard_UsingCardLocationNumber(argument1);
+                game.getCurseCardHandler().handleCurse_PlayerChoice(curseCard, players.get(argument2 - 1), players, pileManager, curseChooser);
+                pileManager.discardDoorCard(curseCard);
+                return GameProtocol.OK;
+            }
+            case GameProtocol.DISCARD_CARD: {
+                if(argument1 < 1 || argument1 > hand.getNumberOfCards())
+                    return GameProtocol.INVALID_CARD;
+
+                Card card = hand.removeCard_UsingCardLocationNumber(argument1);
+
+                if(card.getPile() == PileType.DOOR)
+                    pileManager.discardDoorCard(card);
+                else
+                    pileManager.discardTreasureCard(card);
+                return GameProtocol.OK;
+            }
+            case GameProtocol.DISCARD_IN_PLAY_CARD:
+                if(argument1 < 1 || argument1 > inPlayCards.getNumberOfCards())
+                    return GameProtocol.INVALID_CARD;
+
+                CardPlayHandler.discardInPlayCard_UsingCardLocationNumber(player, pileManager, argument1);
+                return GameProtocol.OK;
+            case GameProtocol.END_TURN:
+                if(hand.checkIf_PlayerMustDiscard())
+                    return GameProtocol.MUST_DISCARD;
+
+                game.endTurn();
+                return GameProtocol.OK;
+            case GameProtocol.FIGHT_MONSTER: {
+                if(argument1 < 1 || argument1 > hand.getNumberOfCards()
+                        || !(hand.getCard_UsingCardLocationNumber(argument1) instanceof MonsterCard))
+                    return GameProtocol.INVALID_CARD;
+
+                MonsterCard monster = (MonsterCard) hand.removeCard_UsingCardLocationNumber(argument1);
+
+                for(int i = 0; i < seats.length; i++)
+                    botSeats[i] = seats[i] == null;
+
+                // The odds follow the game from its first combat on (the calculator reads the game's state once, then its events).
+                if(combatOdds == null) {
+                    combatOdds = new CombatOddsCalculator(game, game.getEventSink());
+                    game.setEventSink(combatOdds);
+                    reactionChooser.setCombatOdds(combatOdds);
+                }
+
+                reactionWindow.startCombat(game, reactionWindow.getCombatResolver().startCombat(player, monster), botSeats);
+                return GameProtocol.OK;
+            }
+            default:
+                return GameProtocol.MALFORMED;
+
+        } // End of switch statement.
+
+    } // End of executeCommand utility method.
+
+    /**
+     * This utility method moves the turn to its next phase once a command was executed (see TurnPhase). A player who can't end their turn yet
+     * goes on to charity, and so does one who can't kick open the door or loot the room because the door pile is empty.
+     * @param commandType The command's type.
+     * @param status The command's status.
+     */
+    private void advancePhase(byte commandType, byte status) {
+
+        if(status == GameProtocol.OK)
+            phase = phase.getNextPhase(commandType);
+        else if((commandType == GameProtocol.END_TURN && status == GameProtocol.MUST_DISCARD)
+                || (commandType == GameProtocol.DRAW_CARD && status == GameProtocol.EMPTY_PILE))
+            phase = TurnPhase.CHARITY;
+
+    } // End of advancePhase utility method.
+
+    /**
+     * This utility method arms the turn timer for the current turn, unless it already is (or nobody is seated), cancelling the previous
+     * turn's timer.
+     * @param game The game.
+     */
+    private void armTurnTimer(Game game) {
+
+        int turnCount = game.getTurnCount();
+
+        if((turnTimer != null && timedTurnCount == turnCount) || getNumberOfClients() == 0)
+            return;
+
+        if(turnTimer != null)
+            turnTimer.cancel();
+
+        timedTurnCount = turnCount;
+        turnTimer = timingWheel.schedule(actor, TURN_TIMEOUT_MILLIS, timedOutGame -> endTimedOutTurn(timedOutGame, turnCount));
+
+    } // End of armTurnTimer utility method.
+
+    /**
+     * This utility method ends a turn that took too long (the command of its timer): the combat in progress is resolved, the player discards
+     * their oldest cards down to their hand limit, and the turn ends. Nothing happens if the turn already ended.
+     * @param game The game.
+     * @param turnCount The turn count the timer was armed for.
+     */
+    private void endTimedOutTurn(Game game, int turnCount) {
+
+        if(game.getTurnCount() != turnCount)
+            return;
+
+        reactionWindow.finishCombat(game);
+
+        PileManager pileManager = game.getPileManager();
+        Hand hand = game.getCurrentPlayer().getHand();
+
+        while(hand.checkIf_PlayerMustDiscard()) {
+            Card card = hand.removeCard_UsingCardLocationNumber(1);
+
+            if(card.getPile() == PileType.DOOR)
+                pileManager.discardDoorCard(card);
+            else
+                pileManager.discardTreasureCard(card);
+        }
+
+        turnTimer = null;
+        game.endTurn();
+
+    } // End of endTimedOutTurn utility method.
+
+    /**
+     * This utility method ends the game if nobody is left in the room (a game nobody joined ends too), along with its turn timer.
+     */
+    private void endIfEmpty() {
+
+        if(getNumberOfClients() != 0)
+            return;
+
+        if(turnTimer != null) {
+            turnTimer.cancel();
+            turnTimer = null;
+        }
+
+        server.endGame(gameId);
+
+    } // End of endIfEmpty utility method.
+
+    /**
+     * This utility method holds back the result of a client's command until the next flush (flushing right away if too many are held back).
+     * @param game The game.
+     * @param playerTurnNumber The turn number of the client's player.
+     * @param commandType The command's type.
+     * @param status The command's status.
+     */
+    private void addPendingResult(Game game, int playerTurnNumber, byte commandType, byte status) {
+
+        if(numberOfPendingResults[playerTurnNumber - 1] == GameActor.MAX_COMMANDS_PER_RUN)
+            flush(game);
+
+        int resultIndex = 2 * numberOfPendingResults[playerTurnNumber - 1]++;
+        pendingResults[playerTurnNumber - 1][resultIndex] = commandType;
+        pendingResults[playerTurnNumber - 1][resultIndex + 1] = status;
+
+    } // End of addPendingResult utility method.
+
+    /**
+     * This utility method writes a REACTION_WINDOW frame for the open reaction window.
+     * @param buffer The buffer.
+     */
+    private void putReactionWindow(ByteBuffer buffer) {
+
+        Combat combat = reactionWindow.getCombat();
+        int framePosition = GameProtocol.beginFrame(buffer, GameProtocol.REACTION_WINDOW);
+
+        buffer.put((byte) reactionWindow.getWindowNumber());
+        buffer.put((byte) reactionWindow.getRound());
+        buffer.put((byte) combat.getFighter().getPlayerTurnNumber());
+        GameProtocol.putZigZagVarInt(buffer, combat.getFighterStrength());
+        GameProtocol.putZigZagVarInt(buffer, combat.getMonsterStrength());
+        buffer.put((byte) combat.getNumberOfMonsters());
+
+        for(int monsterNumber = 1; monsterNumber <= combat.getNumberOfMonsters(); monsterNumber++)
+            GameProtocol.putZigZagVarInt(buffer, combat.getMonster(monsterNumber).getId());
+
+        GameProtocol.endFrame(buffer, framePosition);
+
+    } // End of putReactionWindow utility method.
+
+    /**
+     * This utility method writes a TURN_PHASE frame for the current turn.
+     * @param game The game.
+     * @param buffer The buffer.
+     */
+    private void putTurnPhase(Game game, ByteBuffer buffer) {
+
+        int framePosition = GameProtocol.beginFrame(buffer, GameProtocol.TURN_PHASE);
+        buffer.put((byte) game.getCurrentPlayer().getPlayerTurnNumber());
+        buffer.put((byte) getPhase(game).ordinal());
+        GameProtocol.endFrame(buffer, framePosition);
+
+    } // End of putTurnPhase utility method.
+
+    /**
+     * This utility method sends a RESULT frame to a client.
+     * @param client The client.
+     * @param commandType The type of the client's frame.
+     * @param status The status.
+     */
+    private void sendResult(ClientConnection client, byte commandType, byte status) {
+
+        OutboundFrame frame = new OutboundFrame(bufferPool);
+        GameProtocol.putResult(frame.getBuffer(), commandType, status);
+        frame.finish();
+        client.send(frame);
+
+    } // End of sendResult utility method.
+
+    /**
+     * This utility method finds which player a client plays.
+     * @param client The client.
+     * @return The turn number of the player the client plays, or 0 if it isn't seated.
+     */
+    private int findSeat(ClientConnection client) {
+
+        for(int i = 0; i < seats.length; i++) {
+            if(seats[i] == client)
+                return i + 1;
+        }
+
+        return 0;
+
+    } // End of findSeat utility method.
+
+} // End of GameRoom class.
@@ -0,0 +1,493 @@
+package server;
+
+import events.GameEventSink;
+import simulation.SimulationResults;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * This class is the network front end of a GameSessionHost: clients connect over TCP, create or join games, and send their game commands as
+ * binary frames (see GameProtocol). Each command is executed by its game's actor, which sends the result and the game's changes back.
+ *
+ * IMPORTANT NOTE: A single selector thread accepts the connections and does every read and write, without ever blocking, so thousands of
+ * clients only cost a socket and a ClientConnection each. Frames are read into pooled buffers (a connection only keeps one while a frame is
+ * partly received), and written straight from the pooled buffers the actors encoded them into, several frames per write.
+ *
+ * Usage: GameServer [port] [number of carrier threads]
+ */
+public class GameServer implements Runnable, AutoCloseable {
+
+    //----------------------------------------------------
+    //            INSTANCE VARIABLES
+    //----------------------------------------------------
+
+    // The default port the server listens on.
+    public static final int DEFAULT_PORT = 7777;
+    // The maximum number of idle buffers kept in the pool.
+    private static final int MAX_IDLE_BUFFERS = 4096;
+
+    // The host running the games.
+    private final GameSessionHost host;
+    // The selector watching every socket.
+    private final Selector selector;
+    // The socket accepting the connections.
+    private final ServerSocketChannel serverChannel;
+    // The pool every read and written frame's buffer comes from.
+    private final BufferPool bufferPool;
+    // The room of every game created through the server, by game id.
+    private final ConcurrentHashMap<Integer, GameRoom> rooms;
+    // The connections with frames waiting to be written.
+    private final ConcurrentLinkedQueue<ClientConnection> pendingWrites;
+    // The inbound queues commands were put in since the games' actors were last signalled (only used by the selector thread).
+    private final ArrayList<InboundCommandQueue> unsignalledQueues;
+    // The buffers and frames used for each write (only used by the selector thread).
+    private final ByteBuffer[] writeBuffers;
+    private final OutboundFrame[] writeFrames;
+    // The selector thread.
+    private final Thread selectorThread;
+    // The number of clients connected.
+    private volatile int connectionCount;
+    // The number of frames received from the clients.
+    private final LongAdder receivedFrameCount;
+    // Whether or not the server was closed.
+    private volatile boolean closed;
+
+    //----------------------------------------------------
+    //            CONSTRUCTOR(S)
+    //----------------------------------------------------
+
+    /**
+     * This method constructs a GameServer object, and starts listening on a port.
+     * @param host The host running the games.
+     * @param port The port (0 to pick any free port, see getPort).
+     * @throws IOException If the port can't be listened on.
+     */
+    public GameServer(GameSessionHost host, int port) throws IOException {
+
+        this.host = host;
+        selector = Selector.open();
+        serverChannel = ServerSocketChannel.open();
+        serverChannel.bind(new InetSocketAddress(port), 1024);
+        serverChannel.configureBlocking(false);
+        serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+
+        bufferPool = new BufferPool(GameProtocol.MAX_FRAME_SIZE, MAX_IDLE_BUFFERS);
+        rooms = new ConcurrentHashMap<>();
+        pendingWrites = new ConcurrentLinkedQueue<>();
+        unsignalledQueues = new ArrayList<>();
+        writeBuffers = new ByteBuffer[ClientConnection.MAX_FRAMES_PER_WRITE];
+        writeFrames = new OutboundFrame[ClientConnection.MAX_FRAMES_PER_WRITE];
+        connectionCount = 0;
+        receivedFrameCount = new LongAdder();
+        closed = false;
+
+        selectorThread = new Thread(this, "game-server");
+        selectorThread.start();
+
+    } // End of constructor method.
+
+    //----------------------------------------------------
+    //            METHOD(S)
+    //----------------------------------------------------
+
+    public static void main(String[] args) throws IOException {
+
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+        GameSessionHost host = args.length > 1 ? new GameSessionHost(Integer.parseInt(args[1])) : new GameSessionHost();
+
+        GameServer server = new GameServer(host, port);
+        System.out.println("Listening on port " + server.getPort() + " with " + host.getCarrierCount() + " carrier threads.");
+
+    } // End of main method.
+
+    /**
+     * This method gets the port the server listens on.
+     * @return The port.
+     */
+    public int getPort() {
+        return serverChannel.socket().getLocalPort();
+    }
+
+    /**
+     * This method gets the number of clients connected.
+     * @return The number of clients connected.
+     */
+    public int getConnectionCount() {
+        return connectionCount;
+    }
+
+    /**
+     * This method gets the number of frames received from the clients.
+     * @return The number of frames received.
+     */
+    public long getReceivedFrameCount() {
+        return receivedFrameCount.sum();
+    }
+
+    /**
+     * This method gets the pool every frame's buffer comes from (to check how many buffers were allocated).
+     * @return The buffer pool.
+     */
+    public BufferPool getBufferPool() {
+        return bufferPool;
+    }
+
+    /**
+     * This method runs the selector thread (never call it directly).
+     */
+    @Override
+    public void run() {
+
+        while(!closed) {
+            try {
+                selector.select();
+            }
+            catch(IOException e) {
+                break;
+            }
+
+            writePendingFrames();
+
+            Iterator<SelectionKey> selectedKeys = selector.selectedKeys().iterator();
+
+            while(selectedKeys.hasNext()) {
+                SelectionKey key = selectedKeys.next();
+                selectedKeys.remove();
+
+                if(!key.isValid())
+                    continue;
+
+                if(key.isAcceptable()) {
+                    acceptConnections();
+                    continue;
+                }
+
+                ClientConnection client = (ClientConnection) key.attachment();
+
+                try {
+                    if(key.isReadable())
+                        readFrames(client);
+
+                    if(key.isValid() && key.isWritable() && client.writeFrames(writeBuffers, writeFrames))
+                        key.interestOps(SelectionKey.OP_READ);
+                }
+                catch(IOException | RuntimeException e) {
+                    // Whatever goes wrong with a client (even a frame the server fails to handle) only costs that client its connection.
+                    closeConnection(client);
+                }
+
+            } // End of while loop.
+
+            // Every command read from the sockets that were ready is queued by now: each game's actor is told once about all of them.
+            signalInboundQueues();
+
+            // Results sent from this thread for the frames that never reached a game.
+            writePendingFrames();
+
+        } // End of while loop.
+
+        for(SelectionKey curKey : selector.keys()) {
+            if(curKey.attachment() instanceof ClientConnection)
+                closeConnection((ClientConnection) curKey.attachment());
+        }
+
+    } // End of run method.
+
+    /**
+     * This method closes the server: the selector thread stops and every client is disconnected. The host (and its games) is left running.
+     */
+    @Override
+    public void close() {
+
+        closed = true;
+        selector.wakeup();
+
+        try {
+            selectorThread.join();
+            serverChannel.close();
+            selector.close();
+        }
+        catch(InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        catch(IOException e) {
+            // Nothing is listening anymore either way.
+        }
+
+    } // End of close method.
+
+    /**
+     * This method asks the selector thread to write a client's waiting frames (called by the client's connection, from any thread).
+     * @param client The client.
+     */
+    void scheduleWrite(ClientConnection client) {
+
+        pendingWrites.offer(client);
+
+        if(Thread.currentThread() != selectorThread)
+            selector.wakeup();
+
+    } // End of scheduleWrite method.
+
+    /**
+     * This method ends a game created through the server (called by its room once every client left).
+     * @param gameId The id of the game.
+     */
+    void endGame(int gameId) {
+        rooms.remove(gameId);
+        host.endGame(gameId);
+    }
+
+    /**
+     * This utility method accepts every waiting connection.
+     */
+    private void acceptConnections() {
+
+        try {
+            SocketChannel channel;
+
+            while((channel = serverChannel.accept()) != null) {
+                channel.configureBlocking(false);
+                channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+
+                ClientConnection client = new ClientConnection(channel, this);
+                client.setSelectionKey(channel.register(selector, SelectionKey.OP_READ, client));
+                connectionCount++;
+            }
+        }
+        catch(IOException e) {
+            // The connection was closed before being accepted, the next ones are accepted on the next select.
+        }
+
+    } // End of acceptConnections utility method.
+
+    /**
+     * This utility method writes the frames of every client that has some waiting. A client whose socket is full is written again once it has
+     * room.
+     */
+    private void writePendingFrames() {
+
+        ClientConnection client;
+
+        while((client = pendingWrites.poll()) != null) {
+            if(client.checkIf_Closed())
+                continue;
+
+            try {
+                if(!client.writeFrames(writeBuffers, writeFrames))
+                    client.getSelectionKey().interestOps(SelectionKey.OP_READ | SelectionKey.OP_WRITE);
+            }
+            catch(IOException | RuntimeException e) {
+                closeConnection(client);
+            }
+
+        } // End of while loop.
+
+    } // End of writePendingFrames utility method.
+
+    /**
+     * This utility method reads what a client sent, and handles every complete frame. The start of a frame not fully received yet is kept in a
+     * pooled buffer until the rest arrives.
+     * @param client The client.
+     * @throws IOException If the client closed the connection.
+     */
+    private void readFrames(ClientConnection client) throws IOException {
+
+        ByteBuffer buffer = client.getReadBuffer();
+
+        if(buffer == null)
+            buffer = bufferPool.acquire();
+
+        int bytesRead = client.getChannel().read(buffer);
+
+        if(bytesRead < 0) {
+            client.setReadBuffer(buffer);
+            throw new IOException("The client closed the connection.");
+        }
+
+        buffer.flip();
+
+        int frameSize;
+
+        while((frameSize = GameProtocol.peekFrameSize(buffer)) != 0 && buffer.remaining() >= frameSize) {
+            int framePosition = buffer.position();
+            handleFrame(client, buffer, frameSize);
+            buffer.position(framePosition + frameSize);
+        }
+
+        if(frameSize > GameProtocol.MAX_FRAME_SIZE) {
+            // The frame could never fit in a buffer.
+            client.setReadBuffer(buffer);
+            throw new IOException("The client sent a frame that is too big.");
+        }
+
+        if(buffer.hasRemaining()) {
+            buffer.compact();
+            client.setReadBuffer(buffer);
+        }
+        else {
+            bufferPool.release(buffer);
+            client.setReadBuffer(null);
+        }
+
+    } // End of readFrames utility method.
+
+    /**
+     * This utility method handles a frame received from a client: games are created and joined right away, and game commands are queued in
+     * their game's room (see InboundCommandQueue), so the actor executes them in batches.
+     * @param client The client.
+     * @param buffer The buffer, positioned at the frame.
+     * @param frameSize The size of the frame.
+     */
+    private void handleFrame(ClientConnection client, ByteBuffer buffer, int frameSize) {
+
+        receivedFrameCount.increment();
+
+        if(frameSize < GameProtocol.HEADER_SIZE) {
+            sendResult(client, (byte) 0, GameProtocol.MALFORMED);
+            return;
+        }
+
+        int payloadPosition = buffer.position() + GameProtocol.HEADER_SIZE;
+        byte type = buffer.get(buffer.position() + GameProtocol.LENGTH_SIZE);
+
+        switch(type) {
+            case GameProtocol.CREATE_GAME: {
+                if(frameSize != GameProtocol.HEADER_SIZE + 9) {
+                    sendResult(client, type, GameProtocol.MALFORMED);
+                    return;
+                }
+
+                long seed = buffer.getLong(payloadPosition);
+                int numberOfPlayers = buffer.get(payloadPosition + 8);
+
+                if(client.getJoinedGameId() != 0 || numberOfPlayers < 1 || numberOfPlayers > SimulationResults.MAX_PLAYERS) {
+                    sendResult(client, type, client.getJoinedGameId() != 0 ? GameProtocol.NOT_JOINED : GameProtocol.MALFORMED);
+                    return;
+                }
+
+                GameChangeTracker changeTracker = new GameChangeTracker(numberOfPlayers, GameEventSink.NONE);
+                int gameId = host.createGame(seed, numberOfPlayers, changeTracker);
+                GameRoom room = new GameRoom(gameId, numberOfPlayers, changeTracker, this, bufferPool, host.getActor(gameId),
+                        host.getTimingWheel());
+                rooms.put(gameId, room);
+                host.getActor(gameId).setEndOfBatchCommand(room::flush);
+
+                host.send(gameId, game -> room.join(game, client, 1, type));
+                return;
+            }
+            case GameProtocol.JOIN_GAME: {
+                if(frameSize != GameProtocol.HEADER_SIZE + 5) {
+                    sendResult(client, type, GameProtocol.MALFORMED);
+                    return;
+                }
+
+                int gameId = buffer.getInt(payloadPosition);
+                int playerTurnNumber = buffer.get(payloadPosition + 4);
+                GameRoom room = rooms.get(gameId);
+
+                if(client.getJoinedGameId() != 0 || room == null) {
+                    sendResult(client, type, client.getJoinedGameId() != 0 ? GameProtocol.NOT_JOINED : GameProtocol.UNKNOWN_GAME);
+                    return;
+                }
+
+                if(!host.send(gameId, game -> room.join(game, client, playerTurnNumber, type)))
+                    sendResult(client, type, GameProtocol.UNKNOWN_GAME);
+                return;
+            }
+            default:
+                break;
+
+        } // End of switch statement.
+
+        int expectedFrameSize = (type == GameProtocol.REACT) ? GameProtocol.REACT_FRAME_SIZE : GameProtocol.COMMAND_FRAME_SIZE;
+
+        if(type < GameProtocol.DRAW_CARD || type > GameProtocol.REACT || frameSize != expectedFrameSize) {
+            sendResult(client, type, GameProtocol.MALFORMED);
+            return;
+        }
+
+        int gameId = client.getJoinedGameId();
+        GameRoom room = rooms.get(gameId);
+
+        if(room == null) {
+            sendResult(client, type, gameId == 0 ? GameProtocol.NOT_JOINED : GameProtocol.UNKNOWN_GAME);
+            return;
+        }
+
+        int argument1 = Byte.toUnsignedInt(buffer.get(payloadPosition));
+        int argument2 = Byte.toUnsignedInt(buffer.get(payloadPosition + 1));
+        int argument3 = (type == GameProtocol.REACT) ? Byte.toUnsignedInt(buffer.get(payloadPosition + 2)) : 0;
+
+        // The command waits in the room's queue until the frames of every ready socket are read (see signalInboundQueues).
+        InboundCommandQueue inboundQueue = room.getInboundQueue();
+        boolean unsignalled = inboundQueue.checkIf_Unsignalled();
+        byte status = inboundQueue.offer(client, type, argument1, argument2, argument3);
+
+        if(status != GameProtocol.OK)
+            sendResult(client, type, status);
+        else if(!unsignalled)
+            unsignalledQueues.add(inboundQueue);
+
+    } // End of handleFrame utility method.
+
+    /**
+     * This utility method tells the actors of the games that got commands since the last time to execute them (see InboundCommandQueue).
+     */
+    private void signalInboundQueues() {
+
+        for(InboundCommandQueue curQueue : unsignalledQueues)
+            curQueue.signal();
+
+        unsignalledQueues.clear();
+
+    } // End of signalInboundQueues utility method.
+
+    /**
+     * This utility method sends a RESULT frame to a client, from the selector thread (for frames that never reach a game).
+     * @param client The client.
+     * @param commandType The type of the client's frame.
+     * @param status The status.
+     */
+    private void sendResult(ClientConnection client, byte commandType, byte status) {
+
+        OutboundFrame frame = new OutboundFrame(bufferPool);
+        GameProtocol.putResult(frame.getBuffer(), commandType, status);
+        frame.finish();
+        client.send(frame);
+
+    } // End of sendResult utility method.
+
+    /**
+     * This utility method closes a client's connection, and frees its seat in its game.
+     * @param client The client.
+     */
+    private void closeConnection(ClientConnection client) {
+
+        if(client.checkIf_Closed())
+            return;
+
+        client.close(bufferPool);
+        connectionCount--;
+
+        int gameId = client.getJoinedGameId();
+        GameRoom room = rooms.get(gameId);
+
+        if(room != null)
+            host.send(gameId, game -> room.leave(game, client));
+
+    } // End of closeConnection utility method.
+
+} // End of GameServer class.
@@ -0,0 +1,235 @@
+package server;
+
+import basic_game_components.Game;
+import events.GameEventSink;
+import handlers.CurseCardHandler;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * This class hosts many independent games in the same JVM. Each game is owned by its own GameActor, and every actor shares the same small
+ * pool of carrier threads (one per core by default), so thousands of mostly idle games only cost their memory.
+ *
+ * IMPORTANT NOTE: The carrier threads are a ForkJoinPool in FIFO mode: an actor with mail is queued on it and runs a batch of commands, so
+ * games take turns fairly whether their commands come from the network or from other games. Nothing in a game is ever shared with another
+ * game (each one gets its own curse card handler), which is why the game logic itself needs no locks.
+ */
+public class GameSessionHost implements AutoCloseable {
+
+    //----------------------------------------------------
+    //            INSTANCE VARIABLES
+    //----------------------------------------------------
+
+    // How long closing the host waits for the commands already sent to be executed.
+    private static final long CLOSE_TIMEOUT_SECONDS = 10;
+
+    // The carrier threads every actor is scheduled on.
+    private final ForkJoinPool carriers;
+    // The actor of every hosted game, by game id.
+    private final ConcurrentHashMap<Integer, GameActor> actors;
+    // The id the next game gets.
+    private final AtomicInteger nextGameId;
+    // The timers of every hosted game (ex: turn timeouts).
+    private final TimingWheel timingWheel;
+    // Who is told about the hosted games' commands that threw an exception.
+    private final CommandFailureHandler failureHandler;
+
+    //----------------------------------------------------
+    //            CONSTRUCTOR(S)
+    //----------------------------------------------------
+
+    /**
+     * This method constructs a GameSessionHost object and starts its carrier threads.
+     * @param numberOfCarriers The number of carrier threads (at least 1).
+     * @param failureHandler Who is told about the hosted games' commands that threw an exception (with the game's id).
+     */
+    public GameSessionHost(int numberOfCarriers, CommandFailureHandler failureHandler) {
+
+        if(numberOfCarriers < 1)
+            throw new IllegalArgumentException("There must be at least 1 carrier thread: " + numberOfCarriers);
+
+        AtomicInteger carrierNumber = new AtomicInteger();
+
+        carriers = new ForkJoinPool(numberOfCarriers, pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("game-carrier-" + carrierNumber.incrementAndGet());
+            return thread;
+        }, null, true);
+
+        actors = new ConcurrentHashMap<>();
+        nextGameId = new AtomicInteger(1);
+        timingWheel = new TimingWheel();
+        this.failureHandler = failureHandler;
+
+    } // End of constructor method.
+
+    /**
+     * This method constructs a GameSessionHost object that prints its games' commands that threw an exception (see
+     * CommandFailureHandler.PRINT_STACK_TRACE), and starts its carrier threads.
+     * @param numberOfCarriers The number of carrier threads (at least 1).
+     */
+    public GameSessionHost(int numberOfCarriers) {
+        this(numberOfCarriers, CommandFailureHandler.PRINT_STACK_TRACE);
+    }
+
+    /**
+     * This method constructs a GameSessionHost object with one carrier thread per core, and starts them.
+     */
+    public GameSessionHost() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    //----------------------------------------------------
+    //            METHOD(S)
+    //----------------------------------------------------
+
+    /**
+     * This method creates a new game and starts hosting it.
+     * @param seed The game's seed.
+     * @param numberOfPlayers The number of players in the game.
+     * @param eventSink Where the game publishes its events (GameEventSink.NONE if nobody listens). It is only called by the game's actor.
+     * @return The id of the new game.
+     */
+    public int createGame(long seed, int numberOfPlayers, GameEventSink eventSink) {
+
+        int gameId = nextGameId.getAndIncrement();
+
+        Game game = new Game(seed, numberOfPlayers, new CurseCardHandler());
+        game.setEventSink(eventSink);
+
+        actors.put(gameId, new GameActor(gameId, game, carriers, failureHandler));
+
+        return gameId;
+
+    } // End of createGame method.
+
+    /**
+     * This method starts hosting a game created somewhere else (ex: a game recovered from its snapshot and journal).
+     * @param game The game. It must not be used by anything else from then on.
+     * @return The id of the game.
+     */
+    public int hostGame(Game game) {
+
+        int gameId = nextGameId.getAndIncrement();
+        actors.put(gameId, new GameActor(gameId, game, carriers, failureHandler));
+
+        return gameId;
+
+    } // End of hostGame method.
+
+    /**
+     * This method gets the actor of a hosted game.
+     * @param gameId The id of the game.
+     * @return The game's actor, or null if no such game is hosted.
+     */
+    public GameActor getActor(int gameId) {
+        return actors.get(gameId);
+    }
+
+    /**
+     * This method sends a command to a hosted game. It returns right away: the command is executed later, by the game's actor.
+     * @param gameId The id of the game.
+     * @param command The command.
+     * @return True if the command was sent, false if no such game is hosted.
+     */
+    public boolean send(int gameId, GameCommand command) {
+
+        GameActor actor = actors.get(gameId);
+
+        return actor != null && actor.tell(command);
+
+    } // End of send method.
+
+    /**
+     * This method schedules a command to be sent to a hosted game after a delay (ex: to end a turn that took too long). It returns right away.
+     * @param gameId The id of the game.
+     * @param delayMillis The delay, in milliseconds (see TimingWheel.schedule).
+     * @param command The command.
+     * @return The timer, which can be cancelled until it expires, or null if no such game is hosted.
+     */
+    public GameTimer schedule(int gameId, long delayMillis, GameCommand command) {
+
+        GameActor actor = actors.get(gameId);
+
+        return (actor == null) ? null : timingWheel.schedule(actor, delayMillis, command);
+
+    } // End of schedule method.
+
+    /**
+     * This method gets the timing wheel the hosted games' timers are kept on.
+     * @return The timing wheel.
+     */
+    public TimingWheel getTimingWheel() {
+        return timingWheel;
+    }
+
+    /**
+     * This method stops hosting a game. The commands already sent to it are still executed, but new ones are refused.
+     * @param gameId The id of the game.
+     * @return True if the game was hosted, false if it wasn't.
+     */
+    public boolean endGame(int gameId) {
+
+        GameActor actor = actors.remove(gameId);
+
+        if(actor == null)
+            return false;
+
+        actor.stop();
+
+        return true;
+
+    } // End of endGame method.
+
+    /**
+     * This method gets the number of games hosted.
+     * @return The number of games hosted.
+     */
+    public int getGameCount() {
+        return actors.size();
+    }
+
+    /**
+     * This method gets the number of carrier threads the games share.
+     * @return The number of carrier threads.
+     */
+    public int getCarrierCount() {
+        return carriers.getParallelism();
+    }
+
+    /**
+     * This method checks if every hosted game has executed the commands sent to it so far (the carrier threads are idle).
+     * @return True if no command is waiting or running, false otherwise.
+     */
+    public boolean checkIf_Idle() {
+        return carriers.isQuiescent();
+    }
+
+    /**
+     * This method closes the host: the timers stop, every game is ended, the commands already sent are executed (for up to
+     * CLOSE_TIMEOUT_SECONDS), and the carrier threads stop.
+     */
+    @Override
+    public void close() {
+
+        timingWheel.close();
+
+        for(Integer gameId : actors.keySet())
+            endGame(gameId);
+
+        carriers.shutdown();
+
+        try {
+            carriers.awaitTermination(CLOSE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        }
+        catch(InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+    } // End of close method.
+
+} // End of GameSessionHost class.
@@ -0,0 +1,105 @@
+package server;
+
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
+/**
+ * This class is a deadline scheduled on a TimingWheel (ex: a player's turn timeout): once it expires, its command is sent to its game's
+ * actor, which executes it like any other command. It can be cancelled from any thread until then.
+ *
+ * IMPORTANT NOTE: A timer is also the node of the doubly linked list of the wheel slot it waits in, so placing it in a slot and taking it
+ * out again (when it is cancelled) never has to search anything. Only the wheel's thread touches the list links; other threads only change
+ * the timer's state, which decides once and for all whether it expires or is cancelled.
+ */
+public final class GameTimer {
+
+    //----------------------------------------------------
+    //            INSTANCE VARIABLES
+    //----------------------------------------------------
+
+    // The states of a timer.
+    static final int PENDING = 0;
+    static final int CANCELLED = 1;
+    static final int EXPIRED = 2;
+
+    private static final AtomicIntegerFieldUpdater<GameTimer> STATE = AtomicIntegerFieldUpdater.newUpdater(GameTimer.class, "state");
+
+    // The wheel the timer is scheduled on.
+    private final TimingWheel wheel;
+    // The actor of the game the command is sent to.
+    final GameActor actor;
+    // The command sent to the game once the timer expires.
+    final GameCommand command;
+    // The tick the timer expires at (see TimingWheel).
+    final long deadlineTick;
+    // The timer's state (PENDING, CANCELLED or EXPIRED).
+    private volatile int state;
+
+    // The neighbours of the timer in its wheel slot, or null if it isn't in a slot (only used by the wheel's thread).
+    GameTimer previous;
+    GameTimer next;
+
+    //----------------------------------------------------
+    //            CONSTRUCTOR(S)
+    //----------------------------------------------------
+
+    /**
+     * This method constructs a GameTimer object (see TimingWheel.schedule).
+     * @param wheel The wheel the timer is scheduled on.
+     * @param actor The actor of the game the command is sent to.
+     * @param command The command sent to the game once the timer expires.
+     * @param deadlineTick The tick the timer expires at.
+     */
+    GameTimer(TimingWheel wheel, GameActor actor, GameCommand command, long deadlineTick) {
+        this.wheel = wheel;
+        this.actor = actor;
+        this.command = command;
+        this.deadlineTick = deadlineTick;
+        state = PENDING;
+    }
+
+    //----------------------------------------------------
+    //            METHOD(S)
+    //----------------------------------------------------
+
+    /**
+     * This method cancels the timer, if it hasn't expired yet. It can be called from any thread (usually by the game's actor, ex: when the
+     * player ends their turn in time).
+     * @return True if the timer was cancelled (its command will never be sent), false if it had already expired or been cancelled.
+     */
+    public boolean cancel() {
+
+        if(!STATE.compareAndSet(this, PENDING, CANCELLED))
+            return false;
+
+        // The wheel's thread takes the timer out of its slot on its next tick.
+        wheel.removeCancelled(this);
+
+        return true;
+
+    } // End of cancel method.
+
+    /**
+     * This method checks if the timer is still waiting to expire.
+     * @return True if it is still pending, false if it expired or was cancelled.
+     */
+    public boolean checkIf_Pending() {
+        return state == PENDING;
+    }
+
+    /**
+     * This method checks if the timer expired (its command was sent to the game).
+     * @return True if it expired, false otherwise.
+     */
+    public boolean checkIf_Expired() {
+        return state == EXPIRED;
+    }
+
+    /**
+     * This method marks the timer as expired, unless it was cancelled first (called by the wheel's thread).
+     * @return True if the timer expired, false if it was cancelled.
+     */
+    boolean expire() {
+        return STATE.compareAndSet(this, PENDING, EXPIRED);
+    }
+
+} // End of GameTimer class.
@@ -0,0 +1,156 @@
+package server;
+
+import basic_game_components.Card;
+import basic_game_components.Game;
+import basic_game_components.player_stuff.Hand;
+import basic_game_components.player_stuff.InPlayCards;
+import basic_game_components.player_stuff.Player;
+import treasure_cards.ItemCard;
+import utilities.Deck;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+
+/**
+ * This class writes a game as one of its players is allowed to see it: the payload of the GAME_STATE frames the GameServer sends a client when
+ * it joins a game (or asks for the whole state again). From then on, the client keeps its view up to date with the GAME_DELTA frames.
+ *
+ * IMPORTANT NOTE: Unlike a snapshot (see GameSnapshotCodec), a view holds nothing a player couldn't see at the table: the piles' order and the
+ * random streams' states are left out, and only the viewer's own hand holds card ids (the other hands are sent as their number of cards).
+ *
+ * View layout (all numbers are varints, signed ones zigzag varints, see GameProtocol):
+ *   version, turn count, current player turn number, viewer turn number, number of players
+ *   door pile and treasure pile: pile size, discards size and card ids (bottom to top)
+ *   each player: flags (1 byte), level, combat bonus, run away bonus, gold (signed), hand limit, equipped races, race card limit,
+ *                equipped classes, class card limit, hand size followed by the card ids (only for the viewer), in play size followed by
+ *                each in play card's id times 2, plus 1 if it is an equipped item
+ *
+ * The combat and run away bonuses are the ones from modifier cards, like in the COMBAT_BONUS_CHANGED and RUN_AWAY_BONUS_CHANGED events (the
+ * equipment's share comes with the equipped items).
+ */
+public final class GameViewCodec {
+
+    //----------------------------------------------------
+    //            INSTANCE VARIABLES
+    //----------------------------------------------------
+
+    // The bits of a player's flags byte.
+    public static final int FEMALE_FLAG = 1;
+    public static final int HUMAN_FLAG = 1 << 1;
+    public static final int CHICKEN_ON_HEAD_FLAG = 1 << 2;
+
+    /**
+     * This method isn't used, the class only holds constants and static methods.
+     */
+    private GameViewCodec() {
+    }
+
+    //----------------------------------------------------
+    //            METHOD(S)
+    //----------------------------------------------------
+
+    /**
+     * This method writes a GAME_STATE frame holding a game as one of its players sees it.
+     * @param game The game.
+     * @param viewerTurnNumber The turn number of the player the frame is for.
+     * @param version The game's version (see GameChangeTracker.getVersion).
+     * @param buffer The buffer.
+     */
+    public static void putView(Game game, int viewerTurnNumber, int version, ByteBuffer buffer) {
+
+        int framePosition = GameProtocol.beginFrame(buffer, GameProtocol.GAME_STATE);
+        encodeView(game, viewerTurnNumber, version, buffer);
+        GameProtocol.endFrame(buffer, framePosition);
+
+    } // End of putView method.
+
+    /**
+     * This method writes a game as one of its players sees it, starting at the buffer's position (which is moved past the view).
+     * @param game The game.
+     * @param viewerTurnNumber The turn number of the player the view is for.
+     * @param version The game's version (see GameChangeTracker.getVersion).
+     * @param buffer The buffer.
+     */
+    public static void encodeView(Game game, int viewerTurnNumber, int version, ByteBuffer buffer) {
+
+        List<Player> players = game.getPlayers();
+
+        GameProtocol.putVarInt(buffer, version);
+        GameProtocol.putVarInt(buffer, game.getTurnCount());
+        GameProtocol.putVarInt(buffer, game.getCurrentPlayer().getPlayerTurnNumber());
+        GameProtocol.putVarInt(buffer, viewerTurnNumber);
+        GameProtocol.putVarInt(buffer, players.size());
+
+        encodePile(game.getPileManager().getDoorPile(), buffer);
+        encodePile(game.getPileManager().getTreasurePile(), buffer);
+
+        for(Player curPlayer : players)
+            encodePlayer(curPlayer, curPlayer.getPlayerTurnNumber() == viewerTurnNumber, buffer);
+
+    } // End of encodeView method.
+
+    /**
+     * This utility method writes what everybody sees of a pile: how many cards it holds, and its discards.
+     * @param deck The pile.
+     * @param buffer The buffer.
+     */
+    private static void encodePile(Deck deck, ByteBuffer buffer) {
+
+        GameProtocol.putVarInt(buffer, deck.getPileSize());
+        GameProtocol.putVarInt(buffer, deck.getDiscardsSize());
+
+        for(int i = 0; i < deck.getDiscardsSize(); i++)
+            GameProtocol.putVarInt(buffer, deck.getDiscardCardId(i));
+
+    } // End of encodePile utility method.
+
+    /**
+     * This utility method writes what the viewer sees of a player.
+     * @param player The player.
+     * @param viewer Whether or not the player is the viewer (only the viewer sees the cards in their hand).
+     * @param buffer The buffer.
+     */
+    private static void encodePlayer(Player player, boolean viewer, ByteBuffer buffer) {
+
+        Hand hand = player.getHand();
+        InPlayCards inPlayCards = player.getInPlayCards();
+
+        int flags = 0;
+
+        if(player.getSex().equals("female"))
+            flags |= FEMALE_FLAG;
+        if(inPlayCards.checkIfPlayerIsHuman())
+            flags |= HUMAN_FLAG;
+        if(player.getDie().checkIf_ChickenOnYourHead())
+            flags |= CHICKEN_ON_HEAD_FLAG;
+
+        buffer.put((byte) flags);
+        GameProtocol.putZigZagVarInt(buffer, player.getLevel());
+        GameProtocol.putZigZagVarInt(buffer, player.getCombatBonus() - inPlayCards.getEquipmentCombatBonus());
+        GameProtocol.putZigZagVarInt(buffer, player.getRunAwayBonus() - inPlayCards.getEquipmentRunAwayBonus());
+        GameProtocol.putZigZagVarInt(buffer, player.getGold());
+        GameProtocol.putVarInt(buffer, hand.getHandLimit());
+        GameProtocol.putVarInt(buffer, inPlayCards.getNumberOfEquippedRaces());
+        GameProtocol.putVarInt(buffer, inPlayCards.getRaceCardLimit());
+        GameProtocol.putVarInt(buffer, inPlayCards.getNumberOfEquippedClasses());
+        GameProtocol.putVarInt(buffer, inPlayCards.getClassCardLimit());
+
+        GameProtocol.putVarInt(buffer, hand.getNumberOfCards());
+
+        if(viewer) {
+            for(int i = 1; i <= hand.getNumberOfCards(); i++)
+                GameProtocol.putVarInt(buffer, hand.getCard_UsingCardLocationNumber(i).getId());
+        }
+
+        GameProtocol.putVarInt(buffer, inPlayCards.getNumberOfCards());
+
+        for(int i = 1; i <= inPlayCards.getNumberOfCards(); i++) {
+            Card curCard = inPlayCards.getCard_UsingCardLocationNumber(i);
+            boolean equipped = curCard instanceof ItemCard && inPlayCards.checkIf_ItemEquipped((ItemCard) curCard);
+
+            GameProtocol.putVarInt(buffer, (curCard.getId() << 1) | (equipped ? 1 : 0));
+        }
+
+    } // End of encodePlayer utility method.
+
+} // End of GameViewCodec class.
@@ -0,0 +1,24 @@
+package server;
+
+import basic_game_components.Game;
+
+/**
+ * This interface executes the client commands an InboundCommandQueue holds, once they reach the game's actor (see GameRoom.handleInbound).
+ *
+ * IMPORTANT NOTE: Like a GameCommand, it is only ever called by the game's actor, so it can read and change the game freely without any lock.
+ */
+@FunctionalInterface
+public interface InboundCommandHandler {
+
+    /**
+     * This method executes a client's command.
+     * @param game The game.
+     * @param client The client that sent the command.
+     * @param commandType The command's type (DRAW_CARD to REACT, see GameProtocol).
+     * @param argument1 The command's first argument.
+     * @param argument2 The command's second argument.
+     * @param argument3 The command's third argument (only REACT frames have one, 0 otherwise).
+     */
+    void handle(Game game, ClientConnection client, byte commandType, int argument1, int argument2, int argument3);
+
+} // End of InboundCommandHandler interface.
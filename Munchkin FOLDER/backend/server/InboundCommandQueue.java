@@ -0,0 +1,175 @@
+package server;
+
+import basic_game_components.Game;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * This class holds a game's client commands from the moment the server's selector thread decodes them until the game's actor executes them.
+ * The selector thread queues every command it decodes from the sockets that were ready (see offer), and only then tells the actors of the
+ * games it queued commands for (see signal): each actor then executes every command waiting in a single run (see drain), so a busy game takes
+ * a single trip through the carrier threads (and wakes one up at most once) per batch of commands, instead of once per command.
+ *
+ * IMPORTANT NOTE: The queue is a ring of decoded commands (each one packed into an int, with its client next to it), with a single producer
+ * (the selector thread) and a single consumer (the actor), so neither side ever takes a lock or allocates anything. The "drain scheduled"
+ * flag makes sure the drain command is in the actor's mailbox at most once: the producer sets it when it tells the actor, and the actor clears
+ * it before draining, then checks for commands that arrived in the meantime.
+ */
+public class InboundCommandQueue {
+
+    //----------------------------------------------------
+    //            INSTANCE VARIABLES
+    //----------------------------------------------------
+
+    // The default number of commands a queue holds (a client waits for the results of its commands, so a game rarely has more than one
+    // command per seat waiting).
+    public static final int DEFAULT_CAPACITY = 64;
+
+    // The actor of the game, the command that drains the queue, and what executes each command.
+    private final GameActor actor;
+    private final GameCommand drainCommand;
+    private final InboundCommandHandler handler;
+
+    // The ring: each command's client, and its type and arguments (a byte each, from the lowest byte up: type, argument 1, 2 and 3).
+    private final ClientConnection[] clients;
+    private final int[] commands;
+    private final int mask;
+    // The number of commands taken out of the ring so far (only written by the consumer) and put in it (only written by the producer).
+    private final AtomicLong head;
+    private final AtomicLong tail;
+    // Whether the drain command is in the actor's mailbox (or running).
+    private final AtomicBoolean drainScheduled;
+    // Whether commands were queued since the last signal (only used by the producer).
+    private boolean unsignalled;
+
+    //----------------------------------------------------
+    //            CONSTRUCTOR(S)
+    //----------------------------------------------------
+
+    /**
+     * This method constructs an InboundCommandQueue object.
+     * @param capacity The number of commands the queue holds (a power of 2).
+     * @param actor The actor of the game.
+     * @param handler What executes each command.
+     */
+    public InboundCommandQueue(int capacity, GameActor actor, InboundCommandHandler handler) {
+
+        if(capacity < 1 || Integer.bitCount(capacity) != 1)
+            throw new IllegalArgumentException("The capacity must be a power of 2: " + capacity);
+
+        this.actor = actor;
+        this.handler = handler;
+        drainCommand = this::drain;
+        clients = new ClientConnection[capacity];
+        commands = new int[capacity];
+        mask = capacity - 1;
+        head = new AtomicLong();
+        tail = new AtomicLong();
+        drainScheduled = new AtomicBoolean(false);
+        unsignalled = false;
+
+    } // End of constructor method.
+
+    //----------------------------------------------------
+    //            METHOD(S)
+    //----------------------------------------------------
+
+    /**
+     * This method puts a decoded client command in the queue. The actor only executes it once it is signalled (see signal). It must only be
+     * called by one thread (the server's selector thread).
+     * @param client The client that sent the command.
+     * @param commandType The command's type (DRAW_CARD to REACT, see GameProtocol).
+     * @param argument1 The command's first argument (0 to 255).
+     * @param argument2 The command's second argument (0 to 255).
+     * @param argument3 The command's third argument (0 to 255).
+     * @return OK if the command was queued, BUSY if the queue is full, or UNKNOWN_GAME if the game was ended.
+     */
+    public byte offer(ClientConnection client, byte commandType, int argument1, int argument2, int argument3) {
+
+        if(actor.checkIf_Stopped())
+            return GameProtocol.UNKNOWN_GAME;
+
+        long curTail = tail.get();
+
+        if(curTail - head.get() == clients.length)
+            return GameProtocol.BUSY;
+
+        int index = (int) (curTail & mask);
+        clients[index] = client;
+        commands[index] = (commandType & 0xFF) | (argument1 & 0xFF) << 8 | (argument2 & 0xFF) << 16 | argument3 << 24;
+
+        // Publish the command before the actor can look for it.
+        tail.lazySet(curTail + 1);
+        unsignalled = true;
+
+        return GameProtocol.OK;
+
+    } // End of offer method.
+
+    /**
+     * This method checks if commands were queued since the last signal. It must only be called by the thread calling offer.
+     * @return True if the queue must be signalled, false otherwise.
+     */
+    public boolean checkIf_Unsignalled() {
+        return unsignalled;
+    }
+
+    /**
+     * This method tells the actor to drain the queue, unless it already is going to (or no command was queued since the last signal). It must
+     * only be called by the thread calling offer.
+     */
+    public void signal() {
+
+        if(!unsignalled)
+            return;
+
+        unsignalled = false;
+
+        if(!drainScheduled.get() && drainScheduled.compareAndSet(false, true))
+            actor.tell(drainCommand);
+
+    } // End of signal method.
+
+    /**
+     * This method gets the number of commands waiting in the queue.
+     * @return The number of commands waiting.
+     */
+    public int size() {
+        return (int) (tail.get() - head.get());
+    }
+
+    /**
+     * This method executes every command waiting in the queue, in the order they arrived (the drain command, only run by the actor).
+     * @param game The game.
+     */
+    private void drain(Game game) {
+
+        do {
+            // Clear the flag first: a command queued from now on either is drained below or tells the actor again.
+            drainScheduled.set(false);
+
+            long curHead = head.get();
+            long curTail = tail.get();
+
+            while(curHead != curTail) {
+                int index = (int) (curHead & mask);
+                ClientConnection client = clients[index];
+                int command = commands[index];
+                clients[index] = null;
+
+                // Free the slot before executing the command, which may take a while.
+                curHead++;
+                head.lazySet(curHead);
+
+                handler.handle(game, client, (byte) command, (command >>> 8) & 0xFF, (command >>> 16) & 0xFF, command >>> 24);
+
+                if(curHead == curTail)
+                    curTail = tail.get();
+            }
+
+        } while(size() != 0 && drainScheduled.compareAndSet(false, true));
+
+    } // End of drain utility method.
+
+} // End of InboundCommandQueue class.
@@ -0,0 +1,374 @@
+package server;
+
+import basic_game_components.PileType;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.Arrays;
+import java.util.Iterator;
+
+/**
+ * This class puts a GameServer under load: it opens many connections from a single thread (with its own selector), groups them into games,
+ * and has every client send game commands as fast as the server answers them. It then prints the number of frames per second and the
+ * latency of the commands.
+ *
+ * IMPORTANT NOTE: Each client has one command waiting for its result at a time. The player whose turn it is draws a door card, discards it and
+ * ends their turn, while the other players keep trying to draw (and get NOT_YOUR_TURN), so every game always has traffic.
+ *
+ * Usage: LoadGenerator [server address] [port] [number of connections] [number of players per game] [seconds]
+ */
+public class LoadGenerator {
+
+    /**
+     * This class is one simulated client: its socket, the game it plays in and the command it waits for.
+     */
+    private static class SimulatedClient {
+        // The index of the client (the first client of each group creates the game).
+        private final int index;
+        // The client's socket.
+        private SocketChannel channel;
+        // What the client receives, until it makes a complete frame.
+        private final ByteBuffer readBuffer = ByteBuffer.allocateDirect(GameProtocol.MAX_FRAME_SIZE * 4);
+        // The id of the game the client plays in (0 until it is created).
+        private int gameId;
+        // The type of the command the client sends next.
+        private byte nextCommand = GameProtocol.DRAW_CARD;
+        // When the client's last command was sent.
+        private long sentTime;
+
+        private SimulatedClient(int index) {
+            this.index = index;
+        }
+    }
+
+    //----------------------------------------------------
+    //            INSTANCE VARIABLES
+    //----------------------------------------------------
+
+    // The width of each latency bucket, in microseconds.
+    private static final int LATENCY_BUCKET_MICROS = 10;
+    // The number of latency buckets (latencies above the last one go in the last one).
+    private static final int NUMBER_OF_LATENCY_BUCKETS = 100_000;
+
+    // The address of the server.
+    private final InetSocketAddress serverAddress;
+    // The number of players per game.
+    private final int playersPerGame;
+    // The selector watching every client's socket.
+    private final Selector selector;
+    // Every client.
+    private final SimulatedClient[] clients;
+    // The buffer the frames are written into before being sent.
+    private final ByteBuffer writeBuffer;
+    // The number of commands answered with each latency (in LATENCY_BUCKET_MICROS buckets).
+    private final long[] latencyBuckets;
+    // The number of frames sent, results received and states (or deltas) received.
+    private long sentFrameCount;
+    private long resultCount;
+    private long stateCount;
+    // The number of bytes received.
+    private long receivedByteCount;
+    // The number of clients connected, and the number seated in a game.
+    private int connectedCount;
+    private int seatedCount;
+
+    //----------------------------------------------------
+    //            CONSTRUCTOR(S)
+    //----------------------------------------------------
+
+    /**
+     * This method constructs a LoadGenerator object.
+     * @param serverAddress The address of the server.
+     * @param numberOfConnections The number of connections to open.
+     * @param playersPerGame The number of players (connections) per game.
+     * @throws IOException If the selector can't be opened.
+     */
+    public LoadGenerator(InetSocketAddress serverAddress, int numberOfConnections, int playersPerGame) throws IOException {
+        this.serverAddress = serverAddress;
+        this.playersPerGame = playersPerGame;
+        selector = Selector.open();
+        clients = new SimulatedClient[numberOfConnections];
+        writeBuffer = ByteBuffer.allocateDirect(64);
+        latencyBuckets = new long[NUMBER_OF_LATENCY_BUCKETS];
+    }
+
+    //----------------------------------------------------
+    //            METHOD(S)
+    //----------------------------------------------------
+
+    public static void main(String[] args) throws IOException {
+
+        String address = args.length > 0 ? args[0] : "localhost";
+        int port = args.length > 1 ? Integer.parseInt(args[1]) : GameServer.DEFAULT_PORT;
+        int numberOfConnections = args.length > 2 ? Integer.parseInt(args[2]) : 2000;
+        int playersPerGame = args.length > 3 ? Integer.parseInt(args[3]) : 4;
+        int seconds = args.length > 4 ? Integer.parseInt(args[4]) : 10;
+
+        LoadGenerator loadGenerator = new LoadGenerator(new InetSocketAddress(address, port), numberOfConnections, playersPerGame);
+        loadGenerator.run(seconds * 1_000_000_000L);
+
+    } // End of main method.
+
+    /**
+     * This method connects every client, seats them in their games, sends commands for a while, and prints the results.
+     * @param durationNanos How long the clients send commands once they are all seated.
+     * @throws IOException If the selector fails.
+     */
+    public void run(long durationNanos) throws IOException {
+
+        long startTime = System.nanoTime();
+
+        for(int i = 0; i < clients.length; i++) {
+            clients[i] = new SimulatedClient(i);
+            clients[i].channel = SocketChannel.open();
+            clients[i].channel.configureBlocking(false);
+            clients[i].channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+            clients[i].channel.connect(serverAddress);
+            clients[i].channel.register(selector, SelectionKey.OP_CONNECT, clients[i]);
+        }
+
+        // Connect and seat every client before measuring anything.
+        while(seatedCount < clients.length)
+            selectOnce();
+
+        long seatedTime = System.nanoTime();
+        System.out.printf("%d clients connected and seated in %d games in %.2f s%n", connectedCount, (clients.length + playersPerGame - 1)
+                / playersPerGame, (seatedTime - startTime) / 1e9);
+
+        Arrays.fill(latencyBuckets, 0);
+        sentFrameCount = resultCount = stateCount = receivedByteCount = 0;
+
+        for(SimulatedClient curClient : clients)
+            sendNextCommand(curClient);
+
+        long endTime = seatedTime + durationNanos;
+
+        while(System.nanoTime() < endTime)
+            selectOnce();
+
+        double elapsedSeconds = (System.nanoTime() - seatedTime) / 1e9;
+
+        System.out.printf("%d frames sent, %d commands answered (%.0f per second), %d state and delta frames received (%.0f per second)%n",
+                sentFrameCount, resultCount, resultCount / elapsedSeconds, stateCount, stateCount / elapsedSeconds);
+        System.out.printf("%.1f MB received per second%n", receivedByteCount / elapsedSeconds / 1e6);
+        System.out.printf("Latency: median %d us, 99th percentile %d us, 99.9th percentile %d us%n", getLatencyPercentile(0.5),
+                getLatencyPercentile(0.99), getLatencyPercentile(0.999));
+
+        for(SimulatedClient curClient : clients)
+            curClient.channel.close();
+
+        selector.close();
+
+    } // End of run method.
+
+    /**
+     * This utility method waits for some clients' sockets to be ready, and handles them.
+     * @throws IOException If the selector fails.
+     */
+    private void selectOnce() throws IOException {
+
+        selector.select(100);
+
+        Iterator<SelectionKey> selectedKeys = selector.selectedKeys().iterator();
+
+        while(selectedKeys.hasNext()) {
+            SelectionKey key = selectedKeys.next();
+            selectedKeys.remove();
+
+            SimulatedClient client = (SimulatedClient) key.attachment();
+
+            if(key.isConnectable()) {
+                client.channel.finishConnect();
+                key.interestOps(SelectionKey.OP_READ);
+                connectedCount++;
+
+                // The first client of each group creates the game, the others join it once it exists.
+                if(client.index % playersPerGame == 0) {
+                    int numberOfPlayers = Math.min(playersPerGame, clients.length - client.index);
+                    writeBuffer.clear();
+                    GameProtocol.putCreateGame(writeBuffer, client.index, numberOfPlayers);
+                    write(client);
+                }
+                else if(client.gameId != 0) {
+                    sendJoinGame(client);
+                }
+            }
+            else if(key.isReadable()) {
+                readFrames(client);
+            }
+
+        } // End of while loop.
+
+    } // End of selectOnce utility method.
+
+    /**
+     * This utility method reads what the server sent to a client, and handles every complete frame.
+     * @param client The client.
+     * @throws IOException If the server closed the connection.
+     */
+    private void readFrames(SimulatedClient client) throws IOException {
+
+        ByteBuffer buffer = client.readBuffer;
+        int bytesRead = client.channel.read(buffer);
+
+        if(bytesRead < 0)
+            throw new IOException("The server closed the connection of client " + client.index + ".");
+
+        receivedByteCount += bytesRead;
+        buffer.flip();
+
+        int frameSize;
+
+        while((frameSize = GameProtocol.peekFrameSize(buffer)) != 0 && buffer.remaining() >= frameSize) {
+            int framePosition = buffer.position();
+            byte type = buffer.get(framePosition + GameProtocol.LENGTH_SIZE);
+
+            int payloadPosition = framePosition + GameProtocol.HEADER_SIZE;
+
+            if(type == GameProtocol.RESULT)
+                handleResult(client, buffer.get(payloadPosition), buffer.get(payloadPosition + 1));
+            else if(type == GameProtocol.GAME_CREATED)
+                handleGameCreated(client, buffer.getInt(payloadPosition));
+            else if(type == GameProtocol.GAME_STATE || type == GameProtocol.GAME_DELTA)
+                stateCount++;
+
+            buffer.position(framePosition + frameSize);
+
+        } // End of while loop.
+
+        buffer.compact();
+
+    } // End of readFrames utility method.
+
+    /**
+     * This utility method has the other clients of a group join the game its first client created.
+     * @param creator The client that created the game.
+     * @param gameId The id of the game.
+     * @throws IOException If a socket fails.
+     */
+    private void handleGameCreated(SimulatedClient creator, int gameId) throws IOException {
+
+        for(int i = creator.index; i < Math.min(creator.index + playersPerGame, clients.length); i++) {
+            clients[i].gameId = gameId;
+
+            // A client still connecting joins once it is connected.
+            if(i != creator.index && clients[i].channel.isConnected())
+                sendJoinGame(clients[i]);
+        }
+
+    } // End of handleGameCreated utility method.
+
+    /**
+     * This utility method has a client join its group's game.
+     * @param client The client.
+     * @throws IOException If the socket fails.
+     */
+    private void sendJoinGame(SimulatedClient client) throws IOException {
+
+        writeBuffer.clear();
+        GameProtocol.putJoinGame(writeBuffer, client.gameId, client.index % playersPerGame + 1);
+        write(client);
+
+    } // End of sendJoinGame utility method.
+
+    /**
+     * This utility method handles the result of a client's frame, and sends its next command.
+     * @param client The client.
+     * @param commandType The type of the client's frame.
+     * @param status The status.
+     * @throws IOException If the socket fails.
+     */
+    private void handleResult(SimulatedClient client, byte commandType, byte status) throws IOException {
+
+        if(commandType == GameProtocol.CREATE_GAME || commandType == GameProtocol.JOIN_GAME) {
+            if(status != GameProtocol.OK)
+                throw new IllegalStateException("Client " + client.index + " couldn't join its game (status " + status + ").");
+
+            seatedCount++;
+            return;
+        }
+
+        long latencyMicros = (System.nanoTime() - client.sentTime) / 1000;
+        latencyBuckets[(int) Math.min(latencyMicros / LATENCY_BUCKET_MICROS, NUMBER_OF_LATENCY_BUCKETS - 1)]++;
+        resultCount++;
+
+        // The player whose turn it is draws a door card, discards it, and ends their turn.
+        switch(commandType) {
+            case GameProtocol.DRAW_CARD:
+                client.nextCommand = (status == GameProtocol.OK) ? GameProtocol.DISCARD_CARD
+                        : (status == GameProtocol.EMPTY_PILE || status == GameProtocol.WRONG_PHASE) ? GameProtocol.END_TURN
+                        : GameProtocol.DRAW_CARD;
+                break;
+            case GameProtocol.DISCARD_CARD:
+                client.nextCommand = GameProtocol.END_TURN;
+                break;
+            default:
+                client.nextCommand = (status == GameProtocol.MUST_DISCARD) ? GameProtocol.DISCARD_CARD : GameProtocol.DRAW_CARD;
+                break;
+
+        } // End of switch statement.
+
+        sendNextCommand(client);
+
+    } // End of handleResult utility method.
+
+    /**
+     * This utility method sends a client's next command.
+     * @param client The client.
+     * @throws IOException If the socket fails.
+     */
+    private void sendNextCommand(SimulatedClient client) throws IOException {
+
+        writeBuffer.clear();
+        int argument1 = (client.nextCommand == GameProtocol.DRAW_CARD) ? PileType.DOOR.ordinal() : 1;
+        GameProtocol.putCommand(writeBuffer, client.nextCommand, argument1, 0);
+
+        client.sentTime = System.nanoTime();
+        write(client);
+
+    } // End of sendNextCommand utility method.
+
+    /**
+     * This utility method writes the frame in the write buffer to a client's socket (a frame this small always fits in the socket's buffer,
+     * since each client has a single command waiting at a time).
+     * @param client The client.
+     * @throws IOException If the socket fails.
+     */
+    private void write(SimulatedClient client) throws IOException {
+
+        writeBuffer.flip();
+
+        while(writeBuffer.hasRemaining())
+            client.channel.write(writeBuffer);
+
+        sentFrameCount++;
+
+    } // End of write utility method.
+
+    /**
+     * This utility method gets a percentile of the commands' latency.
+     * @param fraction The percentile, as a fraction (ex: 0.99).
+     * @return The latency, in microseconds (rounded up to the bucket's width).
+     */
+    private long getLatencyPercentile(double fraction) {
+
+        long target = (long) Math.ceil(resultCount * fraction);
+        long count = 0;
+
+        for(int bucket = 0; bucket < NUMBER_OF_LATENCY_BUCKETS; bucket++) {
+            count += latencyBuckets[bucket];
+
+            if(count >= target)
+                return (bucket + 1L) * LATENCY_BUCKET_MICROS;
+        }
+
+        return (long) NUMBER_OF_LATENCY_BUCKETS * LATENCY_BUCKET_MICROS;
+
+    } // End of getLatencyPercentile utility method.
+
+} // End of LoadGenerator class.
@@ -0,0 +1,103 @@
+package server;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * This class is one or more encoded server frames waiting to be written to one or more clients. Its bytes live in a pooled buffer, which goes
+ * back to the pool once every client it was sent to has written it.
+ *
+ * IMPORTANT NOTE: A frame sent to several clients (ex: the state of a game, sent to each of its players) is encoded once and the same buffer is
+ * written to every socket, without being copied: the frame counts its references (one per client it was sent to, plus the one of whoever
+ * encoded it), and each client writes it from its own offset. Once finished, a frame's bytes must not change.
+ */
+public class OutboundFrame {
+
+    //----------------------------------------------------
+    //            INSTANCE VARIABLES
+    //----------------------------------------------------
+
+    // The pooled buffer holding the frame's bytes.
+    private final ByteBuffer buffer;
+    // The pool the buffer goes back to.
+    private final BufferPool bufferPool;
+    // The number of references to the frame (the buffer goes back to the pool when it reaches 0).
+    private final AtomicInteger referenceCount;
+    // The size of the frame, once finished.
+    private int size;
+
+    //----------------------------------------------------
+    //            CONSTRUCTOR(S)
+    //----------------------------------------------------
+
+    /**
+     * This method constructs an OutboundFrame object with a buffer from the pool. Its single reference belongs to whoever constructed it.
+     * @param bufferPool The pool the frame's buffer comes from.
+     */
+    public OutboundFrame(BufferPool bufferPool) {
+        this.bufferPool = bufferPool;
+        buffer = bufferPool.acquire();
+        referenceCount = new AtomicInteger(1);
+        size = 0;
+    }
+
+    //----------------------------------------------------
+    //            METHOD(S)
+    //----------------------------------------------------
+
+    /**
+     * This method gets the buffer the frame is encoded into (see GameProtocol), before the frame is finished.
+     * @return The frame's buffer.
+     */
+    public ByteBuffer getBuffer() {
+        return buffer;
+    }
+
+    /**
+     * This method finishes the frame: its size is fixed, and it can be sent.
+     */
+    public void finish() {
+        size = buffer.position();
+    }
+
+    /**
+     * This method gets the size of the frame.
+     * @return The size of the frame, in bytes.
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * This method prepares the frame's buffer to write the rest of the frame to a socket (only called by the server's selector thread, which
+     * writes every frame).
+     * @param offset The number of bytes of the frame already written to that socket.
+     * @return The frame's buffer, positioned at the offset and limited to the frame's size.
+     */
+    ByteBuffer prepareToWrite(int offset) {
+
+        buffer.limit(size);
+        buffer.position(offset);
+
+        return buffer;
+
+    } // End of prepareToWrite method.
+
+    /**
+     * This method adds a reference to the frame (call it once per client the frame is sent to).
+     */
+    public void retain() {
+        referenceCount.incrementAndGet();
+    }
+
+    /**
+     * This method removes a reference to the frame. The last one gives its buffer back to the pool.
+     */
+    public void release() {
+
+        if(referenceCount.decrementAndGet() == 0)
+            bufferPool.release(buffer);
+
+    } // End of release method.
+
+} // End of OutboundFrame class.
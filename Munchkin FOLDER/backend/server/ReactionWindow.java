@@ -0,0 +1,444 @@
+package server;
+
+import basic_game_components.Card;
+import basic_game_components.Game;
+import basic_game_components.player_stuff.Hand;
+import basic_game_components.player_stuff.Player;
+import handlers.Combat;
+import handlers.CombatReactionHandler;
+import handlers.CombatResolver;
+import handlers.CurseChooser;
+import handlers.ReactionChooser;
+
+import java.util.List;
+
+/**
+ * This class runs the reaction windows of a game's combats: after each combat event (the combat starting, or reactions changing it), every
+ * player gets a chance to play a card in reaction (see CombatReactionHandler), all at the same time. The players nobody plays answer right
+ * away (see ReactionChooser), and the others have REACTION_TIMEOUT_MILLIS to answer, or they pass.
+ *
+ * IMPORTANT NOTE: Like the GameRoom it belongs to, a window is only used by the game's actor, so it needs no lock: the players' answers are
+ * commands sent to the actor in whatever order they arrive, and the window's deadline is a timer on the host's TimingWheel. A window closes
+ * as soon as every player answered, and its reactions are then applied in rule order (players who react to the same kind of event are taken
+ * in turn order, starting with the fighter). If any reaction was applied, a new window opens (the players can react to the reactions), up to
+ * MAX_ROUNDS windows per combat. Once a window closes with nothing to apply, the combat is resolved. A window keeps its arrays from one combat
+ * to the next, so opening one allocates nothing but its timer (and only if a player has yet to answer once the others did), and its combats
+ * come from its CombatResolver's pool.
+ */
+public class ReactionWindow {
+
+    //----------------------------------------------------
+    //            INSTANCE VARIABLES
+    //----------------------------------------------------
+
+    // How long the players have to answer a window before they pass.
+    public static final long REACTION_TIMEOUT_MILLIS = 10_000;
+    // The most windows a combat opens (the combat is resolved once the last one closes, whatever was played in it).
+    public static final int MAX_ROUNDS = 8;
+
+    // The actor of the game, and the wheel the windows' deadlines are kept on.
+    private final GameActor actor;
+    private final TimingWheel timingWheel;
+    // Makes the reactions of the players nobody plays, and the players' choices for the curses played in reaction.
+    private final ReactionChooser reactionChooser;
+    private final CurseChooser curseChooser;
+
+    // Builds the combats (see startCombat) and resolves them.
+    private final CombatResolver combatResolver;
+    // The combat in progress, or null if there is none.
+    private Combat combat;
+    // Whether each player is played by nobody (index 0 is the player with turn number 1), as of the start of the combat.
+    private final boolean[] botSeats;
+    // The number of the current (or last) window, the combat's number of windows so far, and whether the current window is open.
+    private int windowNumber;
+    private int round;
+    private boolean open;
+    // The deadline of the current window.
+    private GameTimer timer;
+
+    // The answers to the current window, for each player: whether they answered, and the reaction's cards and argument (null if they passed).
+    private final boolean[] answered;
+    private final Card[] reactionCards;
+    private final Card[] secondCards;
+    private final int[] arguments;
+    private int numberOfAnswers;
+    // The players whose reactions are applied, in rule order (as indexes in the arrays above).
+    private final int[] applyOrder;
+
+    // The number of combats resolved so far, and the fighter and outcome of the last one (see Combat.resolve).
+    private int numberOfCombatsResolved;
+    private int lastFighterTurnNumber;
+    private int lastOutcome;
+
+    //----------------------------------------------------
+    //            CONSTRUCTOR(S)
+    //----------------------------------------------------
+
+    /**
+     * This method constructs a ReactionWindow object, with no combat in progress.
+     * @param numberOfPlayers The number of players in the game.
+     * @param actor The actor of the game.
+     * @param timingWheel The wheel the windows' deadlines are kept on.
+     * @param reactionChooser Makes the reactions of the players nobody plays.
+     * @param curseChooser Makes the players' choices for the curses played in reaction.
+     */
+    public ReactionWindow(int numberOfPlayers, GameActor actor, TimingWheel timingWheel, ReactionChooser reactionChooser,
+                          CurseChooser curseChooser) {
+        this.actor = actor;
+        this.timingWheel = timingWheel;
+        this.reactionChooser = reactionChooser;
+        this.curseChooser = curseChooser;
+        combatResolver = new CombatResolver();
+        botSeats = new boolean[numberOfPlayers];
+        answered = new boolean[numberOfPlayers];
+        reactionCards = new Card[numberOfPlayers];
+        secondCards = new Card[numberOfPlayers];
+        arguments = new int[numberOfPlayers];
+        applyOrder = new int[numberOfPlayers];
+        windowNumber = 0;
+        open = false;
+    }
+
+    //----------------------------------------------------
+    //            METHOD(S)
+    //----------------------------------------------------
+
+    /**
+     * This method gets the resolver the window's combats come from (start a combat with it, then pass it to startCombat).
+     * @return The combat resolver.
+     */
+    public CombatResolver getCombatResolver() {
+        return combatResolver;
+    }
+
+    /**
+     * This method starts a combat and opens its first window. The players nobody plays answer right away, so the window may already be closed
+     * (and the combat resolved) when the method returns.
+     * @param game The game.
+     * @param newCombat The combat.
+     * @param botSeats Whether each player is played by nobody (index 0 is the player with turn number 1).
+     * @throws IllegalStateException If a combat is already in progress.
+     */
+    public void startCombat(Game game, Combat newCombat, boolean[] botSeats) {
+
+        if(combat != null)
+            throw new IllegalStateException("A combat is already in progress.");
+
+        combat = newCombat;
+        System.arraycopy(botSeats, 0, this.botSeats, 0, this.botSeats.length);
+        round = 0;
+        openWindow(game);
+
+    } // End of startCombat method.
+
+    /**
+     * This method takes a player's answer to the current window: a card played in reaction, or a pass. The window closes once every player
+     * answered.
+     * @param game The game.
+     * @param playerTurnNumber The turn number of the player answering.
+     * @param answeredWindowNumber The number of the window the player answers (only its lowest 8 bits are compared, see GameProtocol.REACT).
+     * @param cardLocationNumber The hand location of the card played in reaction, or 0 to pass.
+     * @param argument The hand location of the second card, for the reactions that need one, or else the reaction's argument (see
+     *                 CombatReactionHandler.checkIf_CanReact).
+     * @return The answer's status: OK, NO_REACTION_WINDOW if the window closed or the player already answered it, or INVALID_CARD if the
+     *         card can't be played in reaction (the player can answer again).
+     */
+    public byte answer(Game game, int playerTurnNumber, int answeredWindowNumber, int cardLocationNumber, int argument) {
+
+        int seat = playerTurnNumber - 1;
+
+        if(!open || ((answeredWindowNumber ^ windowNumber) & 0xFF) != 0 || answered[seat])
+            return GameProtocol.NO_REACTION_WINDOW;
+
+        if(cardLocationNumber != 0 && !takeReaction(game, seat, cardLocationNumber, argument))
+            return GameProtocol.INVALID_CARD;
+
+        markAnswered(game, seat);
+
+        return GameProtocol.OK;
+
+    } // End of answer method.
+
+    /**
+     * This method closes a window whose deadline came (the players who didn't answer pass). It is the command of the window's timer.
+     * @param game The game.
+     * @param expiredWindowNumber The number of the window.
+     */
+    public void expire(Game game, int expiredWindowNumber) {
+
+        if(open && expiredWindowNumber == windowNumber)
+            closeWindow(game);
+
+    } // End of expire method.
+
+    /**
+     * This method ends the combat in progress right away (ex: the fighter's turn took too long): the current window closes as if its deadline
+     * came, its reactions are applied, and the combat is resolved without opening another window.
+     * @param game The game.
+     */
+    public void finishCombat(Game game) {
+
+        if(combat == null)
+            return;
+
+        round = MAX_ROUNDS;
+        closeWindow(game);
+
+    } // End of finishCombat method.
+
+    /**
+     * This method checks if a combat is in progress.
+     * @return True if a combat is in progress, false otherwise.
+     */
+    public boolean checkIf_CombatInProgress() {
+        return combat != null;
+    }
+
+    /**
+     * This method gets the combat in progress.
+     * @return The combat, or null if there is none.
+     */
+    public Combat getCombat() {
+        return combat;
+    }
+
+    /**
+     * This method checks if a window is open (waiting for some players to answer).
+     * @return True if a window is open, false otherwise.
+     */
+    public boolean checkIf_Open() {
+        return open;
+    }
+
+    /**
+     * This method gets the number of the current (or last) window. Every window of every combat gets the next number.
+     * @return The window's number.
+     */
+    public int getWindowNumber() {
+        return windowNumber;
+    }
+
+    /**
+     * This method gets the number of windows the combat in progress opened so far.
+     * @return The number of windows, the current one included.
+     */
+    public int getRound() {
+        return round + 1;
+    }
+
+    /**
+     * This method checks if a player answered the current window.
+     * @param playerTurnNumber The player's turn number.
+     * @return True if they answered (or the window is closed), false otherwise.
+     */
+    public boolean checkIf_Answered(int playerTurnNumber) {
+        return !open || answered[playerTurnNumber - 1];
+    }
+
+    /**
+     * This method gets the number of combats resolved so far.
+     * @return The number of combats resolved.
+     */
+    public int getNumberOfCombatsResolved() {
+        return numberOfCombatsResolved;
+    }
+
+    /**
+     * This method gets the turn number of the fighter of the last combat resolved.
+     * @return The fighter's turn number, or 0 if no combat was resolved yet.
+     */
+    public int getLastFighterTurnNumber() {
+        return lastFighterTurnNumber;
+    }
+
+    /**
+     * This method gets the outcome of the last combat resolved.
+     * @return The outcome (see Combat.resolve), or 0 if no combat was resolved yet.
+     */
+    public int getLastOutcome() {
+        return lastOutcome;
+    }
+
+    /**
+     * This utility method opens a window: every player has yet to answer, and the players nobody plays answer right away.
+     * @param game The game.
+     */
+    private void openWindow(Game game) {
+
+        windowNumber++;
+        open = true;
+        numberOfAnswers = 0;
+
+        for(int i = 0; i < answered.length; i++)
+            answered[i] = false;
+
+        int openedWindowNumber = windowNumber;
+        List<Player> players = game.getPlayers();
+
+        for(int seat = 0; seat < botSeats.length && open && windowNumber == openedWindowNumber; seat++) {
+
+            if(!botSeats[seat])
+                continue;
+
+            Player player = players.get(seat);
+            int cardLocationNumber = reactionChooser.chooseReaction(combat, player);
+
+            if(cardLocationNumber != 0) {
+                Card card = player.getHand().getCard_UsingCardLocationNumber(cardLocationNumber);
+                int argument = CombatReactionHandler.checkIf_NeedsSecondCard(card)
+                        ? reactionChooser.chooseSecondCard(combat, player, cardLocationNumber)
+                        : reactionChooser.chooseArgument(combat, player, cardLocationNumber);
+
+                // A choice that can't be played is a pass.
+                takeReaction(game, seat, cardLocationNumber, argument);
+            }
+
+            markAnswered(game, seat);
+
+        } // End of for loop.
+
+        // The deadline is only needed if someone has yet to answer.
+        if(open && windowNumber == openedWindowNumber)
+            timer = timingWheel.schedule(actor, REACTION_TIMEOUT_MILLIS, expiredGame -> expire(expiredGame, openedWindowNumber));
+
+    } // End of openWindow utility method.
+
+    /**
+     * This utility method takes a player's reaction out of their hand, if it can be played.
+     * @param game The game.
+     * @param seat The player's index (turn number - 1).
+     * @param cardLocationNumber The hand location of the card.
+     * @param argument The hand location of the second card, for the reactions that need one, or else the reaction's argument.
+     * @return True if the reaction was taken, false if it can't be played (the hand is left as it was).
+     */
+    private boolean takeReaction(Game game, int seat, int cardLocationNumber, int argument) {
+
+        Player player = game.getPlayers().get(seat);
+        Hand hand = player.getHand();
+
+        if(cardLocationNumber < 1 || cardLocationNumber > hand.getNumberOfCards())
+            return false;
+
+        Card card = hand.getCard_UsingCardLocationNumber(cardLocationNumber);
+        Card secondCard = null;
+        int secondCardLocationNumber = 0;
+
+        if(CombatReactionHandler.checkIf_NeedsSecondCard(card)) {
+            if(argument < 1 || argument > hand.getNumberOfCards() || argument == cardLocationNumber)
+                return false;
+
+            secondCardLocationNumber = argument;
+            secondCard = hand.getCard_UsingCardLocationNumber(secondCardLocationNumber);
+            argument = 0;
+        }
+
+        if(!CombatReactionHandler.checkIf_CanReact(combat, player, card, secondCard, argument, game.getPlayers().size()))
+            return false;
+
+        // Remove the later card first, so the other one keeps its location.
+        if(secondCardLocationNumber > cardLocationNumber)
+            hand.removeCard_UsingCardLocationNumber(secondCardLocationNumber);
+
+        hand.removeCard_UsingCardLocationNumber(cardLocationNumber);
+
+        if(secondCardLocationNumber != 0 && secondCardLocationNumber < cardLocationNumber)
+            hand.removeCard_UsingCardLocationNumber(secondCardLocationNumber);
+
+        reactionCards[seat] = card;
+        secondCards[seat] = secondCard;
+        arguments[seat] = argument;
+
+        return true;
+
+    } // End of takeReaction utility method.
+
+    /**
+     * This utility method records that a player answered the current window, and closes it if they were the last one.
+     * @param game The game.
+     * @param seat The player's index (turn number - 1).
+     */
+    private void markAnswered(Game game, int seat) {
+
+        answered[seat] = true;
+        numberOfAnswers++;
+
+        if(numberOfAnswers == answered.length)
+            closeWindow(game);
+
+    } // End of markAnswered utility method.
+
+    /**
+     * This utility method closes the current window and applies its reactions in rule order. Another window opens if any was applied (and
+     * the combat has windows left), otherwise the combat is resolved.
+     * @param game The game.
+     */
+    private void closeWindow(Game game) {
+
+        open = false;
+
+        if(timer != null) {
+            timer.cancel();
+            timer = null;
+        }
+
+        // Order the reactions by rule order, in turn order from the fighter for the same rule order (an insertion sort, which keeps that order).
+        List<Player> players = game.getPlayers();
+        int fighterSeat = combat.getFighter().getPlayerTurnNumber() - 1;
+        int numberOfReactions = 0;
+
+        for(int i = 0; i < reactionCards.length; i++) {
+
+            int seat = (fighterSeat + i) % reactionCards.length;
+
+            if(reactionCards[seat] == null)
+                continue;
+
+            int ruleOrder = CombatReactionHandler.getRuleOrder(reactionCards[seat]);
+            int j = numberOfReactions;
+
+            while(j > 0 && CombatReactionHandler.getRuleOrder(reactionCards[applyOrder[j - 1]]) > ruleOrder) {
+                applyOrder[j] = applyOrder[j - 1];
+                j--;
+            }
+
+            applyOrder[j] = seat;
+            numberOfReactions++;
+
+        } // End of for loop.
+
+        boolean applied = false;
+
+        for(int i = 0; i < numberOfReactions; i++) {
+
+            int seat = applyOrder[i];
+            Player player = players.get(seat);
+
+            if(CombatReactionHandler.applyReaction(game, combat, player, reactionCards[seat], secondCards[seat], arguments[seat], curseChooser))
+                applied = true;
+            else {
+                // The combat no longer allows it (ex: its monster left), so the cards go back to the player's hand.
+                player.getHand().addCardToHand(reactionCards[seat]);
+
+                if(secondCards[seat] != null)
+                    player.getHand().addCardToHand(secondCards[seat]);
+            }
+
+            reactionCards[seat] = null;
+            secondCards[seat] = null;
+
+        } // End of for loop.
+
+        if(applied && combat.getNumberOfMonsters() > 0 && round + 1 < MAX_ROUNDS) {
+            round++;
+            openWindow(game);
+            return;
+        }
+
+        lastFighterTurnNumber = combat.getFighter().getPlayerTurnNumber();
+        lastOutcome = combatResolver.resolve(combat, game.getPileManager());
+        numberOfCombatsResolved++;
+        combat = null;
+
+    } // End of closeWindow utility method.
+
+} // End of ReactionWindow class.
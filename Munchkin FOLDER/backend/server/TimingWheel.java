@@ -0,0 +1,408 @@
+package server;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongSupplier;
+
+/**
+ * This class keeps the timers of every hosted game (ex: turn timeouts) on a single thread, however many games there are. When a timer
+ * expires, its command is sent to its game's actor, so it is executed by the game's carrier thread like any other command.
+ *
+ * IMPORTANT NOTE: The timers are kept in a hierarchical timing wheel: time is cut into ticks, and a timer waits in the slot of the tick it
+ * expires at (on level 0, which covers the next 256 ticks), or in a coarser slot covering many ticks (on levels 1 to 3, each one covering 64
+ * times as many ticks as the one below). When the wheel reaches a coarse slot, its timers are cascaded down to finer slots, so scheduling,
+ * cancelling and expiring a timer each take constant time, and an idle tick only looks at a single slot. The default tick is 10 milliseconds,
+ * which is the most a timer can be late by (plus the time its game takes to execute its command), and the wheel covers 2^26 ticks (over 7
+ * days): a later timer waits in the last slot and is placed again each time it is reached. Other threads never touch the slots: new and
+ * cancelled timers are handed to the wheel's thread through queues, which it empties on every tick.
+ */
+public class TimingWheel implements Runnable, AutoCloseable {
+
+    //----------------------------------------------------
+    //            INSTANCE VARIABLES
+    //----------------------------------------------------
+
+    // The default length of a tick.
+    public static final long DEFAULT_TICK_MILLIS = 10;
+
+    // The number of slots of level 0, and of every level above it (as the number of bits of a tick they use).
+    private static final int LEVEL_0_BITS = 8;
+    private static final int LEVEL_BITS = 6;
+    private static final int NUMBER_OF_LEVELS = 4;
+    private static final int LEVEL_0_MASK = (1 << LEVEL_0_BITS) - 1;
+    private static final int LEVEL_MASK = (1 << LEVEL_BITS) - 1;
+    // The number of ticks the wheel covers from the current one.
+    private static final long MAX_DELTA_TICKS = 1L << (LEVEL_0_BITS + (NUMBER_OF_LEVELS - 1) * LEVEL_BITS);
+
+    // The clock the wheel reads the time from (in nanoseconds), the length of a tick, and when tick 0 started.
+    private final LongSupplier clock;
+    private final long tickNanos;
+    private final long startNanos;
+    // The slots of every level. Each slot is a circular doubly linked list of timers, starting at a sentinel timer that is never scheduled.
+    private final GameTimer[][] slots;
+    // The last tick the wheel expired the timers of (only used by the wheel's thread).
+    private long currentTick;
+
+    // The timers scheduled and cancelled since the wheel's last tick.
+    private final ConcurrentLinkedQueue<GameTimer> newTimers;
+    private final ConcurrentLinkedQueue<GameTimer> cancelledTimers;
+    // The number of timers that haven't expired or been cancelled.
+    private final AtomicInteger numberOfPendingTimers;
+
+    // The wheel's thread (null if the wheel is turned by hand, see advance), and whether the wheel is closed.
+    private final Thread thread;
+    private volatile boolean closed;
+
+    //----------------------------------------------------
+    //            CONSTRUCTOR(S)
+    //----------------------------------------------------
+
+    /**
+     * This method constructs a TimingWheel object and starts its thread.
+     * @param tickMillis The length of a tick, in milliseconds (at least 1).
+     */
+    public TimingWheel(long tickMillis) {
+        this(tickMillis, System::nanoTime, true);
+    }
+
+    /**
+     * This method constructs a TimingWheel object that reads the time from a given clock. A wheel without a thread only turns when advance is
+     * called (used by the tests, which move the clock themselves).
+     * @param tickMillis The length of a tick, in milliseconds (at least 1).
+     * @param clock The clock, in nanoseconds (like System.nanoTime).
+     * @param startThread True to start the wheel's thread, false to turn the wheel by hand.
+     */
+    TimingWheel(long tickMillis, LongSupplier clock, boolean startThread) {
+
+        if(tickMillis < 1)
+            throw new IllegalArgumentException("A tick must last at least 1 millisecond: " + tickMillis);
+
+        this.clock = clock;
+        tickNanos = TimeUnit.MILLISECONDS.toNanos(tickMillis);
+        startNanos = clock.getAsLong();
+        currentTick = 0;
+
+        slots = new GameTimer[NUMBER_OF_LEVELS][];
+
+        for(int level = 0; level < NUMBER_OF_LEVELS; level++) {
+
+            slots[level] = new GameTimer[(level == 0) ? LEVEL_0_MASK + 1 : LEVEL_MASK + 1];
+
+            for(int i = 0; i < slots[level].length; i++) {
+                GameTimer sentinel = new GameTimer(this, null, null, -1);
+                sentinel.previous = sentinel;
+                sentinel.next = sentinel;
+                slots[level][i] = sentinel;
+            }
+
+        } // End of for loop.
+
+        newTimers = new ConcurrentLinkedQueue<>();
+        cancelledTimers = new ConcurrentLinkedQueue<>();
+        numberOfPendingTimers = new AtomicInteger();
+        closed = false;
+
+        if(startThread) {
+            thread = new Thread(this, "timing-wheel");
+            thread.setDaemon(true);
+            thread.start();
+        }
+        else
+            thread = null;
+
+    } // End of constructor method.
+
+    /**
+     * This method constructs a TimingWheel object with ticks of DEFAULT_TICK_MILLIS, and starts its thread.
+     */
+    public TimingWheel() {
+        this(DEFAULT_TICK_MILLIS);
+    }
+
+    //----------------------------------------------------
+    //            METHOD(S)
+    //----------------------------------------------------
+
+    /**
+     * This method schedules a command to be sent to a game after a delay. It can be called from any thread, and returns right away.
+     * @param actor The actor of the game.
+     * @param delayMillis The delay, in milliseconds. The command is never sent earlier, and at most a tick later (see the class comment).
+     * @param command The command.
+     * @return The timer, which can be cancelled until it expires. A timer scheduled once the wheel is closed never expires.
+     */
+    public GameTimer schedule(GameActor actor, long delayMillis, GameCommand command) {
+
+        // The deadline is rounded up to a whole tick, so the timer never expires early.
+        long deadlineNanos = clock.getAsLong() - startNanos + TimeUnit.MILLISECONDS.toNanos(Math.max(0, delayMillis));
+        long deadlineTick = (deadlineNanos + tickNanos - 1) / tickNanos;
+
+        GameTimer timer = new GameTimer(this, actor, command, deadlineTick);
+        numberOfPendingTimers.incrementAndGet();
+        newTimers.offer(timer);
+
+        return timer;
+
+    } // End of schedule method.
+
+    /**
+     * This method gets the number of timers that haven't expired or been cancelled yet.
+     * @return The number of pending timers.
+     */
+    public int getPendingCount() {
+        return numberOfPendingTimers.get();
+    }
+
+    /**
+     * This method gets the length of a tick.
+     * @return The length of a tick, in milliseconds.
+     */
+    public long getTickMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(tickNanos);
+    }
+
+    /**
+     * This method runs the wheel: every tick, it places the new timers, takes the cancelled ones out of their slots, and expires the ones
+     * whose deadline came. It is only called by the wheel's own thread.
+     */
+    @Override
+    public void run() {
+
+        while(!closed) {
+            advance();
+
+            // Sleep until the next tick starts.
+            LockSupport.parkNanos(this, startNanos + (currentTick + 1) * tickNanos - clock.getAsLong());
+        }
+
+    } // End of run method.
+
+    /**
+     * This method turns the wheel up to the current tick of its clock: it places the new timers, takes the cancelled ones out of their slots,
+     * and goes through every tick since the last one, expiring the timers whose deadline came. It is only called by the wheel's own thread, or
+     * by the thread turning a wheel without one.
+     */
+    void advance() {
+
+        long nowTick = (clock.getAsLong() - startNanos) / tickNanos;
+
+        addNewTimers();
+        removeCancelledTimers();
+
+        while(currentTick < nowTick) {
+            currentTick++;
+            cascade();
+            expireSlot(slots[0][(int) (currentTick & LEVEL_0_MASK)]);
+        }
+
+    } // End of advance method.
+
+    /**
+     * This method closes the wheel: its thread stops, and the timers still pending never expire.
+     */
+    @Override
+    public void close() {
+
+        closed = true;
+
+        if(thread == null)
+            return;
+
+        LockSupport.unpark(thread);
+
+        try {
+            thread.join();
+        }
+        catch(InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+    } // End of close method.
+
+    /**
+     * This method hands a cancelled timer to the wheel's thread, which takes it out of its slot on its next tick (see GameTimer.cancel).
+     * @param timer The cancelled timer.
+     */
+    void removeCancelled(GameTimer timer) {
+        numberOfPendingTimers.decrementAndGet();
+        cancelledTimers.offer(timer);
+    }
+
+    /**
+     * This utility method places the timers scheduled since the last tick in their slots (the ones cancelled in the meantime are dropped).
+     */
+    private void addNewTimers() {
+
+        GameTimer timer;
+
+        while((timer = newTimers.poll()) != null) {
+            if(timer.checkIf_Pending())
+                place(timer);
+        }
+
+    } // End of addNewTimers utility method.
+
+    /**
+     * This utility method takes the timers cancelled since the last tick out of their slots.
+     */
+    private void removeCancelledTimers() {
+
+        GameTimer timer;
+
+        while((timer = cancelledTimers.poll()) != null)
+            unlink(timer);
+
+    } // End of removeCancelledTimers utility method.
+
+    /**
+     * This utility method places a timer in the slot of its deadline, on the finest level that covers it from the current tick.
+     * @param timer The timer.
+     */
+    private void place(GameTimer timer) {
+
+        long deadlineTick = timer.deadlineTick;
+        long deltaTicks = deadlineTick - currentTick;
+
+        if(deltaTicks <= 0) {
+            expire(timer);
+            return;
+        }
+
+        // A timer beyond the last level waits in its last slot, and is placed again once that slot is reached.
+        if(deltaTicks >= MAX_DELTA_TICKS)
+            deadlineTick = currentTick + MAX_DELTA_TICKS - 1;
+
+        GameTimer slot;
+
+        if(deltaTicks <= LEVEL_0_MASK)
+            slot = slots[0][(int) (deadlineTick & LEVEL_0_MASK)];
+        else {
+            int level = 1;
+            int shift = LEVEL_0_BITS;
+
+            while(deltaTicks >= 1L << (shift + LEVEL_BITS) && level < NUMBER_OF_LEVELS - 1) {
+                level++;
+                shift += LEVEL_BITS;
+            }
+
+            slot = slots[level][(int) ((deadlineTick >>> shift) & LEVEL_MASK)];
+        }
+
+        // Add the timer at the end of the slot's list.
+        timer.previous = slot.previous;
+        timer.next = slot;
+        slot.previous.next = timer;
+        slot.previous = timer;
+
+    } // End of place utility method.
+
+    /**
+     * This utility method takes a timer out of its slot's list, if it is in one.
+     * @param timer The timer.
+     */
+    private static void unlink(GameTimer timer) {
+
+        if(timer.previous == null)
+            return;
+
+        timer.previous.next = timer.next;
+        timer.next.previous = timer.previous;
+        timer.previous = null;
+        timer.next = null;
+
+    } // End of unlink utility method.
+
+    /**
+     * This utility method empties a slot.
+     * @param slot The slot's sentinel timer.
+     * @return The first of the slot's timers (the rest follow it through their next links, up to null), or null if it was empty.
+     */
+    private static GameTimer detach(GameTimer slot) {
+
+        if(slot.next == slot)
+            return null;
+
+        GameTimer first = slot.next;
+        slot.previous.next = null;
+        slot.previous = slot;
+        slot.next = slot;
+
+        return first;
+
+    } // End of detach utility method.
+
+    /**
+     * This utility method cascades the coarse slots the current tick reaches down to finer slots: every 256 ticks the next level 1 slot,
+     * every 64 of those the next level 2 slot, and so on.
+     */
+    private void cascade() {
+
+        if((currentTick & LEVEL_0_MASK) != 0)
+            return;
+
+        int shift = LEVEL_0_BITS;
+
+        for(int level = 1; level < NUMBER_OF_LEVELS; level++) {
+
+            int index = (int) ((currentTick >>> shift) & LEVEL_MASK);
+
+            // Detach the slot's whole list first, since some of its timers may go back to the same slot (the ones beyond the last level).
+            GameTimer timer = detach(slots[level][index]);
+
+            while(timer != null) {
+                GameTimer next = timer.next;
+                timer.previous = null;
+                timer.next = null;
+                place(timer);
+                timer = next;
+            }
+
+            // The level above only turns once this level has wrapped around.
+            if(index != 0)
+                return;
+
+            shift += LEVEL_BITS;
+
+        } // End of for loop.
+
+    } // End of cascade utility method.
+
+    /**
+     * This utility method expires every timer in a level 0 slot.
+     * @param slot The slot.
+     */
+    private void expireSlot(GameTimer slot) {
+
+        GameTimer timer = detach(slot);
+
+        while(timer != null) {
+            GameTimer next = timer.next;
+            timer.previous = null;
+            timer.next = null;
+
+            if(timer.deadlineTick > currentTick)
+                place(timer);
+            else
+                expire(timer);
+
+            timer = next;
+        }
+
+    } // End of expireSlot utility method.
+
+    /**
+     * This utility method expires a timer, unless it was cancelled in the meantime, by sending its command to its game.
+     * @param timer The timer.
+     */
+    private void expire(GameTimer timer) {
+
+        if(!timer.expire())
+            return;
+
+        numberOfPendingTimers.decrementAndGet();
+        timer.actor.tell(timer.command);
+
+    } // End of expire utility method.
+
+} // End of TimingWheel class.
@@ -0,0 +1,98 @@
+package server;
+
+/**
+ * This enum lists the phases of a player's turn, and which game commands (see GameProtocol) each phase allows. A turn starts by kicking open
+ * the door (drawing a door card), then the player looks for trouble (fights a monster from their hand) or loots the room (draws another door
+ * card), and ends with charity (discarding down to their hand limit) before ending their turn.
+ *
+ * IMPORTANT NOTE: The rules are a table: for each phase and command type, the phase the turn is in once the command succeeded, or null if the
+ * phase doesn't allow the command. Playing and equipping cards, cursing rivals and discarding in play cards are allowed in every phase but
+ * combat, and leave the phase as it is. The turn also leaves COMBAT once the combat is resolved, and goes back to KICK_OPEN_THE_DOOR whenever
+ * a new turn starts (see GameRoom).
+ */
+public enum TurnPhase {
+
+    // The turn just started: the player kicks open the door (DRAW_CARD from the door pile).
+    KICK_OPEN_THE_DOOR,
+    // The door was kicked open: the player fights a monster from their hand (FIGHT_MONSTER), or loots the room (DRAW_CARD from the door pile).
+    LOOK_FOR_TROUBLE,
+    // A combat is in progress: only reactions are allowed (see ReactionWindow), until it is resolved.
+    COMBAT,
+    // The player is done fighting or looting: they discard down to their hand limit, and end their turn.
+    CHARITY;
+
+    // The phases, in ordinal order (values() creates a new array every time it is called).
+    private static final TurnPhase[] PHASES = values();
+
+    // The phase after each command type (by command type, see GameProtocol), for each phase (by ordinal), or null if it isn't allowed.
+    private static final TurnPhase[][] NEXT_PHASES = new TurnPhase[PHASES.length][GameProtocol.REACT + 1];
+
+    static {
+        for(TurnPhase curPhase : PHASES) {
+            if(curPhase == COMBAT)
+                continue;
+
+            // Setting up is allowed at any time during the player's turn, except during a combat.
+            allow(curPhase, GameProtocol.PLAY_CARD, curPhase);
+            allow(curPhase, GameProtocol.EQUIP_ITEM, curPhase);
+            allow(curPhase, GameProtocol.PLAY_CURSE, curPhase);
+            allow(curPhase, GameProtocol.DISCARD_IN_PLAY_CARD, curPhase);
+        }
+
+        allow(KICK_OPEN_THE_DOOR, GameProtocol.DRAW_CARD, LOOK_FOR_TROUBLE);
+
+        allow(LOOK_FOR_TROUBLE, GameProtocol.FIGHT_MONSTER, COMBAT);
+        allow(LOOK_FOR_TROUBLE, GameProtocol.DRAW_CARD, CHARITY);
+        allow(LOOK_FOR_TROUBLE, GameProtocol.DISCARD_CARD, LOOK_FOR_TROUBLE);
+        allow(LOOK_FOR_TROUBLE, GameProtocol.END_TURN, KICK_OPEN_THE_DOOR);
+
+        allow(CHARITY, GameProtocol.DISCARD_CARD, CHARITY);
+        allow(CHARITY, GameProtocol.END_TURN, KICK_OPEN_THE_DOOR);
+    }
+
+    /**
+     * This method gets the phase the turn is in once a command succeeded in this phase.
+     * @param commandType The command's type (DRAW_CARD to FIGHT_MONSTER, see GameProtocol).
+     * @return The next phase, or null if this phase doesn't allow the command.
+     */
+    public TurnPhase getNextPhase(byte commandType) {
+        return (commandType < 0 || commandType >= NEXT_PHASES[ordinal()].length) ? null : NEXT_PHASES[ordinal()][commandType];
+    }
+
+    /**
+     * This method checks if this phase allows a command.
+     * @param commandType The command's type (DRAW_CARD to FIGHT_MONSTER, see GameProtocol).
+     * @return True if it is allowed, false if it isn't.
+     */
+    public boolean checkIf_Allows(byte commandType) {
+        return getNextPhase(commandType) != null;
+    }
+
+    /**
+     * This method gets the phase with a certain ordinal, without creating an array like values() does.
+     * @param ordinal The phase's ordinal.
+     * @return The phase.
+     */
+    public static TurnPhase fromOrdinal(int ordinal) {
+        return PHASES[ordinal];
+    }
+
+    /**
+     * This method gets the number of phases.
+     * @return The number of phases.
+     */
+    public static int count() {
+        return PHASES.length;
+    }
+
+    /**
+     * This utility method adds a rule to the table.
+     * @param phase The phase.
+     * @param commandType The command type it allows.
+     * @param nextPhase The phase once the command succeeded.
+     */
+    private static void allow(TurnPhase phase, byte commandType, TurnPhase nextPhase) {
+        NEXT_PHASES[phase.ordinal()][commandType] = nextPhase;
+    }
+
+} // End of TurnPhase enum.
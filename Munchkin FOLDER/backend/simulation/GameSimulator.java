@@ -0,0 +1,376 @@
+package simulation;
+
+import basic_game_components.Card;
+import basic_game_components.Game;
+import basic_game_components.PileType;
+import basic_game_components.player_stuff.Hand;
+import basic_game_components.player_stuff.Player;
+import door_cards.*;
+import events.GameEventSink;
+import handlers.CardPlayHandler;
+import handlers.CurseCardHandler;
+import handlers.CurseChooser;
+import handlers.DefaultCurseChooser;
+import treasure_cards.*;
+import utilities.PileManager;
+import utilities.RandomStream;
+
+import java.util.List;
+
+/**
+ * This class plays complete games of Munchkin without any user interface, letting a PlayerPolicy make each player's decisions. It is used to
+ * balance house rules and to measure how many games per second the engine can play.
+ *
+ * IMPORTANT NOTE: The rules played here are a simplified version of the real game. Each turn, the player kicks open the door. A monster is
+ * fought (or run away from), a curse applies to the player, and any other card goes to the player's hand, after which the player looks for
+ * trouble with a monster from their hand (only if they can beat it) or loots the room. Losing a fight costs one level. Items, races, classes
+ * and "go up a level" cards are played from the hand whenever possible, curses in the hand are played on rivals, and the player discards down
+ * to their hand limit at the end of the turn.
+ *
+ * A GameSimulator is not thread-safe: each worker thread uses its own.
+ */
+public class GameSimulator {
+
+    //----------------------------------------------------
+    //            INSTANCE VARIABLES
+    //----------------------------------------------------
+
+    // The number of turns after which a game is stopped without a winner.
+    public static final int MAX_TURNS = 1000;
+    // The number of door cards and treasure cards each player is dealt at the beginning of the game.
+    private static final int STARTING_CARDS = 4;
+
+    // The policy of each seat (index 0 is the player with turn number 1). If there are more players than policies, the policies repeat.
+    private PlayerPolicy[] policies;
+    // The curse card handler used by every game of this simulator.
+    private CurseCardHandler curseCardHandler;
+    // Makes the players' choices for curses like "Curse! Income Tax".
+    private CurseChooser curseChooser;
+    // Where every game of this simulator publishes its events (ignored unless setEventSink is called).
+    private GameEventSink eventSink;
+
+    //----------------------------------------------------
+    //            CONSTRUCTOR(S)
+    //----------------------------------------------------
+
+    /**
+     * This method constructs a GameSimulator object.
+     * @param policies The policy of each seat (index 0 is the player with turn number 1). The policies repeat if there are more players.
+     */
+    public GameSimulator(PlayerPolicy[] policies) {
+        this.policies = policies;
+        curseCardHandler = new CurseCardHandler();
+        curseChooser = new DefaultCurseChooser();
+        eventSink = GameEventSink.NONE;
+    }
+
+    //----------------------------------------------------
+    //            METHOD(S)
+    //----------------------------------------------------
+
+    /**
+     * This method sets where every game of this simulator publishes its events (ex: a GameEventBus logging the games to a file).
+     * @param eventSink Where the games publish their events (GameEventSink.NONE to ignore them).
+     */
+    public void setEventSink(GameEventSink eventSink) {
+        this.eventSink = eventSink;
+    }
+
+    /**
+     * This method plays a complete game and records its outcome.
+     * @param seed The game's seed.
+     * @param numberOfPlayers The number of players (up to SimulationResults.MAX_PLAYERS).
+     * @param results Where the outcome of the game is recorded.
+     */
+    public void playGame(long seed, int numberOfPlayers, SimulationResults results) {
+
+        Game game = new Game(seed, numberOfPlayers, curseCardHandler);
+        game.setEventSink(eventSink);
+        List<Player> players = game.getPlayers();
+
+        RandomStream[] policyStreams = new RandomStream[numberOfPlayers];
+
+        for(int i = 0; i < numberOfPlayers; i++)
+            policyStreams[i] = game.getGameRandom().createPolicyStream(i + 1);
+
+        dealStartingCards(game, policyStreams);
+
+        Player winner = null;
+
+        while(winner == null && game.getTurnCount() < MAX_TURNS) {
+            Player player = game.getCurrentPlayer();
+            int seat = player.getPlayerTurnNumber() - 1;
+
+            playTurn(game, player, policies[seat % policies.length], policyStreams[seat]);
+
+            game.endTurn();
+
+            if(game.getTurnCount() % numberOfPlayers == 0)
+                results.recordRound(game.getTurnCount() / numberOfPlayers - 1, players);
+
+            winner = game.getWinner();
+
+        } // End of while loop.
+
+        results.recordGame(winner == null ? 0 : winner.getPlayerTurnNumber(), game.getTurnCount());
+
+    } // End of playGame method.
+
+    /**
+     * This utility method deals the starting door and treasure cards to every player, and lets them play what they can.
+     * @param game The game.
+     * @param policyStreams The random stream of each seat's policy.
+     */
+    private void dealStartingCards(Game game, RandomStream[] policyStreams) {
+
+        PileManager pileManager = game.getPileManager();
+
+        for(Player curPlayer : game.getPlayers()) {
+            Hand hand = curPlayer.getHand();
+
+            for(int i = 0; i < STARTING_CARDS; i++) {
+                hand.addCardToHand(pileManager.drawDoorCard());
+                hand.addCardToHand(pileManager.drawTreasureCard());
+            }
+
+            int seat = curPlayer.getPlayerTurnNumber() - 1;
+            playCardsFromHand(game, curPlayer, policies[seat % policies.length], policyStreams[seat]);
+
+        } // End of for loop.
+
+    } // End of dealStartingCards utility method.
+
+    /**
+     * This utility method plays a single turn: kick open the door, look for trouble or loot the room, play cards and give away charity.
+     * @param game The game.
+     * @param player The player whose turn it is.
+     * @param policy The player's policy.
+     * @param rand The player's random stream.
+     */
+    private void playTurn(Game game, Player player, PlayerPolicy policy, RandomStream rand) {
+
+        PileManager pileManager = game.getPileManager();
+        Hand hand = player.getHand();
+
+        // Kick open the door.
+        Card doorCard = pileManager.drawDoorCard();
+
+        if(doorCard instanceof MonsterCard) {
+            fight(game, player, (MonsterCard) doorCard, policy, rand);
+        }
+        else if(doorCard instanceof CurseCard) {
+            curseCardHandler.handleCurse_PlayerChoice(doorCard, player, game.getPlayers(), pileManager, curseChooser);
+            pileManager.discardDoorCard(doorCard);
+        }
+        else if(doorCard != null) {
+            hand.addCardToHand(doorCard);
+            playCardsFromHand(game, player, policy, rand);
+
+            // Look for trouble (only with a monster the player is willing to fight), otherwise loot the room.
+            MonsterCard trouble = findMonsterToLookForTrouble(game, player, policy, rand);
+
+            if(trouble != null)
+                fight(game, player, trouble, policy, rand);
+            else if(pileManager.getDoorPile().getPileSize() + pileManager.getDoorPile().getDiscardsSize() > 0)
+                hand.addCardToHand(pileManager.drawDoorCard());
+        }
+
+        playCardsFromHand(game, player, policy, rand);
+
+        // Charity: discard down to the hand limit (the oldest cards go first).
+        while(hand.checkIf_PlayerMustDiscard())
+            discard(pileManager, hand.removeCard_UsingCardLocationNumber(1));
+
+    } // End of playTurn utility method.
+
+    /**
+     * This utility method fights a monster (or runs away from it, depending on the policy). Winning gives the monster's levels and treasures,
+     * failing to run away costs one level. The monster is discarded afterwards.
+     * @param game The game.
+     * @param player The player fighting.
+     * @param monster The monster.
+     * @param policy The player's policy.
+     * @param rand The player's random stream.
+     */
+    private void fight(Game game, Player player, MonsterCard monster, PlayerPolicy policy, RandomStream rand) {
+
+        PileManager pileManager = game.getPileManager();
+        Hand hand = player.getHand();
+
+        int strength = player.getCombatStrength();
+        int maxStrength = strength + getOneShotBonusInHand(hand);
+
+        if(policy.decideToFight(game, player, monster, maxStrength, rand)) {
+
+            // Play the one shot treasures from the hand (strongest first) until the monster is beaten or there are none left.
+            while(strength <= monster.getLevel()) {
+                int location = findStrongestOneShot(hand);
+
+                if(location == 0)
+                    break;
+
+                OneShotTreasureCard oneShot = (OneShotTreasureCard) hand.removeCard_UsingCardLocationNumber(location);
+                strength += oneShot.getCombatBonus();
+                pileManager.discardTreasureCard(oneShot);
+
+            } // End of while loop.
+
+            if(strength > monster.getLevel()) {
+                player.modifyLevel(Math.min(monster.getLevelReward(), Game.WINNING_LEVEL - player.getLevel()));
+
+                for(int i = 0; i < monster.getTreasureReward(); i++) {
+                    Card treasure = pileManager.drawTreasureCard();
+                    if(treasure != null)
+                        hand.addCardToHand(treasure);
+                }
+
+                pileManager.discardDoorCard(monster);
+                return;
+            }
+
+        } // End of if statement.
+
+        // Run away (or fail to beat the monster, which also forces the player to run away).
+        int roll = player.getDie().roll();
+
+        if(roll < player.getRunAwayTarget() && player.getLevel() > 1)
+            player.modifyLevel(-1);
+
+        pileManager.discardDoorCard(monster);
+
+    } // End of fight utility method.
+
+    /**
+     * This utility method plays every card from the hand that can be played right away (items, race and class cards, "go up a level" cards,
+     * see CardPlayHandler) and curses on rivals.
+     * @param game The game.
+     * @param player The player.
+     * @param policy The player's policy.
+     * @param rand The player's random stream.
+     */
+    private void playCardsFromHand(Game game, Player player, PlayerPolicy policy, RandomStream rand) {
+
+        PileManager pileManager = game.getPileManager();
+        Hand hand = player.getHand();
+
+        // Search backwards, so playing a card doesn't shift the ones we haven't checked yet.
+        for(int location = hand.getNumberOfCards(); location >= 1; location--) {
+            Card curCard = hand.getCard_UsingCardLocationNumber(location);
+
+            switch(curCard.getKind()) {
+                case ITEM:
+                case RACE:
+                case CLASS:
+                case GUAL:
+                    CardPlayHandler.tryToPlayCard_UsingCardLocationNumber(player, pileManager, location);
+                    break;
+                case CURSE:
+                    int targetIndex = policy.chooseCurseTarget(game, player, curCard, rand);
+
+                    if(targetIndex != -1) {
+                        hand.removeCard_UsingCardLocationNumber(location);
+                        curseCardHandler.handleCurse_PlayerChoice(curCard, game.getPlayers().get(targetIndex), game.getPlayers(),
+                                pileManager, curseChooser);
+                        pileManager.discardDoorCard(curCard);
+                    }
+                    break;
+                default:
+                    break;
+
+            } // End of switch statement.
+
+        } // End of for loop.
+
+    } // End of playCardsFromHand utility method.
+
+    /**
+     * This utility method finds a monster in the player's hand to look for trouble with, if the policy is willing to fight it. The monster is
+     * removed from the hand.
+     * @param game The game.
+     * @param player The player.
+     * @param policy The player's policy.
+     * @param rand The player's random stream.
+     * @return The monster, or null if the player loots the room instead.
+     */
+    private MonsterCard findMonsterToLookForTrouble(Game game, Player player, PlayerPolicy policy, RandomStream rand) {
+
+        Hand hand = player.getHand();
+        int maxStrength = player.getCombatStrength() + getOneShotBonusInHand(hand);
+
+        for(int location = 1; location <= hand.getNumberOfCards(); location++) {
+            Card curCard = hand.getCard_UsingCardLocationNumber(location);
+
+            if(curCard instanceof MonsterCard) {
+                MonsterCard monster = (MonsterCard) curCard;
+
+                // Only look for trouble with a monster the player can actually beat.
+                if(maxStrength > monster.getLevel() && policy.decideToFight(game, player, monster, maxStrength, rand)) {
+                    hand.removeCard_UsingCardLocationNumber(location);
+                    return monster;
+                }
+            }
+
+        } // End of for loop.
+
+        return null;
+
+    } // End of findMonsterToLookForTrouble utility method.
+
+    /**
+     * This utility method adds up the combat bonus of every one shot treasure in a hand.
+     * @param hand The hand.
+     * @return The total combat bonus of the one shot treasures in the hand.
+     */
+    private int getOneShotBonusInHand(Hand hand) {
+
+        int bonus = 0;
+
+        for(int location = 1; location <= hand.getNumberOfCards(); location++) {
+            Card curCard = hand.getCard_UsingCardLocationNumber(location);
+            if(curCard instanceof OneShotTreasureCard)
+                bonus += ((OneShotTreasureCard) curCard).getCombatBonus();
+        }
+
+        return bonus;
+
+    } // End of getOneShotBonusInHand utility method.
+
+    /**
+     * This utility method finds the one shot treasure with the highest combat bonus in a hand.
+     * @param hand The hand.
+     * @return Its card location number, or 0 if there is no one shot treasure with a combat bonus in the hand.
+     */
+    private int findStrongestOneShot(Hand hand) {
+
+        int bestLocation = 0;
+        int bestBonus = 0;
+
+        for(int location = 1; location <= hand.getNumberOfCards(); location++) {
+            Card curCard = hand.getCard_UsingCardLocationNumber(location);
+
+            if(curCard instanceof OneShotTreasureCard && ((OneShotTreasureCard) curCard).getCombatBonus() > bestBonus) {
+                bestLocation = location;
+                bestBonus = ((OneShotTreasureCard) curCard).getCombatBonus();
+            }
+
+        } // End of for loop.
+
+        return bestLocation;
+
+    } // End of findStrongestOneShot utility method.
+
+    /**
+     * This utility method discards a card to the right discards (door or treasure).
+     * @param pileManager The game's piles.
+     * @param card The card discarded.
+     */
+    private void discard(PileManager pileManager, Card card) {
+
+        if(card.getPile() == PileType.DOOR)
+            pileManager.discardDoorCard(card);
+        else
+            pileManager.discardTreasureCard(card);
+
+    } // End of discard utility method.
+
+} // End of GameSimulator class.
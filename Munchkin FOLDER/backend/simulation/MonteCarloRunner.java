@@ -0,0 +1,59 @@
+package simulation;
+
+import ai.MonteCarloTreeSearchPolicy;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * This class runs a Monte Carlo simulation of many headless games across every core, and prints the results along with the engine's
+ * throughput in games per second.
+ *
+ * Usage: MonteCarloRunner [number of games] [number of players] [policy: scripted, random, mixed or mcts] [first seed]
+ */
+public class MonteCarloRunner {
+
+    public static void main(String[] args) {
+
+        long numberOfGames = args.length > 0 ? Long.parseLong(args[0]) : 1_000_000;
+        int numberOfPlayers = args.length > 1 ? Integer.parseInt(args[1]) : 4;
+        String policyName = args.length > 2 ? args[2] : "scripted";
+        long firstSeed = args.length > 3 ? Long.parseLong(args[3]) : 1;
+
+        if(numberOfPlayers < 2 || numberOfPlayers > SimulationResults.MAX_PLAYERS)
+            throw new IllegalArgumentException("The number of players must be between 2 and " + SimulationResults.MAX_PLAYERS + ".");
+
+        PlayerPolicy[] policies;
+
+        switch(policyName) {
+            case "scripted":
+                policies = new PlayerPolicy[] { new ScriptedPolicy() };
+                break;
+            case "random":
+                policies = new PlayerPolicy[] { new RandomPolicy() };
+                break;
+            case "mixed":
+                policies = new PlayerPolicy[] { new ScriptedPolicy(), new RandomPolicy() };
+                break;
+            case "mcts":
+                // The search bots alternate with scripted players; each search runs on its game's thread with a fixed rollout budget.
+                policies = new PlayerPolicy[] { new MonteCarloTreeSearchPolicy(1, 0, 200, MonteCarloTreeSearchPolicy.DEFAULT_ROLLOUT_TURNS),
+                        new ScriptedPolicy() };
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown policy: " + policyName);
+
+        } // End of switch statement.
+
+        ForkJoinPool pool = ForkJoinPool.commonPool();
+
+        long startTime = System.nanoTime();
+        SimulationResults results = pool.invoke(new SimulationTask(firstSeed, numberOfGames, numberOfPlayers, policies));
+        long elapsedTime = System.nanoTime() - startTime;
+
+        System.out.println(results);
+        System.out.printf("%d games on %d threads in %.2f s (%.0f games per second)%n", results.getGamesPlayed(), pool.getParallelism(),
+                elapsedTime / 1e9, results.getGamesPlayed() / (elapsedTime / 1e9));
+
+    } // End of main method.
+
+} // End of MonteCarloRunner class.
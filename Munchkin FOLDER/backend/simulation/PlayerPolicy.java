@@ -0,0 +1,65 @@
+package simulation;
+
+import basic_game_components.Card;
+import basic_game_components.Game;
+import basic_game_components.player_stuff.Player;
+import door_cards.MonsterCard;
+import utilities.RandomStream;
+
+import java.util.List;
+
+/**
+ * This interface represents the decisions a player makes during a simulated game (scripted or random). Policies must not keep any state of
+ * their own, since a single policy object is shared by every game running on every thread. Any randomness comes from the RandomStream given
+ * to each decision, which belongs to the deciding player.
+ *
+ * IMPORTANT NOTE: The GameSimulator asks its policies through the methods that also get the whole game. By default they simply call the
+ * methods without it, so only policies that look at the rest of the game (like a search-based bot) need to override them.
+ */
+public interface PlayerPolicy {
+
+    /**
+     * This method decides whether the player fights a monster or tries to run away from it.
+     * @param player The player facing the monster.
+     * @param monster The monster.
+     * @param maxPlayerStrength The player's strength if they played every one shot treasure in their hand.
+     * @param rand The player's random stream.
+     * @return True to fight the monster, false to run away.
+     */
+    boolean decideToFight(Player player, MonsterCard monster, int maxPlayerStrength, RandomStream rand);
+
+    /**
+     * This method decides which player to curse with a curse card from the player's hand.
+     * @param player The player holding the curse card.
+     * @param players All the players in the game, in turn order.
+     * @param rand The player's random stream.
+     * @return The index (in the players list) of the player to curse, or -1 to keep the curse for later.
+     */
+    int chooseCurseTarget(Player player, List<Player> players, RandomStream rand);
+
+    /**
+     * This method decides whether the player fights a monster or tries to run away from it, knowing the whole game.
+     * @param game The game (it must not be changed).
+     * @param player The player facing the monster.
+     * @param monster The monster (still in the player's hand if they are looking for trouble with it).
+     * @param maxPlayerStrength The player's strength if they played every one shot treasure in their hand.
+     * @param rand The player's random stream.
+     * @return True to fight the monster, false to run away.
+     */
+    default boolean decideToFight(Game game, Player player, MonsterCard monster, int maxPlayerStrength, RandomStream rand) {
+        return decideToFight(player, monster, maxPlayerStrength, rand);
+    }
+
+    /**
+     * This method decides which player to curse with a curse card from the player's hand, knowing the whole game.
+     * @param game The game (it must not be changed).
+     * @param player The player holding the curse card.
+     * @param curseCard The curse card (still in the player's hand).
+     * @param rand The player's random stream.
+     * @return The index (in the game's players list) of the player to curse, or -1 to keep the curse for later.
+     */
+    default int chooseCurseTarget(Game game, Player player, Card curseCard, RandomStream rand) {
+        return chooseCurseTarget(player, game.getPlayers(), rand);
+    }
+
+} // End of PlayerPolicy interface.
@@ -0,0 +1,41 @@
+package simulation;
+
+import basic_game_components.player_stuff.Player;
+import door_cards.MonsterCard;
+import utilities.RandomStream;
+
+import java.util.List;
+
+/**
+ * This class is a random player policy: every decision is a coin flip (used as a baseline when balancing house rules).
+ */
+public class RandomPolicy implements PlayerPolicy {
+
+    /**
+     * This method fights or runs away with equal chances.
+     */
+    @Override
+    public boolean decideToFight(Player player, MonsterCard monster, int maxPlayerStrength, RandomStream rand) {
+        return rand.nextInt(2) == 0;
+    }
+
+    /**
+     * This method curses a random rival half of the time, and keeps the curse the other half.
+     */
+    @Override
+    public int chooseCurseTarget(Player player, List<Player> players, RandomStream rand) {
+
+        if(rand.nextInt(2) == 0)
+            return -1;
+
+        // Pick among the other players only.
+        int targetIndex = rand.nextInt(players.size() - 1);
+
+        if(players.get(targetIndex) == player)
+            targetIndex = players.size() - 1;
+
+        return targetIndex;
+
+    } // End of chooseCurseTarget method.
+
+} // End of RandomPolicy class.
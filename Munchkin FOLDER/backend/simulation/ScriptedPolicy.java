@@ -0,0 +1,45 @@
+package simulation;
+
+import basic_game_components.player_stuff.Player;
+import door_cards.MonsterCard;
+import utilities.RandomStream;
+
+import java.util.List;
+
+/**
+ * This class is a scripted player policy: the player only fights monsters they can beat, and always curses the highest level rival.
+ */
+public class ScriptedPolicy implements PlayerPolicy {
+
+    /**
+     * This method decides to fight only if the player can beat the monster (using their one shot treasures if needed).
+     */
+    @Override
+    public boolean decideToFight(Player player, MonsterCard monster, int maxPlayerStrength, RandomStream rand) {
+        return maxPlayerStrength > monster.getLevel();
+    }
+
+    /**
+     * This method always curses the rival with the highest level (the earliest one in turn order if there is a tie).
+     */
+    @Override
+    public int chooseCurseTarget(Player player, List<Player> players, RandomStream rand) {
+
+        int targetIndex = -1;
+        int targetLevel = 0;
+
+        for(int i = 0; i < players.size(); i++) {
+            Player curPlayer = players.get(i);
+
+            if(curPlayer != player && curPlayer.getLevel() > targetLevel) {
+                targetIndex = i;
+                targetLevel = curPlayer.getLevel();
+            }
+
+        } // End of for loop.
+
+        return targetIndex;
+
+    } // End of chooseCurseTarget method.
+
+} // End of ScriptedPolicy class.
@@ -0,0 +1,174 @@
+package simulation;
+
+import basic_game_components.player_stuff.Player;
+
+import java.util.List;
+
+/**
+ * This class accumulates the results of many simulated games: win rates per seat, game lengths and the average level curve. Each worker
+ * thread fills its own SimulationResults object, and the objects are merged together once the workers are done, so no lock is ever needed.
+ */
+public class SimulationResults {
+
+    //----------------------------------------------------
+    //            INSTANCE VARIABLES
+    //----------------------------------------------------
+
+    // The number of rounds tracked by the level curve (a round is one turn for every player).
+    public static final int LEVEL_CURVE_ROUNDS = 64;
+    // The largest number of players a simulated game can have.
+    public static final int MAX_PLAYERS = 6;
+
+    // The number of games played.
+    private long gamesPlayed;
+    // The number of games that hit the turn limit without a winner.
+    private long gamesWithoutWinner;
+    // The number of games won by each seat (index 0 is the player with turn number 1, etc.).
+    private long[] winsBySeat;
+    // The total number of turns played, across every game.
+    private long totalTurns;
+    // The length (in turns) of the shortest and longest games.
+    private long shortestGame;
+    private long longestGame;
+    // For each round, the sum of every player's level at the end of that round, and the number of levels summed.
+    private long[] levelSumByRound;
+    private long[] levelSamplesByRound;
+
+    //----------------------------------------------------
+    //            CONSTRUCTOR(S)
+    //----------------------------------------------------
+
+    /**
+     * This method constructs an empty SimulationResults object.
+     */
+    public SimulationResults() {
+        winsBySeat = new long[MAX_PLAYERS];
+        shortestGame = Long.MAX_VALUE;
+        longestGame = 0;
+        levelSumByRound = new long[LEVEL_CURVE_ROUNDS];
+        levelSamplesByRound = new long[LEVEL_CURVE_ROUNDS];
+    }
+
+    //----------------------------------------------------
+    //            METHOD(S)
+    //----------------------------------------------------
+
+    /**
+     * This method records every player's level at the end of a round.
+     * @param round The round number (starting at 0).
+     * @param players The players of the game.
+     */
+    public void recordRound(int round, List<Player> players) {
+
+        if(round >= LEVEL_CURVE_ROUNDS)
+            return;
+
+        for(int i = 0; i < players.size(); i++)
+            levelSumByRound[round] += players.get(i).getLevel();
+
+        levelSamplesByRound[round] += players.size();
+
+    } // End of recordRound method.
+
+    /**
+     * This method records the outcome of a finished game.
+     * @param winnerTurnNumber The turn number of the player who won, or 0 if the game hit the turn limit without a winner.
+     * @param turns The number of turns the game lasted.
+     */
+    public void recordGame(int winnerTurnNumber, int turns) {
+
+        gamesPlayed++;
+        totalTurns += turns;
+        shortestGame = Math.min(shortestGame, turns);
+        longestGame = Math.max(longestGame, turns);
+
+        if(winnerTurnNumber == 0)
+            gamesWithoutWinner++;
+        else
+            winsBySeat[winnerTurnNumber - 1]++;
+
+    } // End of recordGame method.
+
+    /**
+     * This method adds the results of another SimulationResults object to this one.
+     * @param other The other results.
+     */
+    public void merge(SimulationResults other) {
+
+        gamesPlayed += other.gamesPlayed;
+        gamesWithoutWinner += other.gamesWithoutWinner;
+        totalTurns += other.totalTurns;
+        shortestGame = Math.min(shortestGame, other.shortestGame);
+        longestGame = Math.max(longestGame, other.longestGame);
+
+        for(int i = 0; i < MAX_PLAYERS; i++)
+            winsBySeat[i] += other.winsBySeat[i];
+
+        for(int i = 0; i < LEVEL_CURVE_ROUNDS; i++) {
+            levelSumByRound[i] += other.levelSumByRound[i];
+            levelSamplesByRound[i] += other.levelSamplesByRound[i];
+        }
+
+    } // End of merge method.
+
+    /**
+     * This method gets the number of games played.
+     * @return The number of games played.
+     */
+    public long getGamesPlayed() {
+        return gamesPlayed;
+    }
+
+    /**
+     * This method gets the win rate of a seat.
+     * @param turnNumber The seat's turn number (starting at 1).
+     * @return The fraction of games won by that seat (0 to 1).
+     */
+    public double getWinRate(int turnNumber) {
+        return gamesPlayed == 0 ? 0 : (double) winsBySeat[turnNumber - 1] / gamesPlayed;
+    }
+
+    /**
+     * This method gets the average length of a game, in turns.
+     * @return The average length of a game, in turns.
+     */
+    public double getAverageGameLength() {
+        return gamesPlayed == 0 ? 0 : (double) totalTurns / gamesPlayed;
+    }
+
+    /**
+     * This method gets the average level of the players at the end of a round (the level curve).
+     * @param round The round number (starting at 0, less than LEVEL_CURVE_ROUNDS).
+     * @return The average level at the end of that round, or 0 if no game lasted that long.
+     */
+    public double getAverageLevel(int round) {
+        return levelSamplesByRound[round] == 0 ? 0 : (double) levelSumByRound[round] / levelSamplesByRound[round];
+    }
+
+    /**
+     * This is an overrided toString method to provide a summary of the results when printing to the console.
+     */
+    @Override
+    public String toString() {
+
+        StringBuilder output = new StringBuilder();
+
+        output.append("Games played: ").append(gamesPlayed).append(" (").append(gamesWithoutWinner).append(" without a winner)\n");
+        output.append(String.format("Game length: average %.1f turns, shortest %d, longest %d%n", getAverageGameLength(),
+                gamesPlayed == 0 ? 0 : shortestGame, longestGame));
+
+        for(int i = 1; i <= MAX_PLAYERS; i++) {
+            if(winsBySeat[i - 1] > 0)
+                output.append(String.format("Player %d win rate: %.2f%%%n", i, getWinRate(i) * 100));
+        }
+
+        output.append("Average level by round:");
+
+        for(int i = 0; i < LEVEL_CURVE_ROUNDS && levelSamplesByRound[i] > 0; i++)
+            output.append(String.format(" %.2f", getAverageLevel(i)));
+
+        return output.toString();
+
+    } // End of toString method.
+
+} // End of SimulationResults class.
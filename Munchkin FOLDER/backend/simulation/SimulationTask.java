@@ -0,0 +1,81 @@
+package simulation;
+
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * This class is a fork/join task that plays a range of simulated games. Large ranges are split in half until they are small enough to be
+ * played by a single worker thread, and the results of both halves are merged on the way back up, so the workers never share anything.
+ */
+public class SimulationTask extends RecursiveTask<SimulationResults> {
+
+    //----------------------------------------------------
+    //            INSTANCE VARIABLES
+    //----------------------------------------------------
+
+    private static final long serialVersionUID = 1L;
+
+    // The number of games below which a task plays its games itself instead of splitting.
+    private static final long GAMES_PER_LEAF = 2048;
+
+    // The seed of the first game of the range (the game after it uses firstSeed + 1, etc.).
+    private long firstSeed;
+    // The number of games in the range.
+    private long numberOfGames;
+    // The number of players in each game.
+    private int numberOfPlayers;
+    // The policy of each seat.
+    private PlayerPolicy[] policies;
+
+    //----------------------------------------------------
+    //            CONSTRUCTOR(S)
+    //----------------------------------------------------
+
+    /**
+     * This method constructs a SimulationTask object.
+     * @param firstSeed The seed of the first game of the range (the game after it uses firstSeed + 1, etc.).
+     * @param numberOfGames The number of games in the range.
+     * @param numberOfPlayers The number of players in each game.
+     * @param policies The policy of each seat (index 0 is the player with turn number 1).
+     */
+    public SimulationTask(long firstSeed, long numberOfGames, int numberOfPlayers, PlayerPolicy[] policies) {
+        this.firstSeed = firstSeed;
+        this.numberOfGames = numberOfGames;
+        this.numberOfPlayers = numberOfPlayers;
+        this.policies = policies;
+    }
+
+    //----------------------------------------------------
+    //            METHOD(S)
+    //----------------------------------------------------
+
+    /**
+     * This method plays the range of games (splitting it in half first if it is too large).
+     * @return The merged results of every game in the range.
+     */
+    @Override
+    protected SimulationResults compute() {
+
+        if(numberOfGames <= GAMES_PER_LEAF) {
+            GameSimulator simulator = new GameSimulator(policies);
+            SimulationResults results = new SimulationResults();
+
+            for(long i = 0; i < numberOfGames; i++)
+                simulator.playGame(firstSeed + i, numberOfPlayers, results);
+
+            return results;
+        }
+
+        long firstHalf = numberOfGames / 2;
+
+        SimulationTask firstHalfTask = new SimulationTask(firstSeed, firstHalf, numberOfPlayers, policies);
+        SimulationTask secondHalfTask = new SimulationTask(firstSeed + firstHalf, numberOfGames - firstHalf, numberOfPlayers, policies);
+
+        firstHalfTask.fork();
+        SimulationResults results = secondHalfTask.compute();
+        results.merge(firstHalfTask.join());
+
+        return results;
+
+    } // End of compute method.
+
+} // End of SimulationTask class.
@@ -0,0 +1,43 @@
+package treasure_cards;
+
+/**
+ * This enum lists the equipment slots an item card can occupy once it is equipped (see InPlayCards). Each item's slot is worked out once from
+ * its classification when the card is constructed, so equipping it never has to compare strings.
+ */
+public enum EquipmentSlot {
+
+    // A single piece of headgear.
+    HEAD,
+    // A single suit of armor.
+    ARMOR,
+    // A single pair of footgear.
+    FEET,
+    // Two hands, for either two 1-handed weapons or a single 2-handed weapon.
+    HANDS,
+    // Any number of other items (ex: "Cloak Of Obscurity", "Spiky Knees").
+    MISC;
+
+    /**
+     * This method gets the slot that goes with an item's classification ("weapon", "headgear", "armor", "footgear", "other").
+     * @param classification The item's classification.
+     * @return The slot the item occupies (MISC for "other" or any unknown classification).
+     */
+    public static EquipmentSlot fromClassification(String classification) {
+
+        switch(classification) {
+            case "headgear":
+                return HEAD;
+            case "armor":
+                return ARMOR;
+            case "footgear":
+                return FEET;
+            case "weapon":
+                return HANDS;
+            default:
+                return MISC;
+
+        } // End of switch statement.
+
+    } // End of fromClassification method.
+
+} // End of EquipmentSlot enum.
@@ -1,6 +1,7 @@
 package treasure_cards;
 
 import basic_game_components.Card;
+import basic_game_components.CardKind;
 
 /**
  * This class represents a "go up a level" card in the game of Munchkin.
@@ -16,7 +17,7 @@ public class GUALCard extends Card {
      * @param name The unique name of the card.
      */
     public GUALCard(String name) {
-        super(name, "treasure");
+        super(name, "treasure", CardKind.GUAL);
     }
 
 } // End of GUALCard class.
\ No newline at end of file
@@ -1,6 +1,7 @@
 package treasure_cards;
 
 import basic_game_components.Card;
+import basic_game_components.CardKind;
 
 /**
  * This class represents a helper card in the game of Munchkin.
@@ -16,7 +17,7 @@ public class HelperCard extends Card {
      * @param name The unique name of the card.
      */
     public HelperCard(String name) {
-        super(name, "door");
+        super(name, "treasure", CardKind.HELPER);
     }
         
 
@@ -1,6 +1,8 @@
 package treasure_cards;
 
 import basic_game_components.Card;
+import basic_game_components.CardKind;
+import basic_game_components.player_stuff.PlayerTraits;
 
 /**
  * This class represents an item card in the game of Munchkin.
@@ -14,6 +16,9 @@ public class ItemCard extends Card {
     // The classification of the item ("weapon", "headgear", "armor", "footgear", "other").
     private String classification;
 
+    // The equipment slot the item occupies when equipped (worked out from the classification, see EquipmentSlot).
+    private EquipmentSlot slot;
+
     // The combat bonus the item provides to the player (if any).
     private int combatBonus;
 
@@ -23,6 +28,9 @@ public class ItemCard extends Card {
     // Who the item is usable by (examples: "any", "dwarf only", "female only", "not thief", etc.).
     private String usableByRequirement;
 
+    // The "usable by" requirement compiled into the traits a player must have to use the item (see PlayerTraits).
+    private int usableByMask;
+
     // If the item is a weapon, whether that weapon requires 1 hand or 2 hands (possible values: 1, 2, or 0 if not a weapon).
     private int handsRequirement;
 
@@ -47,11 +55,13 @@ public class ItemCard extends Card {
      * @param goldValue The gold value of the item.
      */
     public ItemCard(String name, String classification, int combatBonus, int runAwayBonus, String usableByRequirement, int handsRequirement, boolean isBig, int goldValue) {
-        super(name, "treasure");
+        super(name, "treasure", CardKind.ITEM);
         this.classification = classification;
+        this.slot = EquipmentSlot.fromClassification(classification);
         this.combatBonus = combatBonus;
         this.runAwayBonus = runAwayBonus;
         this.usableByRequirement = usableByRequirement;
+        this.usableByMask = PlayerTraits.compileRequirement(usableByRequirement);
         this.handsRequirement = handsRequirement;
         this.isBig = isBig;
         this.goldValue = goldValue;
@@ -69,6 +79,14 @@ public class ItemCard extends Card {
         return classification;
     }
 
+    /**
+     * This method gets the equipment slot the item occupies when equipped (HEAD, ARMOR, FEET, HANDS or MISC).
+     * @return The item's equipment slot.
+     */
+    public EquipmentSlot getSlot() {
+        return slot;
+    }
+
     /**
      * This method gets the combat bonus the item provides to the player (if any).
      * @return The combat bonus the item provides to the player.
@@ -77,6 +95,10 @@ public class ItemCard extends Card {
         return combatBonus;
     }
 
+    /**
+     * This method gets the run away bonus the item provides to the player (if any).
+     * @return The run away bonus the item provides to the player.
+     */
     public int getRunAwayBonus() {
         return runAwayBonus;
     }
@@ -89,6 +111,15 @@ public class ItemCard extends Card {
         return usableByRequirement;
     }
 
+    /**
+     * This method gets the item's "usable by" requirement as the traits a player must have to use the item (PlayerTraits.ANYONE if anyone
+     * can), so checking it is a single AND with the player's traits (see PlayerTraits.checkIf_RequirementMet).
+     * @return The item's "usable by" requirement, compiled.
+     */
+    public int getUsableByMask() {
+        return usableByMask;
+    }
+
     /**
      * This method gets the "hands requirement" of the item, assuming it's a weapon (if the weapon requires 1 hand or 2 hands).
      * @return 1 if 1-handed weapon, 2 if 2-handed weapon, 0 if not a weapon.
@@ -1,6 +1,7 @@
 package treasure_cards;
 
 import basic_game_components.Card;
+import basic_game_components.CardKind;
 
 /**
  * This class represents a "one shot treasure" card in the game of Munchkin.
@@ -33,7 +34,7 @@ public class OneShotTreasureCard extends Card {
      * monster).
      */
     public OneShotTreasureCard(String name, int combatBonus, int goldValue, boolean isEitherSidePlayable) {
-        super(name, "treasure");
+        super(name, "treasure", CardKind.ONE_SHOT_TREASURE);
         this.combatBonus = combatBonus;
         this.goldValue = goldValue;
         this.isEitherSidePlayable = isEitherSidePlayable;
@@ -0,0 +1,201 @@
+package utilities;
+
+/**
+ * This class simulates a single pile of cards (the door pile or the treasure pile) together with its discards. Cards are stored as their ids
+ * (see Card.getId()) in plain int arrays, so drawing, discarding and shuffling never allocate anything.
+ *
+ * IMPORTANT NOTE: Just like before, the end of the array (i.e. the last used index) is the top of the pile, so drawing a card is O(1). When the
+ * pile runs dry, the discards are automatically placed back into the pile and shuffled.
+ */
+public class Deck {
+
+    //----------------------------------------------------
+    //            INSTANCE VARIABLES
+    //----------------------------------------------------
+
+    // The card ids in the pile. Only the first pileSize entries are used, and index pileSize - 1 is the top of the pile.
+    private int[] pile;
+    // The number of cards currently in the pile.
+    private int pileSize;
+    // The card ids in the discards. Only the first discardsSize entries are used, and index discardsSize - 1 is the top of the discards.
+    private int[] discards;
+    // The number of cards currently in the discards.
+    private int discardsSize;
+    // The pile's own stream of random numbers (used for shuffling).
+    private RandomStream rand;
+
+    //----------------------------------------------------
+    //            CONSTRUCTOR(S)
+    //----------------------------------------------------
+
+    /**
+     * This method constructs a Deck object containing the given cards (in the given order, the last one being the top). It is not shuffled.
+     * @param cardIds The ids of every card that belongs to this pile.
+     * @param rand The pile's random stream (see GameRandom).
+     */
+    public Deck(int[] cardIds, RandomStream rand) {
+        // A card is either in the pile or in the discards (or out of the pile entirely), so both arrays never need more room than this.
+        pile = cardIds.clone();
+        pileSize = cardIds.length;
+        discards = new int[cardIds.length];
+        discardsSize = 0;
+        this.rand = rand;
+    }
+
+    //----------------------------------------------------
+    //            METHOD(S)
+    //----------------------------------------------------
+
+    /**
+     * This method gets the number of cards currently in the pile.
+     * @return The number of cards currently in the pile.
+     */
+    public int getPileSize() {
+        return pileSize;
+    }
+
+    /**
+     * This method gets the number of cards currently in the discards.
+     * @return The number of cards currently in the discards.
+     */
+    public int getDiscardsSize() {
+        return discardsSize;
+    }
+
+    /**
+     * This method gets the id of the card at a certain position of the pile (0 is the bottom, getPileSize() - 1 is the top).
+     * @param position The position in the pile.
+     * @return The id of the card at that position.
+     */
+    public int getPileCardId(int position) {
+        return pile[position];
+    }
+
+    /**
+     * This method gets the id of the card at a certain position of the discards (0 is the bottom, getDiscardsSize() - 1 is the top).
+     * @param position The position in the discards.
+     * @return The id of the card at that position.
+     */
+    public int getDiscardCardId(int position) {
+        return discards[position];
+    }
+
+    /**
+     * This method gets the pile's random stream (used to save and restore its state, see GameSnapshotCodec).
+     * @return The pile's random stream.
+     */
+    public RandomStream getRandomStream() {
+        return rand;
+    }
+
+    /**
+     * This method shuffles the pile in place using the Fisher-Yates algorithm. The discards are left alone.
+     */
+    public void shuffle() {
+
+        for(int i = pileSize - 1; i > 0; i--) {
+            int j = rand.nextInt(i + 1);
+            int temp = pile[i];
+            pile[i] = pile[j];
+            pile[j] = temp;
+        }
+
+    } // End of shuffle method.
+
+    /**
+     * This method draws the top card of the pile. If the pile has run dry, the discards are placed back into the pile and shuffled first.
+     * @return The id of the card drawn, or -1 if both the pile and the discards are empty.
+     */
+    public int draw() {
+
+        if(pileSize == 0) {
+            if(discardsSize == 0)
+                return -1;
+
+            returnDiscardsToPile();
+        }
+
+        pileSize--;
+        return pile[pileSize];
+
+    } // End of draw method.
+
+    /**
+     * This method draws several cards at once (ex: treasures for beating a monster), recycling the discards whenever the pile runs dry.
+     * @param amount The number of cards to draw.
+     * @param drawnCardIds The array the drawn card ids are written to (starting at index 0). It must have room for the amount of cards drawn.
+     * @return The number of cards actually drawn (less than the amount only if the pile and discards both ran out).
+     */
+    public int drawN(int amount, int[] drawnCardIds) {
+
+        int numDrawn = 0;
+
+        while(numDrawn < amount) {
+            int cardId = draw();
+
+            if(cardId == -1)
+                break;
+
+            drawnCardIds[numDrawn] = cardId;
+            numDrawn++;
+        }
+
+        return numDrawn;
+
+    } // End of drawN method.
+
+    /**
+     * This method places a card on top of the discards.
+     * @param cardId The id of the card discarded.
+     */
+    public void discard(int cardId) {
+        discards[discardsSize] = cardId;
+        discardsSize++;
+    }
+
+    /**
+     * This method places a card on top of the pile (used to restore a saved game, see GameSnapshotCodec).
+     * @param cardId The id of the card placed on the pile.
+     */
+    public void placeOnPile(int cardId) {
+        pile[pileSize] = cardId;
+        pileSize++;
+    }
+
+    /**
+     * This method empties both the pile and the discards (used to restore a saved game, see GameSnapshotCodec).
+     */
+    public void clear() {
+        pileSize = 0;
+        discardsSize = 0;
+    }
+
+    /**
+     * This method removes a card from the discards (ex: for the "Curse! Change Class" card) using its position in the discards.
+     * @param position The position in the discards (0 is the bottom, getDiscardsSize() - 1 is the top).
+     * @return The id of the card removed.
+     */
+    public int removeFromDiscards(int position) {
+
+        int cardId = discards[position];
+
+        System.arraycopy(discards, position + 1, discards, position, discardsSize - position - 1);
+        discardsSize--;
+
+        return cardId;
+
+    } // End of removeFromDiscards method.
+
+    /**
+     * This utility method is used to place the discards back into the pile once the pile runs dry (and shuffle the cards).
+     */
+    private void returnDiscardsToPile() {
+
+        System.arraycopy(discards, 0, pile, pileSize, discardsSize);
+        pileSize += discardsSize;
+        discardsSize = 0;
+        shuffle();
+
+    } // End of returnDiscardsToPile utility method.
+
+} // End of Deck class.
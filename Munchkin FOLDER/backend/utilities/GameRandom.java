@@ -0,0 +1,103 @@
+package utilities;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * This class is the random context of a single game. Everything random in the game (each player's Die and each pile's shuffle) gets its own
+ * independent RandomStream derived from the game's one seed, so any game can be replayed exactly from its seed, and games running on
+ * different threads never share a random generator.
+ *
+ * IMPORTANT NOTE: Each stream's seed only depends on the game's seed and on what the stream is used for (not on the order the streams are
+ * created in), so adding a new stream later on never changes the results of the existing ones.
+ */
+public class GameRandom {
+
+    //----------------------------------------------------
+    //            INSTANCE VARIABLES
+    //----------------------------------------------------
+
+    // The stream numbers of the piles. The players' dice use the stream numbers right after them, and the players' decision policies (bots,
+    // simulations) use a separate range so the two can never overlap.
+    private static final int DOOR_PILE_STREAM = 0;
+    private static final int TREASURE_PILE_STREAM = 1;
+    private static final int FIRST_DIE_STREAM = 2;
+    private static final int FIRST_POLICY_STREAM = 1 << 16;
+
+    // The game's seed.
+    private long seed;
+
+    //----------------------------------------------------
+    //            CONSTRUCTOR(S)
+    //----------------------------------------------------
+
+    /**
+     * This method constructs a GameRandom object for a game that can be replayed from the given seed.
+     * @param seed The game's seed.
+     */
+    public GameRandom(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * This method constructs a GameRandom object with an arbitrary seed (for when the game doesn't need to be replayed).
+     */
+    public GameRandom() {
+        this(ThreadLocalRandom.current().nextLong());
+    }
+
+    //----------------------------------------------------
+    //            METHOD(S)
+    //----------------------------------------------------
+
+    /**
+     * This method gets the game's seed.
+     * @return The game's seed.
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * This method creates the stream used to shuffle the door pile.
+     * @return The door pile's stream.
+     */
+    public RandomStream createDoorPileStream() {
+        return createStream(DOOR_PILE_STREAM);
+    }
+
+    /**
+     * This method creates the stream used to shuffle the treasure pile.
+     * @return The treasure pile's stream.
+     */
+    public RandomStream createTreasurePileStream() {
+        return createStream(TREASURE_PILE_STREAM);
+    }
+
+    /**
+     * This method creates the stream used by a player's Die.
+     * @param playerTurnNumber The player's turn number or turn order designation.
+     * @return The player's Die stream.
+     */
+    public RandomStream createDieStream(int playerTurnNumber) {
+        return createStream(FIRST_DIE_STREAM + playerTurnNumber);
+    }
+
+    /**
+     * This method creates the stream used by a player's decision policy (ex: a bot making random choices in a simulation).
+     * @param playerTurnNumber The player's turn number or turn order designation.
+     * @return The player's policy stream.
+     */
+    public RandomStream createPolicyStream(int playerTurnNumber) {
+        return createStream(FIRST_POLICY_STREAM + playerTurnNumber);
+    }
+
+    /**
+     * This utility method derives an independent stream from the game's seed and a stream number.
+     * @param streamNumber The stream number (what the stream is used for).
+     * @return The new stream.
+     */
+    private RandomStream createStream(int streamNumber) {
+        return new RandomStream(RandomStream.mix64(seed + RandomStream.mix64(streamNumber + 1)));
+    }
+
+} // End of GameRandom class.
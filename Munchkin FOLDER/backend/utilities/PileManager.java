@@ -1,613 +1,180 @@
 package utilities;
 
 import basic_game_components.Card;
-import door_cards.*;
-import treasure_cards.*;
-
-import java.util.List;
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.Collections;
+import basic_game_components.PileType;
+import door_cards.MonsterCard;
+import events.GameEventSink;
+import events.GameEventType;
 
 /**
  * This class is used to manage the door and treasure piles of the game. Its operations include initializing the piles, automatically shuffling
- * them, fetching them, and resetting them.
- * 
- * IMPORTANT NOTE: We'll consider the end of each pile list (i.e. the last indices) to be the top of those piles. This is for efficient removal
- * time complexity. This will be the case after shuffling, since we instantiated the cards and added them to their piles in alphabetical order
- * so that it makes more sense upon inspecting the code for this class.
+ * them, drawing from them, and discarding to them.
+ *
+ * IMPORTANT NOTE: Each pile is a Deck of card ids (see Deck), whose top is the end of its array. When a pile runs dry, its discards are
+ * automatically shuffled back into it, so there is no need to return the discards manually anymore.
+ *
+ * The card definitions themselves are shared by every game through the CardCatalog, so constructing a PileManager only allocates the game's
+ * card table, its own copies of the monster cards and the two decks.
  */
 public class PileManager {
-    
-    // List simulating the door pile.
-    private List<Card> doorPile;
-    // List simulating the treasure pile.
-    private List<Card> treasurePile;
 
-    public PileManager() {
-        // Declare empty lists for both piles.
-        doorPile = new ArrayList<Card>();
-        treasurePile = new ArrayList<Card>();
+    // Deck simulating the door pile and the door discards.
+    private Deck doorPile;
+    // Deck simulating the treasure pile and the treasure discards.
+    private Deck treasurePile;
+    // This game's card table, indexed by catalog index. Immutable cards are shared with the CardCatalog, monster cards are this game's own copies.
+    private Card[] gameCards;
+    // Where the piles publish their events (cards drawn and discarded, discards shuffled back in).
+    private GameEventSink eventSink;
+
+    /**
+     * This method constructs a PileManager object whose piles are shuffled using the game's random context.
+     * @param gameRandom The game's random context.
+     */
+    public PileManager(GameRandom gameRandom) {
+        //Fill both piles with their respective cards from the shared card catalog (see CardCatalog).
+        gameCards = CardCatalog.createGameCardTable();
+
+        int[] doorCardIds = new int[CardCatalog.getDoorCardCount()];
+        int[] treasureCardIds = new int[CardCatalog.getTreasureCardCount()];
 
-        //Instantiate both piles, filling both lists with their respective cards (utility methods).
-        instantiateDoorPile();
-        instantiateTreasurePile();
+        for(int i = 0; i < doorCardIds.length; i++)
+            doorCardIds[i] = i;
+
+        for(int i = 0; i < treasureCardIds.length; i++)
+            treasureCardIds[i] = doorCardIds.length + i;
+
+        doorPile = new Deck(doorCardIds, gameRandom.createDoorPileStream());
+        treasurePile = new Deck(treasureCardIds, gameRandom.createTreasurePileStream());
 
         // Shuffle the piles.
-        shufflePile(doorPile);
-        shufflePile(treasurePile);
+        doorPile.shuffle();
+        treasurePile.shuffle();
+
+        eventSink = GameEventSink.NONE;
 
     } // End of constructor method.
 
     /**
-     * This method gets the door pile (deck of cards containing all door cards in the game).
-     * @return The door pile list.
+     * This method constructs a PileManager object with an arbitrary seed (for when the game doesn't need to be replayed).
      */
-    public List<Card> getDoorPile() {
-        return doorPile;
+    public PileManager() {
+        this(new GameRandom());
     }
 
     /**
-     * This method is used to return the door discards to the door pile once the pile runs dry (and shuffle the cards).
-     * @param doorDiscards The door discards.
+     * This method sets where the piles publish their events (cards drawn and discarded, discards shuffled back in).
+     * @param eventSink Where the piles publish their events (GameEventSink.NONE to ignore them).
      */
-    public void returnDiscardsToDoorPile(List<Card> doorDiscards) {
-
-        doorPile.addAll(doorDiscards);
-        doorDiscards.clear();
-        shufflePile(doorPile);
-
-    } // End of returnDiscardsToDoorPile method.
+    public void setEventSink(GameEventSink eventSink) {
+        this.eventSink = eventSink;
+    }
 
     /**
-     * This method is used to return the treasure discards to the treasure pile once the pile runs dry (and shuffle the cards).
-     * @param treasureDiscards The treasure discards.
+     * This method gets the door pile (deck of cards containing all door cards in the game, along with the door discards).
+     * @return The door pile deck.
      */
-    public void returnDiscardsToTreasurePile(List<Card> treasureDiscards) {
-        
-        treasurePile.addAll(treasureDiscards);
-        treasureDiscards.clear();
-        shufflePile(treasurePile);
-
-    } // End of returnDiscardsToTreasurePile method.
+    public Deck getDoorPile() {
+        return doorPile;
+    }
 
     /**
-     * This method gets the treasure pile (deck of cards containing all treasure cards in the game).
-     * @return The treasure pile list.
+     * This method gets the treasure pile (deck of cards containing all treasure cards in the game, along with the treasure discards).
+     * @return The treasure pile deck.
      */
-    public List<Card> getTreasurePile() {
+    public Deck getTreasurePile() {
         return treasurePile;
     }
 
     /**
-     * This utility method instantiates the door pile, creating each card object that belongs to it and adding them to the door pile list.
+     * This method gets this game's instance of a card using its catalog index (see CardCatalog). For monster cards this is the game's own copy.
+     * @param catalogIndex The card's catalog index.
+     * @return This game's instance of the card.
      */
-    private void instantiateDoorPile() {
-
-        // Class constructor signatures are provided above each card creation/addition so one could identify what each value in their 
-        // constructor correlates to.
-
-        // MonsterCard(String name, int level, int treasureReward, int levelReward, boolean isUndead)
-        doorPile.add(new MonsterCard("3,872 Orcs", 10, 3, 1, false));
-
-        // MonsterCard(String name, int level, int treasureReward, int levelReward, boolean isUndead)
-        doorPile.add(new MonsterCard("Amazon", 8, 2, 1, false));
-
-        // MonsterEnhancerCard(String name, int levelEnhancementValue, int treasureEnhancementValue)
-        doorPile.add(new MonsterEnhancerCard("Ancient", 10, 2));
-
-        // MonsterEnhancerCard(String name, int levelEnhancementValue, int treasureEnhancementValue)
-        doorPile.add(new MonsterEnhancerCard("Baby", -5, -1));
-
-        // MonsterCard(String name, int level, int treasureReward, int levelReward, boolean isUndead)
-        doorPile.add(new MonsterCard("Bigfoot", 12, 3, 1, false));
-
-        // MonsterCard(String name, int level, int treasureReward, int levelReward, boolean isUndead)
-        doorPile.add(new MonsterCard("Bullrog", 18, 5, 2, false));
-
-        // OtherDoorCard(String name)
-        doorPile.add(new OtherDoorCard("Cheat!"));
-
-        // ClassCard(String name)
-        doorPile.add(new ClassCard("Cleric"));
-
-        // ClassCard(String name)
-        doorPile.add(new ClassCard("Cleric"));
-
-        // ClassCard(String name)
-        doorPile.add(new ClassCard("Cleric"));
-
-        // MonsterCard(String name, int level, int treasureReward, int levelReward, boolean isUndead)
-        doorPile.add(new MonsterCard("Crabs", 1, 1, 1, false));
-        
-        // CurseCard(String name)
-        doorPile.add(new CurseCard("Curse! Change Class"));
-
-        // CurseCard(String name)
-        doorPile.add(new CurseCard("Curse! Change Race"));
-
-        // CurseCard(String name)
-        doorPile.add(new CurseCard("Curse! Change Sex"));
-
-        // CurseCard(String name)
-        doorPile.add(new CurseCard("Curse! Chicken On Your Head"));
-
-        // CurseCard(String name)
-        doorPile.add(new CurseCard("Curse! Duck Of Doom"));
-
-        // CurseCard(String name)
-        doorPile.add(new CurseCard("Curse! Income Tax"));
-
-        // CurseCard(String name)
-        doorPile.add(new CurseCard("Curse! Lose A Big Item"));
-
-        // CurseCard(String name)
-        doorPile.add(new CurseCard("Curse! Lose A Level"));
-
-        // CurseCard(String name)
-        doorPile.add(new CurseCard("Curse! Lose A Level"));
-        
-        // CurseCard(String name)
-        doorPile.add(new CurseCard("Curse! Lose A Small Item"));
-
-        // CurseCard(String name)
-        doorPile.add(new CurseCard("Curse! Lose A Small Item"));
-
-        // CurseCard(String name)
-        doorPile.add(new CurseCard("Curse! Lose The Armor You Are Wearing"));
-
-        // CurseCard(String name)
-        doorPile.add(new CurseCard("Curse! Lose The Footgear You Are Wearing"));
-
-        // CurseCard(String name)
-        doorPile.add(new CurseCard("Curse! Lose The Headgear You Are Wearing"));
-
-        // CurseCard(String name)
-        doorPile.add(new CurseCard("Curse! Lose Two Cards"));
-
-        // CurseCard(String name)
-        doorPile.add(new CurseCard("Curse! Lose Your Class"));
-
-        // CurseCard(String name)
-        doorPile.add(new CurseCard("Curse! Lose Your Race"));
-
-        // CurseCard(String name)
-        doorPile.add(new CurseCard("Curse! Malign Mirror"));
-
-        // OtherDoorCard(String name)
-        doorPile.add(new OtherDoorCard("Divine Intervention"));
-
-        // MonsterCard(String name, int level, int treasureReward, int levelReward, boolean isUndead)
-        doorPile.add(new MonsterCard("Drooling Slime", 1, 1, 1, false));
-
-        // RaceCard(String name)
-        doorPile.add(new RaceCard("Dwarf"));
-
-        // RaceCard(String name)
-        doorPile.add(new RaceCard("Dwarf"));
-
-        // RaceCard(String name)
-        doorPile.add(new RaceCard("Dwarf"));
-
-        // RaceCard(String name)
-        doorPile.add(new RaceCard("Elf"));
-
-        // RaceCard(String name)
-        doorPile.add(new RaceCard("Elf"));
-
-        // RaceCard(String name)
-        doorPile.add(new RaceCard("Elf"));
-
-        // MonsterEnhancerCard(String name, int levelEnhancementValue, int treasureEnhancementValue)
-        doorPile.add(new MonsterEnhancerCard("Enraged", 5, 1));
-
-        // MonsterCard(String name, int level, int treasureReward, int levelReward, boolean isUndead)
-        doorPile.add(new MonsterCard("Face Sucker", 8, 2, 1, false));
-
-        // MonsterCard(String name, int level, int treasureReward, int levelReward, boolean isUndead)
-        doorPile.add(new MonsterCard("Floating Nose", 10, 3, 1, false));
-
-        // MonsterCard(String name, int level, int treasureReward, int levelReward, boolean isUndead)
-        doorPile.add(new MonsterCard("Flying Frogs", 2, 1, 1, false));
-
-        // MonsterCard(String name, int level, int treasureReward, int levelReward, boolean isUndead)
-        doorPile.add(new MonsterCard("Gazebo", 8, 2, 1, false));
-
-        // MonsterCard(String name, int level, int treasureReward, int levelReward, boolean isUndead)
-        doorPile.add(new MonsterCard("Gelatinous Octahedron", 2, 1, 1, false));
-        
-        // MonsterCard(String name, int level, int treasureReward, int levelReward, boolean isUndead)
-        doorPile.add(new MonsterCard("Ghoulfiends", 8, 2, 1, false));
-
-        // OtherDoorCard(String name)
-        doorPile.add(new OtherDoorCard("Half-Breed"));
-
-        // OtherDoorCard(String name)
-        doorPile.add(new OtherDoorCard("Half-Breed"));
-
-        // RaceCard(String name)
-        doorPile.add(new RaceCard("Halfling"));
-
-        // RaceCard(String name)
-        doorPile.add(new RaceCard("Halfling"));
-
-        // RaceCard(String name)
-        doorPile.add(new RaceCard("Halfling"));
-
-        // MonsterCard(String name, int level, int treasureReward, int levelReward, boolean isUndead)
-        doorPile.add(new MonsterCard("Harpies", 4, 2, 1, false));
-
-        // OtherDoorCard(String name)
-        doorPile.add(new OtherDoorCard("Help Me Out Here!"));
-
-        // MonsterCard(String name, int level, int treasureReward, int levelReward, boolean isUndead)
-        doorPile.add(new MonsterCard("Hippogriff", 16, 4, 2, false));
-
-        // MonsterEnhancerCard(String name, int levelEnhancementValue, int treasureEnhancementValue)
-        doorPile.add(new MonsterEnhancerCard("Humongous", 10, 2));
-        
-        // OtherDoorCard(String name)
-        doorPile.add(new OtherDoorCard("Illusion"));
-
-        // MonsterCard(String name, int level, int treasureReward, int levelReward, boolean isUndead)
-        doorPile.add(new MonsterCard("Insurance Salesman", 14, 4, 1, false));
-
-        // MonsterEnhancerCard(String name, int levelEnhancementValue, int treasureEnhancementValue)
-        doorPile.add(new MonsterEnhancerCard("Intelligent", 5, 1));
-
-        // MonsterCard(String name, int level, int treasureReward, int levelReward, boolean isUndead)
-        doorPile.add(new MonsterCard("King Tut", 16, 4, 2, true));
-
-        // MonsterCard(String name, int level, int treasureReward, int levelReward, boolean isUndead)
-        doorPile.add(new MonsterCard("Lame Goblin", 1, 1, 1, false));
-
-        // MonsterCard(String name, int level, int treasureReward, int levelReward, boolean isUndead)
-        doorPile.add(new MonsterCard("Large Angry Chicken", 2, 1, 1, false));
-
-        // MonsterCard(String name, int level, int treasureReward, int levelReward, boolean isUndead)
-        doorPile.add(new MonsterCard("Lawyers", 6, 2, 1, false));
-
-        // MonsterCard(String name, int level, int treasureReward, int levelReward, boolean isUndead)
-        doorPile.add(new MonsterCard("Leperchaun", 4, 2, 5, false));
-
-        // OtherDoorCard(String name)
-        doorPile.add(new OtherDoorCard("Mate"));
-
-        // MonsterCard(String name, int level, int treasureReward, int levelReward, boolean isUndead)
-        doorPile.add(new MonsterCard("Maul Rat", 1, 1, 1, false));
-
-        // MonsterCard(String name, int level, int treasureReward, int levelReward, boolean isUndead)
-        doorPile.add(new MonsterCard("Mr. Bones", 2, 1, 1, true));
-
-        // MonsterCard(String name, int level, int treasureReward, int levelReward, boolean isUndead)
-        doorPile.add(new MonsterCard("Net Troll", 10, 3, 1, false));
-
-        // OtherDoorCard(String name)
-        doorPile.add(new OtherDoorCard("Out To Lunch"));
-
-        // MonsterCard(String name, int level, int treasureReward, int levelReward, boolean isUndead)
-        doorPile.add(new MonsterCard("Pit Bull", 2, 1, 1, false));
-
-        // MonsterCard(String name, int level, int treasureReward, int levelReward, boolean isUndead)
-        doorPile.add(new MonsterCard("Platycore", 6, 2, 1, false));
-
-        // MonsterCard(String name, int level, int treasureReward, int levelReward, boolean isUndead)
-        doorPile.add(new MonsterCard("Plutononium Dragon", 20, 5, 2, false));
-
-        // MonsterCard(String name, int level, int treasureReward, int levelReward, boolean isUndead)
-        doorPile.add(new MonsterCard("Potted Plant", 1, 1, 1, false));
-
-        // MonsterCard(String name, int level, int treasureReward, int levelReward, boolean isUndead)
-        doorPile.add(new MonsterCard("Pukachu", 6, 2, 1, false));
-
-        // MonsterCard(String name, int level, int treasureReward, int levelReward, boolean isUndead)
-        doorPile.add(new MonsterCard("Shrieking Geek", 6, 2, 1, false));
-
-        // MonsterCard(String name, int level, int treasureReward, int levelReward, boolean isUndead)
-        doorPile.add(new MonsterCard("Snails On Speed", 4, 2, 1, false));
-
-        // MonsterCard(String name, int level, int treasureReward, int levelReward, boolean isUndead)
-        doorPile.add(new MonsterCard("Squidzilla", 18, 4, 2, false));
-
-        // MonsterCard(String name, int level, int treasureReward, int levelReward, boolean isUndead)
-        doorPile.add(new MonsterCard("Stoned Golem", 14, 4, 1, false));
-
-        // OtherDoorCard(String name)
-        doorPile.add(new OtherDoorCard("Super Munchkin"));
-
-        // OtherDoorCard(String name)
-        doorPile.add(new OtherDoorCard("Super Munchkin"));
-
-        // ClassCard(String name)
-        doorPile.add(new ClassCard("Thief"));
-
-        // ClassCard(String name)
-        doorPile.add(new ClassCard("Thief"));
-
-        // ClassCard(String name)
-        doorPile.add(new ClassCard("Thief"));
-
-        // MonsterCard(String name, int level, int treasureReward, int levelReward, boolean isUndead)
-        doorPile.add(new MonsterCard("Tongue Demon", 12, 3, 1, false));
-
-        // CurseCard(String name)
-        doorPile.add(new CurseCard("Truly Obnoxious Curse!"));
-
-        // MonsterCard(String name, int level, int treasureReward, int levelReward, boolean isUndead)
-        doorPile.add(new MonsterCard("Undead Horse", 4, 2, 1, true));
-
-        // MonsterCard(String name, int level, int treasureReward, int levelReward, boolean isUndead)
-        doorPile.add(new MonsterCard("Unspeakable Awful Indescribable Horror", 14, 4, 1, false));
-
-        // OtherDoorCard(String name)
-        doorPile.add(new OtherDoorCard("Wandering Monster"));
-
-        // OtherDoorCard(String name)
-        doorPile.add(new OtherDoorCard("Wandering Monster"));
-
-        // MonsterCard(String name, int level, int treasureReward, int levelReward, boolean isUndead)
-        doorPile.add(new MonsterCard("Wannabe Vampire", 12, 3, 1, false));
-
-        // ClassCard(String name)
-        doorPile.add(new ClassCard("Warrior"));
-
-        // ClassCard(String name)
-        doorPile.add(new ClassCard("Warrior"));
-
-        // ClassCard(String name)
-        doorPile.add(new ClassCard("Warrior"));
-
-        // MonsterCard(String name, int level, int treasureReward, int levelReward, boolean isUndead)
-        doorPile.add(new MonsterCard("Wight Brothers", 16, 4, 2, true));
-
-        // ClassCard(String name)
-        doorPile.add(new ClassCard("Wizard"));
-
-        // ClassCard(String name)
-        doorPile.add(new ClassCard("Wizard"));
-
-        // ClassCard(String name)
-        doorPile.add(new ClassCard("Wizard"));
-
-    } // End of instatiateDoorPile utility method.
+    public Card getCard_UsingCatalogIndex(int catalogIndex) {
+        return gameCards[catalogIndex];
+    }
 
     /**
-     * This utility method instantiates the treasure pile, creating each card object that belongs to it and adding them to the treasure pile list.
+     * This method draws the top card of the door pile (the door discards are shuffled back in automatically if the pile has run dry).
+     * @return The card drawn, or null if there are no door cards left at all.
      */
-    private void instantiateTreasurePile() {
-
-        // Class constructor signatures are provided above each card creation/addition so one could identify what each value in their constructor correlates to...
-
-        // GUALCard(String name)
-        treasurePile.add(new GUALCard("1,000 Gold Pieces"));
-
-        // ItemCard(String name, String classification, int combatBonus, int runAwayBonus, String usableByRequirement, int handsRequirement, boolean isBig, int goldValue)
-        treasurePile.add(new ItemCard("Bad-Ass Bandana", "headgear", 3, 0, "human only", 0, false, 400));
-
-        // GUALCard(String name)
-        treasurePile.add(new GUALCard("Boil An Anthill"));
-
-        // ItemCard(String name, String classification, int combatBonus, int runAwayBonus, String usableByRequirement, int handsRequirement, boolean isBig, int goldValue)
-        treasurePile.add(new ItemCard("Boots of Butt-Kicking", "footgear", 2, 0, "any", 0, false, 400));
-
-        // ItemCard(String name, String classification, int combatBonus, int runAwayBonus, String usableByRequirement, int handsRequirement, boolean isBig, int goldValue)
-        treasurePile.add(new ItemCard("Boots of Running Really Fast", "footgear", 0, 2, "any", 0, false, 400));
-
-        // ItemCard(String name, String classification, int combatBonus, int runAwayBonus, String usableByRequirement, int handsRequirement, boolean isBig, int goldValue)
-        treasurePile.add(new ItemCard("Bow With Ribbons", "weapon", 4, 0, "elf only", 2, false, 800));
-
-        // GUALCard(String name)
-        treasurePile.add(new GUALCard("Bribe GM With Food"));
-
-        // ItemCard(String name, String classification, int combatBonus, int runAwayBonus, String usableByRequirement, int handsRequirement, boolean isBig, int goldValue)
-        treasurePile.add(new ItemCard("Broad Sword", "weapon", 3, 0, "females only", 1, false, 400));
-
-        // ItemCard(String name, String classification, int combatBonus, int runAwayBonus, String usableByRequirement, int handsRequirement, boolean isBig, int goldValue)
-        treasurePile.add(new ItemCard("Buckler Of Swashing", "weapon", 2, 0, "any", 1, false, 400));
-
-        // ItemCard(String name, String classification, int combatBonus, int runAwayBonus, String usableByRequirement, int handsRequirement, boolean isBig, int goldValue)
-        treasurePile.add(new ItemCard("Chainsaw Of Bloody Dismemberment", "weapon", 3, 0, "any", 2, true, 600));
-
-        // ItemCard(String name, String classification, int combatBonus, int runAwayBonus, String usableByRequirement, int handsRequirement, boolean isBig, int goldValue)
-        treasurePile.add(new ItemCard("Cheese Grater of Peace", "weapon", 3, 0, "cleric only", 1, false, 400));
-
-        // ItemCard(String name, String classification, int combatBonus, int runAwayBonus, String usableByRequirement, int handsRequirement, boolean isBig, int goldValue)
-        treasurePile.add(new ItemCard("Cloak Of Obscurity", "other", 4, 0, "thief only", 0, false, 600));
-
-        // GUALCard(String name)
-        treasurePile.add(new GUALCard("Convenient Addition Error"));
-
-        // OneShotTreasureCard(String name, int combatBonus, int goldValue, boolean isEitherSidePlayable)
-        treasurePile.add(new OneShotTreasureCard("Cotion Of Ponfusion", 3, 100, true));
-
-        // ItemCard(String name, String classification, int combatBonus, int runAwayBonus, String usableByRequirement, int handsRequirement, boolean isBig, int goldValue)
-        treasurePile.add(new ItemCard("Dagger Of Treachery", "weapon", 3, 0, "thief only", 1, false, 400));
-
-        // OneShotTreasureCard(String name, int combatBonus, int goldValue, boolean isEitherSidePlayable)
-        treasurePile.add(new OneShotTreasureCard("Doppleganger", 0, 300, false));
-
-        // OneShotTreasureCard(String name, int combatBonus, int goldValue, boolean isEitherSidePlayable)
-        treasurePile.add(new OneShotTreasureCard("Electric Radioactive Acid Potion", 5, 200, true));
-
-        // ItemCard(String name, String classification, int combatBonus, int runAwayBonus, String usableByRequirement, int handsRequirement, boolean isBig, int goldValue)
-        treasurePile.add(new ItemCard("Eleven-Foot Pole", "weapon", 1, 0, "any", 2, false, 200));
-
-        // ItemCard(String name, String classification, int combatBonus, int runAwayBonus, String usableByRequirement, int handsRequirement, boolean isBig, int goldValue)
-        treasurePile.add(new ItemCard("Flaming Armor", "armor", 2, 0 ,"any", 0, false, 400));
-
-        // OneShotTreasureCard(String name, int combatBonus, int goldValue, boolean isEitherSidePlayable)
-        treasurePile.add(new OneShotTreasureCard("Flaming Poison Potion", 3, 100, true));
-
-        // OneShotTreasureCard(String name, int combatBonus, int goldValue, boolean isEitherSidePlayable)
-        treasurePile.add(new OneShotTreasureCard("Flask Of Glue", 0, 100, false));
-
-        // OneShotTreasureCard(String name, int combatBonus, int goldValue, boolean isEitherSidePlayable)
-        treasurePile.add(new OneShotTreasureCard("Freezing Explosive Potion", 3, 100, true));
-
-        // OneShotTreasureCard(String name, int combatBonus, int goldValue, boolean isEitherSidePlayable)
-        treasurePile.add(new OneShotTreasureCard("Friendship Potion", 0, 200, false));
-
-        // ItemCard(String name, String classification, int combatBonus, int runAwayBonus, String usableByRequirement, int handsRequirement, boolean isBig, int goldValue)
-        treasurePile.add(new ItemCard("Gentleman's Club", "weapon", 3, 0, "males only", 1, false, 400));
-
-        // ItemCard(String name, String classification, int combatBonus, int runAwayBonus, String usableByRequirement, int handsRequirement, boolean isBig, int goldValue)
-        treasurePile.add(new ItemCard("Helm Of Courage", "headgear", 1, 0, "any", 0, false, 200));
-
-        // HelperCard(String name)
-        treasurePile.add(new HelperCard("Hireling"));
-
-        // OneShotTreasureCard(String name, int combatBonus, int goldValue, boolean isEitherSidePlayable)
-        treasurePile.add(new OneShotTreasureCard("Hoard!", 0, 200, false));
-
-        // OneShotTreasureCard(String name, int combatBonus, int goldValue, boolean isEitherSidePlayable)
-        treasurePile.add(new OneShotTreasureCard("Hoard!", 0, 200, false));
-
-        // ItemCard(String name, String classification, int combatBonus, int runAwayBonus, String usableByRequirement, int handsRequirement, boolean isBig, int goldValue)
-        treasurePile.add(new ItemCard("Horny Helmet", "headgear", 1, 0, "any", 0, false, 600));
-
-        // ItemCard(String name, String classification, int combatBonus, int runAwayBonus, String usableByRequirement, int handsRequirement, boolean isBig, int goldValue)
-        treasurePile.add(new ItemCard("Huge Rock", "weapon", 3, 0, "any", 2, true, 0));
-
-        // OneShotTreasureCard(String name, int combatBonus, int goldValue, boolean isEitherSidePlayable)
-        treasurePile.add(new OneShotTreasureCard("Instant Wall", 0, 300, false));
-
-        // OneShotTreasureCard(String name, int combatBonus, int goldValue, boolean isEitherSidePlayable)
-        treasurePile.add(new OneShotTreasureCard("Invisibility Potion", 0, 200, false));
-
-        // GUALCard(String name)
-        treasurePile.add(new GUALCard("Invoke Obscure Rules"));
-
-        // GUALCard(String name)
-        treasurePile.add(new GUALCard("Kill The Hireling"));
-
-        // ItemCard(String name, String classification, int combatBonus, int runAwayBonus, String usableByRequirement, int handsRequirement, boolean isBig, int goldValue)
-        treasurePile.add(new ItemCard("Kneepads Of Allure", "other", 0, 0, "not clerics", 0, false, 600));
-
-        // ItemCard(String name, String classification, int combatBonus, int runAwayBonus, String usableByRequirement, int handsRequirement, boolean isBig, int goldValue)
-        treasurePile.add(new ItemCard("Leather Armor", "armor", 1, 0, "any", 0, false, 200));
-
-        // ItemCard(String name, String classification, int combatBonus, int runAwayBonus, String usableByRequirement, int handsRequirement, boolean isBig, int goldValue)
-        treasurePile.add(new ItemCard("Limburger And Anchovy Sandwich", "other", 3, 0, "halfling only", 0, false, 400));
-
-        // OneShotTreasureCard(String name, int combatBonus, int goldValue, boolean isEitherSidePlayable)
-        treasurePile.add(new OneShotTreasureCard("Loaded Die", 0, 300, false));
-
-        // ItemCard(String name, String classification, int combatBonus, int runAwayBonus, String usableByRequirement, int handsRequirement, boolean isBig, int goldValue)
-        treasurePile.add(new ItemCard("Mace Of Sharpness", "weapon", 4, 0, "cleric only", 1, false, 600));
-
-        // OneShotTreasureCard(String name, int combatBonus, int goldValue, boolean isEitherSidePlayable)
-        treasurePile.add(new OneShotTreasureCard("Magic Lamp", 0, 500, false));
-
-        // OneShotTreasureCard(String name, int combatBonus, int goldValue, boolean isEitherSidePlayable)
-        treasurePile.add(new OneShotTreasureCard("Magic Lamp", 0, 500, false));
-
-        // OneShotTreasureCard(String name, int combatBonus, int goldValue, boolean isEitherSidePlayable)
-        treasurePile.add(new OneShotTreasureCard("Magic Missile", 5, 300, true));
-
-        // ItemCard(String name, String classification, int combatBonus, int runAwayBonus, String usableByRequirement, int handsRequirement, boolean isBig, int goldValue)
-        treasurePile.add(new ItemCard("Mithril Armor", "armor", 3, 0, "not wizard", 0, true, 600));
-
-        // GUALCard(String name)
-        treasurePile.add(new GUALCard("Mutilate The Bodies"));
-
-        // OneShotTreasureCard(String name, int combatBonus, int goldValue, boolean isEitherSidePlayable)
-        treasurePile.add(new OneShotTreasureCard("Nasty-Tasting Sports Drink", 2, 200, true));
-
-        // ItemCard(String name, String classification, int combatBonus, int runAwayBonus, String usableByRequirement, int handsRequirement, boolean isBig, int goldValue)
-        treasurePile.add(new ItemCard("Pantyhouse Of Giant Strength", "other", 3, 0, "not warrior", 0, false, 600));
-
-        // ItemCard(String name, String classification, int combatBonus, int runAwayBonus, String usableByRequirement, int handsRequirement, boolean isBig, int goldValue)
-        treasurePile.add(new ItemCard("Pointy Hat Of Power", "heargear", 3, 0, "wizard only", 0, false, 400));
-
-        // OneShotTreasureCard(String name, int combatBonus, int goldValue, boolean isEitherSidePlayable)
-        treasurePile.add(new OneShotTreasureCard("Polymorph Potion", 0, 1300, false));
-
-        // GUALCard(String name)
-        treasurePile.add(new GUALCard("Potion of General Studliness"));
-        
-        // OneShotTreasureCard(String name, int combatBonus, int goldValue, boolean isEitherSidePlayable)
-        treasurePile.add(new OneShotTreasureCard("Potion of Halitosis", 2, 100, true));
-
-        // OneShotTreasureCard(String name, int combatBonus, int goldValue, boolean isEitherSidePlayable)
-        treasurePile.add(new OneShotTreasureCard("Potion of Idiotic Bravery", 2, 100, true));
-
-        // OneShotTreasureCard(String name, int combatBonus, int goldValue, boolean isEitherSidePlayable)
-        treasurePile.add(new OneShotTreasureCard("Pretty Balloons", 5, 0, true));
-
-        // ItemCard(String name, String classification, int combatBonus, int runAwayBonus, String usableByRequirement, int handsRequirement, boolean isBig, int goldValue)
-        treasurePile.add(new ItemCard("Rapier of Unfairness", "weapon", 3, 0, "elf only", 1, false, 600));
-
-        // ItemCard(String name, String classification, int combatBonus, int runAwayBonus, String usableByRequirement, int handsRequirement, boolean isBig, int goldValue)
-        treasurePile.add(new ItemCard("Rat on a Stick", "weapon", 1, 0, "any", 1, false, 0));
-
-        // ItemCard(String name, String classification, int combatBonus, int runAwayBonus, String usableByRequirement, int handsRequirement, boolean isBig, int goldValue)
-        treasurePile.add(new ItemCard("Really Impressive Title", "other", 3, 0, "any", 0, false, 0));
-
-        // ItemCard(String name, String classification, int combatBonus, int runAwayBonus, String usableByRequirement, int handsRequirement, boolean isBig, int goldValue)
-        treasurePile.add(new ItemCard("Sandals Of Protection", "footgear", 0, 0, "any", 0, false, 700));
-
-        // ItemCard(String name, String classification, int combatBonus, int runAwayBonus, String usableByRequirement, int handsRequirement, boolean isBig, int goldValue)
-        treasurePile.add(new ItemCard("Shield of Ubiquity", "weapon", 4, 0, "warrior only", 1, true, 600));
-
-        // ItemCard(String name, String classification, int combatBonus, int runAwayBonus, String usableByRequirement, int handsRequirement, boolean isBig, int goldValue)
-        treasurePile.add(new ItemCard("Short Wide Armor", "armor", 3, 0, "dwarf only", 0, false, 400));
-
-        // ItemCard(String name, String classification, int combatBonus, int runAwayBonus, String usableByRequirement, int handsRequirement, boolean isBig, int goldValue)
-        treasurePile.add(new ItemCard("Singing & Danching Sword", "other", 2, 0, "not thief", 0, false, 400));
+    public Card drawDoorCard() {
+        return drawCard(doorPile, PileType.DOOR);
+    }
 
-        // OneShotTreasureCard(String name, int combatBonus, int goldValue, boolean isEitherSidePlayable)
-        treasurePile.add(new OneShotTreasureCard("Sleep Potion", 2, 100, true));
+    /**
+     * This method draws the top card of the treasure pile (the treasure discards are shuffled back in automatically if the pile has run dry).
+     * @return The card drawn, or null if there are no treasure cards left at all.
+     */
+    public Card drawTreasureCard() {
+        return drawCard(treasurePile, PileType.TREASURE);
+    }
 
-        // ItemCard(String name, String classification, int combatBonus, int runAwayBonus, String usableByRequirement, int handsRequirement, boolean isBig, int goldValue)
-        treasurePile.add(new ItemCard("Slimy Armor", "armor", 1, 0, "any", 0, false, 200));
+    /**
+     * This method discards a door card. Monster cards are restored to their original level and treasure reward so they come back unaltered
+     * once the discards are shuffled into the door pile.
+     * @param card The door card discarded.
+     */
+    public void discardDoorCard(Card card) {
 
-        // ItemCard(String name, String classification, int combatBonus, int runAwayBonus, String usableByRequirement, int handsRequirement, boolean isBig, int goldValue)
-        treasurePile.add(new ItemCard("Sneaky Bastard Sword", "weapon", 2, 0, "any", 1, false, 400));
+        if(card instanceof MonsterCard) {
+            MonsterCard monsterCard = (MonsterCard) card;
+            monsterCard.resetLevel();
+            monsterCard.resetTreasureReward();
+        }
 
-        // ItemCard(String name, String classification, int combatBonus, int runAwayBonus, String usableByRequirement, int handsRequirement, boolean isBig, int goldValue)
-        treasurePile.add(new ItemCard("Spiky Knees", "other", 1, 0, "any", 0, false, 200));
+        doorPile.discard(card.getId());
+        eventSink.publish(GameEventType.CARD_DISCARDED, 0, card.getId(), PileType.DOOR.ordinal());
 
-        // ItemCard(String name, String classification, int combatBonus, int runAwayBonus, String usableByRequirement, int handsRequirement, boolean isBig, int goldValue)
-        treasurePile.add(new ItemCard("Staff Of Napalm", "weapon", 5, 0, "wizard only", 1, false, 800));
+    } // End of discardDoorCard method.
 
-        // OneShotTreasureCard(String name, int combatBonus, int goldValue, boolean isEitherSidePlayable)
-        treasurePile.add(new OneShotTreasureCard("Steal A Level", 0, 0, false));
+    /**
+     * This method discards a treasure card.
+     * @param card The treasure card discarded.
+     */
+    public void discardTreasureCard(Card card) {
+        treasurePile.discard(card.getId());
+        eventSink.publish(GameEventType.CARD_DISCARDED, 0, card.getId(), PileType.TREASURE.ordinal());
+    }
 
-        // ItemCard(String name, String classification, int combatBonus, int runAwayBonus, String usableByRequirement, int handsRequirement, boolean isBig, int goldValue)
-        treasurePile.add(new ItemCard("Stepladder", "other", 3, 0, "halfling only", 0, true, 400));
+    /**
+     * This method takes a card out of the door discards (ex: for the "Curse! Change Class" card, which replaces the player's class with the
+     * first class card found in the discards).
+     * @param position The card's position in the door discards (0 is the bottom, getDoorPile().getDiscardsSize() - 1 is the top).
+     * @return The card taken out of the discards.
+     */
+    public Card takeDoorDiscard(int position) {
 
-        // ItemCard(String name, String classification, int combatBonus, int runAwayBonus, String usableByRequirement, int handsRequirement, boolean isBig, int goldValue)
-        treasurePile.add(new ItemCard("Swiss Army Polearm", "weapon", 4, 0, "human only", 2, true, 600));
+        int cardId = doorPile.removeFromDiscards(position);
+        eventSink.publish(GameEventType.CARD_TAKEN_FROM_DISCARDS, 0, cardId, PileType.DOOR.ordinal());
 
-        // OneShotTreasureCard(String name, int combatBonus, int goldValue, boolean isEitherSidePlayable)
-        treasurePile.add(new OneShotTreasureCard("Transferral Potion", 0, 0, false));
+        return gameCards[cardId];
 
-        // ItemCard(String name, String classification, int combatBonus, int runAwayBonus, String usableByRequirement, int handsRequirement, boolean isBig, int goldValue)
-        treasurePile.add(new ItemCard("Tuba Of Charm", "weapon", 0, 3, "any", 1, true, 300));
+    } // End of takeDoorDiscard method.
 
-        // OneShotTreasureCard(String name, int combatBonus, int goldValue, boolean isEitherSidePlayable)
-        treasurePile.add(new OneShotTreasureCard("Wand Of Dowsing", 0, 1100, false));
+    /**
+     * This utility method draws the top card of a pile and publishes the draw, along with the reshuffle if the pile had run dry.
+     * @param pile The pile's deck.
+     * @param pileType Which pile it is.
+     * @return The card drawn, or null if there are no cards left at all.
+     */
+    private Card drawCard(Deck pile, PileType pileType) {
 
-        // GUALCard(String name)
-        treasurePile.add(new GUALCard("Whine At The GM"));
+        // The Deck shuffles the discards back in by itself when the pile is empty.
+        boolean reshuffled = pile.getPileSize() == 0 && pile.getDiscardsSize() > 0;
+        int cardId = pile.draw();
 
-        // OneShotTreasureCard(String name, int combatBonus, int goldValue, boolean isEitherSidePlayable)
-        treasurePile.add(new OneShotTreasureCard("Wishing Ring", 0, 500, false));
+        if(reshuffled)
+            eventSink.publish(GameEventType.PILE_RESHUFFLED, 0, pileType.ordinal(), pile.getPileSize() + 1);
 
-        // OneShotTreasureCard(String name, int combatBonus, int goldValue, boolean isEitherSidePlayable)
-        treasurePile.add(new OneShotTreasureCard("Wishing Ring", 0, 500, false));
+        if(cardId == -1)
+            return null;
 
-        // OneShotTreasureCard(String name, int combatBonus, int goldValue, boolean isEitherSidePlayable)
-        treasurePile.add(new OneShotTreasureCard("Yuppie Water", 2, 100, false));
+        eventSink.publish(GameEventType.CARD_DRAWN, 0, cardId, pileType.ordinal());
 
-    } // End of instatiateTreasurePile utility method.
+        return gameCards[cardId];
 
-    /**
-     * This utility method is used to shuffle a given pile when necessary in the previous methods.
-     * @param pile The pile, door or treasure.
-     */
-    private void shufflePile(List<Card> pile) {
-        Collections.shuffle(Arrays.asList(pile));
-    }
+    } // End of drawCard utility method.
 
-} // End of PileGenerator class.
+} // End of PileManager class.
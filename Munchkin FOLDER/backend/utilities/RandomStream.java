@@ -0,0 +1,94 @@
+package utilities;
+
+/**
+ * This class is a single stream of random numbers used by one part of a game (one player's Die, or one pile's shuffle). It uses the same
+ * SplitMix64 algorithm as Java's SplittableRandom, but its state can be read and restored, so a game can be saved and replayed bit-for-bit.
+ *
+ * IMPORTANT NOTE: A RandomStream is not thread-safe, and it does not need to be. Each stream belongs to a single game, which is only ever
+ * played by one thread at a time, so there is never any contention on it (unlike a shared java.util.Random).
+ */
+public class RandomStream {
+
+    //----------------------------------------------------
+    //            INSTANCE VARIABLES
+    //----------------------------------------------------
+
+    // The increment added to the state for every number generated (the same "golden gamma" SplittableRandom uses).
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    // The current state of the stream.
+    private long state;
+
+    //----------------------------------------------------
+    //            CONSTRUCTOR(S)
+    //----------------------------------------------------
+
+    /**
+     * This method constructs a RandomStream object starting from the given seed.
+     * @param seed The seed of the stream.
+     */
+    public RandomStream(long seed) {
+        state = seed;
+    }
+
+    //----------------------------------------------------
+    //            METHOD(S)
+    //----------------------------------------------------
+
+    /**
+     * This method gets the next random 64-bit value of the stream.
+     * @return The next random 64-bit value.
+     */
+    public long nextLong() {
+        state += GOLDEN_GAMMA;
+        return mix64(state);
+    }
+
+    /**
+     * This method gets the next random value between 0 (inclusive) and the bound (exclusive), without any bias towards smaller values.
+     * @param bound The upper bound (exclusive), must be positive.
+     * @return The next random value between 0 and bound - 1.
+     */
+    public int nextInt(int bound) {
+
+        // Same rejection method as SplittableRandom: discard the few values that would make the modulo uneven.
+        int bits = (int) (nextLong() >>> 33);
+        int value = bits % bound;
+
+        while(bits - value + (bound - 1) < 0) {
+            bits = (int) (nextLong() >>> 33);
+            value = bits % bound;
+        }
+
+        return value;
+
+    } // End of nextInt method.
+
+    /**
+     * This method gets the current state of the stream (used to save a game).
+     * @return The current state of the stream.
+     */
+    public long getState() {
+        return state;
+    }
+
+    /**
+     * This method restores the state of the stream (used to load a saved game).
+     * @param state The state previously returned by getState().
+     */
+    public void setState(long state) {
+        this.state = state;
+    }
+
+    /**
+     * This method scrambles a 64-bit value (the SplitMix64 finalizer). It is also used by GameRandom to derive the seed of each stream.
+     * @param z The value to scramble.
+     * @return The scrambled value.
+     */
+    static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+} // End of RandomStream class.
@@ -0,0 +1,112 @@
+package benchmarks;
+
+import basic_game_components.Card;
+import basic_game_components.Game;
+import basic_game_components.player_stuff.Player;
+import door_cards.MonsterCard;
+import events.GameEventSink;
+import handlers.CombatOddsCalculator;
+import handlers.CurseCardHandler;
+import treasure_cards.ItemCard;
+import utilities.CardCatalog;
+import utilities.Deck;
+import utilities.PileManager;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This class benchmarks the questions a bot or the UI asks the CombatOddsCalculator before every decision, compared with answering the
+ * chance of beating the next monster by scanning the door pile.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CombatOddsCalculatorBenchmark {
+
+    @Param({"2", "4", "6"})
+    public int numberOfPlayers;
+
+    private Game game;
+    private CombatOddsCalculator odds;
+    private MonsterCard monster;
+    private int playerTurnNumber;
+
+    @Setup
+    public void setUp() {
+
+        game = new Game(42, numberOfPlayers, new CurseCardHandler());
+        PileManager pileManager = game.getPileManager();
+
+        // Every player gets a hand and equips whatever treasure they can, like in the middle of a game.
+        for(Player curPlayer : game.getPlayers()) {
+            for(int i = 0; i < 4; i++) {
+                curPlayer.getHand().addCardToHand(pileManager.drawDoorCard());
+
+                Card treasure = pileManager.drawTreasureCard();
+
+                if(treasure instanceof ItemCard && curPlayer.getInPlayCards().equipItem((ItemCard) treasure))
+                    continue;
+
+                curPlayer.getHand().addCardToHand(treasure);
+            }
+
+            curPlayer.modifyLevel(3);
+        }
+
+        Card door = pileManager.drawDoorCard();
+
+        while(!(door instanceof MonsterCard))
+            door = pileManager.drawDoorCard();
+
+        monster = (MonsterCard) door;
+        odds = new CombatOddsCalculator(game, GameEventSink.NONE);
+        game.setEventSink(odds);
+        playerTurnNumber = 1;
+    }
+
+    @Benchmark
+    public double escapeChance() {
+        return odds.getEscapeChance(playerTurnNumber);
+    }
+
+    @Benchmark
+    public double keepLevelChance() {
+        return odds.getKeepLevelChance(playerTurnNumber, monster, true);
+    }
+
+    @Benchmark
+    public double nextMonsterWinChance() {
+        return odds.getNextMonsterWinChance(playerTurnNumber);
+    }
+
+    /**
+     * Answers the chance of beating the next monster by scanning the door pile (what the calculator's running counts replace).
+     */
+    @Benchmark
+    public double nextMonsterWinChanceByScanning() {
+
+        Deck doorPile = game.getPileManager().getDoorPile();
+        int strength = odds.getMaxCombatStrength(playerTurnNumber);
+        int monsters = 0;
+        int beaten = 0;
+
+        for(int position = 0; position < doorPile.getPileSize(); position++) {
+            Card card = CardCatalog.getCardDefinition(doorPile.getPileCardId(position));
+
+            if(card instanceof MonsterCard) {
+                monsters++;
+
+                if(strength > ((MonsterCard) card).getLevel())
+                    beaten++;
+            }
+        }
+
+        return (monsters == 0) ? 1 : (double) beaten / monsters;
+    }
+
+} // End of CombatOddsCalculatorBenchmark class.
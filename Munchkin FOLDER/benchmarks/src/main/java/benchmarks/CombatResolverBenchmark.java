@@ -0,0 +1,119 @@
+package benchmarks;
+
+import basic_game_components.Card;
+import basic_game_components.Game;
+import basic_game_components.player_stuff.Hand;
+import basic_game_components.player_stuff.Player;
+import door_cards.MonsterCard;
+import door_cards.MonsterEnhancerCard;
+import handlers.Combat;
+import handlers.CombatResolver;
+import handlers.CurseCardHandler;
+import utilities.PileManager;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This class benchmarks a whole helped fight against two monsters (a second one wandering in, an enhancer on each, and a one shot bonus for
+ * the fighter), with a combat from the CombatResolver's pool, and with a new combat for each fight.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CombatResolverBenchmark {
+
+    // A one shot bonus big enough that the fighter always wins, so every fight draws the same number of treasures.
+    private static final int ONE_SHOT_BONUS = 30;
+
+    private Game game;
+    private PileManager pileManager;
+    private Player fighter;
+    private Player helper;
+    private MonsterCard firstMonster;
+    private MonsterCard secondMonster;
+    private MonsterEnhancerCard firstEnhancer;
+    private MonsterEnhancerCard secondEnhancer;
+    private CombatResolver resolver;
+
+    @Setup
+    public void setUp() {
+
+        game = new Game(42, 4, new CurseCardHandler());
+        pileManager = game.getPileManager();
+        fighter = game.getPlayers().get(0);
+        helper = game.getPlayers().get(1);
+
+        firstMonster = (MonsterCard) drawDoorCard(MonsterCard.class);
+        secondMonster = (MonsterCard) drawDoorCard(MonsterCard.class);
+        firstEnhancer = (MonsterEnhancerCard) drawDoorCard(MonsterEnhancerCard.class);
+        secondEnhancer = (MonsterEnhancerCard) drawDoorCard(MonsterEnhancerCard.class);
+
+        resolver = new CombatResolver();
+    }
+
+    /**
+     * Fights with a combat from the resolver's pool.
+     */
+    @Benchmark
+    public int pooledCombat() {
+        Combat combat = resolver.startCombat(fighter, helper, firstMonster);
+        playCards(combat);
+        return cleanUp(resolver.resolve(combat, pileManager));
+    }
+
+    /**
+     * Fights with a new combat.
+     */
+    @Benchmark
+    public int newCombat() {
+        Combat combat = new Combat(fighter, firstMonster);
+        combat.setHelper(helper);
+        playCards(combat);
+        return cleanUp(combat.resolve(pileManager));
+    }
+
+    private void playCards(Combat combat) {
+        combat.addMonster(secondMonster);
+        combat.enhanceMonster(1, firstEnhancer);
+        combat.enhanceMonster(2, secondEnhancer);
+        combat.modifyFighterBonus(ONE_SHOT_BONUS);
+    }
+
+    /**
+     * Discards the treasures won and takes the combat's cards back out of the door discards, so every fight is the same.
+     * @param outcome The outcome of the combat.
+     * @return The outcome of the combat.
+     */
+    private int cleanUp(int outcome) {
+
+        discardHand(fighter.getHand());
+        discardHand(helper.getHand());
+        fighter.setLevel(1);
+
+        for(int i = 0; i < 4; i++)
+            pileManager.takeDoorDiscard(pileManager.getDoorPile().getDiscardsSize() - 1);
+
+        return outcome;
+    }
+
+    private void discardHand(Hand hand) {
+        while(hand.getNumberOfCards() > 0)
+            pileManager.discardTreasureCard(hand.removeCard_UsingCardLocationNumber(hand.getNumberOfCards()));
+    }
+
+    private Card drawDoorCard(Class<? extends Card> kind) {
+
+        Card card;
+
+        while(!kind.isInstance(card = pileManager.drawDoorCard()))
+            pileManager.discardDoorCard(card);
+
+        return card;
+    }
+
+} // End of CombatResolverBenchmark class.
@@ -0,0 +1,180 @@
+package benchmarks;
+
+import basic_game_components.Card;
+import basic_game_components.player_stuff.InPlayCards;
+import basic_game_components.player_stuff.Player;
+import basic_game_components.player_stuff.Hand;
+import handlers.CurseCardHandler;
+import handlers.CurseChooser;
+import handlers.CurseResult;
+import handlers.DefaultCurseChooser;
+import treasure_cards.ItemCard;
+import utilities.CardCatalog;
+import utilities.Deck;
+import utilities.GameRandom;
+import utilities.PileManager;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This class benchmarks every curse through CurseCardHandler.handleCurse_PlayerChoice (with the DefaultCurseChooser). Before each call, the
+ * target player is put back into the same state (level 5, male, an Elf Warrior with no chicken on their head, wearing a helmet, armor, boots
+ * and a big weapon, with two cards in hand), the other player is given an item to pay the income tax with, and the door discards are reset
+ * to hold a Dwarf and a Wizard, so the "change" curses always find a replacement. The reset doesn't allocate anything, so the allocation rate
+ * only reflects the curse.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CurseCardHandlerBenchmark {
+
+    @Param({
+        "Curse! Change Class",
+        "Curse! Change Race",
+        "Curse! Change Sex",
+        "Curse! Chicken On Your Head",
+        "Curse! Duck Of Doom",
+        "Curse! Income Tax",
+        "Curse! Lose A Big Item",
+        "Curse! Lose A Level",
+        "Curse! Lose A Small Item",
+        "Curse! Lose The Armor You Are Wearing",
+        "Curse! Lose The Footgear You Are Wearing",
+        "Curse! Lose The Headgear You Are Wearing",
+        "Curse! Lose Two Cards",
+        "Curse! Lose Your Class",
+        "Curse! Lose Your Race",
+        "Curse! Malign Mirror",
+        "Truly Obnoxious Curse!"
+    })
+    public String curseCardName;
+
+    private Card curseCard;
+    private CurseCardHandler curseCardHandler;
+    private CurseChooser curseChooser;
+    private PileManager pileManager;
+    private Player targetPlayer;
+    private List<Player> allPlayers;
+    private Card elfCard;
+    private Card warriorCard;
+    private ItemCard[] targetItems;
+    private ItemCard taxItem;
+    private Card[] targetHandCards;
+    private int dwarfCardId;
+    private int wizardCardId;
+
+    @Setup
+    public void setUp() {
+        GameRandom gameRandom = new GameRandom(42);
+        curseCardHandler = new CurseCardHandler();
+        curseChooser = new DefaultCurseChooser();
+        pileManager = new PileManager(gameRandom);
+        targetPlayer = new Player(1, "male", gameRandom);
+        allPlayers = new ArrayList<>();
+        allPlayers.add(targetPlayer);
+        allPlayers.add(new Player(2, "female", gameRandom));
+
+        curseCard = pileManager.getCard_UsingCatalogIndex(findCardId(curseCardName));
+        elfCard = pileManager.getCard_UsingCatalogIndex(findCardId("Elf"));
+        warriorCard = pileManager.getCard_UsingCatalogIndex(findCardId("Warrior"));
+        targetItems = new ItemCard[] {
+            (ItemCard) pileManager.getCard_UsingCatalogIndex(findCardId("Helm Of Courage")),
+            (ItemCard) pileManager.getCard_UsingCatalogIndex(findCardId("Leather Armor")),
+            (ItemCard) pileManager.getCard_UsingCatalogIndex(findCardId("Boots of Butt-Kicking")),
+            (ItemCard) pileManager.getCard_UsingCatalogIndex(findCardId("Huge Rock"))
+        };
+        taxItem = (ItemCard) pileManager.getCard_UsingCatalogIndex(findCardId("Staff Of Napalm"));
+        targetHandCards = new Card[] {
+            pileManager.getCard_UsingCatalogIndex(findCardId("Gentleman's Club")),
+            pileManager.getCard_UsingCatalogIndex(findCardId("Rat on a Stick"))
+        };
+        dwarfCardId = findCardId("Dwarf");
+        wizardCardId = findCardId("Wizard");
+    }
+
+    @Setup(Level.Invocation)
+    public void resetTargetPlayer() {
+        targetPlayer.setLevel(5);
+
+        if(targetPlayer.getSex().equals("female"))
+            targetPlayer.changeSex();
+
+        targetPlayer.getDie().setChickenOnYourHead_TrueOrFalse(false);
+
+        InPlayCards inPlayCards = targetPlayer.getInPlayCards();
+
+        while(inPlayCards.getNumberOfCards() > 0)
+            inPlayCards.removeCard_UsingCardLocationNumber(1);
+
+        while(inPlayCards.getNumberOfEquippedRaces() > 0)
+            inPlayCards.decrementNumberOfEquippedRaces();
+
+        while(inPlayCards.getNumberOfEquippedClasses() > 0)
+            inPlayCards.decrementNumberOfEquippedClasses();
+
+        inPlayCards.addCardToInPlayCards(elfCard);
+        inPlayCards.incrementNumberOfEquippedRaces();
+        inPlayCards.setIfPlayerIsHuman(false);
+        inPlayCards.addCardToInPlayCards(warriorCard);
+        inPlayCards.incrementNumberOfEquippedClasses();
+
+        for(ItemCard item : targetItems)
+            inPlayCards.equipItem(item);
+
+        Hand hand = targetPlayer.getHand();
+
+        while(hand.getNumberOfCards() > 0)
+            hand.removeCard_UsingCardLocationNumber(1);
+
+        for(Card card : targetHandCards)
+            hand.addCardToHand(card);
+
+        Player otherPlayer = allPlayers.get(1);
+        otherPlayer.setLevel(5);
+
+        if(otherPlayer.getInPlayCards().getNumberOfCards() == 0)
+            otherPlayer.getInPlayCards().equipItem(taxItem);
+
+        Deck treasurePile = pileManager.getTreasurePile();
+
+        while(treasurePile.getDiscardsSize() > 0)
+            treasurePile.removeFromDiscards(treasurePile.getDiscardsSize() - 1);
+
+        Deck doorPile = pileManager.getDoorPile();
+
+        while(doorPile.getDiscardsSize() > 0)
+            doorPile.removeFromDiscards(doorPile.getDiscardsSize() - 1);
+
+        doorPile.discard(dwarfCardId);
+        doorPile.discard(wizardCardId);
+    }
+
+    @Benchmark
+    public CurseResult handleCurse() {
+        return curseCardHandler.handleCurse_PlayerChoice(curseCard, targetPlayer, allPlayers, pileManager, curseChooser);
+    }
+
+    /**
+     * This utility method finds the id of the first card with a certain name in the CardCatalog.
+     * @param name The card's name.
+     * @return The card's id.
+     */
+    private static int findCardId(String name) {
+
+        for(int i = 0; i < CardCatalog.getCardCount(); i++) {
+            if(CardCatalog.getCardDefinition(i).getName().equals(name))
+                return i;
+        }
+
+        throw new IllegalArgumentException("No card named " + name);
+
+    } // End of findCardId utility method.
+
+} // End of CurseCardHandlerBenchmark class.
@@ -0,0 +1,73 @@
+package benchmarks;
+
+import basic_game_components.Card;
+import events.GameEventSink;
+import events.GameEventType;
+import persistence.EventJournal;
+import persistence.JournalEventSink;
+import utilities.GameRandom;
+import utilities.PileManager;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * This class benchmarks journaling game events, both straight to an EventJournal and through the piles of a journaled game. The journal
+ * commits in the background, so these measure what the game thread pays.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class EventJournalBenchmark {
+
+    private Path directory;
+    private EventJournal journal;
+    private PileManager pileManager;
+    private long sequence;
+
+    @Setup
+    public void setUp() throws IOException {
+
+        directory = Files.createTempDirectory("event-journal-benchmark");
+        journal = new EventJournal(directory);
+
+        pileManager = new PileManager(new GameRandom(42));
+        pileManager.setEventSink(new JournalEventSink(journal, 2, 0, GameEventSink.NONE));
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+
+        System.out.println("\njournaled=" + (journal.getWritePosition() / EventJournal.RECORD_SIZE) + " commits=" + journal.getCommitCount());
+        journal.close();
+
+        try(Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public long append() {
+        return journal.append(1, sequence++, GameEventType.DIE_ROLLED, 1, 4, 0);
+    }
+
+    /**
+     * Draws a door card and discards it right away (two events, three when the pile is reshuffled).
+     */
+    @Benchmark
+    public Card drawDoorCard() {
+        Card card = pileManager.drawDoorCard();
+        pileManager.discardDoorCard(card);
+        return card;
+    }
+
+} // End of EventJournalBenchmark class.
@@ -0,0 +1,75 @@
+package benchmarks;
+
+import basic_game_components.Card;
+import events.GameEventBus;
+import events.GameEventSink;
+import events.GameEventType;
+import utilities.GameRandom;
+import utilities.PileManager;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This class benchmarks publishing game events, both straight to a GameEventBus and through the piles (compared with the NONE sink, which is
+ * what a game nobody listens to pays).
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class GameEventBusBenchmark {
+
+    @Param({"NONE", "DROP", "BLOCK"})
+    public String sink;
+
+    private GameEventBus bus;
+    private GameEventSink eventSink;
+    private PileManager pileManager;
+
+    @Setup
+    public void setUp() {
+
+        if(sink.equals("NONE")) {
+            eventSink = GameEventSink.NONE;
+        }
+        else {
+            bus = new GameEventBus(GameEventBus.DEFAULT_CAPACITY, GameEventBus.OverflowPolicy.valueOf(sink));
+            // A listener that does a little work for every event, like a real one would.
+            bus.addListener(event -> Integer.hashCode(event.getValue1()));
+            eventSink = bus;
+        }
+
+        pileManager = new PileManager(new GameRandom(42));
+        pileManager.setEventSink(eventSink);
+    }
+
+    @TearDown
+    public void tearDown() {
+
+        if(bus != null) {
+            System.out.println("\npublished=" + bus.getPublishedCount() + " dropped=" + bus.getDroppedCount() + " blocked="
+                + bus.getBlockedCount());
+            bus.close();
+        }
+    }
+
+    @Benchmark
+    public void publish() {
+        eventSink.publish(GameEventType.DIE_ROLLED, 1, 4, 0);
+    }
+
+    /**
+     * Draws a door card and discards it right away (two events, three when the pile is reshuffled).
+     */
+    @Benchmark
+    public Card drawDoorCard() {
+        Card card = pileManager.drawDoorCard();
+        pileManager.discardDoorCard(card);
+        return card;
+    }
+
+} // End of GameEventBusBenchmark class.
@@ -0,0 +1,88 @@
+package benchmarks;
+
+import basic_game_components.Card;
+import basic_game_components.Game;
+import events.GameEventSink;
+import server.GameCommand;
+import server.GameSessionHost;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * This class benchmarks hosting many games on a few carrier threads: sending commands spread over every game (most of them idle between two
+ * commands), and the round trip of a query to a single game.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class GameSessionHostBenchmark {
+
+    // The number of commands sent by each call to sendToEveryGame.
+    private static final int COMMANDS_PER_BATCH = 1000;
+
+    @Param({"1000", "10000"})
+    public int numberOfGames;
+
+    private GameSessionHost host;
+    private int[] gameIds;
+    private int nextGame;
+    private AtomicLong executed;
+    private long sent;
+    private GameCommand drawAndDiscard;
+
+    @Setup
+    public void setUp() {
+
+        host = new GameSessionHost();
+        gameIds = new int[numberOfGames];
+
+        for(int i = 0; i < numberOfGames; i++)
+            gameIds[i] = host.createGame(i, 4, GameEventSink.NONE);
+
+        executed = new AtomicLong();
+
+        // Draws a door card and discards it right away, like a player kicking open the door.
+        drawAndDiscard = game -> {
+            Card card = game.getPileManager().drawDoorCard();
+            game.getPileManager().discardDoorCard(card);
+            executed.incrementAndGet();
+        };
+    }
+
+    @TearDown
+    public void tearDown() {
+        host.close();
+    }
+
+    /**
+     * Sends a batch of commands to the games in turn, and waits for all of them to be executed.
+     */
+    @Benchmark
+    @OperationsPerInvocation(COMMANDS_PER_BATCH)
+    public long sendToEveryGame() {
+
+        for(int i = 0; i < COMMANDS_PER_BATCH; i++) {
+            host.send(gameIds[nextGame], drawAndDiscard);
+            nextGame = (nextGame + 1) % numberOfGames;
+        }
+
+        sent += COMMANDS_PER_BATCH;
+
+        while(executed.get() < sent)
+            Thread.yield();
+
+        return sent;
+    }
+
+    @Benchmark
+    public int askRoundTrip() {
+        return host.getActor(gameIds[0]).ask(Game::getTurnCount).join();
+    }
+
+} // End of GameSessionHostBenchmark class.
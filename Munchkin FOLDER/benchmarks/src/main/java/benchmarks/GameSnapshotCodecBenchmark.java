@@ -0,0 +1,79 @@
+package benchmarks;
+
+import basic_game_components.Card;
+import basic_game_components.Game;
+import basic_game_components.player_stuff.Player;
+import handlers.CurseCardHandler;
+import persistence.GameSnapshotCodec;
+import treasure_cards.ItemCard;
+import utilities.PileManager;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This class benchmarks saving a game in the middle of play to a snapshot, and restoring it into the same game.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class GameSnapshotCodecBenchmark {
+
+    @Param({"2", "4", "6"})
+    public int numberOfPlayers;
+
+    private Game game;
+    private ByteBuffer buffer;
+
+    @Setup
+    public void setUp() {
+
+        game = new Game(42, numberOfPlayers, new CurseCardHandler());
+        PileManager pileManager = game.getPileManager();
+
+        // Every player gets a hand, equips whatever treasure they can, and a few cards go to the discards.
+        for(Player curPlayer : game.getPlayers()) {
+            for(int i = 0; i < 4; i++) {
+                curPlayer.getHand().addCardToHand(pileManager.drawDoorCard());
+
+                Card treasure = pileManager.drawTreasureCard();
+
+                if(treasure instanceof ItemCard && curPlayer.getInPlayCards().equipItem((ItemCard) treasure))
+                    continue;
+
+                curPlayer.getHand().addCardToHand(treasure);
+            }
+
+            curPlayer.modifyLevel(3);
+            pileManager.discardDoorCard(pileManager.drawDoorCard());
+            pileManager.discardTreasureCard(pileManager.drawTreasureCard());
+        }
+
+        buffer = ByteBuffer.allocateDirect(GameSnapshotCodec.getMaxSnapshotSize(numberOfPlayers));
+        GameSnapshotCodec.encode(game, buffer);
+        buffer.flip();
+    }
+
+    @Benchmark
+    public ByteBuffer encode() {
+        buffer.clear();
+        GameSnapshotCodec.encode(game, buffer);
+        return buffer;
+    }
+
+    /**
+     * Restores the snapshot taken in setUp into the game (every card is moved back where it was).
+     */
+    @Benchmark
+    public Game decode() {
+        buffer.position(0);
+        GameSnapshotCodec.decode(buffer, game);
+        return game;
+    }
+
+} // End of GameSnapshotCodecBenchmark class.
@@ -0,0 +1,83 @@
+package benchmarks;
+
+import basic_game_components.CardKind;
+import basic_game_components.player_stuff.Hand;
+import utilities.GameRandom;
+import utilities.PileManager;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This class benchmarks searching a hand for a card by name, type and kind, and keeping the hand's indexes up to date. The searched card is
+ * the last one in the hand (the worst case for a linear search), and a missing name is searched for as well.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class HandBenchmark {
+
+    @Param({"5", "10"})
+    public int handSize;
+
+    private Hand hand;
+    private String lastCardName;
+    private String lastCardType;
+    private CardKind lastCardKind;
+
+    @Setup
+    public void setUp() {
+        PileManager pileManager = new PileManager(new GameRandom(42));
+        hand = new Hand(1);
+
+        // Door cards first, then a single treasure card last, so searching for the "treasure" type has to go through the whole hand.
+        for(int i = 0; i < handSize - 1; i++)
+            hand.addCardToHand(pileManager.drawDoorCard());
+
+        hand.addCardToHand(pileManager.drawTreasureCard());
+
+        // Copy the strings, so the searches can't take the "same object" shortcut of String.equals.
+        lastCardName = new String(hand.getCard_UsingCardLocationNumber(handSize).getName());
+        lastCardType = new String(hand.getCard_UsingCardLocationNumber(handSize).getType());
+        lastCardKind = hand.getCard_UsingCardLocationNumber(handSize).getKind();
+    }
+
+    @Benchmark
+    public int searchForCardUsingName() {
+        return hand.searchForCardUsingName_ReturnCardLocationNumber(lastCardName);
+    }
+
+    @Benchmark
+    public int searchForMissingCardUsingName() {
+        return hand.searchForCardUsingName_ReturnCardLocationNumber("Not A Card");
+    }
+
+    @Benchmark
+    public int searchForCardUsingType() {
+        return hand.searchForCardUsingType_ReturnCardLocationNumber(lastCardType);
+    }
+
+    @Benchmark
+    public int searchForCardUsingKind() {
+        return hand.searchForCardUsingKind_ReturnCardLocationNumber(lastCardKind);
+    }
+
+    @Benchmark
+    public boolean checkIfCardInHand() {
+        return hand.checkIf_CardInHand(lastCardName);
+    }
+
+    /**
+     * Removes the first card and adds it back at the end, which updates every index entry of the cards that shift.
+     */
+    @Benchmark
+    public int removeFirstCardAndAddItBack() {
+        hand.addCardToHand(hand.removeCard_UsingCardLocationNumber(1));
+        return hand.getNumberOfCards();
+    }
+
+} // End of HandBenchmark class.
@@ -0,0 +1,86 @@
+package benchmarks;
+
+import basic_game_components.Card;
+import basic_game_components.player_stuff.InPlayCards;
+import basic_game_components.player_stuff.Player;
+import treasure_cards.ItemCard;
+import utilities.CardCatalog;
+import utilities.GameRandom;
+import utilities.PileManager;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This class benchmarks adding a card to the in play cards and removing it again, equipping and removing an item, and reading the player's
+ * combat bonus (which includes the running equipment total).
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class InPlayCardsBenchmark {
+
+    private InPlayCards inPlayCards;
+    private Card card;
+    private Player player;
+    private ItemCard weapon;
+
+    @Setup
+    public void setUp() {
+        PileManager pileManager = new PileManager(new GameRandom(42));
+        inPlayCards = new InPlayCards(1);
+
+        // A few cards already in play, like in a typical game.
+        for(int i = 0; i < 4; i++)
+            inPlayCards.addCardToInPlayCards(pileManager.drawTreasureCard());
+
+        card = pileManager.getCard_UsingCatalogIndex(CardCatalog.getDoorCardCount());
+
+        // A player wearing headgear, armor and footgear, with one hand free for the benchmarked weapon.
+        player = new Player(1, "male", new GameRandom(42));
+        InPlayCards equipment = player.getInPlayCards();
+        equipment.equipItem(findItem(pileManager, "Helm Of Courage"));
+        equipment.equipItem(findItem(pileManager, "Leather Armor"));
+        equipment.equipItem(findItem(pileManager, "Boots of Butt-Kicking"));
+        equipment.equipItem(findItem(pileManager, "Rat on a Stick"));
+        weapon = findItem(pileManager, "Sneaky Bastard Sword");
+    }
+
+    private static ItemCard findItem(PileManager pileManager, String name) {
+        for(int i = CardCatalog.getDoorCardCount(); i < CardCatalog.getCardCount(); i++) {
+            if(pileManager.getCard_UsingCatalogIndex(i).getName().equals(name))
+                return (ItemCard) pileManager.getCard_UsingCatalogIndex(i);
+        }
+        throw new IllegalArgumentException("No item named " + name);
+    }
+
+    @Benchmark
+    public Card addAndRemoveCard() {
+        inPlayCards.addCardToInPlayCards(card);
+        return inPlayCards.removeCard_UsingCardLocationNumber(inPlayCards.getNumberOfCards());
+    }
+
+    @Benchmark
+    public Card removeAndAddFirstCard() {
+        Card firstCard = inPlayCards.removeCard_UsingCardLocationNumber(1);
+        inPlayCards.addCardToInPlayCards(firstCard);
+        return firstCard;
+    }
+
+    @Benchmark
+    public Card equipAndRemoveItem() {
+        InPlayCards equipment = player.getInPlayCards();
+        equipment.equipItem(weapon);
+        return equipment.removeCard_UsingCardLocationNumber(equipment.getNumberOfCards());
+    }
+
+    @Benchmark
+    public int getCombatBonus() {
+        return player.getCombatBonus();
+    }
+
+} // End of InPlayCardsBenchmark class.
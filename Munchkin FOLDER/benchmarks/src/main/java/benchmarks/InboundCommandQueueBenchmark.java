@@ -0,0 +1,116 @@
+package benchmarks;
+
+import basic_game_components.Card;
+import basic_game_components.Game;
+import events.GameEventSink;
+import server.GameProtocol;
+import server.GameSessionHost;
+import server.InboundCommandHandler;
+import server.InboundCommandQueue;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * This class benchmarks getting bursts of decoded client commands to their games' actors: through each game's InboundCommandQueue (signalled
+ * once the whole burst is queued, like the server does after reading every ready socket), and through the host with one command (and one
+ * lambda) sent per client command.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class InboundCommandQueueBenchmark {
+
+    // The number of commands sent to each game by each call.
+    private static final int COMMANDS_PER_GAME = 16;
+    // The number of games the commands are spread over.
+    private static final int NUMBER_OF_GAMES = 64;
+
+    private GameSessionHost host;
+    private int[] gameIds;
+    private InboundCommandQueue[] queues;
+    private AtomicLong executed;
+    private long sent;
+
+    @Setup
+    public void setUp() {
+
+        host = new GameSessionHost();
+        gameIds = new int[NUMBER_OF_GAMES];
+        queues = new InboundCommandQueue[NUMBER_OF_GAMES];
+        executed = new AtomicLong();
+
+        InboundCommandHandler handler = (game, client, commandType, argument1, argument2, argument3) -> drawAndDiscard(game);
+
+        for(int i = 0; i < NUMBER_OF_GAMES; i++) {
+            gameIds[i] = host.createGame(i, 4, GameEventSink.NONE);
+            queues[i] = new InboundCommandQueue(InboundCommandQueue.DEFAULT_CAPACITY, host.getActor(gameIds[i]), handler);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        host.close();
+    }
+
+    /**
+     * Queues a burst of commands in every game's inbound queue, signals the queues, and waits for all of them to be executed.
+     */
+    @Benchmark
+    @OperationsPerInvocation(COMMANDS_PER_GAME * NUMBER_OF_GAMES)
+    public long inboundQueue() {
+
+        for(int j = 0; j < COMMANDS_PER_GAME; j++) {
+            for(InboundCommandQueue curQueue : queues)
+                curQueue.offer(null, GameProtocol.DRAW_CARD, 0, 0, 0);
+        }
+
+        for(InboundCommandQueue curQueue : queues)
+            curQueue.signal();
+
+        return waitForExecution();
+    }
+
+    /**
+     * Sends a burst of commands to every game, one lambda per command, and waits for all of them to be executed.
+     */
+    @Benchmark
+    @OperationsPerInvocation(COMMANDS_PER_GAME * NUMBER_OF_GAMES)
+    public long sendPerCommand() {
+
+        for(int j = 0; j < COMMANDS_PER_GAME; j++) {
+            for(int gameId : gameIds) {
+                int argument1 = j;
+                host.send(gameId, game -> {
+                    if(argument1 >= 0)
+                        drawAndDiscard(game);
+                });
+            }
+        }
+
+        return waitForExecution();
+    }
+
+    private long waitForExecution() {
+
+        sent += COMMANDS_PER_GAME * NUMBER_OF_GAMES;
+
+        while(executed.get() < sent)
+            Thread.yield();
+
+        return sent;
+    }
+
+    // Draws a door card and discards it right away, like a player kicking open the door.
+    private void drawAndDiscard(Game game) {
+        Card card = game.getPileManager().drawDoorCard();
+        game.getPileManager().discardDoorCard(card);
+        executed.incrementAndGet();
+    }
+
+} // End of InboundCommandQueueBenchmark class.
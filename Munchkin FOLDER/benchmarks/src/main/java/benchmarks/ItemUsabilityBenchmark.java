@@ -0,0 +1,67 @@
+package benchmarks;
+
+import basic_game_components.Card;
+import basic_game_components.player_stuff.InPlayCards;
+import basic_game_components.player_stuff.Player;
+import handlers.CardPlayHandler;
+import treasure_cards.ItemCard;
+import utilities.CardCatalog;
+import utilities.GameRandom;
+import utilities.PileManager;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This class benchmarks checking an item's "usable by" requirement for a player with a race, a class and some equipment in play: with the
+ * requirement compiled into the item (a single AND with the player's traits), and with the requirement string compiled on every check.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ItemUsabilityBenchmark {
+
+    @Param({"any", "females only", "not thief", "elf only"})
+    public String requirement;
+
+    private Player player;
+    private ItemCard item;
+
+    @Setup
+    public void setUp() {
+
+        PileManager pileManager = new PileManager(new GameRandom(42));
+        player = new Player(1, "male", new GameRandom(42));
+        InPlayCards inPlayCards = player.getInPlayCards();
+
+        inPlayCards.addCardToInPlayCards(findCard(pileManager, "Elf"));
+        inPlayCards.addCardToInPlayCards(findCard(pileManager, "Warrior"));
+        inPlayCards.equipItem((ItemCard) findCard(pileManager, "Helm Of Courage"));
+        inPlayCards.equipItem((ItemCard) findCard(pileManager, "Leather Armor"));
+
+        item = new ItemCard("Benchmarked Item", "other", 1, 0, requirement, 0, false, 100);
+    }
+
+    private static Card findCard(PileManager pileManager, String name) {
+        for(int i = 0; i < CardCatalog.getCardCount(); i++) {
+            if(pileManager.getCard_UsingCatalogIndex(i).getName().equals(name))
+                return pileManager.getCard_UsingCatalogIndex(i);
+        }
+        throw new IllegalArgumentException("No card named " + name);
+    }
+
+    @Benchmark
+    public boolean compiledRequirement() {
+        return CardPlayHandler.meetsUsableByRequirement(player, item);
+    }
+
+    @Benchmark
+    public boolean requirementString() {
+        return CardPlayHandler.meetsUsableByRequirement(player, item.getUsableByRequirement());
+    }
+
+} // End of ItemUsabilityBenchmark class.
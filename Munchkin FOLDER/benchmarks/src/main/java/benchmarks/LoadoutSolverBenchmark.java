@@ -0,0 +1,66 @@
+package benchmarks;
+
+import basic_game_components.Card;
+import basic_game_components.player_stuff.Player;
+import handlers.LoadoutSolver;
+import treasure_cards.ItemCard;
+import utilities.CardCatalog;
+import utilities.GameRandom;
+import utilities.PileManager;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This class benchmarks finding a player's best loadout, for a player with a certain number of items (a few equipped, the rest in their
+ * hand), for combat alone and for a weighted mix of combat and run away bonus.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class LoadoutSolverBenchmark {
+
+    @Param({"4", "8", "16"})
+    public int numberOfItems;
+
+    private Player player;
+    private LoadoutSolver solver;
+
+    @Setup
+    public void setUp() {
+
+        PileManager pileManager = new PileManager(new GameRandom(42));
+        player = new Player(1, "male", new GameRandom(42));
+        int added = 0;
+
+        // The first items of the shuffled treasure pile: every third one equipped if it fits, the rest in the hand.
+        while(added < numberOfItems) {
+            Card treasure = pileManager.drawTreasureCard();
+
+            if(!(treasure instanceof ItemCard))
+                continue;
+
+            if(added % 3 != 0 || !player.getInPlayCards().equipItem((ItemCard) treasure))
+                player.getHand().addCardToHand(treasure);
+
+            added++;
+        }
+
+        solver = new LoadoutSolver();
+    }
+
+    @Benchmark
+    public int solveForCombat() {
+        return solver.solveForCombat(player);
+    }
+
+    @Benchmark
+    public int solveWeighted() {
+        return solver.solve(player, 2, 1);
+    }
+
+} // End of LoadoutSolverBenchmark class.
@@ -0,0 +1,100 @@
+package benchmarks;
+
+import ai.MonteCarloTreeSearchPolicy;
+import ai.RolloutSimulator;
+import ai.SearchState;
+import basic_game_components.Card;
+import basic_game_components.Game;
+import basic_game_components.PileType;
+import basic_game_components.player_stuff.Player;
+import door_cards.MonsterCard;
+import handlers.CurseCardHandler;
+import treasure_cards.ItemCard;
+import utilities.PileManager;
+import utilities.RandomStream;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This class benchmarks the Monte Carlo Tree Search bot: a single rollout (forking the state, shuffling the piles and playing up to the
+ * default number of turns), and a whole fight decision with a fixed rollout budget on one thread.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MonteCarloTreeSearchBenchmark {
+
+    @Param({"2", "4", "6"})
+    public int numberOfPlayers;
+
+    private Game game;
+    private SearchState state;
+    private RolloutSimulator simulator;
+    private MonteCarloTreeSearchPolicy policy;
+    private MonsterCard monster;
+    private RandomStream rand;
+
+    @Setup
+    public void setUp() {
+
+        game = new Game(42, numberOfPlayers, new CurseCardHandler());
+        PileManager pileManager = game.getPileManager();
+
+        // Every player gets a hand and equips whatever treasure they can, like in the middle of a game.
+        for(Player curPlayer : game.getPlayers()) {
+            for(int i = 0; i < 4; i++) {
+                curPlayer.getHand().addCardToHand(pileManager.drawDoorCard());
+
+                Card treasure = pileManager.drawTreasureCard();
+
+                if(treasure instanceof ItemCard && curPlayer.getInPlayCards().equipItem((ItemCard) treasure))
+                    continue;
+
+                curPlayer.getHand().addCardToHand(treasure);
+            }
+
+            curPlayer.modifyLevel(3);
+        }
+
+        Card door = pileManager.drawDoorCard();
+
+        while(!(door instanceof MonsterCard))
+            door = pileManager.drawDoorCard();
+
+        monster = (MonsterCard) door;
+        state = new SearchState(game);
+        simulator = new RolloutSimulator(new RandomStream(7));
+        policy = new MonteCarloTreeSearchPolicy(1, 0, 1000, MonteCarloTreeSearchPolicy.DEFAULT_ROLLOUT_TURNS);
+        rand = new RandomStream(11);
+    }
+
+    @TearDown
+    public void tearDown() {
+        policy.close();
+    }
+
+    @Benchmark
+    public int rollout() {
+
+        SearchState child = state.fork();
+        child.shufflePile(PileType.DOOR, rand);
+        child.shufflePile(PileType.TREASURE, rand);
+
+        return simulator.playOut(child, MonteCarloTreeSearchPolicy.DEFAULT_ROLLOUT_TURNS);
+    }
+
+    /**
+     * Decides whether the first player fights a monster, with 1000 rollouts.
+     */
+    @Benchmark
+    public boolean fightDecision() {
+        Player player = game.getPlayers().get(0);
+        return policy.decideToFight(game, player, monster, player.getLevel() + 5, rand);
+    }
+
+} // End of MonteCarloTreeSearchBenchmark class.
@@ -0,0 +1,70 @@
+package benchmarks;
+
+import basic_game_components.Card;
+import utilities.Deck;
+import utilities.GameRandom;
+import utilities.PileManager;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This class benchmarks the construction of the piles, shuffling them, and drawing from them.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PileManagerBenchmark {
+
+    private GameRandom gameRandom;
+    private PileManager pileManager;
+    private int[] drawnCardIds;
+
+    @Setup
+    public void setUp() {
+        gameRandom = new GameRandom(42);
+        pileManager = new PileManager(gameRandom);
+        drawnCardIds = new int[4];
+    }
+
+    @Benchmark
+    public PileManager construct() {
+        return new PileManager(gameRandom);
+    }
+
+    @Benchmark
+    public Deck shuffleDoorPile() {
+        Deck doorPile = pileManager.getDoorPile();
+        doorPile.shuffle();
+        return doorPile;
+    }
+
+    /**
+     * Draws a door card and discards it right away, so the pile is recycled (and reshuffled) every time it runs dry.
+     */
+    @Benchmark
+    public Card drawDoorCard() {
+        Card card = pileManager.drawDoorCard();
+        pileManager.discardDoorCard(card);
+        return card;
+    }
+
+    /**
+     * Draws four treasures at once (a typical reward) and discards them right away.
+     */
+    @Benchmark
+    public int drawFourTreasures() {
+        Deck treasurePile = pileManager.getTreasurePile();
+        int numDrawn = treasurePile.drawN(4, drawnCardIds);
+
+        for(int i = 0; i < numDrawn; i++)
+            treasurePile.discard(drawnCardIds[i]);
+
+        return numDrawn;
+    }
+
+} // End of PileManagerBenchmark class.
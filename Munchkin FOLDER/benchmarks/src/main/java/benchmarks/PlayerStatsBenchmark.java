@@ -0,0 +1,103 @@
+package benchmarks;
+
+import basic_game_components.Game;
+import basic_game_components.player_stuff.Player;
+import basic_game_components.player_stuff.PlayerStats;
+import basic_game_components.player_stuff.PlayerTraits;
+import handlers.CurseCardHandler;
+import treasure_cards.ItemCard;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This class benchmarks what a bot checks about every player before a fight (their combat strength, the roll they need to run away, and
+ * whether they can use an item): read from the players' derived stats, derived again on every read, and read right after each player's
+ * level changed (so their combat strength is computed again).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PlayerStatsBenchmark {
+
+    private Player[] players;
+    private ItemCard item;
+
+    @Setup
+    public void setUp() {
+
+        Game game = new Game(42, 4, new CurseCardHandler());
+        players = game.getPlayers().toArray(new Player[0]);
+
+        for(int i = 0; i < players.length; i++) {
+            players[i].modifyLevel(i);
+            players[i].modifyCombatBonus(i * 2);
+        }
+
+        item = new ItemCard("Benchmarked Item", "other", 3, 1, "not wizard", 0, false, 100);
+    }
+
+    /**
+     * Reads the players' derived stats.
+     */
+    @Benchmark
+    public int cachedStats() {
+
+        int total = 0;
+
+        for(Player player : players) {
+            total += player.getCombatStrength() + player.getRunAwayTarget();
+
+            if(player.getStats().checkIf_CanUse(item))
+                total++;
+        }
+
+        return total;
+    }
+
+    /**
+     * Derives the players' stats again on every read, from the running totals they are derived from.
+     */
+    @Benchmark
+    public int derivedOnEveryRead() {
+
+        int total = 0;
+
+        for(Player player : players) {
+            total += player.getLevel() + player.getCombatBonus() + PlayerStats.RUN_AWAY_TARGET - player.getRunAwayBonus();
+
+            int traits = PlayerTraits.getSexBit(player.getSex()) | player.getInPlayCards().getTraits();
+
+            if(PlayerTraits.checkIf_RequirementMet(traits, item.getUsableByMask()))
+                total++;
+        }
+
+        return total;
+    }
+
+    /**
+     * Changes each player's level (up and back down) before reading their derived stats.
+     */
+    @Benchmark
+    public int afterLevelChanges() {
+
+        int total = 0;
+
+        for(Player player : players) {
+            player.modifyLevel(1);
+            total += player.getCombatStrength();
+            player.modifyLevel(-1);
+            total += player.getCombatStrength() + player.getRunAwayTarget();
+
+            if(player.getStats().checkIf_CanUse(item))
+                total++;
+        }
+
+        return total;
+    }
+
+} // End of PlayerStatsBenchmark class.
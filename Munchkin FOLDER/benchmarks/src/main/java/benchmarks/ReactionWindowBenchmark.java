@@ -0,0 +1,105 @@
+package benchmarks;
+
+import basic_game_components.Card;
+import basic_game_components.Game;
+import door_cards.MonsterCard;
+import handlers.CurseCardHandler;
+import handlers.DefaultCurseChooser;
+import handlers.DefaultReactionChooser;
+import server.GameActor;
+import server.ReactionWindow;
+import server.TimingWheel;
+import utilities.PileManager;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This class benchmarks a whole six player combat through its reaction window: every seat played by a client (which answers with a pass, as
+ * the REACT frames would), or every seat played by nobody (the DefaultReactionChooser answers right away). Nobody has a card to react with,
+ * so each combat is a single window followed by the fight.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ReactionWindowBenchmark {
+
+    private static final int NUMBER_OF_PLAYERS = 6;
+
+    private ExecutorService carrier;
+    private TimingWheel timingWheel;
+    private Game game;
+    private ReactionWindow reactionWindow;
+    private MonsterCard monster;
+    private boolean[] clientSeats;
+    private boolean[] botSeats;
+
+    @Setup
+    public void setUp() {
+
+        carrier = Executors.newSingleThreadExecutor();
+        timingWheel = new TimingWheel();
+        game = new Game(42, NUMBER_OF_PLAYERS, new CurseCardHandler());
+
+        GameActor actor = new GameActor(1, game, carrier);
+        reactionWindow = new ReactionWindow(NUMBER_OF_PLAYERS, actor, timingWheel, new DefaultReactionChooser(), new DefaultCurseChooser());
+
+        PileManager pileManager = game.getPileManager();
+        Card card;
+
+        while(!((card = pileManager.drawDoorCard()) instanceof MonsterCard))
+            pileManager.discardDoorCard(card);
+
+        monster = (MonsterCard) card;
+        clientSeats = new boolean[NUMBER_OF_PLAYERS];
+        botSeats = new boolean[NUMBER_OF_PLAYERS];
+        Arrays.fill(botSeats, true);
+    }
+
+    @TearDown
+    public void tearDown() {
+        timingWheel.close();
+        carrier.shutdown();
+    }
+
+    /**
+     * Fights a monster while every player answers the window with a pass.
+     */
+    @Benchmark
+    public int clientsPass() {
+
+        reactionWindow.startCombat(game, reactionWindow.getCombatResolver().startCombat(game.getCurrentPlayer(), monster), clientSeats);
+        int windowNumber = reactionWindow.getWindowNumber();
+
+        for(int playerTurnNumber = 1; playerTurnNumber <= NUMBER_OF_PLAYERS; playerTurnNumber++)
+            reactionWindow.answer(game, playerTurnNumber, windowNumber, 0, 0);
+
+        return takeMonsterBack();
+    }
+
+    /**
+     * Fights a monster while every player is played by nobody.
+     */
+    @Benchmark
+    public int botsPass() {
+        reactionWindow.startCombat(game, reactionWindow.getCombatResolver().startCombat(game.getCurrentPlayer(), monster), botSeats);
+        return takeMonsterBack();
+    }
+
+    /**
+     * Takes the monster back out of the discards, so every combat fights the same one.
+     * @return The outcome of the combat.
+     */
+    private int takeMonsterBack() {
+        game.getPileManager().takeDoorDiscard(game.getPileManager().getDoorPile().getDiscardsSize() - 1);
+        return reactionWindow.getLastOutcome();
+    }
+
+} // End of ReactionWindowBenchmark class.
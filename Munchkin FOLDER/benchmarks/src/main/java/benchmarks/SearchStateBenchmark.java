@@ -0,0 +1,102 @@
+package benchmarks;
+
+import ai.SearchState;
+import basic_game_components.Card;
+import basic_game_components.Game;
+import basic_game_components.PileType;
+import basic_game_components.player_stuff.Player;
+import handlers.CurseCardHandler;
+import persistence.GameSnapshotCodec;
+import treasure_cards.ItemCard;
+import utilities.PileManager;
+import utilities.RandomStream;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This class benchmarks cloning a game in the middle of play for a search: forking a SearchState (and making the changes of a typical search
+ * step), compared with copying a whole Game through a snapshot.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SearchStateBenchmark {
+
+    @Param({"2", "4", "6"})
+    public int numberOfPlayers;
+
+    private Game game;
+    private Game copy;
+    private ByteBuffer buffer;
+    private SearchState state;
+    private RandomStream rand;
+
+    @Setup
+    public void setUp() {
+
+        game = new Game(42, numberOfPlayers, new CurseCardHandler());
+        PileManager pileManager = game.getPileManager();
+
+        // Every player gets a hand, equips whatever treasure they can, and a few cards go to the discards.
+        for(Player curPlayer : game.getPlayers()) {
+            for(int i = 0; i < 4; i++) {
+                curPlayer.getHand().addCardToHand(pileManager.drawDoorCard());
+
+                Card treasure = pileManager.drawTreasureCard();
+
+                if(treasure instanceof ItemCard && curPlayer.getInPlayCards().equipItem((ItemCard) treasure))
+                    continue;
+
+                curPlayer.getHand().addCardToHand(treasure);
+            }
+
+            curPlayer.modifyLevel(3);
+            pileManager.discardDoorCard(pileManager.drawDoorCard());
+            pileManager.discardTreasureCard(pileManager.drawTreasureCard());
+        }
+
+        copy = new Game(42, numberOfPlayers, new CurseCardHandler());
+        buffer = ByteBuffer.allocateDirect(GameSnapshotCodec.getMaxSnapshotSize(numberOfPlayers));
+        state = new SearchState(game);
+        rand = new RandomStream(7);
+    }
+
+    @Benchmark
+    public SearchState fork() {
+        return state.fork();
+    }
+
+    /**
+     * Forks the state, then draws a door card into the current player's hand and changes their level (copies one player and one pile).
+     */
+    @Benchmark
+    public SearchState forkAndPlayStep() {
+
+        SearchState child = state.fork();
+        int playerTurnNumber = child.getCurrentPlayerTurnNumber();
+
+        child.addCardToHand(playerTurnNumber, child.drawCard(PileType.DOOR, rand));
+        child.modifyLevel(playerTurnNumber, 1);
+
+        return child;
+    }
+
+    /**
+     * Copies the whole game into another Game through a snapshot (what a search had to do without SearchState).
+     */
+    @Benchmark
+    public Game snapshotCopy() {
+        buffer.clear();
+        GameSnapshotCodec.encode(game, buffer);
+        buffer.flip();
+        GameSnapshotCodec.decode(buffer, copy);
+        return copy;
+    }
+
+} // End of SearchStateBenchmark class.
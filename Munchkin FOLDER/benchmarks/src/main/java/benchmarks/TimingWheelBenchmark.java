@@ -0,0 +1,111 @@
+package benchmarks;
+
+import events.GameEventSink;
+import server.GameCommand;
+import server.GameSessionHost;
+import server.GameTimer;
+import server.TimingWheel;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This class benchmarks re-arming the turn timers of many games (cancelling each game's timer and scheduling the next turn's), on the host's
+ * TimingWheel and on a ScheduledThreadPoolExecutor (a heap of timers, which takes log(n) time to add or remove one).
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TimingWheelBenchmark {
+
+    // The number of timers re-armed by each call.
+    private static final int TIMERS_PER_BATCH = 1000;
+    // The turn timeout (long enough that no timer ever expires during the benchmark).
+    private static final long TIMEOUT_MILLIS = 90_000;
+
+    @Param({"10000"})
+    public int numberOfGames;
+
+    private GameSessionHost host;
+    private TimingWheel wheel;
+    private int[] gameIds;
+    private GameTimer[] wheelTimers;
+    private ScheduledThreadPoolExecutor executor;
+    private ScheduledFuture<?>[] executorTimers;
+    private int nextGame;
+    private GameCommand endTurn;
+
+    @Setup
+    public void setUp() {
+
+        host = new GameSessionHost(1);
+        wheel = host.getTimingWheel();
+        gameIds = new int[numberOfGames];
+        wheelTimers = new GameTimer[numberOfGames];
+
+        executor = new ScheduledThreadPoolExecutor(1);
+        executor.setRemoveOnCancelPolicy(true);
+        executorTimers = new ScheduledFuture<?>[numberOfGames];
+
+        endTurn = game -> game.endTurn();
+
+        for(int i = 0; i < numberOfGames; i++) {
+            gameIds[i] = host.createGame(i, 4, GameEventSink.NONE);
+            wheelTimers[i] = wheel.schedule(host.getActor(gameIds[i]), TIMEOUT_MILLIS, endTurn);
+            int gameId = gameIds[i];
+            executorTimers[i] = executor.schedule(() -> host.send(gameId, endTurn), TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdownNow();
+        host.close();
+    }
+
+    /**
+     * Re-arms a batch of games' timers on the timing wheel.
+     */
+    @Benchmark
+    @OperationsPerInvocation(TIMERS_PER_BATCH)
+    public GameTimer rearmOnTimingWheel() {
+
+        GameTimer timer = null;
+
+        for(int i = 0; i < TIMERS_PER_BATCH; i++) {
+            wheelTimers[nextGame].cancel();
+            timer = wheel.schedule(host.getActor(gameIds[nextGame]), TIMEOUT_MILLIS, endTurn);
+            wheelTimers[nextGame] = timer;
+            nextGame = (nextGame + 1) % numberOfGames;
+        }
+
+        return timer;
+    }
+
+    /**
+     * Re-arms a batch of games' timers on the scheduled thread pool executor.
+     */
+    @Benchmark
+    @OperationsPerInvocation(TIMERS_PER_BATCH)
+    public ScheduledFuture<?> rearmOnScheduledExecutor() {
+
+        ScheduledFuture<?> timer = null;
+
+        for(int i = 0; i < TIMERS_PER_BATCH; i++) {
+            executorTimers[nextGame].cancel(false);
+            int gameId = gameIds[nextGame];
+            timer = executor.schedule(() -> host.send(gameId, endTurn), TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+            executorTimers[nextGame] = timer;
+            nextGame = (nextGame + 1) % numberOfGames;
+        }
+
+        return timer;
+    }
+
+} // End of TimingWheelBenchmark class.
@@ -0,0 +1,196 @@
+package ai;
+
+import basic_game_components.Game;
+import basic_game_components.PileType;
+import basic_game_components.player_stuff.Player;
+import door_cards.MonsterCard;
+import handlers.CurseCardHandler;
+import utilities.CardCatalog;
+import utilities.PileManager;
+import utilities.RandomStream;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This class tests that forked SearchStates share their parts (players, piles and monsters) without ever seeing each other's changes: each side
+ * changes one part of each kind after the fork, and the other side must still see it as it was. It also tests that a state only copies the
+ * parts it touches, once each, and that forking again makes the parts it copied shared again.
+ */
+class SearchStateTest {
+
+    // The seed of the game the states are copied from, and of the random stream the piles are shuffled with.
+    private static final long SEED = 7L;
+    // The number of players of the game.
+    private static final int NUMBER_OF_PLAYERS = 3;
+    // The number of door cards each player has in hand.
+    private static final int HAND_SIZE = 3;
+
+    //----------------------------------------------------
+    //            TESTS
+    //----------------------------------------------------
+
+    /**
+     * Forks a state, changes a player, a pile and the monsters in the child, and checks that the parent still sees them as they were. Then
+     * changes a player, the same player, the same pile and the monsters in the parent, and checks that the child doesn't see those changes,
+     * and that each state counted one copy per part it touched.
+     */
+    @Test
+    void forkedStatesNeverSeeEachOthersChanges() {
+
+        SearchState parent = new SearchState(createGame());
+        SearchState child = parent.fork();
+        RandomStream rand = new RandomStream(SEED);
+        int monsterId = findMonsterId();
+
+        int level = parent.getLevel(1);
+        int combatBonus = parent.getCombatBonus(1);
+        int gold = parent.getGold(2);
+        int firstCardId = parent.getHandCardId_UsingCardLocationNumber(1, 1);
+        int doorPileSize = parent.getPileSize(PileType.DOOR);
+        int monsterLevel = parent.getMonsterLevel(monsterId);
+        int monsterTreasureReward = parent.getMonsterTreasureReward(monsterId);
+
+        // The child changes player 1 (twice), the door pile and the monsters.
+        child.modifyLevel(1, 2);
+        assertEquals(firstCardId, child.removeHandCard_UsingCardLocationNumber(1, 1));
+        int drawnCardId = child.drawCard(PileType.DOOR, rand);
+        child.modifyMonsterLevel(monsterId, 3);
+
+        assertEquals(3, child.getCopyCount());
+        assertEquals(0, parent.getCopyCount());
+
+        assertEquals(level + 2, child.getLevel(1));
+        assertEquals(HAND_SIZE - 1, child.getHandSize(1));
+        assertEquals(doorPileSize - 1, child.getPileSize(PileType.DOOR));
+        assertEquals(monsterLevel + 3, child.getMonsterLevel(monsterId));
+
+        assertEquals(level, parent.getLevel(1));
+        assertEquals(HAND_SIZE, parent.getHandSize(1));
+        assertEquals(firstCardId, parent.getHandCardId_UsingCardLocationNumber(1, 1));
+        assertEquals(doorPileSize, parent.getPileSize(PileType.DOOR));
+        assertEquals(monsterLevel, parent.getMonsterLevel(monsterId));
+
+        // The parent changes player 1, player 2, the door pile (whose top card is still the one the child drew) and the monsters.
+        parent.modifyCombatBonus(1, 4);
+        parent.addGold(2, 100);
+        assertEquals(drawnCardId, parent.drawCard(PileType.DOOR, rand));
+        parent.discardCard(drawnCardId);
+        parent.modifyMonsterTreasureReward(monsterId, 2);
+
+        assertEquals(4, parent.getCopyCount());
+        assertEquals(3, child.getCopyCount());
+
+        assertEquals(combatBonus + 4, parent.getCombatBonus(1));
+        assertEquals(gold + 100, parent.getGold(2));
+        assertEquals(1, parent.getDiscardsSize(PileType.DOOR));
+        assertEquals(monsterTreasureReward + 2, parent.getMonsterTreasureReward(monsterId));
+        assertEquals(monsterLevel, parent.getMonsterLevel(monsterId));
+
+        assertEquals(combatBonus, child.getCombatBonus(1));
+        assertEquals(level + 2, child.getLevel(1));
+        assertEquals(gold, child.getGold(2));
+        assertEquals(0, child.getDiscardsSize(PileType.DOOR));
+        assertEquals(monsterTreasureReward, child.getMonsterTreasureReward(monsterId));
+        assertEquals(monsterLevel + 3, child.getMonsterLevel(monsterId));
+
+        // Nobody touched the treasure pile or player 3, so they are still shared.
+        assertEquals(parent.getPileSize(PileType.TREASURE), child.getPileSize(PileType.TREASURE));
+        assertEquals(parent.getHandSize(3), child.getHandSize(3));
+
+    } // End of forkedStatesNeverSeeEachOthersChanges method.
+
+    /**
+     * Changes a state before and after forking it several times, and checks that it copies a part only for its first change after each fork
+     * (and never for the parts it created), that each child keeps the part as it was when it was forked, and that a fork of a fork is
+     * just as isolated from the state it was forked from.
+     */
+    @Test
+    void forkingAgainSharesThePartsAgain() {
+
+        SearchState state = new SearchState(createGame());
+        int level = state.getLevel(1);
+
+        // The parts a state created are its own.
+        state.modifyLevel(1, 1);
+        assertEquals(0, state.getCopyCount());
+
+        SearchState firstChild = state.fork();
+        state.modifyLevel(1, 1);
+        state.modifyLevel(1, 1);
+
+        assertEquals(1, state.getCopyCount());
+
+        // Forking again shares the part the state copied, so it is copied again.
+        SearchState secondChild = state.fork();
+        state.modifyLevel(1, 1);
+
+        assertEquals(2, state.getCopyCount());
+        assertEquals(0, secondChild.getCopyCount());
+        assertEquals(level + 4, state.getLevel(1));
+        assertEquals(level + 1, firstChild.getLevel(1));
+        assertEquals(level + 3, secondChild.getLevel(1));
+
+        // A fork of a fork.
+        SearchState grandchild = firstChild.fork();
+        int cardId = grandchild.getHandCardId_UsingCardLocationNumber(1, 1);
+        grandchild.addCardToInPlayCards(1, grandchild.removeHandCard_UsingCardLocationNumber(1, 1), false);
+        firstChild.setChickenOnHead(1, true);
+
+        assertEquals(1, grandchild.getCopyCount());
+        assertEquals(1, firstChild.getCopyCount());
+        assertEquals(1, grandchild.getNumberOfInPlayCards(1));
+        assertEquals(cardId, grandchild.getInPlayCardId_UsingCardLocationNumber(1, 1));
+        assertFalse(grandchild.checkIf_ChickenOnHead(1));
+
+        assertEquals(0, firstChild.getNumberOfInPlayCards(1));
+        assertEquals(HAND_SIZE, firstChild.getHandSize(1));
+        assertTrue(firstChild.checkIf_ChickenOnHead(1));
+
+        for(SearchState curState : new SearchState[] {state, secondChild}) {
+            assertEquals(0, curState.getNumberOfInPlayCards(1));
+            assertEquals(HAND_SIZE, curState.getHandSize(1));
+            assertFalse(curState.checkIf_ChickenOnHead(1));
+        }
+
+    } // End of forkingAgainSharesThePartsAgain method.
+
+    //----------------------------------------------------
+    //            HELPER METHOD(S)
+    //----------------------------------------------------
+
+    /**
+     * This method creates a game whose players each have HAND_SIZE door cards in hand.
+     * @return The game.
+     */
+    private static Game createGame() {
+
+        Game game = new Game(SEED, NUMBER_OF_PLAYERS, new CurseCardHandler());
+        PileManager pileManager = game.getPileManager();
+
+        for(Player curPlayer : game.getPlayers()) {
+            for(int i = 0; i < HAND_SIZE; i++)
+                curPlayer.getHand().addCardToHand(pileManager.drawDoorCard());
+        }
+
+        return game;
+
+    } // End of createGame method.
+
+    /**
+     * This method finds the card id of the first monster of the catalog.
+     * @return The monster's card id.
+     */
+    private static int findMonsterId() {
+
+        int id = 0;
+
+        while(!(CardCatalog.getCardDefinition(id) instanceof MonsterCard))
+            id++;
+
+        return id;
+
+    } // End of findMonsterId method.
+
+} // End of SearchStateTest class.
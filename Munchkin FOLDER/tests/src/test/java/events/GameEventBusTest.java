@@ -0,0 +1,104 @@
+package events;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This class tests that several games can share a GameEventBus: every event is delivered with the id of the game that published it, and each
+ * game's events keep the order they were published in.
+ */
+class GameEventBusTest {
+
+    // The ids of the games publishing at once (one thread each).
+    private static final int[] GAME_IDS = { 3, 8, 21 };
+    // The number of events each game publishes.
+    private static final int EVENTS_PER_GAME = 20_000;
+
+    //----------------------------------------------------
+    //            TESTS
+    //----------------------------------------------------
+
+    /**
+     * Makes a few games publish through their own sinks at once (and one event straight to the bus), and checks the game id and order of
+     * every event delivered.
+     */
+    @Test
+    void eventsKeepTheirGameIds() throws Exception {
+
+        RecordingEventListener listener = new RecordingEventListener();
+
+        try(GameEventBus bus = new GameEventBus(1 << 10, GameEventBus.OverflowPolicy.BLOCK)) {
+            bus.addListener(listener);
+            Thread[] publishers = new Thread[GAME_IDS.length];
+
+            for(int i = 0; i < GAME_IDS.length; i++) {
+                GameEventSink gameSink = bus.getGameSink(GAME_IDS[i]);
+
+                publishers[i] = new Thread(() -> {
+                    for(int value = 0; value < EVENTS_PER_GAME; value++)
+                        gameSink.publish(GameEventType.DIE_ROLLED, 1, value, 0);
+                });
+                publishers[i].start();
+            }
+
+            bus.publish(GameEventType.TURN_ENDED, 0, 1, 0);
+
+            for(Thread publisher : publishers)
+                publisher.join();
+
+            bus.flush();
+            assertEquals(0, bus.getDroppedCount());
+        }
+
+        List<GameEvent> events = listener.getEvents();
+        int[] nextValues = new int[GAME_IDS.length];
+        int eventsWithoutGame = 0;
+
+        assertEquals(GAME_IDS.length * EVENTS_PER_GAME + 1, events.size());
+
+        for(GameEvent event : events) {
+            if(event.getGameId() == 0) {
+                assertEquals(GameEventType.TURN_ENDED, event.getType());
+                eventsWithoutGame++;
+                continue;
+            }
+
+            int game = indexOf(event.getGameId());
+
+            assertTrue(game >= 0, "Unknown game id " + event.getGameId());
+            assertEquals(nextValues[game]++, event.getValue1(), "Event of game " + event.getGameId());
+        }
+
+        assertEquals(1, eventsWithoutGame);
+
+        for(int nextValue : nextValues)
+            assertEquals(EVENTS_PER_GAME, nextValue);
+
+        assertTrue(GameEventFormatter.format(events.get(events.size() - 1)).contains("[game "));
+
+    } // End of eventsKeepTheirGameIds method.
+
+    //----------------------------------------------------
+    //            HELPER METHOD(S)
+    //----------------------------------------------------
+
+    /**
+     * This method finds the index of a game id in GAME_IDS.
+     * @param gameId The game id.
+     * @return The index of the game id, or -1 if it isn't one of them.
+     */
+    private static int indexOf(int gameId) {
+
+        for(int i = 0; i < GAME_IDS.length; i++) {
+            if(GAME_IDS[i] == gameId)
+                return i;
+        }
+
+        return -1;
+
+    } // End of indexOf method.
+
+} // End of GameEventBusTest class.
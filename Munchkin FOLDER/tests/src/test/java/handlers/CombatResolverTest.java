@@ -0,0 +1,267 @@
+package handlers;
+
+import basic_game_components.Card;
+import basic_game_components.Game;
+import basic_game_components.player_stuff.Hand;
+import basic_game_components.player_stuff.Player;
+import door_cards.MonsterCard;
+import treasure_cards.HelperCard;
+import utilities.Deck;
+import utilities.PileManager;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This class tests how combats are resolved (see Combat.resolve): the helper takes every other treasure, the monsters and cards played are
+ * discarded, and the "Hireling" stays in play until it is sacrificed. It also tests that the CombatResolver starts a resolved combat over for
+ * the next fight, as if it was new.
+ */
+class CombatResolverTest {
+
+    // The seed of the game the combats are fought in.
+    private static final long SEED = 11L;
+    // The number of players of the game.
+    private static final int NUMBER_OF_PLAYERS = 3;
+    // The bonus that makes one side of a combat win whatever the monster.
+    private static final int WINNING_BONUS = 100;
+
+    //----------------------------------------------------
+    //            TESTS
+    //----------------------------------------------------
+
+    /**
+     * Makes a fighter and their helper beat a monster, and checks that the fighter takes the first treasure drawn, the helper the second, and
+     * so on, and that only the fighter goes up levels.
+     */
+    @Test
+    void helperTakesEveryOtherTreasure() {
+
+        Game game = new Game(SEED, NUMBER_OF_PLAYERS, new CurseCardHandler());
+        PileManager pileManager = game.getPileManager();
+        Player fighter = game.getPlayers().get(0);
+        Player helper = game.getPlayers().get(1);
+        MonsterCard monster = drawMonster(pileManager);
+
+        Combat combat = new CombatResolver().startCombat(fighter, helper, monster);
+        combat.modifyFighterBonus(WINNING_BONUS);
+        combat.addTreasuresWithoutFight(3);
+
+        int numberOfTreasures = Math.max(0, monster.getTreasureReward()) + 3;
+        int fighterLevel = Math.min(fighter.getLevel() + monster.getLevelReward(), Game.WINNING_LEVEL);
+        int helperLevel = helper.getLevel();
+
+        // The treasures are drawn from the top of the pile.
+        Deck treasurePile = pileManager.getTreasurePile();
+        int[] treasureIds = new int[numberOfTreasures];
+
+        for(int i = 0; i < numberOfTreasures; i++)
+            treasureIds[i] = treasurePile.getPileCardId(treasurePile.getPileSize() - 1 - i);
+
+        assertEquals(Combat.FIGHTER_WON, combat.resolve(pileManager));
+
+        assertEquals((numberOfTreasures + 1) / 2, fighter.getHand().getNumberOfCards());
+        assertEquals(numberOfTreasures / 2, helper.getHand().getNumberOfCards());
+
+        for(int i = 0; i < numberOfTreasures; i++) {
+            Hand hand = (i % 2 == 0) ? fighter.getHand() : helper.getHand();
+            assertEquals(treasureIds[i], hand.getCard_UsingCardLocationNumber(i / 2 + 1).getId(), "Treasure " + i);
+        }
+
+        assertEquals(fighterLevel, fighter.getLevel());
+        assertEquals(helperLevel, helper.getLevel());
+        assertEquals(monster.getId(), getTopDiscardId(pileManager.getDoorPile()));
+
+    } // End of helperTakesEveryOtherTreasure method.
+
+    /**
+     * Makes a fighter beat a monster with a "Hireling" they have in play, and checks that the hireling gave its bonus and stayed in play. Then
+     * makes them lose their next fight, which the hireling joins on its own, and checks that it was sacrificed (discarded) so the fighter
+     * escaped without losing a level.
+     */
+    @Test
+    void hirelingStaysInPlayUntilSacrificed() {
+
+        Game game = new Game(SEED, NUMBER_OF_PLAYERS, new CurseCardHandler());
+        PileManager pileManager = game.getPileManager();
+        Player fighter = game.getPlayers().get(0);
+        Player helper = game.getPlayers().get(1);
+        HelperCard hireling = drawHireling(pileManager);
+        CombatResolver resolver = new CombatResolver();
+
+        Combat combat = resolver.startCombat(fighter, helper, drawMonster(pileManager));
+
+        // Only a hireling the fighter has in play can fight along with them.
+        assertFalse(combat.addHireling(hireling));
+        fighter.getInPlayCards().addCardToInPlayCards(hireling);
+        assertTrue(combat.addHireling(hireling));
+        assertFalse(combat.addHireling(hireling));
+        assertSame(hireling, combat.getHireling());
+        assertEquals(fighter.getCombatStrength() + helper.getCombatStrength() + Combat.HIRELING_BONUS, combat.getFighterStrength());
+
+        combat.modifyFighterBonus(WINNING_BONUS);
+        int treasureDiscards = pileManager.getTreasurePile().getDiscardsSize();
+
+        assertEquals(Combat.FIGHTER_WON, resolver.resolve(combat, pileManager));
+        assertEquals(treasureDiscards, pileManager.getTreasurePile().getDiscardsSize());
+        assertNotEquals(0, fighter.getInPlayCards().searchForCard_ReturnCardLocationNumber(hireling));
+        assertNull(combat.getHireling());
+        assertNull(combat.getHelper());
+
+        // The hireling joins the next fight on its own, and is sacrificed so the fighter escapes.
+        MonsterCard monster = drawMonster(pileManager);
+        Combat nextCombat = resolver.startCombat(fighter, monster);
+
+        assertSame(hireling, nextCombat.getHireling());
+        assertEquals(fighter.getCombatStrength() + Combat.HIRELING_BONUS, nextCombat.getFighterStrength());
+
+        nextCombat.modifyMonsterBonus(WINNING_BONUS);
+        int fighterLevel = fighter.getLevel();
+        int handSize = fighter.getHand().getNumberOfCards();
+
+        assertEquals(Combat.FIGHTER_RAN_AWAY, resolver.resolve(nextCombat, pileManager));
+        assertEquals(treasureDiscards + 1, pileManager.getTreasurePile().getDiscardsSize());
+        assertEquals(hireling.getId(), getTopDiscardId(pileManager.getTreasurePile()));
+        assertEquals(monster.getId(), getTopDiscardId(pileManager.getDoorPile()));
+        assertEquals(0, fighter.getInPlayCards().searchForCard_ReturnCardLocationNumber(hireling));
+        assertEquals(fighterLevel, fighter.getLevel());
+        assertEquals(handSize, fighter.getHand().getNumberOfCards());
+        assertNull(nextCombat.getHireling());
+        assertEquals(0, nextCombat.getNumberOfMonsters());
+
+    } // End of hirelingStaysInPlayUntilSacrificed method.
+
+    /**
+     * Resolves a combat that had a helper, a hireling, two monsters and bonuses on both sides, and checks that the resolver starts the same
+     * combat over for the next fight, with none of it left, and only creates combats when none is idle.
+     */
+    @Test
+    void resolvedCombatIsStartedOverForTheNextFight() {
+
+        Game game = new Game(SEED, NUMBER_OF_PLAYERS, new CurseCardHandler());
+        PileManager pileManager = game.getPileManager();
+        Player fighter = game.getPlayers().get(0);
+        Player helper = game.getPlayers().get(1);
+        CombatResolver resolver = new CombatResolver(1);
+        fighter.getInPlayCards().addCardToInPlayCards(drawHireling(pileManager));
+
+        Combat combat = resolver.startCombat(fighter, helper, drawMonster(pileManager));
+        combat.addMonster(drawMonster(pileManager));
+        assertNotNull(combat.getHireling());
+        combat.modifyFighterBonus(2);
+        combat.modifyMonsterBonus(WINNING_BONUS);
+        combat.addTreasuresWithoutFight(1);
+
+        assertEquals(1, resolver.getCreatedCount());
+        assertEquals(0, resolver.getIdleCount());
+
+        resolver.resolve(combat, pileManager);
+        emptyHand(fighter, pileManager);
+
+        assertEquals(1, resolver.getIdleCount());
+
+        // The next fight gets the same combat, as if it was new.
+        Player nextFighter = game.getPlayers().get(2);
+        MonsterCard nextMonster = drawMonster(pileManager);
+        Combat nextCombat = resolver.startCombat(nextFighter, nextMonster);
+
+        assertSame(combat, nextCombat);
+        assertEquals(1, resolver.getCreatedCount());
+        assertEquals(0, resolver.getIdleCount());
+        assertSame(nextFighter, nextCombat.getFighter());
+        assertNull(nextCombat.getHelper());
+        assertNull(nextCombat.getHireling());
+        assertEquals(1, nextCombat.getNumberOfMonsters());
+        assertSame(nextMonster, nextCombat.getMonster(1));
+        assertEquals(nextFighter.getCombatStrength(), nextCombat.getFighterStrength());
+        assertEquals(nextMonster.getLevel(), nextCombat.getMonsterStrength());
+
+        // Nothing from the first fight is discarded again, and no treasure is taken without a fight.
+        int doorDiscards = pileManager.getDoorPile().getDiscardsSize();
+        int treasureDiscards = pileManager.getTreasurePile().getDiscardsSize();
+        nextCombat.removeMonster(1);
+
+        assertEquals(Combat.MONSTERS_LEFT, resolver.resolve(nextCombat, pileManager));
+        assertEquals(doorDiscards + 1, pileManager.getDoorPile().getDiscardsSize());
+        assertEquals(treasureDiscards, pileManager.getTreasurePile().getDiscardsSize());
+        assertEquals(0, nextFighter.getHand().getNumberOfCards());
+
+        // A second combat going on at once is created, and the pool keeps no more than its maximum.
+        Combat first = resolver.startCombat(fighter, drawMonster(pileManager));
+        Combat second = resolver.startCombat(helper, drawMonster(pileManager));
+
+        assertNotSame(first, second);
+        assertEquals(2, resolver.getCreatedCount());
+
+        resolver.resolve(first, pileManager);
+        resolver.resolve(second, pileManager);
+
+        assertEquals(1, resolver.getIdleCount());
+
+    } // End of resolvedCombatIsStartedOverForTheNextFight method.
+
+    //----------------------------------------------------
+    //            HELPER METHOD(S)
+    //----------------------------------------------------
+
+    /**
+     * This method draws door cards until it draws a monster, discarding the others.
+     * @param pileManager The game's piles.
+     * @return The monster.
+     */
+    private static MonsterCard drawMonster(PileManager pileManager) {
+
+        Card card = pileManager.drawDoorCard();
+
+        while(!(card instanceof MonsterCard)) {
+            assertNotNull(card, "No monster left in the door pile");
+            pileManager.discardDoorCard(card);
+            card = pileManager.drawDoorCard();
+        }
+
+        return (MonsterCard) card;
+
+    } // End of drawMonster method.
+
+    /**
+     * This method draws treasure cards until it draws a "Hireling", discarding the others.
+     * @param pileManager The game's piles.
+     * @return The hireling.
+     */
+    private static HelperCard drawHireling(PileManager pileManager) {
+
+        Card card = pileManager.drawTreasureCard();
+
+        while(!(card instanceof HelperCard)) {
+            assertNotNull(card, "No hireling left in the treasure pile");
+            pileManager.discardTreasureCard(card);
+            card = pileManager.drawTreasureCard();
+        }
+
+        return (HelperCard) card;
+
+    } // End of drawHireling method.
+
+    /**
+     * This method discards every card of a player's hand.
+     * @param player The player.
+     * @param pileManager The game's piles.
+     */
+    private static void emptyHand(Player player, PileManager pileManager) {
+
+        while(player.getHand().getNumberOfCards() > 0)
+            pileManager.discardTreasureCard(player.getHand().removeCard_UsingCardLocationNumber(1));
+
+    }
+
+    /**
+     * This method gets the id of the card on top of a pile's discards.
+     * @param pile The pile.
+     * @return The id of the top discard.
+     */
+    private static int getTopDiscardId(Deck pile) {
+        return pile.getDiscardCardId(pile.getDiscardsSize() - 1);
+    }
+
+} // End of CombatResolverTest class.
@@ -0,0 +1,164 @@
+package handlers;
+
+import basic_game_components.Card;
+import basic_game_components.CardKind;
+import basic_game_components.player_stuff.InPlayCards;
+import basic_game_components.player_stuff.Player;
+import treasure_cards.ItemCard;
+import utilities.CardCatalog;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This class tests that the "usable by" requirements compiled into trait bits (see PlayerTraits) give the same answers as the string
+ * comparisons they replaced, for every item of the CardCatalog and every combination of traits: either sex, human or not, and any set of
+ * races and classes (put in play directly, or left in play once the others were taken out).
+ */
+class ItemUsabilityTest {
+
+    //----------------------------------------------------
+    //            TESTS
+    //----------------------------------------------------
+
+    /**
+     * Checks every item against every combination of traits.
+     */
+    @Test
+    void compiledRequirementsMatchStringRequirements() {
+
+        List<ItemCard> items = new ArrayList<>();
+        List<Card> racesAndClasses = new ArrayList<>();
+
+        for(int id = 0; id < CardCatalog.getCardCount(); id++) {
+            Card card = CardCatalog.getCardDefinition(id);
+
+            if(card instanceof ItemCard)
+                items.add((ItemCard) card);
+            else if((card.getKind() == CardKind.RACE || card.getKind() == CardKind.CLASS) && !containsName(racesAndClasses, card))
+                racesAndClasses.add(card);
+        }
+
+        int numberOfChecks = 0;
+
+        for(int combination = 0; combination < (1 << racesAndClasses.size()); combination++) {
+            for(String sex : new String[] { "male", "female" }) {
+                for(boolean human : new boolean[] { true, false }) {
+                    for(Player player : createPlayers(sex, human, racesAndClasses, combination)) {
+                        for(ItemCard item : items) {
+                            boolean expected = meetsStringRequirement(player, item.getUsableByRequirement());
+                            String description = item.getName() + " (" + item.getUsableByRequirement() + "), " + sex + ", human " + human
+                                + ", races and classes " + Integer.toBinaryString(combination);
+
+                            assertEquals(expected, CardPlayHandler.meetsUsableByRequirement(player, item), description);
+                            assertEquals(expected, CardPlayHandler.meetsUsableByRequirement(player, item.getUsableByRequirement()),
+                                description);
+                            numberOfChecks++;
+                        }
+                    }
+                }
+            }
+        }
+
+        assertEquals((1 << racesAndClasses.size()) * 8 * items.size(), numberOfChecks);
+
+    } // End of compiledRequirementsMatchStringRequirements method.
+
+    //----------------------------------------------------
+    //            HELPER METHOD(S)
+    //----------------------------------------------------
+
+    /**
+     * This method creates two players with the same traits: one gets only the race and class cards of the combination, the other gets every
+     * race and class card, then loses the ones not in the combination.
+     * @param sex The players' sex.
+     * @param human Whether or not the players are human.
+     * @param racesAndClasses One race or class card of each name.
+     * @param combination The race and class cards the players have in play (bit i: the i-th card).
+     * @return The two players.
+     */
+    private static Player[] createPlayers(String sex, boolean human, List<Card> racesAndClasses, int combination) {
+
+        Player addedOnly = new Player(1, sex);
+        Player addedThenRemoved = new Player(1, sex);
+
+        for(int i = 0; i < racesAndClasses.size(); i++) {
+            addedThenRemoved.getInPlayCards().addCardToInPlayCards(racesAndClasses.get(i));
+
+            if((combination & (1 << i)) != 0)
+                addedOnly.getInPlayCards().addCardToInPlayCards(racesAndClasses.get(i));
+        }
+
+        InPlayCards inPlayCards = addedThenRemoved.getInPlayCards();
+
+        for(int location = inPlayCards.getNumberOfCards(); location >= 1; location--) {
+            if((combination & (1 << racesAndClasses.indexOf(inPlayCards.getCard_UsingCardLocationNumber(location)))) == 0)
+                inPlayCards.removeCard_UsingCardLocationNumber(location);
+        }
+
+        addedOnly.getInPlayCards().setIfPlayerIsHuman(human);
+        addedThenRemoved.getInPlayCards().setIfPlayerIsHuman(human);
+
+        return new Player[] { addedOnly, addedThenRemoved };
+
+    } // End of createPlayers method.
+
+    /**
+     * This method checks a "usable by" requirement the way it was checked before requirements were compiled: by comparing it with the
+     * player's sex, human status and the names of their cards in play.
+     * @param player The player.
+     * @param requirement The "usable by" requirement.
+     * @return True if the player meets the requirement, false if they don't.
+     */
+    private static boolean meetsStringRequirement(Player player, String requirement) {
+
+        if(requirement.equals("any"))
+            return true;
+
+        if(requirement.equals("males only"))
+            return player.getSex().equals("male");
+
+        if(requirement.equals("females only"))
+            return player.getSex().equals("female");
+
+        if(requirement.equals("human only"))
+            return player.getInPlayCards().checkIfPlayerIsHuman();
+
+        // The rest are race or class requirements, like "elf only", "not wizard" or "not clerics".
+        boolean negated = requirement.startsWith("not ");
+        String cardName = negated ? requirement.substring(4) : requirement.substring(0, requirement.indexOf(' '));
+        boolean hasCard = false;
+
+        InPlayCards inPlayCards = player.getInPlayCards();
+
+        for(int location = 1; location <= inPlayCards.getNumberOfCards(); location++) {
+            if(cardName.startsWith(inPlayCards.getCard_UsingCardLocationNumber(location).getName().toLowerCase()))
+                hasCard = true;
+        }
+
+        return negated != hasCard;
+
+    } // End of meetsStringRequirement method.
+
+    /**
+     * This method checks if a list has a card with the same name as another one.
+     * @param cards The list.
+     * @param card The other card.
+     * @return True if the list has a card with that name, false if not.
+     */
+    private static boolean containsName(List<Card> cards, Card card) {
+
+        for(Card curCard : cards) {
+            if(curCard.getName().equals(card.getName()))
+                return true;
+        }
+
+        return false;
+
+    } // End of containsName method.
+
+} // End of ItemUsabilityTest class.
@@ -0,0 +1,174 @@
+package handlers;
+
+import basic_game_components.Card;
+import basic_game_components.CardKind;
+import basic_game_components.player_stuff.InPlayCards;
+import basic_game_components.player_stuff.Player;
+import treasure_cards.EquipmentSlot;
+import treasure_cards.ItemCard;
+import utilities.CardCatalog;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This class tests that the LoadoutSolver finds the best loadout, by comparing it with a brute force search (every subset of the player's
+ * items, kept if the items can all be equipped at once) on random players, and that it refuses more items than it can search.
+ */
+class LoadoutSolverTest {
+
+    // The number of random players compared with the brute force search.
+    private static final int NUMBER_OF_PLAYERS = 5000;
+    // The most items a random player has (the brute force search tries every subset of them).
+    private static final int MAX_ITEMS = 12;
+
+    //----------------------------------------------------
+    //            TESTS
+    //----------------------------------------------------
+
+    /**
+     * Gives random players random items of the CardCatalog (in their hand, carried or equipped) and a random race or class, and checks that
+     * the solver's loadout can be equipped, that its value is right, and that no subset of the items is worth more.
+     */
+    @Test
+    void solverMatchesBruteForceSearch() {
+
+        List<ItemCard> items = new ArrayList<>();
+        List<Card> racesAndClasses = new ArrayList<>();
+
+        for(int id = 0; id < CardCatalog.getCardCount(); id++) {
+            Card card = CardCatalog.getCardDefinition(id);
+
+            if(card instanceof ItemCard)
+                items.add((ItemCard) card);
+            else if(card.getKind() == CardKind.RACE || card.getKind() == CardKind.CLASS)
+                racesAndClasses.add(card);
+        }
+
+        Random random = new Random(5);
+        LoadoutSolver solver = new LoadoutSolver();
+
+        for(int i = 0; i < NUMBER_OF_PLAYERS; i++) {
+            Player player = new Player(1, random.nextBoolean() ? "female" : "male");
+
+            if(random.nextInt(3) > 0)
+                player.getInPlayCards().addCardToInPlayCards(racesAndClasses.get(random.nextInt(racesAndClasses.size())));
+
+            List<ItemCard> playerItems = new ArrayList<>();
+
+            for(int j = 1 + random.nextInt(MAX_ITEMS); j > 0; j--) {
+                ItemCard item = items.get(random.nextInt(items.size()));
+
+                if(playerItems.contains(item))
+                    continue;
+
+                playerItems.add(item);
+
+                if(random.nextInt(3) == 0 && player.getInPlayCards().equipItem(item))
+                    continue;
+
+                if(random.nextInt(4) == 0)
+                    player.getInPlayCards().addCardToInPlayCards(item);
+                else
+                    player.getHand().addCardToHand(item);
+            }
+
+            int combatWeight = 1 + random.nextInt(3);
+            int runAwayWeight = random.nextInt(3);
+            int value = solver.solve(player, combatWeight, runAwayWeight);
+
+            // The loadout must fit and be usable, and be worth what the solver says.
+            InPlayCards loadout = new InPlayCards(1);
+            int loadoutValue = 0;
+
+            for(int j = 0; j < solver.getNumberOfChosenItems(); j++) {
+                ItemCard item = solver.getChosenItem(j);
+
+                assertTrue(loadout.equipItem(item), "The loadout doesn't fit: " + item.getName());
+                assertTrue(CardPlayHandler.meetsUsableByRequirement(player, item.getUsableByRequirement()), "Unusable: " + item.getName());
+                loadoutValue += getValue(item, combatWeight, runAwayWeight);
+            }
+
+            assertEquals(loadoutValue, value, "Value of the loadout of player " + i);
+            assertEquals(findBestValue(player, playerItems, combatWeight, runAwayWeight), value, "Best loadout of player " + i);
+        }
+
+    } // End of solverMatchesBruteForceSearch method.
+
+    /**
+     * Gives a player as many made-up headgears as the solver can search, then one more: the solver must refuse them rather than leave one out.
+     */
+    @Test
+    void solverRefusesTooManyCompetingItems() {
+
+        Player player = new Player(1, "male");
+        LoadoutSolver solver = new LoadoutSolver();
+
+        for(int i = 1; i <= LoadoutSolver.MAX_COMPETING_ITEMS; i++)
+            player.getHand().addCardToHand(new ItemCard("Headgear " + i, "headgear", i, 0, "any", 0, false, 100));
+
+        assertEquals(LoadoutSolver.MAX_COMPETING_ITEMS, solver.solveForCombat(player));
+        assertEquals(1, solver.getNumberOfChosenItems());
+        assertEquals(EquipmentSlot.HEAD, solver.getChosenItem(0).getSlot());
+
+        player.getHand().addCardToHand(new ItemCard("Headgear " + 0, "headgear", 1, 0, "any", 0, false, 100));
+
+        assertThrows(IllegalStateException.class, () -> solver.solveForCombat(player));
+
+    } // End of solverRefusesTooManyCompetingItems method.
+
+    //----------------------------------------------------
+    //            HELPER METHOD(S)
+    //----------------------------------------------------
+
+    /**
+     * This method finds the value of a player's best loadout by trying every subset of their items.
+     * @param player The player.
+     * @param items The player's items (at most MAX_ITEMS).
+     * @param combatWeight What each point of combat bonus is worth.
+     * @param runAwayWeight What each point of run away bonus is worth.
+     * @return The value of the best loadout.
+     */
+    private static int findBestValue(Player player, List<ItemCard> items, int combatWeight, int runAwayWeight) {
+
+        int bestValue = 0;
+
+        for(int subset = 0; subset < (1 << items.size()); subset++) {
+            InPlayCards loadout = new InPlayCards(1);
+            int value = 0;
+            boolean fits = true;
+
+            for(int i = 0; i < items.size() && fits; i++) {
+                if((subset & (1 << i)) == 0)
+                    continue;
+
+                ItemCard item = items.get(i);
+                fits = CardPlayHandler.meetsUsableByRequirement(player, item.getUsableByRequirement()) && loadout.equipItem(item);
+                value += getValue(item, combatWeight, runAwayWeight);
+            }
+
+            if(fits)
+                bestValue = Math.max(bestValue, value);
+        }
+
+        return bestValue;
+
+    } // End of findBestValue method.
+
+    /**
+     * This method gets what an item is worth.
+     * @param item The item.
+     * @param combatWeight What each point of combat bonus is worth.
+     * @param runAwayWeight What each point of run away bonus is worth.
+     * @return The item's value.
+     */
+    private static int getValue(ItemCard item, int combatWeight, int runAwayWeight) {
+        return item.getCombatBonus() * combatWeight + item.getRunAwayBonus() * runAwayWeight;
+    }
+
+} // End of LoadoutSolverTest class.
@@ -0,0 +1,487 @@
+package persistence;
+
+import basic_game_components.Game;
+import basic_game_components.player_stuff.Player;
+import door_cards.MonsterCard;
+import events.GameEventType;
+import events.GameEventSink;
+import handlers.CurseCardHandler;
+import simulation.GameSimulator;
+import simulation.PlayerPolicy;
+import simulation.SimulationResults;
+import utilities.RandomStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This class tests that the EventJournal and JournalRecovery rebuild the games after a crash: a record torn in the middle (with complete
+ * records after it, as when appenders finish out of order), and a writer process killed in the middle of a batch. Each journal is opened
+ * twice after the crash, with records appended in between, to check that the records that were lost stay lost rather than reappearing. It
+ * also tests that games are rebuilt from snapshots taken in the middle of the game, all at once, once the segments before them are deleted.
+ */
+class EventJournalRecoveryTest {
+
+    // The number of records written before the crash in the torn record test, and the one torn.
+    private static final int RECORDS_BEFORE_CRASH = 100;
+    private static final int TORN_RECORD = 40;
+    // The number of records appended after the crash in the torn record test.
+    private static final int RECORDS_AFTER_CRASH = 5;
+
+    // The killed writer is killed once it started every game up to this one.
+    private static final int LAST_GAME_STARTED_BEFORE_KILL = 8;
+    // The ids of the games played after the killed writer's journal is reopened.
+    private static final int[] GAMES_AFTER_KILL = { 100, 101 };
+
+    // The ids of the games snapshotted in the middle of the game, and the decision of each game they are snapshotted at.
+    private static final int[] SNAPSHOTTED_GAMES = { 0, 1, 2, 3, 4, 5 };
+    private static final int[] SNAPSHOT_DECISIONS = { 3, 8, 5, 12, 2, 6 };
+
+    // The size of the buffers the games are encoded in.
+    private static final int SNAPSHOT_SIZE = 8192;
+
+    //----------------------------------------------------
+    //            TESTS
+    //----------------------------------------------------
+
+    /**
+     * Tears a record in the middle of the journal (the complete records after it stay), reopens it, appends a few records, and reopens it
+     * again: the records after the torn one must be gone for good, and the new records must be read back in their place.
+     */
+    @Test
+    void tornRecordAndTheRecordsAfterItAreErasedOnReopen(@TempDir Path directory) throws Exception {
+
+        int segmentSize = EventJournal.RECORD_SIZE * 16;
+
+        try(EventJournal journal = new EventJournal(directory, segmentSize, EventJournal.DEFAULT_COMMIT_INTERVAL_NANOS)) {
+            long position = 0;
+
+            for(int i = 0; i < RECORDS_BEFORE_CRASH; i++)
+                position = journal.append(1, i, GameEventType.DIE_ROLLED, 1, i, 0);
+
+            assertTrue(journal.awaitCommitted(position, TimeUnit.SECONDS.toNanos(10)));
+        }
+
+        // Zero the last 8 bytes of the torn record (its second value and checksum), as a crash in the middle of writing it would.
+        long tornPosition = (long) TORN_RECORD * EventJournal.RECORD_SIZE;
+        Path tornSegment = directory.resolve(String.format("journal-%08d.seg", tornPosition / segmentSize));
+
+        try(FileChannel channel = FileChannel.open(tornSegment, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(8), tornPosition % segmentSize + EventJournal.RECORD_SIZE - 8);
+        }
+
+        try(EventJournal journal = new EventJournal(directory, segmentSize, EventJournal.DEFAULT_COMMIT_INTERVAL_NANOS)) {
+            assertEquals(tornPosition, journal.getWritePosition());
+            assertEquals(TORN_RECORD, readRecords(journal).get(1).size());
+
+            long position = 0;
+
+            for(int i = 0; i < RECORDS_AFTER_CRASH; i++)
+                position = journal.append(1, TORN_RECORD + i, GameEventType.DIE_ROLLED, 2, -i, 0);
+
+            assertTrue(journal.awaitCommitted(position, TimeUnit.SECONDS.toNanos(10)));
+        }
+
+        try(EventJournal journal = new EventJournal(directory, segmentSize, EventJournal.DEFAULT_COMMIT_INTERVAL_NANOS)) {
+            List<long[]> records = readRecords(journal).get(1);
+
+            assertEquals(TORN_RECORD + RECORDS_AFTER_CRASH, records.size());
+            assertEquals(tornPosition + (long) RECORDS_AFTER_CRASH * EventJournal.RECORD_SIZE, journal.getWritePosition());
+
+            for(int i = 0; i < records.size(); i++) {
+                long[] record = records.get(i);
+
+                assertEquals(i, record[0]);
+                assertEquals(i < TORN_RECORD ? 1 : 2, record[2]);
+                assertEquals(i < TORN_RECORD ? i : TORN_RECORD - i, record[3]);
+            }
+        }
+
+    } // End of tornRecordAndTheRecordsAfterItAreErasedOnReopen method.
+
+    /**
+     * Kills a process journaling games in the middle of a batch, reopens its journal and recovers every game, plays a few more games, and
+     * reopens and recovers again: every game's records must be exactly the start of what the game published, and be recovered on both
+     * reopens.
+     */
+    @Test
+    @Timeout(120)
+    void killedWriterIsRecoveredOnEveryReopen(@TempDir Path directory) throws Exception {
+
+        Set<Integer> gamesStarted = killWriterInTheMiddleOfABatch(directory);
+
+        Map<Integer, List<long[]>> recordsAfterKill;
+
+        try(EventJournal journal = new EventJournal(directory, JournalWriterProcess.SEGMENT_SIZE,
+                EventJournal.DEFAULT_COMMIT_INTERVAL_NANOS)) {
+            recordsAfterKill = readRecords(journal);
+
+            // A writer thread only starts a game once its last one is committed, so those must be complete.
+            for(int gameId : gamesStarted) {
+                if(gamesStarted.contains(gameId + JournalWriterProcess.NUMBER_OF_THREADS))
+                    assertEquals(playGame(gameId).size(), recordsAfterKill.get(gameId).size(), "Records of game " + gameId);
+            }
+
+            for(Map.Entry<Integer, List<long[]>> entry : recordsAfterKill.entrySet())
+                checkRecoveredGame(journal, entry.getKey(), entry.getValue());
+
+            GameSimulator simulator = new GameSimulator(JournalWriterProcess.createPolicies());
+            long position = journal.getWritePosition();
+
+            for(int gameId : GAMES_AFTER_KILL) {
+                JournalEventSink eventSink = new JournalEventSink(journal, gameId, 0, GameEventSink.NONE);
+
+                simulator.setEventSink(eventSink);
+                simulator.playGame(JournalWriterProcess.getSeed(gameId), JournalWriterProcess.getNumberOfPlayers(gameId),
+                    new SimulationResults());
+                position = Math.max(position, eventSink.getLastPosition());
+            }
+
+            assertTrue(journal.awaitCommitted(position, TimeUnit.SECONDS.toNanos(10)));
+        }
+
+        try(EventJournal journal = new EventJournal(directory, JournalWriterProcess.SEGMENT_SIZE,
+                EventJournal.DEFAULT_COMMIT_INTERVAL_NANOS)) {
+            Map<Integer, List<long[]>> records = readRecords(journal);
+
+            assertEquals(recordsAfterKill.size() + GAMES_AFTER_KILL.length, records.size());
+
+            for(Map.Entry<Integer, List<long[]>> entry : recordsAfterKill.entrySet()) {
+                List<long[]> gameRecords = records.get(entry.getKey());
+
+                assertEquals(entry.getValue().size(), gameRecords.size(), "Records of game " + entry.getKey());
+                checkRecoveredGame(journal, entry.getKey(), gameRecords);
+            }
+
+            for(int gameId : GAMES_AFTER_KILL) {
+                assertEquals(playGame(gameId).size(), records.get(gameId).size(), "Records of game " + gameId);
+                checkRecoveredGame(journal, gameId, records.get(gameId));
+            }
+        }
+
+    } // End of killedWriterIsRecoveredOnEveryReopen method.
+
+    /**
+     * Plays games one after the other, each snapshotted in the middle of the game (with its journal sequence and position), deletes the
+     * segments before the oldest snapshot, reopens the journal and rebuilds every game in one pass: each must be the game its events lead to,
+     * and journal its next events where the old ones left off.
+     */
+    @Test
+    void gamesAreRecoveredFromTheirSnapshotsOnceOlderSegmentsAreDeleted(@TempDir Path directory) {
+
+        int segmentSize = EventJournal.RECORD_SIZE << 4;
+        Map<Integer, byte[]> snapshots = new TreeMap<>();
+
+        try(EventJournal journal = new EventJournal(directory, segmentSize, EventJournal.DEFAULT_COMMIT_INTERVAL_NANOS)) {
+            long position = 0;
+
+            for(int i = 0; i < SNAPSHOTTED_GAMES.length; i++) {
+                int gameId = SNAPSHOTTED_GAMES[i];
+                JournalEventSink eventSink = new JournalEventSink(journal, gameId, 0, GameEventSink.NONE);
+                PlayerPolicy[] policies = JournalWriterProcess.createPolicies();
+                int[] decisionCount = new int[1];
+
+                for(int j = 0; j < policies.length; j++)
+                    policies[j] = new SnapshottingPolicy(policies[j], journal, eventSink, SNAPSHOT_DECISIONS[i], decisionCount, snapshots);
+
+                GameSimulator simulator = new GameSimulator(policies);
+                simulator.setEventSink(eventSink);
+                simulator.playGame(JournalWriterProcess.getSeed(gameId), JournalWriterProcess.getNumberOfPlayers(gameId),
+                    new SimulationResults());
+                position = eventSink.getLastPosition();
+
+                assertTrue(snapshots.containsKey(gameId), "Game " + gameId + " wasn't snapshotted.");
+            }
+
+            assertTrue(journal.awaitCommitted(position, TimeUnit.SECONDS.toNanos(10)));
+
+            // The games were played one after the other, so the first game's snapshot is the oldest.
+            long oldestPosition = GameSnapshotCodec.readJournalPosition(ByteBuffer.wrap(snapshots.get(SNAPSHOTTED_GAMES[0])));
+            int segmentsDeleted = JournalRecovery.trimJournal(journal, wrap(snapshots).values());
+
+            assertEquals(oldestPosition / segmentSize, segmentsDeleted);
+            assertTrue(segmentsDeleted > 0, "No segment was deleted.");
+            assertEquals(segmentsDeleted * (long) segmentSize, journal.getFirstPosition());
+            assertFalse(Files.exists(directory.resolve(String.format("journal-%08d.seg", 0))));
+        }
+
+        try(EventJournal journal = new EventJournal(directory, segmentSize, EventJournal.DEFAULT_COMMIT_INTERVAL_NANOS)) {
+            Map<Integer, Game> games = JournalRecovery.recoverGames(journal, wrap(snapshots), gameId -> new CurseCardHandler(),
+                gameId -> GameEventSink.NONE);
+
+            assertEquals(SNAPSHOTTED_GAMES.length, games.size());
+
+            for(int gameId : SNAPSHOTTED_GAMES) {
+                List<long[]> events = playGame(gameId);
+                Game game = games.get(gameId);
+                JournalEventSink eventSink = (JournalEventSink) game.getEventSink();
+
+                assertEquals(events.size(), eventSink.getNextSequence(), "Next sequence of game " + gameId);
+                assertArrayEquals(encode(replayEvents(gameId, events)), encode(game), "State of game " + gameId);
+
+                // Recovering the game on its own must give the same game.
+                Game recoveredGame = JournalRecovery.recoverGame(journal, gameId, ByteBuffer.wrap(snapshots.get(gameId)),
+                    new CurseCardHandler(), GameEventSink.NONE);
+
+                assertArrayEquals(encode(game), encode(recoveredGame), "State of game " + gameId + " recovered on its own");
+            }
+
+            // The recovered games journal their next events after their old ones.
+            Game game = games.get(SNAPSHOTTED_GAMES[0]);
+            JournalEventSink eventSink = (JournalEventSink) game.getEventSink();
+            long nextSequence = eventSink.getNextSequence();
+
+            game.endTurn();
+
+            assertEquals(nextSequence + 1, eventSink.getNextSequence());
+            assertTrue(eventSink.getLastPosition() > journal.getFirstPosition());
+        }
+
+    } // End of gamesAreRecoveredFromTheirSnapshotsOnceOlderSegmentsAreDeleted method.
+
+    //----------------------------------------------------
+    //            HELPER METHOD(S)
+    //----------------------------------------------------
+
+    /**
+     * This method starts a JournalWriterProcess, and kills it once it started every game up to LAST_GAME_STARTED_BEFORE_KILL (so it is
+     * killed while appending).
+     * @param directory The journal's directory.
+     * @return The ids of the games the writer started.
+     */
+    private static Set<Integer> killWriterInTheMiddleOfABatch(Path directory) throws Exception {
+
+        // Surefire runs the tests with a manifest-only jar, so the real class path is in its own property.
+        String classPath = System.getProperty("surefire.test.class.path", System.getProperty("java.class.path"));
+        Path java = Path.of(System.getProperty("java.home"), "bin", "java");
+
+        Process writer = new ProcessBuilder(java.toString(), "-cp", classPath, JournalWriterProcess.class.getName(), directory.toString())
+            .redirectError(ProcessBuilder.Redirect.INHERIT)
+            .start();
+
+        TreeSet<Integer> gamesStarted = new TreeSet<>();
+
+        try(BufferedReader reader = new BufferedReader(new InputStreamReader(writer.getInputStream(), StandardCharsets.UTF_8))) {
+            // The games' ids start at 0, so every game up to the last one started once there are that many.
+            while(gamesStarted.headSet(LAST_GAME_STARTED_BEFORE_KILL, true).size() <= LAST_GAME_STARTED_BEFORE_KILL) {
+                String line = reader.readLine();
+
+                assertNotNull(line, "The writer exited before it was killed.");
+                gamesStarted.add(Integer.parseInt(line));
+            }
+        }
+        finally {
+            writer.destroyForcibly();
+            writer.waitFor();
+        }
+
+        return gamesStarted;
+
+    } // End of killWriterInTheMiddleOfABatch method.
+
+    /**
+     * This method checks a game's records against the events the game publishes when it is played again, and recovers it from a snapshot
+     * taken before its first event.
+     * @param journal The journal.
+     * @param gameId The id of the game.
+     * @param records The game's records (see readRecords).
+     */
+    private static void checkRecoveredGame(EventJournal journal, int gameId, List<long[]> records) {
+
+        List<long[]> events = playGame(gameId);
+
+        assertTrue(records.size() <= events.size(), "Game " + gameId + " has more records than events.");
+
+        for(int i = 0; i < records.size(); i++)
+            assertArrayEquals(events.get(i), records.get(i), "Record " + i + " of game " + gameId);
+
+        Game game = new Game(JournalWriterProcess.getSeed(gameId), JournalWriterProcess.getNumberOfPlayers(gameId), new CurseCardHandler());
+        ByteBuffer snapshot = ByteBuffer.allocate(SNAPSHOT_SIZE);
+        GameSnapshotCodec.encode(game, 0, snapshot);
+        snapshot.flip();
+
+        Game recoveredGame = JournalRecovery.recoverGame(journal, gameId, snapshot, new CurseCardHandler(), GameEventSink.NONE);
+
+        assertEquals(records.size(), ((JournalEventSink) recoveredGame.getEventSink()).getNextSequence(), "Next sequence of game " + gameId);
+
+        // The recovered game must be the one the journaled events lead to.
+        assertArrayEquals(encode(replayEvents(gameId, records)), encode(recoveredGame), "State of game " + gameId);
+
+    } // End of checkRecoveredGame method.
+
+    /**
+     * This method creates a game the way JournalWriterProcess does, and applies events to it.
+     * @param gameId The id of the game.
+     * @param events The events (see readRecords).
+     * @return The game.
+     */
+    private static Game replayEvents(int gameId, List<long[]> events) {
+
+        Game game = new Game(JournalWriterProcess.getSeed(gameId), JournalWriterProcess.getNumberOfPlayers(gameId), new CurseCardHandler());
+
+        for(long[] event : events)
+            JournalRecovery.applyEvent(game, GameEventType.values()[(int) event[1]], (int) event[2], (int) event[3], (int) event[4]);
+
+        return game;
+
+    } // End of replayEvents method.
+
+    /**
+     * This method wraps encoded snapshots into buffers.
+     * @param snapshots The snapshots, by game id.
+     * @return The buffers, by game id.
+     */
+    private static Map<Integer, ByteBuffer> wrap(Map<Integer, byte[]> snapshots) {
+
+        Map<Integer, ByteBuffer> buffers = new TreeMap<>();
+
+        for(Map.Entry<Integer, byte[]> entry : snapshots.entrySet())
+            buffers.put(entry.getKey(), ByteBuffer.wrap(entry.getValue()));
+
+        return buffers;
+
+    } // End of wrap method.
+
+    /**
+     * This method plays a game the way JournalWriterProcess does, and lists the events it publishes.
+     * @param gameId The id of the game.
+     * @return The game's events, as records (see readRecords).
+     */
+    private static List<long[]> playGame(int gameId) {
+
+        List<long[]> events = new ArrayList<>();
+        GameSimulator simulator = new GameSimulator(JournalWriterProcess.createPolicies());
+
+        simulator.setEventSink((type, playerTurnNumber, value1, value2) ->
+            events.add(new long[] { events.size(), type.ordinal(), playerTurnNumber, value1, value2 }));
+        simulator.playGame(JournalWriterProcess.getSeed(gameId), JournalWriterProcess.getNumberOfPlayers(gameId), new SimulationResults());
+
+        return events;
+
+    } // End of playGame method.
+
+    /**
+     * This method reads every record of a journal, by game.
+     * @param journal The journal.
+     * @return Each game's records, in the order they were read (each is its sequence, type ordinal, player turn number, and values).
+     */
+    private static Map<Integer, List<long[]>> readRecords(EventJournal journal) {
+
+        Map<Integer, List<long[]>> records = new TreeMap<>();
+
+        journal.forEachRecord((gameId, gameSequence, type, playerTurnNumber, value1, value2) ->
+            records.computeIfAbsent(gameId, id -> new ArrayList<>())
+                .add(new long[] { gameSequence, type.ordinal(), playerTurnNumber, value1, value2 }));
+
+        return records;
+
+    } // End of readRecords method.
+
+    /**
+     * This method encodes a game (without its journal sequence).
+     * @param game The game.
+     * @return The encoded game.
+     */
+    private static byte[] encode(Game game) {
+
+        ByteBuffer buffer = ByteBuffer.allocate(SNAPSHOT_SIZE);
+        GameSnapshotCodec.encode(game, buffer);
+
+        byte[] encoded = new byte[buffer.position()];
+        buffer.flip().get(encoded);
+
+        return encoded;
+
+    } // End of encode method.
+
+    //----------------------------------------------------
+    //            POLICIES
+    //----------------------------------------------------
+
+    /**
+     * This class is a policy that decides like another one, and snapshots the game at one of its decisions to fight, once the game's journal
+     * position is committed (as a server keeping a snapshot would).
+     */
+    private static final class SnapshottingPolicy implements PlayerPolicy {
+
+        // The policy deciding.
+        private final PlayerPolicy policy;
+        // The game's journal and journal sink.
+        private final EventJournal journal;
+        private final JournalEventSink eventSink;
+        // The decision the game is snapshotted at (counted from 1, over every seat of the game).
+        private final int snapshotDecision;
+        // The number of decisions to fight made so far in the game (shared by every seat of the game).
+        private final int[] decisionCount;
+        // Where the snapshot is kept, by game id.
+        private final Map<Integer, byte[]> snapshots;
+
+        /**
+         * This method constructs a SnapshottingPolicy object.
+         * @param policy The policy deciding.
+         * @param journal The game's journal.
+         * @param eventSink The game's journal sink.
+         * @param snapshotDecision The decision the game is snapshotted at.
+         * @param decisionCount The number of decisions made so far in the game (shared by every seat of the game).
+         * @param snapshots Where the snapshot is kept, by game id.
+         */
+        private SnapshottingPolicy(PlayerPolicy policy, EventJournal journal, JournalEventSink eventSink, int snapshotDecision,
+                int[] decisionCount, Map<Integer, byte[]> snapshots) {
+            this.policy = policy;
+            this.journal = journal;
+            this.eventSink = eventSink;
+            this.snapshotDecision = snapshotDecision;
+            this.decisionCount = decisionCount;
+            this.snapshots = snapshots;
+        }
+
+        @Override
+        public boolean decideToFight(Player player, MonsterCard monster, int maxPlayerStrength, RandomStream rand) {
+            return policy.decideToFight(player, monster, maxPlayerStrength, rand);
+        }
+
+        @Override
+        public int chooseCurseTarget(Player player, List<Player> players, RandomStream rand) {
+            return policy.chooseCurseTarget(player, players, rand);
+        }
+
+        @Override
+        public boolean decideToFight(Game game, Player player, MonsterCard monster, int maxPlayerStrength, RandomStream rand) {
+
+            decisionCount[0]++;
+
+            if(decisionCount[0] == snapshotDecision) {
+                ByteBuffer buffer = ByteBuffer.allocate(SNAPSHOT_SIZE);
+                GameSnapshotCodec.encode(game, eventSink.getNextSequence(), eventSink.getLastPosition(), buffer);
+
+                assertTrue(journal.awaitCommitted(eventSink.getLastPosition(), TimeUnit.SECONDS.toNanos(10)));
+                snapshots.put(eventSink.getGameId(), Arrays.copyOf(buffer.array(), buffer.position()));
+            }
+
+            return policy.decideToFight(game, player, monster, maxPlayerStrength, rand);
+
+        } // End of decideToFight method.
+
+    } // End of SnapshottingPolicy class.
+
+} // End of EventJournalRecoveryTest class.
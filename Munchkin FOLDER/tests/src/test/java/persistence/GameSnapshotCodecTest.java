@@ -0,0 +1,341 @@
+package persistence;
+
+import basic_game_components.Card;
+import basic_game_components.Game;
+import basic_game_components.player_stuff.InPlayCards;
+import basic_game_components.player_stuff.Player;
+import door_cards.CurseCard;
+import door_cards.MonsterCard;
+import handlers.CardPlayHandler;
+import handlers.CurseCardHandler;
+import handlers.DefaultCurseChooser;
+import treasure_cards.ItemCard;
+import utilities.CardCatalog;
+import utilities.PileManager;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This class tests that the GameSnapshotCodec restores every part of a game it writes: a snapshot of a game in the middle of play (with
+ * equipped items, enhanced monsters, curses applied, and the chicken, half-breed and super munchkin flags set) is decoded, then encoded again,
+ * and must give back the same bytes. It also tests that the snapshots of the older versions (without the journal sequence or position) are
+ * still read.
+ */
+class GameSnapshotCodecTest {
+
+    // The seed of the game the snapshots are taken of.
+    private static final long SEED = 17L;
+    // The number of players of the game.
+    private static final int NUMBER_OF_PLAYERS = 4;
+    // The number of turns played before the snapshot is taken, and the cards drawn from each pile during each of them.
+    private static final int NUMBER_OF_TURNS = 40;
+    private static final int CARDS_DRAWN_PER_TURN = 2;
+    // The curse that puts a chicken on the target's head.
+    private static final String CHICKEN_CURSE = "Curse! Chicken On Your Head";
+    // The journal sequence and position written with the snapshots (of different varint sizes, so the header has to be read right).
+    private static final long JOURNAL_SEQUENCE = 1234L;
+    private static final long JOURNAL_POSITION = 567890L;
+    // The size of the header before the journal sequence: magic (4 bytes), version (1 byte) and seed (8 bytes).
+    private static final int HEADER_SIZE = 13;
+
+    //----------------------------------------------------
+    //            TESTS
+    //----------------------------------------------------
+
+    /**
+     * Plays a game for a few turns, then takes a snapshot of it, decodes it into a new game and into a game played differently, and checks that
+     * both encode back to the same bytes and agree with the game on what the snapshot doesn't spell out (the players' strength and traits).
+     * Then decodes a snapshot of a game just started into the played game, and checks that nothing of the play is left.
+     */
+    @Test
+    void midGameSnapshotIsEncodedAgainByteForByte() {
+
+        Game game = createMidGame();
+        checkMidGame(game);
+
+        byte[] snapshot = encode(game, JOURNAL_SEQUENCE, JOURNAL_POSITION);
+
+        // Into a new game.
+        Game newGame = GameSnapshotCodec.decodeNewGame(ByteBuffer.wrap(snapshot), new CurseCardHandler());
+
+        assertArrayEquals(snapshot, encode(newGame, JOURNAL_SEQUENCE, JOURNAL_POSITION));
+        checkSamePlayers(game, newGame);
+
+        // Into a game that was played differently.
+        Game otherGame = new Game(SEED, NUMBER_OF_PLAYERS, new CurseCardHandler());
+        otherGame.getPlayers().get(0).changeSex();
+        otherGame.getPlayers().get(1).getDie().setChickenOnYourHead_TrueOrFalse(true);
+        otherGame.getPileManager().drawDoorCard();
+
+        assertEquals(JOURNAL_SEQUENCE, GameSnapshotCodec.decode(ByteBuffer.wrap(snapshot), otherGame));
+        assertArrayEquals(snapshot, encode(otherGame, JOURNAL_SEQUENCE, JOURNAL_POSITION));
+        checkSamePlayers(game, otherGame);
+
+        // A game just started, over the played one.
+        byte[] newSnapshot = encode(new Game(SEED, NUMBER_OF_PLAYERS, new CurseCardHandler()), 0, 0);
+        GameSnapshotCodec.decode(ByteBuffer.wrap(newSnapshot), game);
+
+        assertArrayEquals(newSnapshot, encode(game, 0, 0));
+
+        for(Player curPlayer : game.getPlayers()) {
+            assertFalse(curPlayer.getDie().checkIf_ChickenOnYourHead());
+            assertEquals(1, curPlayer.getInPlayCards().getRaceCardLimit());
+            assertEquals(1, curPlayer.getInPlayCards().getClassCardLimit());
+            assertEquals(0, curPlayer.getInPlayCards().getNumberOfCards());
+        }
+
+    } // End of midGameSnapshotIsEncodedAgainByteForByte method.
+
+    /**
+     * Rewrites a snapshot of a game in the middle of play as versions 1, 2 and 3 would have written it (version 1 without the journal sequence,
+     * and versions 1 to 3 without the journal position), and checks that each one is decoded into the same game, with the journal sequence and
+     * position read as 0 when they are missing.
+     */
+    @Test
+    void olderVersionsAreStillRead() {
+
+        Game game = createMidGame();
+        byte[] snapshot = encode(game, JOURNAL_SEQUENCE, JOURNAL_POSITION);
+
+        for(int version = 1; version < GameSnapshotCodec.VERSION; version++) {
+            byte[] oldSnapshot = rewriteVersion(snapshot, version);
+            long journalSequence = (version >= 2) ? JOURNAL_SEQUENCE : 0;
+
+            assertEquals(journalSequence, GameSnapshotCodec.readJournalSequence(ByteBuffer.wrap(oldSnapshot)), "Version " + version);
+            assertEquals(0, GameSnapshotCodec.readJournalPosition(ByteBuffer.wrap(oldSnapshot)), "Version " + version);
+
+            ByteBuffer buffer = ByteBuffer.wrap(oldSnapshot);
+            Game oldGame = GameSnapshotCodec.decodeNewGame(buffer, new CurseCardHandler());
+
+            assertEquals(oldSnapshot.length, buffer.position(), "Version " + version);
+            assertArrayEquals(encode(game, journalSequence, 0), encode(oldGame, journalSequence, 0), "Version " + version);
+            checkSamePlayers(game, oldGame);
+        }
+
+        // A version this codec doesn't know yet.
+        byte[] newerSnapshot = snapshot.clone();
+        newerSnapshot[4] = GameSnapshotCodec.VERSION + 1;
+
+        assertThrows(IllegalArgumentException.class,
+            () -> GameSnapshotCodec.decodeNewGame(ByteBuffer.wrap(newerSnapshot), new CurseCardHandler()));
+
+    } // End of olderVersionsAreStillRead method.
+
+    //----------------------------------------------------
+    //            HELPER METHOD(S)
+    //----------------------------------------------------
+
+    /**
+     * This method plays a game for NUMBER_OF_TURNS turns: each turn, the current player draws door and treasure cards, plays the ones they can
+     * (items, races, classes, "Half-Breed" and "Super Munchkin"), curses the next player with their curses, enhances the monsters they keep (a
+     * level, a treasure and their undead status, as if they were enhanced in a fight), rolls their die, and earns a level, gold and a bonus.
+     * Then the current player draws the chicken and curses the next player with it.
+     * @return The game.
+     */
+    private static Game createMidGame() {
+
+        Game game = new Game(SEED, NUMBER_OF_PLAYERS, new CurseCardHandler());
+        PileManager pileManager = game.getPileManager();
+        List<Player> players = game.getPlayers();
+        DefaultCurseChooser curseChooser = new DefaultCurseChooser();
+
+        for(int turn = 0; turn < NUMBER_OF_TURNS; turn++) {
+            Player player = game.getCurrentPlayer();
+            Player nextPlayer = players.get(player.getPlayerTurnNumber() % NUMBER_OF_PLAYERS);
+
+            for(int i = 0; i < CARDS_DRAWN_PER_TURN; i++) {
+                player.getHand().addCardToHand(pileManager.drawDoorCard());
+                player.getHand().addCardToHand(pileManager.drawTreasureCard());
+            }
+
+            // From the right, so the cards left to look at don't shift.
+            for(int location = player.getHand().getNumberOfCards(); location >= 1; location--) {
+                Card card = player.getHand().getCard_UsingCardLocationNumber(location);
+
+                if(card instanceof CurseCard) {
+                    player.getHand().removeCard_UsingCardLocationNumber(location);
+                    game.getCurseCardHandler().handleCurse_PlayerChoice(card, nextPlayer, players, pileManager, curseChooser);
+                    pileManager.discardDoorCard(card);
+                }
+                else if(card instanceof MonsterCard) {
+                    MonsterCard monster = (MonsterCard) card;
+                    monster.modifyLevel(turn % 5 + 1);
+                    monster.modifyTreasureReward(1);
+                    monster.setIfMonsterIsUndead(!monster.getUndeadStatus());
+                }
+                else if(card.getName().equals("Half-Breed") || card.getName().equals("Super Munchkin"))
+                    playLimitExtender(player, location);
+                else
+                    CardPlayHandler.tryToPlayCard_UsingCardLocationNumber(player, pileManager, location);
+
+            } // End of for loop.
+
+            player.getDie().roll();
+            player.modifyLevel(turn % 2);
+            player.addGold(100 * (turn % 3));
+            player.modifyCombatBonus(turn % 3 - 1);
+            game.endTurn();
+
+        } // End of for loop.
+
+        // The chicken is a single card, so the current player draws it rather than waiting for it, and curses the next player with it.
+        Card card = pileManager.drawDoorCard();
+
+        while(!card.getName().equals(CHICKEN_CURSE)) {
+            pileManager.discardDoorCard(card);
+            card = pileManager.drawDoorCard();
+            assertNotNull(card, "The chicken isn't in the door pile");
+        }
+
+        Player nextPlayer = players.get(game.getCurrentPlayer().getPlayerTurnNumber() % NUMBER_OF_PLAYERS);
+        game.getCurseCardHandler().handleCurse_PlayerChoice(card, nextPlayer, players, pileManager, curseChooser);
+        pileManager.discardDoorCard(card);
+
+        return game;
+
+    } // End of createMidGame method.
+
+    /**
+     * This method plays a "Half-Breed" or "Super Munchkin" card from a player's hand, which lets them have a second race or class.
+     * @param player The player.
+     * @param location The location of the card in the player's hand (starting at 1).
+     */
+    private static void playLimitExtender(Player player, int location) {
+
+        Card card = player.getHand().removeCard_UsingCardLocationNumber(location);
+        InPlayCards inPlayCards = player.getInPlayCards();
+        inPlayCards.addCardToInPlayCards(card);
+
+        if(card.getName().equals("Half-Breed"))
+            inPlayCards.extendRaceCardLimit_HalfBreedEquipped();
+        else
+            inPlayCards.extendClassCardLimit_SuperMunchkinEquipped();
+
+    } // End of playLimitExtender method.
+
+    /**
+     * This method checks that a game played by createMidGame has everything the snapshot has to carry: equipped items, items in play that
+     * aren't equipped (or cards that aren't items), enhanced monsters, curses applied, and the chicken, half-breed and super munchkin flags.
+     * @param game The game.
+     */
+    private static void checkMidGame(Game game) {
+
+        boolean chicken = false, halfBreed = false, superMunchkin = false, equipped = false, notEquipped = false;
+
+        for(Player curPlayer : game.getPlayers()) {
+            InPlayCards inPlayCards = curPlayer.getInPlayCards();
+            chicken |= curPlayer.getDie().checkIf_ChickenOnYourHead();
+            halfBreed |= inPlayCards.getRaceCardLimit() > 1;
+            superMunchkin |= inPlayCards.getClassCardLimit() > 1;
+
+            for(int i = 1; i <= inPlayCards.getNumberOfCards(); i++) {
+                Card card = inPlayCards.getCard_UsingCardLocationNumber(i);
+                boolean curEquipped = card instanceof ItemCard && inPlayCards.checkIf_ItemEquipped((ItemCard) card);
+                equipped |= curEquipped;
+                notEquipped |= !curEquipped;
+            }
+
+        } // End of for loop.
+
+        int enhancedMonsters = 0;
+
+        for(int id = 0; id < CardCatalog.getDoorCardCount(); id++) {
+            Card card = game.getPileManager().getCard_UsingCatalogIndex(id);
+
+            if(card instanceof MonsterCard && ((MonsterCard) card).getLevel() != ((MonsterCard) CardCatalog.getCardDefinition(id)).getLevel())
+                enhancedMonsters++;
+        }
+
+        assertTrue(chicken, "No chicken on anyone's head");
+        assertTrue(halfBreed, "No half-breed");
+        assertTrue(superMunchkin, "No super munchkin");
+        assertTrue(equipped, "No equipped item");
+        assertTrue(notEquipped, "No in play card that isn't equipped");
+        assertTrue(enhancedMonsters > 1, "Not enough enhanced monsters");
+
+    } // End of checkMidGame method.
+
+    /**
+     * This method checks that the players of a game restored from a snapshot have the same stats as the ones of the game the snapshot was taken
+     * of (the stats derived from what the snapshot holds, rather than held by it).
+     * @param expectedGame The game the snapshot was taken of.
+     * @param game The game restored from the snapshot.
+     */
+    private static void checkSamePlayers(Game expectedGame, Game game) {
+
+        assertEquals(expectedGame.getCurrentPlayer().getPlayerTurnNumber(), game.getCurrentPlayer().getPlayerTurnNumber());
+        assertEquals(expectedGame.getTurnCount(), game.getTurnCount());
+
+        for(int i = 0; i < NUMBER_OF_PLAYERS; i++) {
+            Player expected = expectedGame.getPlayers().get(i);
+            Player player = game.getPlayers().get(i);
+
+            assertEquals(expected.getCombatStrength(), player.getCombatStrength(), "Player " + (i + 1));
+            assertEquals(expected.getRunAwayTarget(), player.getRunAwayTarget(), "Player " + (i + 1));
+            assertEquals(expected.getTraits(), player.getTraits(), "Player " + (i + 1));
+            assertEquals(expected.getHand().getHandLimit(), player.getHand().getHandLimit(), "Player " + (i + 1));
+        }
+
+    } // End of checkSamePlayers method.
+
+    /**
+     * This method takes a snapshot of a game.
+     * @param game The game.
+     * @param journalSequence The journal sequence written with the snapshot.
+     * @param journalPosition The journal position written with the snapshot.
+     * @return The snapshot's bytes.
+     */
+    private static byte[] encode(Game game, long journalSequence, long journalPosition) {
+
+        ByteBuffer buffer = ByteBuffer.allocate(GameSnapshotCodec.getMaxSnapshotSize(NUMBER_OF_PLAYERS));
+        GameSnapshotCodec.encode(game, journalSequence, journalPosition, buffer);
+
+        return Arrays.copyOf(buffer.array(), buffer.position());
+
+    } // End of encode method.
+
+    /**
+     * This method rewrites a snapshot written with JOURNAL_SEQUENCE and JOURNAL_POSITION as an older version would have written it: version 1
+     * had neither, and versions 2 and 3 had the journal sequence only.
+     * @param snapshot The snapshot (of the current version).
+     * @param version The older version.
+     * @return The older version's snapshot.
+     */
+    private static byte[] rewriteVersion(byte[] snapshot, int version) {
+
+        int sequenceSize = getVarLongSize(JOURNAL_SEQUENCE);
+        int restStart = HEADER_SIZE + sequenceSize + getVarLongSize(JOURNAL_POSITION);
+        int keptSize = (version >= 2) ? HEADER_SIZE + sequenceSize : HEADER_SIZE;
+
+        byte[] oldSnapshot = new byte[keptSize + snapshot.length - restStart];
+        System.arraycopy(snapshot, 0, oldSnapshot, 0, keptSize);
+        System.arraycopy(snapshot, restStart, oldSnapshot, keptSize, snapshot.length - restStart);
+        oldSnapshot[4] = (byte) version;
+
+        return oldSnapshot;
+
+    } // End of rewriteVersion method.
+
+    /**
+     * This method gets the number of bytes a value takes as a varint (7 bits per byte).
+     * @param value The value (non-negative).
+     * @return The number of bytes.
+     */
+    private static int getVarLongSize(long value) {
+
+        int size = 1;
+
+        while((value >>>= 7) != 0)
+            size++;
+
+        return size;
+
+    } // End of getVarLongSize method.
+
+} // End of GameSnapshotCodecTest class.
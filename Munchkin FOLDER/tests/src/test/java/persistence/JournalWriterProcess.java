@@ -0,0 +1,87 @@
+package persistence;
+
+import events.GameEventSink;
+import simulation.GameSimulator;
+import simulation.PlayerPolicy;
+import simulation.RandomPolicy;
+import simulation.ScriptedPolicy;
+import simulation.SimulationResults;
+
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This class is the writer EventJournalRecoveryTest kills: a separate JVM whose game threads journal complete games, one after the other,
+ * until it is killed (so it always dies in the middle of a batch of appends). A thread waits for a game's records to be committed before it
+ * starts its next game, so every game that was followed by another one must be recovered in full.
+ *
+ * IMPORTANT NOTE: Each game is played by a GameSimulator whose events go straight to a JournalEventSink, so the journal holds every event of
+ * the game from its first one (sequence 0). The game with id gameId is seeded with getSeed(gameId) and has getNumberOfPlayers(gameId)
+ * players, so the test can play it again to know what was journaled.
+ */
+public class JournalWriterProcess {
+
+    // The segment size of the journal (small, so the games cross many segment boundaries).
+    static final int SEGMENT_SIZE = EventJournal.RECORD_SIZE << 12;
+    // The number of game threads (each plays the games whose id is its index, plus a multiple of the number of threads).
+    static final int NUMBER_OF_THREADS = 2;
+
+    /**
+     * This method journals games until the process is killed, printing the id of each game as it starts.
+     * @param args The journal's directory.
+     */
+    public static void main(String[] args) {
+
+        EventJournal journal = new EventJournal(Path.of(args[0]), SEGMENT_SIZE, EventJournal.DEFAULT_COMMIT_INTERVAL_NANOS);
+
+        for(int i = 0; i < NUMBER_OF_THREADS; i++) {
+            int firstGameId = i;
+
+            new Thread(() -> {
+                GameSimulator simulator = new GameSimulator(createPolicies());
+
+                for(int gameId = firstGameId; ; gameId += NUMBER_OF_THREADS) {
+                    synchronized(System.out) {
+                        System.out.println(gameId);
+                        System.out.flush();
+                    }
+
+                    JournalEventSink eventSink = new JournalEventSink(journal, gameId, 0, GameEventSink.NONE);
+
+                    simulator.setEventSink(eventSink);
+                    simulator.playGame(getSeed(gameId), getNumberOfPlayers(gameId), new SimulationResults());
+                    // As a server would before acknowledging the end of the game.
+                    journal.awaitCommitted(eventSink.getLastPosition(), TimeUnit.MINUTES.toNanos(1));
+                }
+            }, "journal-writer-" + i).start();
+        }
+
+    } // End of main method.
+
+    /**
+     * This method creates the policies every game is played with.
+     * @return The policies.
+     */
+    static PlayerPolicy[] createPolicies() {
+        return new PlayerPolicy[] { new RandomPolicy(), new ScriptedPolicy() };
+    }
+
+    /**
+     * This method gets the seed of a game.
+     * @param gameId The id of the game.
+     * @return The game's seed.
+     */
+    static long getSeed(int gameId) {
+        return 1000 + gameId;
+    }
+
+    /**
+     * This method gets the number of players of a game.
+     * @param gameId The id of the game.
+     * @return The game's number of players.
+     */
+    static int getNumberOfPlayers(int gameId) {
+        return 2 + gameId % 5;
+    }
+
+} // End of JournalWriterProcess class.
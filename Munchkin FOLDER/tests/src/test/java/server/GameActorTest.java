@@ -0,0 +1,108 @@
+package server;
+
+import basic_game_components.Game;
+import handlers.CurseCardHandler;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This class tests that a GameActor keeps running its game's commands after one of them threw an exception or an Error, and reports each
+ * failure with the game's id.
+ */
+class GameActorTest {
+
+    // The id of the game.
+    private static final int GAME_ID = 7;
+
+    //----------------------------------------------------
+    //            TESTS
+    //----------------------------------------------------
+
+    /**
+     * Sends commands throwing an exception, an AssertionError and a StackOverflowError between commands that succeed: every command must be
+     * executed, every failure reported, and the game must answer queries afterwards.
+     */
+    @Test
+    void failedCommandsAreReportedAndTheGameGoesOn() throws Exception {
+
+        ExecutorService carriers = Executors.newSingleThreadExecutor();
+        List<Throwable> failures = new ArrayList<>();
+        int[] executedCommands = new int[1];
+
+        try {
+            GameActor actor = new GameActor(GAME_ID, new Game(1L, 3, new CurseCardHandler()), carriers, (gameId, exception) -> {
+                assertEquals(GAME_ID, gameId);
+                failures.add(exception);
+            });
+
+            actor.tell(game -> executedCommands[0]++);
+            actor.tell(game -> { throw new IllegalStateException("exception"); });
+            actor.tell(game -> executedCommands[0]++);
+            actor.tell(game -> { throw new AssertionError("assertion"); });
+            actor.tell(game -> executedCommands[0]++);
+            actor.tell(game -> { throw new StackOverflowError(); });
+
+            // The query runs after every command above, on the same carrier thread.
+            assertEquals(3, actor.ask(game -> game.getPlayers().size()).get(10, TimeUnit.SECONDS));
+
+            // The counts are written once the run ends, after the query is answered.
+            carriers.shutdown();
+            assertTrue(carriers.awaitTermination(10, TimeUnit.SECONDS));
+
+            assertEquals(3, executedCommands[0]);
+            assertEquals(7, actor.getExecutedCount());
+            assertEquals(3, actor.getFailedCount());
+            assertEquals(3, failures.size());
+            assertInstanceOf(IllegalStateException.class, failures.get(0));
+            assertInstanceOf(AssertionError.class, failures.get(1));
+            assertInstanceOf(StackOverflowError.class, failures.get(2));
+        }
+        finally {
+            carriers.shutdownNow();
+        }
+
+    } // End of failedCommandsAreReportedAndTheGameGoesOn method.
+
+    /**
+     * Makes the end of batch command throw an Error after every batch, and checks that the actor is still scheduled for the commands sent
+     * afterwards (a run cut short by an Error used to leave it marked as scheduled, so its game stopped).
+     */
+    @Test
+    void actorIsScheduledAgainAfterAnError() throws Exception {
+
+        ExecutorService carriers = Executors.newSingleThreadExecutor();
+        List<Throwable> failures = new ArrayList<>();
+
+        try {
+            GameActor actor = new GameActor(GAME_ID, new Game(1L, 2, new CurseCardHandler()), carriers, (gameId, exception) ->
+                failures.add(exception));
+
+            actor.setEndOfBatchCommand(game -> { throw new AssertionError("end of batch"); });
+
+            // Each query is answered before the end of its batch, so the next one can only be answered if the actor runs again.
+            for(int i = 0; i < 3; i++)
+                assertEquals(2, actor.ask(game -> game.getPlayers().size()).get(10, TimeUnit.SECONDS));
+
+            carriers.shutdown();
+            assertTrue(carriers.awaitTermination(10, TimeUnit.SECONDS));
+
+            assertFalse(failures.isEmpty());
+            assertEquals(failures.size(), actor.getFailedCount());
+            assertEquals(3, actor.getExecutedCount());
+            assertTrue(actor.checkIf_MailboxIsEmpty());
+        }
+        finally {
+            carriers.shutdownNow();
+        }
+
+    } // End of actorIsScheduledAgainAfterAnError method.
+
+} // End of GameActorTest class.
@@ -0,0 +1,396 @@
+package server;
+
+import basic_game_components.Card;
+import basic_game_components.CardKind;
+import basic_game_components.Game;
+import basic_game_components.PileType;
+import basic_game_components.player_stuff.Hand;
+import basic_game_components.player_stuff.Player;
+import door_cards.MonsterCard;
+import door_cards.MonsterEnhancerCard;
+import handlers.Combat;
+import handlers.CombatReactionHandler;
+import handlers.CurseCardHandler;
+import handlers.DefaultCurseChooser;
+import handlers.ReactionChooser;
+import treasure_cards.OneShotTreasureCard;
+import utilities.PileManager;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This class tests how a ReactionWindow runs a combat's windows: the reactions of a window are applied in rule order rather than in turn
+ * order, a window closes as soon as every player answered, or else when its deadline comes (the players who didn't answer pass), and the
+ * cards of the reactions the combat no longer allows go back to their player's hand. The bots' reactions come from a scripted
+ * ReactionChooser, and the windows' deadlines are kept on a TimingWheel turned by hand with a clock the tests move.
+ */
+class ReactionWindowTest {
+
+    // The seed of the game the combats are fought in.
+    private static final long SEED = 5L;
+    // The number of players of the game.
+    private static final int NUMBER_OF_PLAYERS = 3;
+    // The length of a tick of the wheel the deadlines are kept on.
+    private static final long TICK_MILLIS = 100;
+    private static final long TICK_NANOS = TimeUnit.MILLISECONDS.toNanos(TICK_MILLIS);
+    // The number of ticks a window stays open.
+    private static final long TIMEOUT_TICKS = ReactionWindow.REACTION_TIMEOUT_MILLIS / TICK_MILLIS;
+
+    //----------------------------------------------------
+    //            TESTS
+    //----------------------------------------------------
+
+    /**
+     * Makes the fighter play a one shot treasure, the second player a monster enhancer on the second monster, and the third player (who
+     * answers last) a "Wandering Monster", and checks that the wandering monster was added before the enhancer was applied (in turn order
+     * from the fighter, the enhancer would have come first, with no second monster to go on). Then checks that a second window opened, and
+     * that the combat is resolved once everyone passed it.
+     */
+    @Test
+    void reactionsAreAppliedInRuleOrder() {
+
+        Game game = new Game(SEED, NUMBER_OF_PLAYERS, new CurseCardHandler());
+        PileManager pileManager = game.getPileManager();
+        Player fighter = game.getPlayers().get(0);
+        ScriptedReactionChooser chooser = new ScriptedReactionChooser();
+        ReactionWindow window = createWindow(game, createWheel(new AtomicLong()), chooser);
+
+        OneShotTreasureCard oneShot = (OneShotTreasureCard) giveCard(game, 1, CardKind.ONE_SHOT_TREASURE, null);
+        MonsterEnhancerCard enhancer = (MonsterEnhancerCard) giveCard(game, 2, CardKind.MONSTER_ENHANCER, null);
+        giveCard(game, 3, CardKind.OTHER_DOOR, CombatReactionHandler.WANDERING_MONSTER);
+        MonsterCard wanderingMonster = (MonsterCard) giveCard(game, 3, CardKind.MONSTER, null);
+        int wanderingMonsterLevel = wanderingMonster.getLevel();
+
+        chooser.play(1, 1, 0);
+        chooser.play(2, 1, 2);
+
+        MonsterCard monster = drawMonster(pileManager);
+        Combat combat = window.getCombatResolver().startCombat(fighter, monster);
+        window.startCombat(game, combat, new boolean[] {true, true, false});
+
+        // The bots' cards left their hands, but nothing is applied until the third player answers.
+        assertTrue(window.checkIf_Open());
+        assertEquals(0, fighter.getHand().getNumberOfCards());
+        assertEquals(0, game.getPlayers().get(1).getHand().getNumberOfCards());
+        assertEquals(1, combat.getNumberOfMonsters());
+        assertEquals(fighter.getCombatStrength(), combat.getFighterStrength());
+
+        assertEquals(GameProtocol.OK, window.answer(game, 3, window.getWindowNumber(), 1, 2));
+
+        assertTrue(window.checkIf_Open());
+        assertEquals(2, window.getRound());
+        assertEquals(2, combat.getNumberOfMonsters());
+        assertSame(wanderingMonster, combat.getMonster(2));
+        assertEquals(monster.getLevel() + wanderingMonsterLevel + enhancer.getLevelEnhancementValue(), combat.getMonsterStrength());
+        assertEquals(fighter.getCombatStrength() + oneShot.getCombatBonus(), combat.getFighterStrength());
+
+        for(Player curPlayer : game.getPlayers())
+            assertEquals(0, curPlayer.getHand().getNumberOfCards(), "Player " + curPlayer.getPlayerTurnNumber());
+
+        // The bots were asked again (and passed), so the combat is resolved once the third player passes too.
+        assertEquals(2, chooser.getNumberOfCalls(1));
+        assertEquals(2, chooser.getNumberOfCalls(2));
+        assertEquals(0, chooser.getNumberOfCalls(3));
+
+        assertEquals(GameProtocol.OK, window.answer(game, 3, window.getWindowNumber(), 0, 0));
+
+        assertFalse(window.checkIf_Open());
+        assertFalse(window.checkIf_CombatInProgress());
+        assertEquals(1, window.getNumberOfCombatsResolved());
+        assertEquals(1, window.getLastFighterTurnNumber());
+
+    } // End of reactionsAreAppliedInRuleOrder method.
+
+    /**
+     * Opens a window two players have to answer, and checks that the answers to another window, the second answers and the cards that can't
+     * be played are turned down, that the window stays open until the last player answered, and that it closes (and cancels its deadline)
+     * as soon as they did.
+     */
+    @Test
+    void windowClosesOnceEveryoneAnswered() {
+
+        Game game = new Game(SEED, NUMBER_OF_PLAYERS, new CurseCardHandler());
+        AtomicLong now = new AtomicLong();
+        TimingWheel wheel = createWheel(now);
+        ScriptedReactionChooser chooser = new ScriptedReactionChooser();
+        ReactionWindow window = createWindow(game, wheel, chooser);
+
+        Combat combat = window.getCombatResolver().startCombat(game.getPlayers().get(0), drawMonster(game.getPileManager()));
+        window.startCombat(game, combat, new boolean[] {true, false, false});
+
+        int windowNumber = window.getWindowNumber();
+
+        assertTrue(window.checkIf_Open());
+        assertTrue(window.checkIf_Answered(1));
+        assertEquals(1, wheel.getPendingCount());
+
+        assertEquals(GameProtocol.NO_REACTION_WINDOW, window.answer(game, 1, windowNumber, 0, 0));
+        assertEquals(GameProtocol.NO_REACTION_WINDOW, window.answer(game, 2, windowNumber + 1, 0, 0));
+        assertEquals(GameProtocol.INVALID_CARD, window.answer(game, 2, windowNumber, 1, 0));
+        assertFalse(window.checkIf_Answered(2));
+
+        assertEquals(GameProtocol.OK, window.answer(game, 2, windowNumber, 0, 0));
+        assertEquals(GameProtocol.NO_REACTION_WINDOW, window.answer(game, 2, windowNumber, 0, 0));
+        assertTrue(window.checkIf_Open());
+
+        // Only the lowest 8 bits of the window number are compared.
+        assertEquals(GameProtocol.OK, window.answer(game, 3, windowNumber + 256, 0, 0));
+
+        assertFalse(window.checkIf_Open());
+        assertFalse(window.checkIf_CombatInProgress());
+        assertEquals(1, window.getNumberOfCombatsResolved());
+        assertEquals(0, wheel.getPendingCount());
+        assertEquals(GameProtocol.NO_REACTION_WINDOW, window.answer(game, 3, windowNumber, 0, 0));
+
+        // The cancelled deadline never closes anything.
+        advanceTo(wheel, now, 2 * TIMEOUT_TICKS);
+
+        assertEquals(windowNumber, window.getWindowNumber());
+        assertEquals(1, window.getNumberOfCombatsResolved());
+
+    } // End of windowClosesOnceEveryoneAnswered method.
+
+    /**
+     * Opens a window nobody plays a bot in, makes the fighter play a one shot treasure, and checks that the window stays open until its
+     * deadline, then closes with the fighter's reaction applied (the others passed). Then checks that the deadline of the window that closed
+     * doesn't close the next one, which closes on its own deadline, nobody having answered, and resolves the combat.
+     */
+    @Test
+    void windowExpiresAfterTheTimeout() {
+
+        Game game = new Game(SEED, NUMBER_OF_PLAYERS, new CurseCardHandler());
+        Player fighter = game.getPlayers().get(0);
+        AtomicLong now = new AtomicLong();
+        TimingWheel wheel = createWheel(now);
+        ReactionWindow window = createWindow(game, wheel, new ScriptedReactionChooser());
+        OneShotTreasureCard oneShot = (OneShotTreasureCard) giveCard(game, 1, CardKind.ONE_SHOT_TREASURE, null);
+
+        Combat combat = window.getCombatResolver().startCombat(fighter, drawMonster(game.getPileManager()));
+        window.startCombat(game, combat, new boolean[NUMBER_OF_PLAYERS]);
+
+        int firstWindowNumber = window.getWindowNumber();
+        assertEquals(GameProtocol.OK, window.answer(game, 1, firstWindowNumber, 1, 0));
+
+        advanceTo(wheel, now, TIMEOUT_TICKS - 1);
+
+        assertTrue(window.checkIf_Open());
+        assertEquals(firstWindowNumber, window.getWindowNumber());
+        assertEquals(fighter.getCombatStrength(), combat.getFighterStrength());
+
+        advanceTo(wheel, now, TIMEOUT_TICKS + 1);
+
+        assertTrue(window.checkIf_Open());
+        assertEquals(2, window.getRound());
+        assertEquals(firstWindowNumber + 1, window.getWindowNumber());
+        assertFalse(window.checkIf_Answered(1));
+        assertEquals(fighter.getCombatStrength() + oneShot.getCombatBonus(), combat.getFighterStrength());
+
+        window.expire(game, firstWindowNumber);
+
+        assertTrue(window.checkIf_Open());
+
+        advanceTo(wheel, now, 2 * TIMEOUT_TICKS + 2);
+
+        assertFalse(window.checkIf_CombatInProgress());
+        assertEquals(1, window.getNumberOfCombatsResolved());
+        assertEquals(0, wheel.getPendingCount());
+
+    } // End of windowExpiresAfterTheTimeout method.
+
+    /**
+     * Makes the second player play "Out To Lunch", the third a monster enhancer, and the fighter a "Wandering Monster", and checks that once
+     * the monsters went out to lunch (it is applied first), the enhancer and the wandering monster's cards went back to their player's hand,
+     * and that the combat was resolved without another window.
+     */
+    @Test
+    void refusedReactionsGoBackToTheHand() {
+
+        Game game = new Game(SEED, NUMBER_OF_PLAYERS, new CurseCardHandler());
+        Player fighter = game.getPlayers().get(0);
+        ScriptedReactionChooser chooser = new ScriptedReactionChooser();
+        ReactionWindow window = createWindow(game, createWheel(new AtomicLong()), chooser);
+
+        Card wanderingMonsterCard = giveCard(game, 1, CardKind.OTHER_DOOR, CombatReactionHandler.WANDERING_MONSTER);
+        Card wanderingMonster = giveCard(game, 1, CardKind.MONSTER, null);
+        giveCard(game, 2, CardKind.OTHER_DOOR, CombatReactionHandler.OUT_TO_LUNCH);
+        Card enhancer = giveCard(game, 3, CardKind.MONSTER_ENHANCER, null);
+
+        chooser.play(1, 1, 2);
+        chooser.play(2, 1, 0);
+        chooser.play(3, 1, 1);
+
+        Combat combat = window.getCombatResolver().startCombat(fighter, drawMonster(game.getPileManager()));
+        window.startCombat(game, combat, new boolean[] {true, true, true});
+
+        assertFalse(window.checkIf_CombatInProgress());
+        assertEquals(1, window.getRound());
+        assertEquals(Combat.MONSTERS_LEFT, window.getLastOutcome());
+
+        // The fighter's cards came back in the order they were played, before the treasures the monsters left behind.
+        Hand fighterHand = fighter.getHand();
+
+        assertEquals(2 + Combat.OUT_TO_LUNCH_TREASURES, fighterHand.getNumberOfCards());
+        assertSame(wanderingMonsterCard, fighterHand.getCard_UsingCardLocationNumber(1));
+        assertSame(wanderingMonster, fighterHand.getCard_UsingCardLocationNumber(2));
+        assertEquals(0, game.getPlayers().get(1).getHand().getNumberOfCards());
+        assertEquals(1, game.getPlayers().get(2).getHand().getNumberOfCards());
+        assertSame(enhancer, game.getPlayers().get(2).getHand().getCard_UsingCardLocationNumber(1));
+
+    } // End of refusedReactionsGoBackToTheHand method.
+
+    //----------------------------------------------------
+    //            HELPER METHOD(S)
+    //----------------------------------------------------
+
+    /**
+     * This method creates a wheel without a thread of its own, whose clock is read from a value the test moves.
+     * @param now The clock's value, in nanoseconds.
+     * @return The wheel.
+     */
+    private static TimingWheel createWheel(AtomicLong now) {
+        return new TimingWheel(TICK_MILLIS, now::get, false);
+    }
+
+    /**
+     * This method creates the reaction window of a game, whose actor executes its commands right away on the thread telling it.
+     * @param game The game.
+     * @param wheel The wheel the windows' deadlines are kept on.
+     * @param chooser Makes the bots' reactions.
+     * @return The reaction window.
+     */
+    private static ReactionWindow createWindow(Game game, TimingWheel wheel, ReactionChooser chooser) {
+        GameActor actor = new GameActor(1, game, Runnable::run);
+        return new ReactionWindow(NUMBER_OF_PLAYERS, actor, wheel, chooser, new DefaultCurseChooser());
+    }
+
+    /**
+     * This method moves the wheel's clock one tick at a time, turning the wheel at every tick.
+     * @param wheel The wheel.
+     * @param now The clock's value, in nanoseconds.
+     * @param tick The tick to move the clock to.
+     */
+    private static void advanceTo(TimingWheel wheel, AtomicLong now, long tick) {
+
+        for(long nextTick = now.get() / TICK_NANOS + 1; nextTick <= tick; nextTick++) {
+            now.set(nextTick * TICK_NANOS);
+            wheel.advance();
+        }
+
+    } // End of advanceTo method.
+
+    /**
+     * This method draws cards from a pile until it draws one of a kind (and name), discarding the others, and puts it at the end of a
+     * player's hand.
+     * @param game The game.
+     * @param playerTurnNumber The player's turn number.
+     * @param kind The card's kind.
+     * @param name The card's name, or null for any card of that kind.
+     * @return The card.
+     */
+    private static Card giveCard(Game game, int playerTurnNumber, CardKind kind, String name) {
+
+        PileManager pileManager = game.getPileManager();
+        boolean door = kind.getPile() == PileType.DOOR;
+        Card card = door ? pileManager.drawDoorCard() : pileManager.drawTreasureCard();
+
+        while(card.getKind() != kind || (name != null && !card.getName().equals(name))) {
+            if(door)
+                pileManager.discardDoorCard(card);
+            else
+                pileManager.discardTreasureCard(card);
+
+            card = door ? pileManager.drawDoorCard() : pileManager.drawTreasureCard();
+            assertNotNull(card, "No " + (name != null ? name : kind.toString()) + " left in the pile");
+        }
+
+        game.getPlayers().get(playerTurnNumber - 1).getHand().addCardToHand(card);
+
+        return card;
+
+    } // End of giveCard method.
+
+    /**
+     * This method draws door cards until it draws a monster, discarding the others.
+     * @param pileManager The game's piles.
+     * @return The monster.
+     */
+    private static MonsterCard drawMonster(PileManager pileManager) {
+
+        Card card = pileManager.drawDoorCard();
+
+        while(!(card instanceof MonsterCard)) {
+            assertNotNull(card, "No monster left in the door pile");
+            pileManager.discardDoorCard(card);
+            card = pileManager.drawDoorCard();
+        }
+
+        return (MonsterCard) card;
+
+    } // End of drawMonster method.
+
+    //----------------------------------------------------
+    //            REACTION CHOOSER
+    //----------------------------------------------------
+
+    /**
+     * This class plays the reactions a test scripted for each bot, in the first window they are asked in (they pass in the others).
+     */
+    private static final class ScriptedReactionChooser implements ReactionChooser {
+
+        // The hand location of the card each player plays (0 to pass), and its second card or argument (index: turn number - 1).
+        private final int[] cardLocationNumbers = new int[NUMBER_OF_PLAYERS];
+        private final int[] arguments = new int[NUMBER_OF_PLAYERS];
+        // The number of times each player was asked for a reaction.
+        private final int[] numberOfCalls = new int[NUMBER_OF_PLAYERS];
+
+        /**
+         * This method scripts a player's reaction.
+         * @param playerTurnNumber The player's turn number.
+         * @param cardLocationNumber The hand location of the card played.
+         * @param argument The hand location of the second card, for the reactions that need one, or else the reaction's argument.
+         */
+        private void play(int playerTurnNumber, int cardLocationNumber, int argument) {
+            cardLocationNumbers[playerTurnNumber - 1] = cardLocationNumber;
+            arguments[playerTurnNumber - 1] = argument;
+        }
+
+        /**
+         * This method gets the number of times a player was asked for a reaction.
+         * @param playerTurnNumber The player's turn number.
+         * @return The number of times they were asked.
+         */
+        private int getNumberOfCalls(int playerTurnNumber) {
+            return numberOfCalls[playerTurnNumber - 1];
+        }
+
+        @Override
+        public int chooseReaction(Combat combat, Player player) {
+
+            int seat = player.getPlayerTurnNumber() - 1;
+            int cardLocationNumber = cardLocationNumbers[seat];
+
+            numberOfCalls[seat]++;
+            cardLocationNumbers[seat] = 0;
+
+            return cardLocationNumber;
+
+        } // End of chooseReaction method.
+
+        @Override
+        public int chooseSecondCard(Combat combat, Player player, int cardLocationNumber) {
+            return arguments[player.getPlayerTurnNumber() - 1];
+        }
+
+        @Override
+        public int chooseArgument(Combat combat, Player player, int cardLocationNumber) {
+            return arguments[player.getPlayerTurnNumber() - 1];
+        }
+
+    } // End of ScriptedReactionChooser class.
+
+} // End of ReactionWindowTest class.
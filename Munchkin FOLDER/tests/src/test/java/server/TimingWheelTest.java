@@ -0,0 +1,295 @@
+package server;
+
+import basic_game_components.Game;
+import handlers.CurseCardHandler;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This class tests that a TimingWheel expires every timer exactly once and never before its deadline: across the cascades from level 1
+ * (every 256 ticks) and level 2 (every 2^14 ticks), for the timers beyond the last level (which wait in its last slot and are placed again),
+ * and for the timers other threads cancel while they are being scheduled. The wheels are turned by hand with a clock the tests move one tick
+ * at a time, so no test waits for real time to pass.
+ */
+class TimingWheelTest {
+
+    // The length of a tick.
+    private static final long TICK_MILLIS = 1;
+    private static final long TICK_NANOS = TimeUnit.MILLISECONDS.toNanos(TICK_MILLIS);
+    // The number of ticks the wheel covers (see TimingWheel.MAX_DELTA_TICKS).
+    private static final long MAX_DELTA_TICKS = 1L << 26;
+    // The delays (in ticks) around the level 1 and level 2 boundaries.
+    private static final long[] BOUNDARY_DELAYS = {1, 2, 255, 256, 257, 511, 512, 513, 4095, 16383, 16384, 16385, 16639, 16640, 32767, 32768,
+            32769, 40000};
+    // The ticks the boundary timers are scheduled at: 0, and a tick that isn't a multiple of 256.
+    private static final long[] BOUNDARY_START_TICKS = {0, 200};
+    // The delays (in ticks) at and beyond the last level, and the tick they are scheduled at.
+    private static final long[] CLAMPED_DELAYS = {MAX_DELTA_TICKS - 1, MAX_DELTA_TICKS, MAX_DELTA_TICKS + 1, MAX_DELTA_TICKS + 300};
+    private static final long CLAMPED_START_TICK = 5;
+    // The number of threads scheduling timers (each one with a thread cancelling every other one of its timers), and their number of timers.
+    private static final int NUMBER_OF_SCHEDULERS = 2;
+    private static final int TIMERS_PER_SCHEDULER = 3000;
+    // The longest delay (in ticks) of the timers scheduled while others are cancelled.
+    private static final int MAX_RACE_DELAY = 20000;
+    // The value of a timer's expiry tick until it expires.
+    private static final long NOT_EXPIRED = -1;
+
+    //----------------------------------------------------
+    //            TESTS
+    //----------------------------------------------------
+
+    /**
+     * Schedules timers around the level 1 and level 2 boundaries, both at tick 0 and at a tick that isn't a multiple of 256 (so their slots
+     * are reached at other points of the cascade), and checks that each one expires once, on its deadline tick or the next one.
+     */
+    @Test
+    void timersAreCascadedAcrossTheLevelBoundaries() {
+
+        AtomicLong now = new AtomicLong();
+        TimingWheel wheel = new TimingWheel(TICK_MILLIS, now::get, false);
+        GameActor actor = createActor();
+        GameTimer[] timers = new GameTimer[BOUNDARY_START_TICKS.length * BOUNDARY_DELAYS.length];
+        AtomicLongArray expiryTicks = createExpiryTicks(timers.length);
+
+        for(int i = 0; i < timers.length; i++) {
+            advanceTo(wheel, now, BOUNDARY_START_TICKS[i / BOUNDARY_DELAYS.length]);
+            timers[i] = schedule(wheel, actor, now, BOUNDARY_DELAYS[i % BOUNDARY_DELAYS.length], i, expiryTicks);
+            assertEquals(now.get() / TICK_NANOS + BOUNDARY_DELAYS[i % BOUNDARY_DELAYS.length], timers[i].deadlineTick);
+        }
+
+        // The shortest timers of the first batch expired before the second batch was scheduled.
+        int numberOfExpired = 0;
+
+        for(int i = 0; i < timers.length; i++) {
+            if(expiryTicks.get(i) != NOT_EXPIRED)
+                numberOfExpired++;
+        }
+
+        assertEquals(timers.length - numberOfExpired, wheel.getPendingCount());
+
+        advanceTo(wheel, now, findLastDeadline(timers) + 2);
+
+        checkExpiries(timers, expiryTicks);
+        assertEquals(0, wheel.getPendingCount());
+
+    } // End of timersAreCascadedAcrossTheLevelBoundaries method.
+
+    /**
+     * Schedules timers at and beyond the 2^26 ticks the wheel covers, and checks that the ones beyond it wait in the last slot and are placed
+     * again until their own deadline, rather than expiring once the last slot is reached.
+     */
+    @Test
+    void timersBeyondTheLastLevelArePlacedAgain() {
+
+        AtomicLong now = new AtomicLong();
+        TimingWheel wheel = new TimingWheel(TICK_MILLIS, now::get, false);
+        GameActor actor = createActor();
+        GameTimer[] timers = new GameTimer[CLAMPED_DELAYS.length];
+        AtomicLongArray expiryTicks = createExpiryTicks(timers.length);
+
+        advanceTo(wheel, now, CLAMPED_START_TICK);
+
+        for(int i = 0; i < timers.length; i++)
+            timers[i] = schedule(wheel, actor, now, CLAMPED_DELAYS[i], i, expiryTicks);
+
+        advanceTo(wheel, now, findLastDeadline(timers) + 2);
+
+        checkExpiries(timers, expiryTicks);
+        assertEquals(0, wheel.getPendingCount());
+
+    } // End of timersBeyondTheLastLevelArePlacedAgain method.
+
+    /**
+     * Turns the wheel while some threads schedule timers and others cancel every other one of them as soon as it is scheduled, so the
+     * cancellations race the timers' placement (and, for the shortest delays, their expiry). A timer whose cancellation succeeded must never
+     * expire, and every other timer must expire exactly once, never before its deadline.
+     */
+    @Test
+    void cancelledTimersNeverExpire() throws Exception {
+
+        AtomicLong now = new AtomicLong();
+        TimingWheel wheel = new TimingWheel(TICK_MILLIS, now::get, false);
+        GameActor actor = createActor();
+        int numberOfTimers = NUMBER_OF_SCHEDULERS * TIMERS_PER_SCHEDULER;
+        AtomicReferenceArray<GameTimer> timers = new AtomicReferenceArray<>(numberOfTimers);
+        boolean[] cancelled = new boolean[numberOfTimers];
+        AtomicLongArray expiryTicks = createExpiryTicks(numberOfTimers);
+        List<Thread> threads = new ArrayList<>();
+
+        for(int s = 0; s < NUMBER_OF_SCHEDULERS; s++) {
+            int firstTimer = s * TIMERS_PER_SCHEDULER;
+            int endTimer = firstTimer + TIMERS_PER_SCHEDULER;
+
+            threads.add(new Thread(() -> {
+                for(int timerNumber = firstTimer; timerNumber < endTimer; timerNumber++) {
+                    long delayTicks = 1 + (timerNumber * 7919L) % MAX_RACE_DELAY;
+                    timers.set(timerNumber, schedule(wheel, actor, now, delayTicks, timerNumber, expiryTicks));
+                }
+            }));
+
+            threads.add(new Thread(() -> {
+                for(int timerNumber = firstTimer; timerNumber < endTimer; timerNumber += 2) {
+                    GameTimer timer;
+
+                    while((timer = timers.get(timerNumber)) == null)
+                        Thread.onSpinWait();
+
+                    cancelled[timerNumber] = timer.cancel();
+                }
+            }));
+        }
+
+        for(Thread thread : threads)
+            thread.start();
+
+        // The wheel keeps turning until every timer was scheduled and every cancellation made.
+        boolean running = true;
+
+        while(running) {
+            advanceTo(wheel, now, now.get() / TICK_NANOS + 1);
+            running = false;
+
+            for(Thread thread : threads)
+                running |= thread.isAlive();
+        }
+
+        for(Thread thread : threads)
+            thread.join();
+
+        GameTimer[] scheduledTimers = new GameTimer[numberOfTimers];
+
+        for(int timerNumber = 0; timerNumber < numberOfTimers; timerNumber++)
+            scheduledTimers[timerNumber] = timers.get(timerNumber);
+
+        advanceTo(wheel, now, findLastDeadline(scheduledTimers) + 2);
+
+        int numberOfCancelled = 0;
+
+        for(int timerNumber = 0; timerNumber < numberOfTimers; timerNumber++) {
+            GameTimer timer = scheduledTimers[timerNumber];
+            long expiryTick = expiryTicks.get(timerNumber);
+
+            if(cancelled[timerNumber]) {
+                assertEquals(NOT_EXPIRED, expiryTick, "Cancelled timer " + timerNumber + " expired");
+                numberOfCancelled++;
+            }
+            else {
+                assertNotEquals(NOT_EXPIRED, expiryTick, "Timer " + timerNumber + " never expired");
+                assertTrue(expiryTick >= timer.deadlineTick, "Timer " + timerNumber + " expired before its deadline");
+            }
+
+            assertFalse(timer.cancel());
+        }
+
+        assertTrue(numberOfCancelled > 0, "No cancellation won the race");
+        assertEquals(0, wheel.getPendingCount());
+
+    } // End of cancelledTimersNeverExpire method.
+
+    //----------------------------------------------------
+    //            HELPER METHOD(S)
+    //----------------------------------------------------
+
+    /**
+     * This method creates the actor the timers' commands are sent to. It executes them right away, on the thread turning the wheel.
+     * @return The actor.
+     */
+    private static GameActor createActor() {
+        return new GameActor(1, new Game(1L, 2, new CurseCardHandler()), Runnable::run);
+    }
+
+    /**
+     * This method creates the expiry tick of every timer, none of which expired yet.
+     * @param numberOfTimers The number of timers.
+     * @return The expiry ticks (NOT_EXPIRED until a timer expires).
+     */
+    private static AtomicLongArray createExpiryTicks(int numberOfTimers) {
+
+        AtomicLongArray expiryTicks = new AtomicLongArray(numberOfTimers);
+
+        for(int i = 0; i < numberOfTimers; i++)
+            expiryTicks.set(i, NOT_EXPIRED);
+
+        return expiryTicks;
+
+    } // End of createExpiryTicks method.
+
+    /**
+     * This method schedules a timer whose command records the tick of the wheel's clock it is executed at, and fails if it is executed twice.
+     * @param wheel The wheel.
+     * @param actor The actor the timer's command is sent to.
+     * @param now The wheel's clock, in nanoseconds.
+     * @param delayTicks The delay, in ticks.
+     * @param timerNumber The timer's number (its index in expiryTicks).
+     * @param expiryTicks The expiry tick of every timer.
+     * @return The timer.
+     */
+    private static GameTimer schedule(TimingWheel wheel, GameActor actor, AtomicLong now, long delayTicks, int timerNumber,
+                                      AtomicLongArray expiryTicks) {
+
+        return wheel.schedule(actor, delayTicks * TICK_MILLIS, game -> {
+            long expiryTick = now.get() / TICK_NANOS;
+            assertEquals(NOT_EXPIRED, expiryTicks.getAndSet(timerNumber, expiryTick), "Timer " + timerNumber + " expired twice");
+        });
+
+    } // End of schedule method.
+
+    /**
+     * This method moves the wheel's clock one tick at a time, turning the wheel at every tick.
+     * @param wheel The wheel.
+     * @param now The wheel's clock, in nanoseconds.
+     * @param tick The tick to stop at.
+     */
+    private static void advanceTo(TimingWheel wheel, AtomicLong now, long tick) {
+
+        for(long nextTick = now.get() / TICK_NANOS + 1; nextTick <= tick; nextTick++) {
+            now.set(nextTick * TICK_NANOS);
+            wheel.advance();
+        }
+
+    } // End of advanceTo method.
+
+    /**
+     * This method finds the latest deadline of some timers.
+     * @param timers The timers.
+     * @return The latest deadline tick.
+     */
+    private static long findLastDeadline(GameTimer[] timers) {
+
+        long lastDeadline = 0;
+
+        for(GameTimer timer : timers)
+            lastDeadline = Math.max(lastDeadline, timer.deadlineTick);
+
+        return lastDeadline;
+
+    } // End of findLastDeadline method.
+
+    /**
+     * This method checks that every timer expired once, on its deadline tick or the next one.
+     * @param timers The timers.
+     * @param expiryTicks The expiry tick of every timer.
+     */
+    private static void checkExpiries(GameTimer[] timers, AtomicLongArray expiryTicks) {
+
+        for(int timerNumber = 0; timerNumber < timers.length; timerNumber++) {
+            long deadline = timers[timerNumber].deadlineTick;
+            long expiryTick = expiryTicks.get(timerNumber);
+
+            assertNotEquals(NOT_EXPIRED, expiryTick, "Timer " + timerNumber + " never expired");
+            assertTrue(expiryTick >= deadline, "Timer " + timerNumber + " expired at " + expiryTick + ", before its deadline " + deadline);
+            assertTrue(expiryTick <= deadline + 1, "Timer " + timerNumber + " expired at " + expiryTick + ", after its deadline " + deadline);
+        }
+
+    } // End of checkExpiries method.
+
+} // End of TimingWheelTest class.